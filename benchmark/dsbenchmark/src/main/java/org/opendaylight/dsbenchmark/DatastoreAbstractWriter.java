@@ -9,6 +9,8 @@ package org.opendaylight.dsbenchmark;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.dsbenchmark.rev150105.StartTestInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.dsbenchmark.rev150105.StartTestInput.DataStore;
@@ -24,10 +26,15 @@ public abstract class DatastoreAbstractWriter {
     protected final StartTestInput.Operation oper;
     protected final StartTestInput.DataStore dataStore;
     protected final Random rn = new Random();
+    protected final LatencyHistogram commitLatency = new LatencyHistogram();
 
     protected int txOk = 0;
     protected int txError = 0;
 
+    // Interval between intended transaction starts in open-loop mode, 0 in closed-loop mode
+    private long txIntervalNanos = 0;
+    private long nextTxStart = 0;
+
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR", justification = "'this' passed to logging")
     public DatastoreAbstractWriter(final StartTestInput.Operation oper,
             final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
@@ -43,6 +50,27 @@ public abstract class DatastoreAbstractWriter {
 
     public abstract void executeList();
 
+    /**
+     * Set the target transaction rate. A non-zero rate selects open-loop mode, where transactions are started on a
+     * fixed schedule, regardless of how long previous transactions took to complete. Zero selects the default
+     * closed-loop mode, where each transaction is started as soon as the previous one has been submitted.
+     *
+     * @param txRate target number of transactions per second, 0 for closed-loop mode
+     */
+    public void setTxRate(final long txRate) {
+        txIntervalNanos = txRate == 0 ? 0 : Math.max(1, TimeUnit.SECONDS.toNanos(1) / txRate);
+        nextTxStart = 0;
+    }
+
+    /**
+     * Return the histogram of commit latencies, in nanoseconds.
+     *
+     * @return commit latency histogram
+     */
+    public LatencyHistogram getCommitLatency() {
+        return commitLatency;
+    }
+
     public int getTxError() {
         return txError;
     }
@@ -51,6 +79,41 @@ public abstract class DatastoreAbstractWriter {
         return txOk;
     }
 
+    /**
+     * Mark the start of a new transaction. In open-loop mode this method waits until the transaction's scheduled start
+     * time and returns that time. Since the schedule is not adjusted when we fall behind it, latencies measured from
+     * the returned time include the time a transaction had to wait for its predecessors, i.e. they are corrected for
+     * coordinated omission. In closed-loop mode this method returns the current time.
+     *
+     * @return intended start time of the transaction, as {@link System#nanoTime()}
+     */
+    protected final long startTransaction() {
+        if (txIntervalNanos == 0) {
+            return System.nanoTime();
+        }
+
+        final long now = System.nanoTime();
+        if (nextTxStart == 0) {
+            nextTxStart = now;
+        }
+        final long intended = nextTxStart;
+        nextTxStart += txIntervalNanos;
+
+        for (long delay = intended - now; delay > 0; delay = intended - System.nanoTime()) {
+            LockSupport.parkNanos(delay);
+        }
+        return intended;
+    }
+
+    /**
+     * Record the latency of a successfully-committed transaction.
+     *
+     * @param txStart transaction start time, as returned from {@link #startTransaction()}
+     */
+    protected final void recordCommit(final long txStart) {
+        commitLatency.recordValue(System.nanoTime() - txStart);
+    }
+
     protected LogicalDatastoreType getDataStoreType() {
         return dataStore == DataStore.CONFIG || dataStore != DataStore.OPERATIONAL && !rn.nextBoolean()
             ? LogicalDatastoreType.CONFIGURATION : LogicalDatastoreType.OPERATIONAL;
@@ -133,6 +133,7 @@ public final class DsbenchmarkProvider implements AutoCloseable {
 
         // Get the appropriate writer based on operation type and data format
         DatastoreAbstractWriter dsWriter = getDatastoreWriter(input);
+        dsWriter.setTxRate(input.getTxRate().longValue());
 
         // Create listeners on OPERATIONAL and CONFIG test data subtrees
         listenerProvider.createAndRegisterListeners(input.getListeners().intValue());
@@ -169,15 +170,28 @@ public final class DsbenchmarkProvider implements AutoCloseable {
         long numDataChanges = listenerProvider.getDataChangeCount();
         long numEvents = listenerProvider.getEventCountAndDestroyListeners();
 
-        StartTestOutput output = new StartTestOutputBuilder()
+        StartTestOutputBuilder outputBuilder = new StartTestOutputBuilder()
                 .setStatus(StartTestOutput.Status.OK)
                 .setListBuildTime(listCreateTime)
                 .setExecTime(execTime)
                 .setTxOk(Uint32.valueOf(dsWriter.getTxOk()))
                 .setNtfOk(Uint32.valueOf(numEvents))
                 .setDataChangeEventsOk(Uint32.valueOf(numDataChanges))
-                .setTxError(Uint32.valueOf(dsWriter.getTxError()))
-                .build();
+                .setTxError(Uint32.valueOf(dsWriter.getTxError()));
+
+        // Commit latencies are not available for READ operations
+        final LatencyHistogram latency = dsWriter.getCommitLatency();
+        if (latency.totalCount() != 0) {
+            outputBuilder
+                .setLatencyP50(latency.valueAtPercentile(50) / 1000)
+                .setLatencyP99(latency.valueAtPercentile(99) / 1000)
+                .setLatencyP999(latency.valueAtPercentile(99.9) / 1000)
+                .setLatencyMax(latency.maxValue() / 1000);
+            LOG.info("Commit latency: {} transactions, p50 {}us, p99 {}us, p99.9 {}us, max {}us",
+                latency.totalCount(), outputBuilder.getLatencyP50(), outputBuilder.getLatencyP99(),
+                outputBuilder.getLatencyP999(), outputBuilder.getLatencyMax());
+        }
+        StartTestOutput output = outputBuilder.build();
 
         return RpcResultBuilder.success(output).buildFuture();
     }
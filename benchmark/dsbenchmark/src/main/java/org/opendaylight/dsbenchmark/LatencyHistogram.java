@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.dsbenchmark;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size histogram of latencies, modeled after HdrHistogram. Values below {@value #SUB_BUCKET_COUNT} are
+ * recorded exactly, larger values are recorded in log-linear buckets, each power of two being split into
+ * {@value #HALF_COUNT} buckets, which bounds the relative error of reported values to less than 2%. The maximum is
+ * tracked exactly.
+ *
+ * <p>Recording is thread-safe and lock-free, so it can be done from transaction completion callbacks.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    // Largest shift is needed for Long.MAX_VALUE, whose most significant bit is 62
+    private static final int MAX_SHIFT = 62 - SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + MAX_SHIFT * HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Record a single value.
+     *
+     * @param value value to record
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public void recordValue(final long value) {
+        checkArgument(value >= 0, "Negative value %s", value);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Return the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long totalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Return the largest recorded value.
+     *
+     * @return the largest recorded value, or {@code 0} if no values have been recorded
+     */
+    public long maxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Return the value at a particular percentile, i.e. a value such that the specified percentage of recorded values
+     * is less than or equal to it.
+     *
+     * @param percentile percentile, between {@code 0} and {@code 100}
+     * @return the value at specified percentile, or {@code 0} if no values have been recorded
+     * @throws IllegalArgumentException if {@code percentile} is out of range
+     */
+    public long valueAtPercentile(final double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Invalid percentile %s", percentile);
+        final long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        // Multiply first and disregard rounding errors, so that e.g. the 99.9th percentile of 1000 values is the 999th
+        final double rank = percentile * total / 100;
+        final long target = Math.max(1, (long) Math.ceil(rank - 4 * Math.ulp(rank)));
+        final long max = maxValue.get();
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_COUNT + (int) (value >>> shift) - HALF_COUNT;
+    }
+
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int offset = index - SUB_BUCKET_COUNT;
+        final int shift = offset / HALF_COUNT + 1;
+        final long top = offset % HALF_COUNT + HALF_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -51,10 +51,15 @@ public class SimpletxBaDelete extends DatastoreAbstractWriter {
     public void executeList() {
         final LogicalDatastoreType dsType = getDataStoreType();
 
+        long txStart = 0;
         WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
         long putCnt = 0;
 
         for (long l = 0; l < outerListElem; l++) {
+            if (putCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             tx.delete(dsType, DataObjectIdentifier.builder(TestExec.class)
                 .child(OuterList.class, new OuterListKey((int) l))
                 .build());
@@ -63,6 +68,7 @@ public class SimpletxBaDelete extends DatastoreAbstractWriter {
                 try {
                     tx.commit().get();
                     txOk++;
+                    recordCommit(txStart);
                 } catch (final InterruptedException | ExecutionException e) {
                     LOG.error("Transaction failed", e);
                     txError++;
@@ -74,6 +80,7 @@ public class SimpletxBaDelete extends DatastoreAbstractWriter {
         if (putCnt != 0) {
             try {
                 tx.commit().get();
+                recordCommit(txStart);
             } catch (final InterruptedException | ExecutionException e) {
                 LOG.error("Transaction failed", e);
             }
@@ -44,10 +44,15 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
     public void executeList() {
         final var dsType = getDataStoreType();
 
+        long txStart = 0;
         var tx = dataBroker.newWriteOnlyTransaction();
         long writeCnt = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             final var iid = DataObjectIdentifier.builder(TestExec.class).child(OuterList.class, element.key()).build();
             if (oper == StartTestInput.Operation.PUT) {
                 tx.put(dsType, iid, element);
@@ -61,6 +66,7 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
                 try {
                     tx.commit().get();
                     txOk++;
+                    recordCommit(txStart);
                 } catch (final InterruptedException | ExecutionException e) {
                     LOG.error("Transaction failed", e);
                     txError++;
@@ -74,6 +80,7 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
         if (writeCnt != 0) {
             try {
                 tx.commit().get();
+                recordCommit(txStart);
             } catch (final InterruptedException | ExecutionException e) {
                 LOG.error("Transaction failed", e);
             }
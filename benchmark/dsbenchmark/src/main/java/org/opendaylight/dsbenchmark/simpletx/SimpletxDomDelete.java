@@ -56,10 +56,15 @@ public class SimpletxDomDelete extends DatastoreAbstractWriter {
                 YangInstanceIdentifier.builder().node(TestExec.QNAME).node(OuterList.QNAME).build();
 
 
+        long txStart = 0;
         DOMDataTreeWriteTransaction tx = domDataBroker.newWriteOnlyTransaction();
         long writeCnt = 0;
 
         for (int l = 0; l < outerListElem; l++) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             YangInstanceIdentifier yid = pid.node(NodeIdentifierWithPredicates.of(OuterList.QNAME, olId, l));
 
             tx.delete(dsType, yid);
@@ -68,6 +73,7 @@ public class SimpletxDomDelete extends DatastoreAbstractWriter {
                 try {
                     tx.commit().get();
                     txOk++;
+                    recordCommit(txStart);
                 } catch (final  InterruptedException | ExecutionException e) {
                     LOG.error("Transaction failed", e);
                     txError++;
@@ -79,6 +85,7 @@ public class SimpletxDomDelete extends DatastoreAbstractWriter {
         if (writeCnt != 0) {
             try {
                 tx.commit().get();
+                recordCommit(txStart);
             } catch (final InterruptedException | ExecutionException e) {
                 LOG.error("Transaction failed", e);
             }
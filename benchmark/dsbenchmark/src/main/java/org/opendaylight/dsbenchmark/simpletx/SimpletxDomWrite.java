@@ -47,10 +47,15 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
         final var dsType = getDataStoreType();
         final var pid = YangInstanceIdentifier.of(TestExec.QNAME, OuterList.QNAME);
 
+        long txStart = 0;
         var tx = dataBroker.newWriteOnlyTransaction();
         long writeCnt = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             final var yid = pid.node(NodeIdentifierWithPredicates.of(OuterList.QNAME, element.name().asMap()));
 
             if (oper == StartTestInput.Operation.PUT) {
@@ -65,6 +70,7 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
                 try {
                     tx.commit().get();
                     txOk++;
+                    recordCommit(txStart);
                 } catch (final InterruptedException | ExecutionException e) {
                     LOG.error("Transaction failed", e);
                     txError++;
@@ -77,6 +83,7 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
         if (writeCnt != 0) {
             try {
                 tx.commit().get();
+                recordCommit(txStart);
             } catch (final InterruptedException | ExecutionException e) {
                 LOG.error("Transaction failed", e);
             }
@@ -55,11 +55,16 @@ public class TxchainBaDelete extends DatastoreAbstractWriter implements FutureCa
         final TransactionChain chain = bindingDataBroker.createMergingTransactionChain();
         chain.addCallback(this);
 
+        long txStart = 0;
         WriteTransaction tx = chain.newWriteOnlyTransaction();
         int txSubmitted = 0;
         int writeCnt = 0;
 
         for (int l = 0; l < outerListElem; l++) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             tx.delete(dsType,
                 DataObjectIdentifier.builder(TestExec.class).child(OuterList.class, new OuterListKey(l)).build());
 
@@ -67,10 +72,12 @@ public class TxchainBaDelete extends DatastoreAbstractWriter implements FutureCa
 
             if (writeCnt == writesPerTx) {
                 txSubmitted++;
+                final long commitStart = txStart;
                 tx.commit().addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
                         txOk++;
+                        recordCommit(commitStart);
                     }
 
                     @Override
@@ -91,6 +98,10 @@ public class TxchainBaDelete extends DatastoreAbstractWriter implements FutureCa
                 txSubmitted++;
             }
             tx.commit().get();
+            if (writeCnt > 0) {
+                // Only a transaction which carries operations is a sample, an empty one just drains the chain
+                recordCommit(txStart);
+            }
         } catch (final InterruptedException | ExecutionException e) {
             LOG.error("Transaction failed", e);
         }
@@ -51,11 +51,16 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
         chain.addCallback(this);
         final var dsType = getDataStoreType();
 
+        long txStart = 0;
         var tx = chain.newWriteOnlyTransaction();
         int txSubmitted = 0;
         int writeCnt = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             final var iid = DataObjectIdentifier.builder(TestExec.class).child(OuterList.class, element.key()).build();
 
             if (oper == StartTestInput.Operation.PUT) {
@@ -68,10 +73,12 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
 
             if (writeCnt == writesPerTx) {
                 txSubmitted++;
+                final long commitStart = txStart;
                 tx.commit().addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
                         txOk++;
+                        recordCommit(commitStart);
                     }
 
                     @Override
@@ -92,6 +99,10 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
             txSubmitted++;
             tx.commit().get();
             txOk++;
+            if (writeCnt > 0) {
+                // Only a transaction which carries operations is a sample, an empty one just drains the chain
+                recordCommit(txStart);
+            }
         } catch (final InterruptedException | ExecutionException e) {
             LOG.error("Transaction failed", e);
             txError++;
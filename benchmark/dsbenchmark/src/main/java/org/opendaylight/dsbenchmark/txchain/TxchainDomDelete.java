@@ -59,11 +59,16 @@ public class TxchainDomDelete extends DatastoreAbstractWriter implements FutureC
         final DOMTransactionChain chain = domDataBroker.createMergingTransactionChain();
         chain.addCallback(this);
 
+        long txStart = 0;
         DOMDataTreeWriteTransaction tx = chain.newWriteOnlyTransaction();
         int txSubmitted = 0;
         int writeCnt = 0;
 
         for (int l = 0; l < outerListElem; l++) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             YangInstanceIdentifier yid = pid.node(NodeIdentifierWithPredicates.of(OuterList.QNAME, olId, l));
             tx.delete(dsType, yid);
 
@@ -71,10 +76,12 @@ public class TxchainDomDelete extends DatastoreAbstractWriter implements FutureC
 
             if (writeCnt == writesPerTx) {
                 txSubmitted++;
+                final long commitStart = txStart;
                 tx.commit().addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
                         txOk++;
+                        recordCommit(commitStart);
                     }
 
                     @Override
@@ -95,6 +102,10 @@ public class TxchainDomDelete extends DatastoreAbstractWriter implements FutureC
             txSubmitted++;
             tx.commit().get();
             txOk++;
+            if (writeCnt > 0) {
+                // Only a transaction which carries operations is a sample, an empty one just drains the chain
+                recordCommit(txStart);
+            }
         } catch (final InterruptedException | ExecutionException e) {
             LOG.error("Transaction failed", e);
             txError++;
@@ -51,11 +51,16 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
         final var chain = dataBroker.createMergingTransactionChain();
         chain.addCallback(this);
 
+        long txStart = 0;
         var tx = chain.newWriteOnlyTransaction();
         int txSubmitted = 0;
         int writeCnt = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                // Only schedule a transaction once it is known to be issued
+                txStart = startTransaction();
+            }
             var yid = pid.node(NodeIdentifierWithPredicates.of(OuterList.QNAME, element.name().asMap()));
 
             if (oper == StartTestInput.Operation.PUT) {
@@ -69,10 +74,12 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
             // Start performing the operation; submit the transaction at every n-th operation
             if (writeCnt == writesPerTx) {
                 txSubmitted++;
+                final long commitStart = txStart;
                 tx.commit().addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
                         txOk++;
+                        recordCommit(commitStart);
                     }
 
                     @Override
@@ -94,6 +101,10 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
             txSubmitted++;
             tx.commit().get();
             txOk++;
+            if (writeCnt > 0) {
+                // Only a transaction which carries operations is a sample, an empty one just drains the chain
+                recordCommit(txStart);
+            }
         } catch (final InterruptedException | ExecutionException e) {
             LOG.error("Transaction failed", e);
             txError++;
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.dsbenchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    // Each power of two is split into 64 buckets
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 64;
+
+    @Test
+    void testEmpty() {
+        final var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.totalCount());
+        assertEquals(0, histogram.maxValue());
+        assertEquals(0, histogram.valueAtPercentile(50));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final var histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.recordValue(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.1));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        final var histogram = new LatencyHistogram();
+        for (int value = 0; value < 128; ++value) {
+            assertEquals(value, LatencyHistogram.bucketIndex(value));
+            assertEquals(value, LatencyHistogram.highestEquivalentValue(value));
+            histogram.recordValue(value);
+        }
+
+        assertEquals(128, histogram.totalCount());
+        assertEquals(127, histogram.maxValue());
+        for (int value = 0; value < 128; ++value) {
+            // value + 1 out of 128 recorded values are less than or equal to value
+            assertEquals(value, histogram.valueAtPercentile((value + 1) * 100.0 / 128));
+        }
+    }
+
+    @Test
+    void testRelativeErrorAtPowersOfTwo() {
+        for (int bit = 7; bit < 63; ++bit) {
+            final long power = 1L << bit;
+            for (long value : new long[] { power - 1, power, power + 1 }) {
+                final long reported = LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(value));
+                assertTrue(reported >= value, () -> value + " reported as " + reported);
+                assertTrue((double) (reported - value) / value <= MAX_RELATIVE_ERROR,
+                    () -> value + " reported as " + reported);
+            }
+
+            // Adjacent values in different buckets map to adjacent buckets
+            assertEquals(LatencyHistogram.bucketIndex(power - 1) + 1, LatencyHistogram.bucketIndex(power));
+            assertEquals(power - 1, LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(power - 1)));
+        }
+    }
+
+    @Test
+    void testMaxValue() {
+        assertEquals(Long.MAX_VALUE,
+            LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+
+        final var histogram = new LatencyHistogram();
+        histogram.recordValue(1);
+        histogram.recordValue(Long.MAX_VALUE);
+        assertEquals(2, histogram.totalCount());
+        assertEquals(Long.MAX_VALUE, histogram.maxValue());
+        assertEquals(1, histogram.valueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void testUniformPercentiles() {
+        final var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; ++value) {
+            histogram.recordValue(value * 1_000);
+        }
+
+        assertEquals(100_000_000, histogram.maxValue());
+        assertPercentile(50_000_000, histogram, 50);
+        assertPercentile(99_000_000, histogram, 99);
+        assertPercentile(99_900_000, histogram, 99.9);
+        assertEquals(100_000_000, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void testBimodalPercentiles() {
+        final var histogram = new LatencyHistogram();
+        for (int i = 0; i < 990; ++i) {
+            histogram.recordValue(100);
+        }
+        for (int i = 0; i < 9; ++i) {
+            histogram.recordValue(20_000);
+        }
+        histogram.recordValue(5_000_000);
+
+        assertEquals(100, histogram.valueAtPercentile(50));
+        assertEquals(100, histogram.valueAtPercentile(99));
+        assertPercentile(20_000, histogram, 99.9);
+        // The maximum is tracked exactly
+        assertEquals(5_000_000, histogram.valueAtPercentile(100));
+    }
+
+    private static void assertPercentile(final long expected, final LatencyHistogram histogram,
+            final double percentile) {
+        final long actual = histogram.valueAtPercentile(percentile);
+        assertTrue(actual >= expected && actual - expected <= expected * MAX_RELATIVE_ERROR,
+            () -> "p" + percentile + " is " + actual + ", expected " + expected);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.benchmark.jmh;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Fixtures based on {@code opendaylight-mdsal-list-test} model from {@code sal-test-model}, which is a container
+ * holding a two-level list, i.e. {@code /top/top-level-list/nested-list}.
+ */
+@NonNullByDefault
+public final class ListTestModel {
+    public static final QNameModule MODULE =
+        QNameModule.of("urn:opendaylight:params:xml:ns:yang:controller:md:sal:test:list", "2014-07-01");
+    public static final QName TOP = QName.create(MODULE, "top");
+    public static final QName TOP_LEVEL_LIST = QName.create(MODULE, "top-level-list");
+    public static final QName NESTED_LIST = QName.create(MODULE, "nested-list");
+    public static final QName NAME = QName.create(MODULE, "name");
+    public static final QName TYPE = QName.create(MODULE, "type");
+
+    public static final YangInstanceIdentifier TOP_PATH = YangInstanceIdentifier.of(TOP);
+    public static final YangInstanceIdentifier TOP_LEVEL_LIST_PATH = TOP_PATH.node(TOP_LEVEL_LIST);
+
+    private static final EffectiveModelContext MODEL_CONTEXT =
+        YangParserTestUtils.parseYangResource("/META-INF/yang/opendaylight-mdsal-list-test@2014-07-01.yang");
+
+    private ListTestModel() {
+        // Hidden on purpose
+    }
+
+    public static EffectiveModelContext modelContext() {
+        return MODEL_CONTEXT;
+    }
+
+    /**
+     * Create a {@code top} container with {@code outer} entries of {@code top-level-list}, each of which contains
+     * {@code inner} entries of {@code nested-list}.
+     *
+     * @param outer number of top-level-list entries
+     * @param inner number of nested-list entries in each top-level-list entry
+     * @return a {@link ContainerNode}
+     */
+    public static ContainerNode top(final int outer, final int inner) {
+        final var topLevelList = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP_LEVEL_LIST));
+        for (int i = 0; i < outer; i++) {
+            topLevelList.withChild(topLevelEntry("top-" + i, inner));
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(topLevelList.build())
+            .build();
+    }
+
+    /**
+     * Create a {@code top-level-list} entry with {@code inner} entries of {@code nested-list}.
+     *
+     * @param name entry name
+     * @param inner number of nested-list entries
+     * @return a {@link MapEntryNode}
+     */
+    public static MapEntryNode topLevelEntry(final String name, final int inner) {
+        final var nestedList = ImmutableNodes.newUserMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(NESTED_LIST));
+        for (int i = 0; i < inner; i++) {
+            final var nestedName = name + "-nested-" + i;
+            nestedList.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(NESTED_LIST, NAME, nestedName))
+                .withChild(ImmutableNodes.leafNode(NAME, nestedName))
+                .withChild(ImmutableNodes.leafNode(TYPE, "type-" + i))
+                .build());
+        }
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(topLevelEntryId(name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(nestedList.build())
+            .build();
+    }
+
+    public static NodeIdentifierWithPredicates topLevelEntryId(final String name) {
+        return NodeIdentifierWithPredicates.of(TOP_LEVEL_LIST, NAME, name);
+    }
+
+    /**
+     * Create a {@link DataTreeCandidate} which writes {@link #top(int, int)} into an empty data tree.
+     *
+     * @param outer number of top-level-list entries
+     * @param inner number of nested-list entries in each top-level-list entry
+     * @return a {@link DataTreeCandidate}
+     */
+    public static DataTreeCandidate writeTopCandidate(final int outer, final int inner) {
+        final var dataTree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            MODEL_CONTEXT);
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TOP_PATH, top(outer, inner));
+        mod.ready();
+
+        try {
+            dataTree.validate(mod);
+            return dataTree.prepare(mod);
+        } catch (DataValidationFailedException e) {
+            throw new IllegalStateException("Invalid fixture", e);
+        }
+    }
+}
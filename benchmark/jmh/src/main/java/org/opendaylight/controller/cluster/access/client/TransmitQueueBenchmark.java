@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.access.client;
+
+import com.typesafe.config.ConfigFactory;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.opendaylight.controller.cluster.access.ABIVersion;
+import org.opendaylight.controller.cluster.access.commands.TransactionPurgeRequest;
+import org.opendaylight.controller.cluster.access.commands.TransactionPurgeResponse;
+import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.FrontendType;
+import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.access.concepts.Response;
+import org.opendaylight.controller.cluster.access.concepts.SuccessEnvelope;
+import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.messaging.MessageSlicer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link TransmitQueue.Transmitting} enqueue and completion of requests. Each invocation enqueues
+ * {@link #depth} requests, all of which are transmitted, and then completes them either in the order they were sent,
+ * in reverse order or in random order. Matching a response to its request should not depend on either the depth or
+ * the order. Envelopes are sent to dead letters, as we are not interested in the messaging cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TransmitQueueBenchmark {
+    /**
+     * Order in which responses arrive.
+     */
+    public enum CompletionOrder {
+        /**
+         * Responses arrive in the order requests were sent.
+         */
+        FIFO,
+        /**
+         * Responses arrive in the reverse of the order requests were sent.
+         */
+        LIFO,
+        /**
+         * Responses arrive in a random order.
+         */
+        RANDOM
+    }
+
+    private static final Consumer<Response<?, ?>> CALLBACK = response -> { };
+
+    @Param({ "100", "1000", "10000" })
+    public int depth;
+
+    @Param
+    public CompletionOrder order;
+
+    private ActorSystem system;
+    private TransmitQueue.Transmitting queue;
+    private TransactionPurgeRequest[] requests;
+    private TransactionPurgeResponse[] responses;
+    private int[] randomOrder;
+    private long nextTxSequence;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        system = ActorSystem.create("transmit-queue-benchmark",
+            ConfigFactory.parseString("pekko.log-dead-letters = off"));
+
+        final var history = new LocalHistoryIdentifier(ClientIdentifier.create(FrontendIdentifier.create(
+            MemberName.forName("member-1"), FrontendType.forName("benchmark")), 0), 0);
+        requests = new TransactionPurgeRequest[depth];
+        responses = new TransactionPurgeResponse[depth];
+        for (int i = 0; i < depth; i++) {
+            final var txId = new TransactionIdentifier(history, i);
+            requests[i] = new TransactionPurgeRequest(txId, 0, system.deadLetters());
+            responses[i] = new TransactionPurgeResponse(txId, 0);
+        }
+
+        final var random = new Random(42);
+        randomOrder = new int[depth];
+        for (int i = 0; i < depth; i++) {
+            final int j = random.nextInt(i + 1);
+            randomOrder[i] = randomOrder[j];
+            randomOrder[j] = i;
+        }
+
+        final var backend = new BackendInfo(system.deadLetters(), "benchmark", 0, ABIVersion.current(), depth);
+        queue = new TransmitQueue.Transmitting(new TransmitQueue.Halted(0), 0, backend, System.nanoTime(),
+            MessageSlicer.builder().logContext("benchmark").build());
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Benchmark
+    public void enqueueAndComplete(final Blackhole bh) {
+        final long now = System.nanoTime();
+        for (var request : requests) {
+            bh.consume(queue.enqueueOrForward(new ConnectionEntry(request, CALLBACK, now), now));
+        }
+
+        final long firstTxSequence = nextTxSequence;
+        nextTxSequence += depth;
+        switch (order) {
+            case FIFO -> {
+                for (int i = 0; i < depth; i++) {
+                    bh.consume(complete(i, firstTxSequence, now));
+                }
+            }
+            case LIFO -> {
+                for (int i = depth - 1; i >= 0; i--) {
+                    bh.consume(complete(i, firstTxSequence, now));
+                }
+            }
+            case RANDOM -> {
+                for (int i : randomOrder) {
+                    bh.consume(complete(i, firstTxSequence, now));
+                }
+            }
+        }
+    }
+
+    private TransmittedConnectionEntry complete(final int offset, final long firstTxSequence, final long now) {
+        final var entry = queue.complete(new SuccessEnvelope(responses[offset], 0, firstTxSequence + offset, 0), now);
+        if (entry == null) {
+            throw new IllegalStateException("Failed to match response " + offset);
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import com.typesafe.config.ConfigFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.dispatch.ControlMessage;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.Option;
+
+/**
+ * Compares {@link UnboundedDequeBasedControlAwareMailbox} and {@link MpscControlAwareMailbox}. All benchmarks operate
+ * on a queue holding {@code queueSize} messages, one in every sixteen of them being a {@link ControlMessage}.
+ * The {@code numberOfMessages} benchmark measures the cost of sampling the queue size, as done by the queue size
+ * metrics.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ControlAwareMailboxBenchmark {
+    private static final class BenchmarkControlMessage implements ControlMessage {
+        static final BenchmarkControlMessage INSTANCE = new BenchmarkControlMessage();
+    }
+
+    private static final Envelope NORMAL = new Envelope("message", ActorRef.noSender());
+    private static final Envelope CONTROL = new Envelope(BenchmarkControlMessage.INSTANCE, ActorRef.noSender());
+
+    @Param({ "deque", "mpsc" })
+    public String mailbox;
+    @Param({ "1000", "100000" })
+    public int queueSize;
+
+    private MessageQueue queue;
+    private int counter;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final var config = ConfigFactory.empty();
+        queue = switch (mailbox) {
+            case "deque" -> new UnboundedDequeBasedControlAwareMailbox(null, config).create(Option.empty(),
+                Option.empty());
+            case "mpsc" -> new MpscControlAwareMailbox(null, config).create(Option.empty(), Option.empty());
+            default -> throw new IllegalArgumentException("Unknown mailbox " + mailbox);
+        };
+        for (int i = 0; i < queueSize; ++i) {
+            queue.enqueue(ActorRef.noSender(), nextEnvelope());
+        }
+    }
+
+    /**
+     * Enqueue a message and dequeue one, keeping the queue size stable.
+     */
+    @Benchmark
+    public Envelope enqueueDequeue() {
+        queue.enqueue(ActorRef.noSender(), nextEnvelope());
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public void numberOfMessages(final Blackhole blackhole) {
+        blackhole.consume(queue.numberOfMessages());
+    }
+
+    @Benchmark
+    public boolean hasMessages() {
+        return queue.hasMessages();
+    }
+
+    private Envelope nextEnvelope() {
+        return (++counter & 15) == 0 ? CONTROL : NORMAL;
+    }
+}
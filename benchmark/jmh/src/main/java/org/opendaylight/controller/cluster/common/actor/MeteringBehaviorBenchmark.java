@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static java.util.Objects.requireNonNull;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.PartialFunction;
+import scala.runtime.AbstractPartialFunction;
+import scala.runtime.BoxedUnit;
+
+/**
+ * Compares the per-message overhead of {@link MeteringBehavior} against the way it used to meter messages, which was
+ * to build the metric name and look up the per-type {@link Timer} in the {@link MetricRegistry} for each message.
+ * Messages of a few different types are processed in turn, with the receive block doing no work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MeteringBehaviorBenchmark {
+    private static final String ACTOR_NAME = "/user/benchmark";
+    private static final Object[] MESSAGES = { "message", 1, 1L, new Object(), BoxedUnit.UNIT };
+
+    /**
+     * The metering {@link MeteringBehavior} used to perform before it started caching its timers.
+     */
+    private static final class LegacyMeteringBehavior {
+        private final MetricRegistry metricRegistry;
+        private final Timer msgProcessingTimer;
+        private final PartialFunction<Object, BoxedUnit> receive;
+
+        LegacyMeteringBehavior(final MetricRegistry metricRegistry, final PartialFunction<Object, BoxedUnit> receive) {
+            this.metricRegistry = requireNonNull(metricRegistry);
+            this.receive = requireNonNull(receive);
+            msgProcessingTimer = metricRegistry.timer(MetricRegistry.name(ACTOR_NAME, "msg-rate"));
+        }
+
+        BoxedUnit apply(final Object message) {
+            final String messageType = message.getClass().getSimpleName();
+            final String msgProcessingTimeByMsgType = MetricRegistry.name(ACTOR_NAME, "msg-rate", messageType);
+            final Timer msgProcessingTimerByMsgType = metricRegistry.timer(msgProcessingTimeByMsgType);
+
+            final Timer.Context context = msgProcessingTimer.time();
+            final Timer.Context contextByMsgType = msgProcessingTimerByMsgType.time();
+            try {
+                return receive.apply(message);
+            } finally {
+                contextByMsgType.stop();
+                context.stop();
+            }
+        }
+    }
+
+    private static final PartialFunction<Object, BoxedUnit> RECEIVE = new AbstractPartialFunction<>() {
+        @Override
+        public boolean isDefinedAt(final Object message) {
+            return true;
+        }
+
+        @Override
+        public BoxedUnit apply(final Object message) {
+            return BoxedUnit.UNIT;
+        }
+    };
+
+    private LegacyMeteringBehavior legacy;
+    private MeteringBehavior current;
+    private int next;
+
+    @Setup
+    public void setup() {
+        legacy = new LegacyMeteringBehavior(new MetricRegistry(), RECEIVE);
+        current = new MeteringBehavior(new MetricRegistry(), ACTOR_NAME, RECEIVE);
+    }
+
+    @Benchmark
+    public void legacy(final Blackhole blackhole) {
+        blackhole.consume(legacy.apply(nextMessage()));
+    }
+
+    @Benchmark
+    public void current(final Blackhole blackhole) {
+        blackhole.consume(current.apply(nextMessage()));
+    }
+
+    private Object nextMessage() {
+        final var message = MESSAGES[next];
+        next = (next + 1) % MESSAGES.length;
+        return message;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.benchmark.jmh.ListTestModel;
+import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.FrontendType;
+import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
+import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CommitTransactionPayload#create(TransactionIdentifier, DataTreeCandidate, PayloadVersion, int)},
+ * which is on the critical path of every transaction committed by a shard leader, and the corresponding
+ * {@link CommitTransactionPayload#getCandidate()} performed by followers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommitTransactionPayloadBenchmark {
+    static final TransactionIdentifier TRANSACTION_ID = new TransactionIdentifier(new LocalHistoryIdentifier(
+        ClientIdentifier.create(FrontendIdentifier.create(MemberName.forName("member-1"),
+            FrontendType.forName("benchmark")), 0), 0), 0);
+
+    @Param({ "1", "100", "1000" })
+    public int outer;
+
+    @Param({ "1", "10" })
+    public int inner;
+
+    private DataTreeCandidate candidate;
+    private CommitTransactionPayload payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        candidate = ListTestModel.writeTopCandidate(outer, inner);
+        payload = CommitTransactionPayload.create(TRANSACTION_ID, candidate);
+    }
+
+    @Benchmark
+    public CommitTransactionPayload create() throws IOException {
+        // Same initial buffer size as ShardDataTree uses by default
+        return CommitTransactionPayload.create(TRANSACTION_ID, candidate, PayloadVersion.current(), 512);
+    }
+
+    @Benchmark
+    public CommitTransactionPayload.CandidateTransaction getCandidate() throws IOException {
+        // Bypasses the cache in getCandidate(), but does the same thing otherwise
+        return payload.getCandidate(ReusableImmutableNormalizedNodeStreamWriter.create());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.messaging;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.actor.UntypedAbstractActor;
+import org.apache.pekko.testkit.TestActorRef;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.opendaylight.raft.spi.FileBackedOutputStreamFactory;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
+import org.opendaylight.yangtools.util.AbstractStringIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of transferring a message through a {@link MessageSlicer} and a {@link MessageAssembler}. Both
+ * sides are hosted in {@link TestActorRef}s, which process messages on the calling thread, hence each invocation
+ * completes the entire exchange of slices and replies without involving actor dispatch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MessageSlicerBenchmark {
+    private static final BenchmarkIdentifier IDENTIFIER = new BenchmarkIdentifier("benchmark");
+    private static final int FILE_BACKED_THRESHOLD = 128 * 1024 * 1024;
+
+    /**
+     * Identifier of the sliced message.
+     */
+    private static final class BenchmarkIdentifier extends AbstractStringIdentifier<BenchmarkIdentifier> {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        BenchmarkIdentifier(final String string) {
+            super(string);
+        }
+    }
+
+    /**
+     * Hosts the {@link MessageSlicer}, feeding it {@link MessageSliceReply} messages.
+     */
+    private static final class SlicerActor extends UntypedAbstractActor {
+        private final MessageSlicer slicer;
+
+        SlicerActor(final MessageSlicer slicer) {
+            this.slicer = requireNonNull(slicer);
+        }
+
+        @Override
+        public void onReceive(final Object message) {
+            slicer.handleMessage(message);
+        }
+    }
+
+    /**
+     * Hosts the {@link MessageAssembler}, feeding it {@link MessageSlice} messages.
+     */
+    private static final class AssemblerActor extends UntypedAbstractActor {
+        private final MessageAssembler assembler;
+
+        AssemblerActor(final MessageAssembler assembler) {
+            this.assembler = requireNonNull(assembler);
+        }
+
+        @Override
+        public void onReceive(final Object message) {
+            assembler.handleMessage(message, getSelf());
+        }
+    }
+
+    @Param({ "65536", "1048576" })
+    public int messageSize;
+
+    @Param({ "2048", "65536" })
+    public int messageSliceSize;
+
+    private ActorSystem system;
+    private MessageSlicer slicer;
+    private MessageAssembler assembler;
+    private ActorRef slicerActor;
+    private ActorRef assemblerActor;
+    private byte[] message;
+    private Object assembled;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        system = ActorSystem.create("message-slicer-benchmark");
+
+        final var streamFactory = new FileBackedOutputStreamFactory(FILE_BACKED_THRESHOLD, null);
+        slicer = MessageSlicer.builder()
+            .logContext("benchmark")
+            .fileBackedStreamFactory(streamFactory)
+            .messageSliceSize(messageSliceSize)
+            .build();
+        assembler = MessageAssembler.builder()
+            .logContext("benchmark")
+            .fileBackedStreamFactory(streamFactory)
+            .objectStreams(RestrictedObjectStreams.ofClassLoaders(MessageSlicerBenchmark.class))
+            .assembledMessageCallback((assembledMessage, sender) -> assembled = assembledMessage)
+            .build();
+
+        slicerActor = TestActorRef.create(system, Props.create(SlicerActor.class, slicer));
+        assemblerActor = TestActorRef.create(system, Props.create(AssemblerActor.class, assembler));
+
+        message = new byte[messageSize];
+        ThreadLocalRandom.current().nextBytes(message);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        slicer.close();
+        assembler.close();
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Benchmark
+    public Object sliceAndAssemble() {
+        assembled = null;
+        slicer.slice(SliceOptions.builder()
+            .identifier(IDENTIFIER)
+            .message(message)
+            .sendTo(assemblerActor)
+            .replyTo(slicerActor)
+            .onFailureCallback(failure -> {
+                throw new IllegalStateException("Slicing failed", failure);
+            })
+            .build());
+
+        final var result = assembled;
+        if (result == null) {
+            throw new IllegalStateException("Message was not assembled");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.eos.akka.owner.supervisor;
+
+import com.typesafe.config.ConfigFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.Cluster;
+import org.apache.pekko.cluster.MemberStatus;
+import org.apache.pekko.cluster.ddata.DistributedData;
+import org.apache.pekko.cluster.ddata.LWWMap;
+import org.apache.pekko.cluster.ddata.LWWMapKey;
+import org.apache.pekko.cluster.ddata.LWWRegister;
+import org.apache.pekko.cluster.ddata.LWWRegisterKey;
+import org.apache.pekko.cluster.ddata.Replicator;
+import org.apache.pekko.cluster.ddata.SelfUniqueAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes for a failover, which moves all entities to another owner, to become visible on another
+ * member of the cluster. Two members run real distributed-data replicators, with the gossip and subscriber notification
+ * intervals and frame sizes used by the entity ownership service. The writing member updates owners locally, so they
+ * reach the other member through gossip and delta propagation, and the other member subscribes to the owner keys.
+ *
+ * <p>{@link Layout#REGISTERS} is how {@link OwnerSupervisor} stores owners: one {@link LWWRegister} per entity.
+ * {@link Layout#BUCKETS} keeps them in a fixed number of {@link LWWMap}s instead, which cuts the number of keys,
+ * gossip digests and subscriptions. That layout was evaluated and rejected: with 10k entities a failover converged in
+ * about 10-15s with registers, while buckets took 80-95s, occasionally not converging at all, and their delta
+ * propagation exceeded the maximum frame size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = { "-Xms4g", "-Xmx4g" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class OwnerLayoutBenchmark {
+    public enum Layout {
+        REGISTERS,
+        BUCKETS
+    }
+
+    private static final String CONFIG = """
+        pekko {
+          loglevel = WARNING
+          actor {
+            provider = cluster
+            allow-java-serialization = on
+            warn-about-java-serializer-usage = off
+          }
+          remote.artery {
+            transport = tcp
+            canonical.hostname = "127.0.0.1"
+            canonical.port = 0
+            advanced {
+              maximum-frame-size = 512 KiB
+              maximum-large-frame-size = 2 MiB
+            }
+          }
+          cluster {
+            jmx.enabled = off
+            distributed-data {
+              gossip-interval = 100 ms
+              notify-subscribers-interval = 20 ms
+            }
+          }
+        }
+        """;
+    private static final int BUCKET_COUNT = 128;
+    private static final List<LWWMapKey<String, String>> BUCKET_KEYS = IntStream.range(0, BUCKET_COUNT)
+        .mapToObj(i -> new LWWMapKey<String, String>("entityOwners-" + i))
+        .toList();
+    private static final LWWRegister.Clock<String> CLOCK = (currentTimestamp, value) -> currentTimestamp + 1;
+    private static final String[] OWNERS = { "member-1", "member-2" };
+    private static final long CONVERGENCE_TIMEOUT_SECONDS = 300;
+
+    @Param({ "10000", "100000" })
+    public int entityCount;
+
+    @Param
+    public Layout layout;
+
+    private ActorSystem writerSystem;
+    private ActorSystem readerSystem;
+    private ActorRef replicator;
+    private SelfUniqueAddress node;
+    private ActorRef observer;
+    private String[] entities;
+    private Map<LWWMapKey<String, String>, List<String>> bucketEntities;
+    private int generation;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        entities = new String[entityCount];
+        bucketEntities = new HashMap<>();
+        for (int i = 0; i < entityCount; ++i) {
+            final var entity = "DOMEntity{type=benchmark, id=entity-" + i + "}";
+            entities[i] = entity;
+            bucketEntities.computeIfAbsent(bucketKey(entity), key -> new ArrayList<>()).add(entity);
+        }
+
+        final var config = ConfigFactory.parseString(CONFIG).withFallback(ConfigFactory.load());
+        writerSystem = ActorSystem.create("ClusterSystem", config);
+        readerSystem = ActorSystem.create("ClusterSystem", config);
+        final var address = Cluster.get(writerSystem).selfAddress();
+        Cluster.get(writerSystem).join(address);
+        Cluster.get(readerSystem).join(address);
+        awaitMembersUp(writerSystem);
+        awaitMembersUp(readerSystem);
+
+        final var writerData = DistributedData.get(writerSystem);
+        replicator = writerData.replicator();
+        node = writerData.selfUniqueAddress();
+
+        final var readerReplicator = DistributedData.get(readerSystem).replicator();
+        observer = readerSystem.actorOf(Props.create(Observer.class, entityCount));
+        switch (layout) {
+            case REGISTERS -> {
+                for (var entity : entities) {
+                    readerReplicator.tell(new Replicator.Subscribe<>(new LWWRegisterKey<String>(entity), observer),
+                        ActorRef.noSender());
+                }
+            }
+            case BUCKETS -> {
+                for (var key : BUCKET_KEYS) {
+                    readerReplicator.tell(new Replicator.Subscribe<>(key, observer), ActorRef.noSender());
+                }
+            }
+            default -> throw new IllegalStateException("Unhandled layout " + layout);
+        }
+
+        // Initial assignment of owners, so that the benchmark measures only changes
+        failover(OWNERS[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        readerSystem.terminate();
+        writerSystem.terminate();
+        readerSystem.getWhenTerminated().toCompletableFuture().get();
+        writerSystem.getWhenTerminated().toCompletableFuture().get();
+    }
+
+    @Benchmark
+    public String failover() throws Exception {
+        return failover(OWNERS[++generation & 1]);
+    }
+
+    private String failover(final String owner) throws Exception {
+        final var converged = new CompletableFuture<String>();
+        observer.tell(new AwaitOwner(owner, converged), ActorRef.noSender());
+
+        switch (layout) {
+            case REGISTERS -> {
+                for (var entity : entities) {
+                    replicator.tell(new Replicator.Update<>(new LWWRegisterKey<String>(entity),
+                        LWWRegister.create(node, owner, CLOCK), Replicator.writeLocal(), Optional.empty(),
+                        register -> register.withValue(node, owner, CLOCK)), ActorRef.noSender());
+                }
+            }
+            case BUCKETS -> bucketEntities.forEach((key, bucketed) -> replicator.tell(new Replicator.Update<>(key,
+                LWWMap.<String, String>empty(), Replicator.writeLocal(), Optional.empty(), bucket -> {
+                    var ret = bucket;
+                    for (var entity : bucketed) {
+                        ret = ret.put(node, entity, owner, CLOCK);
+                    }
+                    return ret;
+                }), ActorRef.noSender()));
+            default -> throw new IllegalStateException("Unhandled layout " + layout);
+        }
+
+        return converged.get(CONVERGENCE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static LWWMapKey<String, String> bucketKey(final String entity) {
+        return BUCKET_KEYS.get(Math.floorMod(entity.hashCode(), BUCKET_COUNT));
+    }
+
+    private static void awaitMembersUp(final ActorSystem system) throws InterruptedException {
+        final var cluster = Cluster.get(system);
+        while (true) {
+            int up = 0;
+            for (var member : cluster.state().getMembers()) {
+                if (member.status() == MemberStatus.up()) {
+                    up++;
+                }
+            }
+            if (up == 2) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private record AwaitOwner(String owner, CompletableFuture<String> converged) {
+        // Just a tuple
+    }
+
+    /**
+     * Tracks the owners observed on the reader member and completes a pending {@link AwaitOwner} once all entities
+     * are owned by the expected owner.
+     */
+    private static final class Observer extends AbstractActor {
+        private final Map<String, String> owners = new HashMap<>();
+        private final Map<String, Integer> ownerCounts = new HashMap<>();
+        private final int entityCount;
+
+        private AwaitOwner pending;
+
+        Observer(final int entityCount) {
+            this.entityCount = entityCount;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                .match(AwaitOwner.class, this::onAwaitOwner)
+                .match(Replicator.Changed.class, this::onChanged)
+                .build();
+        }
+
+        private void onAwaitOwner(final AwaitOwner message) {
+            pending = message;
+            checkConverged();
+        }
+
+        private void onChanged(final Replicator.Changed<?> changed) {
+            switch (changed.dataValue()) {
+                case LWWRegister<?> register -> updateOwner(changed.key().id(), (String) register.getValue());
+                case LWWMap<?, ?> bucket -> bucket.getEntries().forEach(
+                    (entity, owner) -> updateOwner((String) entity, (String) owner));
+                default -> throw new IllegalArgumentException("Unexpected data " + changed.dataValue());
+            }
+            checkConverged();
+        }
+
+        private void updateOwner(final String entity, final String owner) {
+            final var oldOwner = owners.put(entity, owner);
+            if (!owner.equals(oldOwner)) {
+                if (oldOwner != null) {
+                    ownerCounts.merge(oldOwner, -1, Integer::sum);
+                }
+                ownerCounts.merge(owner, 1, Integer::sum);
+            }
+        }
+
+        private void checkConverged() {
+            if (pending != null && ownerCounts.getOrDefault(pending.owner(), 0) == entityCount) {
+                pending.converged().complete(pending.owner());
+                pending = null;
+            }
+        }
+    }
+}
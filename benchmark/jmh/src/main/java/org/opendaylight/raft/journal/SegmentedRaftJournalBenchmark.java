@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.raft.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link SegmentedRaftJournal} append and sequential read performance. Appends are done in batches of
+ * {@value #BATCH_SIZE} entries followed by a flush, which is what {@code JournalWriteTask} does under load. Scores are
+ * per entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SegmentedRaftJournalBenchmark {
+    private static final int BATCH_SIZE = 1024;
+    private static final int READ_ENTRIES = 65536;
+    private static final int MAX_SEGMENT_SIZE = 32 * 1024 * 1024;
+    private static final ToByteBufMapper<byte[]> TO_BYTES = (obj, buf) -> {
+        if (buf.writableBytes() < obj.length) {
+            return false;
+        }
+        buf.writeBytes(obj);
+        return true;
+    };
+    private static final FromByteBufMapper<Integer> FROM_BYTES = (index, bytes) -> bytes.readableBytes();
+
+    @Param
+    public StorageLevel storageLevel;
+
+    @Param({ "128", "1024" })
+    public int entrySize;
+
+    private Path directory;
+    private byte[] payload;
+    private SegmentedRaftJournal appendJournal;
+    private EntryWriter writer;
+    private SegmentedRaftJournal readJournal;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        payload = new byte[entrySize];
+
+        appendJournal = newBuilder("append").build();
+        writer = appendJournal.writer();
+
+        readJournal = newBuilder("read").build();
+        final var readWriter = readJournal.writer();
+        for (int i = 0; i < READ_ENTRIES; i++) {
+            readWriter.append(TO_BYTES, payload);
+        }
+        readWriter.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        appendJournal.close();
+        readJournal.close();
+        try (var files = Files.walk(directory)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void append() throws IOException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            writer.append(TO_BYTES, payload);
+        }
+        writer.flush();
+        // Keep disk usage bounded: this only removes segments which have been completely filled
+        appendJournal.compact(writer.nextIndex());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READ_ENTRIES)
+    public void read(final Blackhole bh) {
+        try (var reader = readJournal.openReader(readJournal.firstIndex())) {
+            for (var size = reader.tryNext(FROM_BYTES); size != null; size = reader.tryNext(FROM_BYTES)) {
+                bh.consume(size);
+            }
+        }
+    }
+
+    private SegmentedRaftJournal.Builder newBuilder(final String name) {
+        return SegmentedRaftJournal.builder()
+            .withDirectory(directory)
+            .withName(name)
+            .withStorageLevel(storageLevel)
+            .withMaxEntrySize(Math.max(entrySize, 1024))
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE);
+    }
+}
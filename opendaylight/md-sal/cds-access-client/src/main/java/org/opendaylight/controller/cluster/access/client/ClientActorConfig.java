@@ -23,6 +23,13 @@ public interface ClientActorConfig {
      */
     int getMaximumMessageSliceSize();
 
+    /**
+     * Returns the maximum number of message slices sent without having been acknowledged by the back-end.
+     *
+     * @return the maximum number of unacknowledged message slices
+     */
+    int getMessageSliceWindow();
+
     /**
      * Returns the threshold in bytes before switching from storing in memory to buffering to a file when streaming
      * large amounts of data.
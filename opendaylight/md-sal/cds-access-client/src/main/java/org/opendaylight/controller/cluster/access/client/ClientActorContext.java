@@ -54,6 +54,7 @@ public class ClientActorContext implements Identifiable<ClientIdentifier> {
 
         messageSlicer = MessageSlicer.builder()
             .messageSliceSize(config.getMaximumMessageSliceSize())
+            .sliceWindowSize(config.getMessageSliceWindow())
             .logContext(persistenceId)
             .expireStateAfterInactivity(config.getRequestTimeout(), TimeUnit.NANOSECONDS)
             .fileBackedStreamFactory(new FileBackedOutputStreamFactory(config.getFileBackedStreamingThreshold(),
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.access.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Queue of {@link TransmittedConnectionEntry}s which have been sent to the backend, but have not completed yet. Entries
+ * are appended in the order of their {@link TransmittedConnectionEntry#getTxSequence()}, which allows us to locate an
+ * entry for a response in constant time.
+ *
+ * <p>The queue is a ring buffer. Entries removed from the middle of the queue leave a hole, which is skipped once it
+ * reaches either end of the queue. Since we also retain the transmit sequence of each slot, the slots remain sorted
+ * and we can locate entries by their offset from the head -- which is exact as long as transmit sequences are
+ * contiguous -- or by binary search otherwise. Holes are compacted once they outnumber live entries.
+ *
+ * <p>This class is not thread-safe, as it is expected to be guarded by {@link TransmitQueue}.
+ */
+final class InflightQueue extends AbstractCollection<TransmittedConnectionEntry> {
+    private static final int MIN_CAPACITY = 16;
+
+    private TransmittedConnectionEntry[] entries = new TransmittedConnectionEntry[MIN_CAPACITY];
+    private long[] txSequences = new long[MIN_CAPACITY];
+    // Slot of the first entry
+    private int head;
+    // Number of slots between the first and the last entry, including holes
+    private int span;
+    // Number of live entries
+    private int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(entries, null);
+        head = 0;
+        span = 0;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<TransmittedConnectionEntry> iterator() {
+        return new Iterator<>() {
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (offset < span && entries[slot(offset)] == null) {
+                    offset++;
+                }
+                return offset < span;
+            }
+
+            @Override
+            public TransmittedConnectionEntry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return entries[slot(offset++)];
+            }
+        };
+    }
+
+    /**
+     * Append an entry to the end of this queue.
+     *
+     * @param entry entry to append
+     * @throws IllegalArgumentException if the entry's transmit sequence does not follow the last entry's
+     */
+    void addLast(final @NonNull TransmittedConnectionEntry entry) {
+        final long txSequence = entry.getTxSequence();
+        checkArgument(span == 0 || txSequence > txSequences[slot(span - 1)], "Entry %s is out of order in %s", entry,
+            this);
+
+        if (span == entries.length) {
+            resize(size < span / 2 ? entries.length : entries.length * 2);
+        }
+
+        final int slot = slot(span++);
+        entries[slot] = entry;
+        txSequences[slot] = txSequence;
+        size++;
+    }
+
+    /**
+     * Return the first entry in this queue.
+     *
+     * @return the first entry, or {@code null} if this queue is empty
+     */
+    @Nullable TransmittedConnectionEntry peek() {
+        return entries[head];
+    }
+
+    /**
+     * Remove and return the first entry in this queue.
+     *
+     * @return the first entry, or {@code null} if this queue is empty
+     */
+    @Nullable TransmittedConnectionEntry poll() {
+        return size == 0 ? null : removeAt(0);
+    }
+
+    /**
+     * Remove and return the last entry in this queue.
+     *
+     * @return the last entry
+     * @throws NoSuchElementException if this queue is empty
+     */
+    @NonNull TransmittedConnectionEntry removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(span - 1);
+    }
+
+    /**
+     * Find the offset of the entry with specified transmit sequence.
+     *
+     * @param txSequence transmit sequence
+     * @return offset of the entry, or {@code -1} if there is no such entry
+     */
+    int indexOf(final long txSequence) {
+        if (size == 0) {
+            return -1;
+        }
+
+        // Transmit sequences are strictly increasing, hence the entry cannot be further away from head than
+        // the difference in transmit sequences. That also happens to be its exact offset when sequences are contiguous.
+        final long diff = txSequence - txSequences[head];
+        if (diff < 0) {
+            return -1;
+        }
+        final int guess = (int) Math.min(diff, span - 1);
+        if (txSequences[slot(guess)] == txSequence) {
+            return entries[slot(guess)] != null ? guess : -1;
+        }
+
+        int low = 0;
+        int high = guess - 1;
+        while (low <= high) {
+            final int mid = low + high >>> 1;
+            final long midSequence = txSequences[slot(mid)];
+            if (midSequence < txSequence) {
+                low = mid + 1;
+            } else if (midSequence > txSequence) {
+                high = mid - 1;
+            } else {
+                return entries[slot(mid)] != null ? mid : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the entry at specified offset.
+     *
+     * @param offset offset as returned by {@link #indexOf(long)}
+     * @return the entry
+     */
+    @NonNull TransmittedConnectionEntry get(final int offset) {
+        return entries[slot(offset)];
+    }
+
+    /**
+     * Remove the entry at specified offset. This invalidates offsets of all other entries.
+     *
+     * @param offset offset as returned by {@link #indexOf(long)}
+     * @return removed entry
+     */
+    @NonNull TransmittedConnectionEntry removeAt(final int offset) {
+        final int slot = slot(offset);
+        final var ret = entries[slot];
+        entries[slot] = null;
+        if (--size == 0) {
+            head = 0;
+            span = 0;
+            return ret;
+        }
+
+        if (offset == 0) {
+            // Skip holes after the new head
+            do {
+                head = slot(1);
+                span--;
+            } while (entries[head] == null);
+        } else if (offset == span - 1) {
+            // Skip holes before the new tail
+            do {
+                span--;
+            } while (entries[slot(span - 1)] == null);
+        } else if (span - size > size && span > MIN_CAPACITY) {
+            // Holes outnumber entries, compact them so that iteration and lookups do not degrade
+            resize(entries.length);
+        }
+        return ret;
+    }
+
+    private int slot(final int offset) {
+        return head + offset & entries.length - 1;
+    }
+
+    private void resize(final int capacity) {
+        final var newEntries = new TransmittedConnectionEntry[capacity];
+        final var newSequences = new long[capacity];
+        int count = 0;
+        for (int offset = 0; offset < span; offset++) {
+            final int slot = slot(offset);
+            final var entry = entries[slot];
+            if (entry != null) {
+                newEntries[count] = entry;
+                newSequences[count] = txSequences[slot];
+                count++;
+            }
+        }
+
+        entries = newEntries;
+        txSequences = newSequences;
+        head = 0;
+        span = count;
+    }
+}
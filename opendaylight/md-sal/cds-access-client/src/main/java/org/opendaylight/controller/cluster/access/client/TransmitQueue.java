@@ -40,7 +40,9 @@ import org.slf4j.LoggerFactory;
  *
  * <p>For memory efficiency we want to pre-allocate both queues -- which points to ArrayDeque, but that is very
  * inefficient when entries are removed from the middle. In the typical case we expect the number of in-flight entries
- * to be an order of magnitude lower than the number of enqueued entries, hence the split.
+ * to be an order of magnitude lower than the number of enqueued entries, hence the split. In-flight entries are kept
+ * in an {@link InflightQueue}, which allows responses to be matched by their transmit sequence in constant time, even
+ * when they arrive out of order.
  *
  * <p>Note that in transient case of reconnect, when the backend gives us a lower number of maximum in-flight entries
  * than the previous incarnation, we may end up still moving the pending queue -- but that is a very exceptional
@@ -152,7 +154,7 @@ abstract sealed class TransmitQueue {
 
     private static final Logger LOG = LoggerFactory.getLogger(TransmitQueue.class);
 
-    private final ArrayDeque<TransmittedConnectionEntry> inflight = new ArrayDeque<>();
+    private final InflightQueue inflight = new InflightQueue();
     private final ArrayDeque<ConnectionEntry> pending = new ArrayDeque<>();
     // Cannot be just ProgressTracker as we are inheriting limits.
     private final AveragingProgressTracker tracker;
@@ -214,7 +216,7 @@ abstract sealed class TransmitQueue {
     final @Nullable TransmittedConnectionEntry complete(final ResponseEnvelope<?> envelope, final long now) {
         preComplete(envelope);
 
-        var matchingEntry = findMatchingEntry(inflight, envelope);
+        var matchingEntry = findInflightEntry(envelope);
         if (matchingEntry == null) {
             LOG.debug("Request for {} not found in inflight queue, checking pending queue", envelope);
             matchingEntry = findMatchingEntry(pending, envelope);
@@ -392,7 +394,7 @@ abstract sealed class TransmitQueue {
     }
 
     @VisibleForTesting
-    Deque<TransmittedConnectionEntry> getInflight() {
+    InflightQueue getInflight() {
         return inflight;
     }
 
@@ -401,6 +403,35 @@ abstract sealed class TransmitQueue {
         return pending;
     }
 
+    /*
+     * Look up the in-flight entry matching the transmit sequence of a response. Returns the same tri-state as
+     * findMatchingEntry(), except we return null if the entry belongs to a different session, so that any entries
+     * replayed from a previous session can be found in the pending queue.
+     */
+    private @Nullable MatchingEntry findInflightEntry(final ResponseEnvelope<?> envelope) {
+        final int offset = inflight.indexOf(envelope.getTxSequence());
+        if (offset < 0) {
+            return null;
+        }
+
+        final var tce = inflight.get(offset);
+        final var request = tce.getRequest();
+        final var response = envelope.getMessage();
+        if (envelope.getSessionId() != tce.getSessionId() || !request.getTarget().equals(response.getTarget())) {
+            return null;
+        }
+
+        // Sanity-check logical sequence, ignore any out-of-order messages
+        if (request.getSequence() != response.getSequence()) {
+            LOG.debug("Expecting sequence {}, ignoring response {}", request.getSequence(), envelope);
+            return NotPresentEntry.INSTANCE;
+        }
+
+        LOG.debug("Completing request {} with {}", request, envelope);
+        inflight.removeAt(offset);
+        return new FoundEntry(tce);
+    }
+
     /*
      * We are using tri-state return here to indicate one of three conditions:
      * - if a matching entry is found, return an MatchingEntry.Found containing it
@@ -37,6 +37,7 @@ public final class AccessClientUtil {
     public static ClientActorConfig newMockClientActorConfig() {
         ClientActorConfig mockConfig = mock(ClientActorConfig.class);
         lenient().doReturn(2_000_000).when(mockConfig).getMaximumMessageSliceSize();
+        lenient().doReturn(1).when(mockConfig).getMessageSliceWindow();
         lenient().doReturn(1_000_000_000).when(mockConfig).getFileBackedStreamingThreshold();
         doReturn(AbstractClientConnection.DEFAULT_REQUEST_TIMEOUT_NANOS).when(mockConfig).getRequestTimeout();
         lenient().doReturn(AbstractClientConnection.DEFAULT_BACKEND_ALIVE_TIMEOUT_NANOS)
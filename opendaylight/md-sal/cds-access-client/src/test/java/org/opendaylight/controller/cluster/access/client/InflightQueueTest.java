@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.access.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.controller.cluster.access.concepts.Request;
+
+class InflightQueueTest {
+    private final InflightQueue queue = new InflightQueue();
+
+    @Test
+    void testEmpty() {
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+        assertEquals(-1, queue.indexOf(0));
+        assertThrows(NoSuchElementException.class, queue::removeLast);
+        assertEquals(List.of(), List.copyOf(queue));
+    }
+
+    @Test
+    void testOutOfOrderAppend() {
+        queue.addLast(entry(5));
+        assertThrows(IllegalArgumentException.class, () -> queue.addLast(entry(5)));
+        assertThrows(IllegalArgumentException.class, () -> queue.addLast(entry(4)));
+    }
+
+    @Test
+    void testRemoveFromMiddle() {
+        final var entries = new ArrayList<TransmittedConnectionEntry>();
+        for (long i = 0; i < 5; ++i) {
+            final var entry = entry(i);
+            entries.add(entry);
+            queue.addLast(entry);
+        }
+
+        // Remove 1 and 3, leaving holes
+        assertSame(entries.get(1), queue.removeAt(queue.indexOf(1)));
+        assertSame(entries.get(3), queue.removeAt(queue.indexOf(3)));
+        assertEquals(-1, queue.indexOf(1));
+        assertEquals(-1, queue.indexOf(3));
+        assertEquals(3, queue.size());
+        assertEquals(List.of(entries.get(0), entries.get(2), entries.get(4)), List.copyOf(queue));
+
+        // Removing the head skips the hole at 1
+        assertSame(entries.get(0), queue.poll());
+        assertSame(entries.get(2), queue.peek());
+        assertEquals(0, queue.indexOf(2));
+
+        // Removing the tail skips the hole at 3
+        assertSame(entries.get(4), queue.removeLast());
+        assertSame(entries.get(2), queue.removeLast());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void testSparseSequences() {
+        // Transmit sequences with gaps force binary search
+        final var entries = new ArrayList<TransmittedConnectionEntry>();
+        for (long i = 0; i < 100; ++i) {
+            final var entry = entry(i * 3);
+            entries.add(entry);
+            queue.addLast(entry);
+        }
+
+        for (int i = 0; i < 100; ++i) {
+            final int offset = queue.indexOf(i * 3);
+            assertEquals(i, offset);
+            assertSame(entries.get(i), queue.get(offset));
+            assertEquals(-1, queue.indexOf(i * 3 + 1));
+        }
+        assertEquals(-1, queue.indexOf(-1));
+        assertEquals(-1, queue.indexOf(300));
+    }
+
+    @Test
+    void testRandomCompletion() {
+        final var random = new Random(42);
+        final var expected = new ArrayList<TransmittedConnectionEntry>();
+        long nextTxSequence = 0;
+
+        for (int round = 0; round < 100; ++round) {
+            // Keep topping the queue up, as TransmitQueue does
+            while (expected.size() < 1000) {
+                final var entry = entry(nextTxSequence++);
+                expected.add(entry);
+                queue.addLast(entry);
+            }
+
+            // Complete a random half of the entries in random order
+            final var toComplete = new ArrayList<>(expected);
+            Collections.shuffle(toComplete, random);
+            for (var entry : toComplete.subList(0, 500)) {
+                final int offset = queue.indexOf(entry.getTxSequence());
+                assertSame(entry, queue.get(offset));
+                assertSame(entry, queue.removeAt(offset));
+                expected.remove(entry);
+            }
+
+            assertEquals(expected.size(), queue.size());
+            assertEquals(expected, List.copyOf(queue));
+            assertSame(expected.get(0), queue.peek());
+        }
+    }
+
+    private static TransmittedConnectionEntry entry(final long txSequence) {
+        return new TransmittedConnectionEntry(new ConnectionEntry(mock(Request.class), response -> { }, 0), 0,
+            txSequence, 0);
+    }
+}
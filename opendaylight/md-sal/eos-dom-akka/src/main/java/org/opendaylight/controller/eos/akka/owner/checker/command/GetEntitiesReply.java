@@ -13,6 +13,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -26,9 +27,11 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controll
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.entity.owners.norev.GetEntitiesOutputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.entity.owners.norev.NodeName;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.entity.owners.norev.get.entities.output.EntitiesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.entity.owners.norev.get.entities.output.OwnersBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.core.general.entity.rev150930.Entity;
 import org.opendaylight.yangtools.binding.data.codec.api.BindingInstanceIdentifierCodec;
 import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.Uint32;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 
@@ -73,9 +76,28 @@ public final class GetEntitiesReply extends StateCheckerReply implements Seriali
                     return eb.build();
                 })
                 .collect(BindingMap.toMap()))
+            .setOwners(ownedEntityCounts().entrySet().stream()
+                .map(entry -> new OwnersBuilder()
+                    .setOwnerNode(new NodeName(entry.getKey()))
+                    .setOwnedEntities(Uint32.valueOf(entry.getValue()))
+                    .build())
+                .collect(BindingMap.toMap()))
             .build();
     }
 
+    private Map<String, Integer> ownedEntityCounts() {
+        final var counts = new HashMap<String, Integer>();
+        for (var candidate : candidates.values()) {
+            counts.putIfAbsent(candidate, 0);
+        }
+        for (var owner : owners.values()) {
+            if (!owner.isEmpty()) {
+                counts.merge(owner, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
     /**
      * if the entity is general entity then shorthand the name to only the last path argument, otherwise return
      * full YIID path encoded as string.
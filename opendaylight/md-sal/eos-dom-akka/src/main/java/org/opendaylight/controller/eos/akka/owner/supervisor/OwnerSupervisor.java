@@ -17,6 +17,7 @@ import com.google.common.collect.Sets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.javadsl.Receive;
+import org.apache.pekko.actor.typed.javadsl.TimerScheduler;
 import org.apache.pekko.cluster.ClusterEvent;
 import org.apache.pekko.cluster.ClusterEvent.MemberEvent;
 import org.apache.pekko.cluster.ClusterEvent.ReachabilityEvent;
@@ -61,6 +63,7 @@ import org.opendaylight.controller.eos.akka.owner.supervisor.command.MemberUnrea
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.MemberUpEvent;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.OwnerChanged;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.OwnerSupervisorCommand;
+import org.opendaylight.controller.eos.akka.owner.supervisor.command.RebalanceOwners;
 import org.opendaylight.controller.eos.akka.registry.candidate.CandidateRegistry;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
 import org.opendaylight.yangtools.binding.data.codec.api.BindingInstanceIdentifierCodec;
@@ -72,11 +75,21 @@ import scala.jdk.javaapi.CollectionConverters;
  * Responsible for tracking candidates and assigning ownership of entities. This behavior is subscribed to the candidate
  * registry in distributed-data and picks entity owners based on the current cluster state and registered candidates.
  * On cluster up/down etc. events the owners are reassigned if possible.
+ *
+ * <p>Owners are picked so that active members own roughly the same number of entities. When a member becomes reachable
+ * again, ownership is gradually rebalanced towards it, moving a small batch of entities every second, so that
+ * applications do not experience a storm of ownership changes.
+ *
+ * <p>Each entity's owner is kept in its own {@link LWWRegister}. Grouping owners into a fixed number of LWWMap buckets
+ * was evaluated and rejected, as a failover took several times longer to converge across the cluster, see
+ * {@code OwnerLayoutBenchmark} in benchmark-jmh.
  */
 public final class OwnerSupervisor extends AbstractSupervisor {
 
     private static final Logger LOG = LoggerFactory.getLogger(OwnerSupervisor.class);
     private static final String DATACENTER_PREFIX = "dc-";
+    private static final int REBALANCE_BATCH_SIZE = 100;
+    private static final Duration REBALANCE_INTERVAL = Duration.ofSeconds(1);
 
     private final ReplicatorMessageAdapter<OwnerSupervisorCommand, LWWRegister<String>> ownerReplicator;
 
@@ -85,6 +98,7 @@ public final class OwnerSupervisor extends AbstractSupervisor {
     // running in a cluster-singleton
     private static final LWWRegister.Clock<String> CLOCK = (currentTimestamp, value) -> currentTimestamp + 1;
 
+    private final TimerScheduler<OwnerSupervisorCommand> timers;
     private final Cluster cluster;
     private final SelfUniqueAddress node;
     private final String dataCenter;
@@ -105,11 +119,13 @@ public final class OwnerSupervisor extends AbstractSupervisor {
     private final BindingInstanceIdentifierCodec iidCodec;
 
     private OwnerSupervisor(final ActorContext<OwnerSupervisorCommand> context,
+                            final TimerScheduler<OwnerSupervisorCommand> timers,
                             final Map<DOMEntity, Set<String>> currentCandidates,
                             final Map<DOMEntity, String> currentOwners,
                             final BindingInstanceIdentifierCodec iidCodec) {
         super(context);
         this.iidCodec = requireNonNull(iidCodec);
+        this.timers = requireNonNull(timers);
 
         final var distributedData = DistributedData.get(context.getSystem());
         final var replicator = distributedData.replicator();
@@ -155,7 +171,8 @@ public final class OwnerSupervisor extends AbstractSupervisor {
 
     public static Behavior<OwnerSupervisorCommand> create(final Map<DOMEntity, Set<String>> currentCandidates,
             final Map<DOMEntity, String> currentOwners, final BindingInstanceIdentifierCodec iidCodec) {
-        return Behaviors.setup(ctx -> new OwnerSupervisor(ctx, currentCandidates, currentOwners, iidCodec));
+        return Behaviors.setup(ctx -> Behaviors.withTimers(
+            timers -> new OwnerSupervisor(ctx, timers, currentCandidates, currentOwners, iidCodec)));
     }
 
     @Override
@@ -164,6 +181,7 @@ public final class OwnerSupervisor extends AbstractSupervisor {
                 .onMessage(CandidatesChanged.class, this::onCandidatesChanged)
                 .onMessage(DeactivateDataCenter.class, this::onDeactivateDatacenter)
                 .onMessage(OwnerChanged.class, this::onOwnerChanged)
+                .onMessage(RebalanceOwners.class, this::onRebalanceOwners)
                 .onMessage(MemberUpEvent.class, this::onPeerUp)
                 .onMessage(MemberDownEvent.class, this::onPeerDown)
                 .onMessage(MemberReachableEvent.class, this::onPeerReachable)
@@ -322,13 +340,12 @@ public final class OwnerSupervisor extends AbstractSupervisor {
             return;
         }
 
-        String pickedCandidate = null;
-        for (var candidate : candidatesForEntity) {
-            if (activeMembers.contains(candidate)) {
-                pickedCandidate = candidate;
-                break;
-            }
+        final var previousOwner = currentOwners.get(entity);
+        if (previousOwner != null) {
+            ownerToEntity.remove(previousOwner, entity);
         }
+
+        final var pickedCandidate = leastLoadedCandidate(entity);
         if (pickedCandidate == null) {
             LOG.debug("No candidate is reachable for {}, activeMembers: {}, currentCandidates: {}",
                     entity, activeMembers, currentCandidates.get(entity));
@@ -344,15 +361,74 @@ public final class OwnerSupervisor extends AbstractSupervisor {
     }
 
     private void removeOwner(final DOMEntity entity) {
-        if (currentOwners.containsKey(entity)) {
+        final var owner = currentOwners.remove(entity);
+        if (owner != null) {
+            ownerToEntity.remove(owner, entity);
             // assign empty owner to dd, as we cannot delete data for a key since that would prevent
             // writes for the same key
-            currentOwners.remove(entity);
-
             writeNewOwner(entity, "");
         }
     }
 
+    // Pick the active candidate owning the least entities, preferring the first one encountered on ties
+    private String leastLoadedCandidate(final DOMEntity entity) {
+        String picked = null;
+        int pickedLoad = Integer.MAX_VALUE;
+        for (var candidate : currentCandidates.getOrDefault(entity, Set.of())) {
+            if (activeMembers.contains(candidate)) {
+                final int load = ownerToEntity.get(candidate).size();
+                if (load < pickedLoad) {
+                    picked = candidate;
+                    pickedLoad = load;
+                }
+            }
+        }
+        return picked;
+    }
+
+    private Behavior<OwnerSupervisorCommand> onRebalanceOwners(final RebalanceOwners command) {
+        int moved = 0;
+
+        // start with the most loaded members
+        final var owners = activeMembers.stream()
+            .sorted(Comparator.comparingInt((String member) -> ownerToEntity.get(member).size()).reversed())
+            .toList();
+        for (var owner : owners) {
+            if (moved == REBALANCE_BATCH_SIZE) {
+                break;
+            }
+            for (var entity : ImmutableList.copyOf(ownerToEntity.get(owner))) {
+                if (moved == REBALANCE_BATCH_SIZE) {
+                    break;
+                }
+
+                final var target = leastLoadedCandidate(entity);
+                // only move when it actually improves the balance, otherwise we would keep moving entities back and
+                // forth
+                if (target != null && ownerToEntity.get(target).size() + 1 < ownerToEntity.get(owner).size()) {
+                    LOG.debug("Rebalancing {} from {} to {}", entity, owner, target);
+                    ownerToEntity.remove(owner, entity);
+                    ownerToEntity.put(target, entity);
+                    currentOwners.put(entity, target);
+                    writeNewOwner(entity, target);
+                    moved++;
+                }
+            }
+        }
+
+        if (moved < REBALANCE_BATCH_SIZE) {
+            LOG.debug("Rebalancing finished, moved {} entities in last batch", moved);
+            timers.cancel(RebalanceOwners.INSTANCE);
+        }
+        return this;
+    }
+
+    private void startRebalancing() {
+        if (!timers.isTimerActive(RebalanceOwners.INSTANCE)) {
+            timers.startTimerWithFixedDelay(RebalanceOwners.INSTANCE, REBALANCE_INTERVAL);
+        }
+    }
+
     private void writeNewOwner(final DOMEntity entity, final String candidate) {
         ownerReplicator.askUpdate(
                 askReplyTo -> new Replicator.Update<>(
@@ -400,6 +476,7 @@ public final class OwnerSupervisor extends AbstractSupervisor {
         if (roles.contains(dataCenter)) {
             activeMembers.add(extractRole(roles));
             assignMissingOwners();
+            startRebalancing();
         } else {
             LOG.debug("Received reachable event from a foreign datacenter, Ignoring... Roles: {}", roles);
         }
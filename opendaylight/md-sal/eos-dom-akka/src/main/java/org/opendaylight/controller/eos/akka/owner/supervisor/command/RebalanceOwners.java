@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.eos.akka.owner.supervisor.command;
+
+/**
+ * Periodic self-message instructing OwnerSupervisor to move another batch of entities from overloaded owners.
+ */
+public final class RebalanceOwners extends OwnerSupervisorCommand {
+    public static final RebalanceOwners INSTANCE = new RebalanceOwners();
+
+    private RebalanceOwners() {
+        // Hidden on purpose
+    }
+}
@@ -7,8 +7,13 @@
  */
 package org.opendaylight.controller.eos.akka.owner.supervisor;
 
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertNotEquals;
+
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
@@ -103,6 +108,43 @@ public class OwnerSupervisorTest extends AbstractNativeEosTest {
         }
     }
 
+    @Test
+    public void testRebalancingWhenMemberReachable() throws Exception {
+        final Map<DOMEntity, Set<String>> candidates = new HashMap<>();
+        candidates.put(ENTITY_1, new HashSet<>(Set.of("member-1", "member-2")));
+        candidates.put(ENTITY_2, new HashSet<>(Set.of("member-1", "member-2")));
+
+        final ClusterNode node = startup(2550, Collections.singletonList("member-1"), Collections.emptyList(),
+                () -> mockedBootstrap(candidates, new HashMap<>()));
+
+        try {
+            waitUntillOwnerPresent(node, ENTITY_1);
+            waitUntillOwnerPresent(node, ENTITY_2);
+
+            registerCandidates(node, ENTITY_1, "member-1", "member-2");
+            registerCandidates(node, ENTITY_2, "member-1", "member-2");
+
+            final MockEntityOwnershipListener listener1 = registerListener(node, ENTITY_1);
+            final MockEntityOwnershipListener listener2 = registerListener(node, ENTITY_2);
+
+            // member-2 is not reachable, hence member-1 has to own both entities
+            verifyListenerState(listener1, ENTITY_1, true, true, false);
+            verifyListenerState(listener2, ENTITY_2, true, true, false);
+
+            // once member-2 is reachable one of the entities should be moved over to it
+            reachableMember(node, "member-2", DEFAULT_DATACENTER);
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> assertNotEquals(isLastOwner(listener1), isLastOwner(listener2)));
+        } finally {
+            ActorTestKit.shutdown(node.getActorSystem());
+        }
+    }
+
+    private static boolean isLastOwner(final MockEntityOwnershipListener listener) {
+        final var changes = listener.getChanges();
+        return changes.get(changes.size() - 1).change().isOwner();
+    }
+
     private static Behavior<BootstrapCommand> mockedBootstrap(final Map<DOMEntity, Set<String>> currentCandidates,
                                                               final Map<DOMEntity, String> currentOwners) {
         return Behaviors.setup(context -> MockBootstrap.create(currentCandidates, currentOwners));
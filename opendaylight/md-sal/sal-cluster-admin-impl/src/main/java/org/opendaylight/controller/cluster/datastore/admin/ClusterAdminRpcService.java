@@ -51,8 +51,10 @@ import org.opendaylight.controller.cluster.datastore.messages.GetShardRoleReply;
 import org.opendaylight.controller.cluster.datastore.messages.MakeLeaderLocal;
 import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardInfo;
 import org.opendaylight.controller.cluster.datastore.messages.RemoveShardReplica;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshotList;
+import org.opendaylight.controller.cluster.datastore.shardmanager.StreamSnapshot;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.controller.cluster.raft.client.messages.GetSnapshot;
 import org.opendaylight.controller.eos.akka.DataCenterControl;
@@ -71,6 +73,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controll
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.BackupDatastoreInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.BackupDatastoreOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.BackupDatastoreOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.BackupFormat;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.ChangeMemberVotingStatesForAllShards;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.ChangeMemberVotingStatesForAllShardsInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.ChangeMemberVotingStatesForAllShardsOutput;
@@ -494,6 +497,16 @@ public final class ClusterAdminRpcService {
         final var timeout = input.getTimeout();
         final var opTimeout = timeout != null ? new Timeout(timeout.longValue(), TimeUnit.SECONDS) : SHARD_MGR_TIMEOUT;
 
+        final var format = input.getFormat();
+        return switch (format != null ? format : BackupFormat.ObjectStream) {
+            case ObjectStream -> backupDatastoreToFile(input.getFilePath(), opTimeout);
+            case PerShardLz4 -> backupDatastoreToDirectory(input.getFilePath(), opTimeout);
+            default -> throw new IllegalStateException("Unhandled format " + format);
+        };
+    }
+
+    private ListenableFuture<RpcResult<BackupDatastoreOutput>> backupDatastoreToFile(final String fileName,
+            final Timeout opTimeout) {
         final var ret = SettableFuture.<RpcResult<BackupDatastoreOutput>>create();
         Futures.addCallback(Futures.<DatastoreSnapshot>allAsList(
             sendMessageToShardManager(DataStoreType.Config, GetSnapshot.INSTANCE, opTimeout),
@@ -501,12 +514,54 @@ public final class ClusterAdminRpcService {
             new FutureCallback<>() {
                 @Override
                 public void onSuccess(final List<DatastoreSnapshot> snapshots) {
-                    saveSnapshotsToFile(new DatastoreSnapshotList(snapshots), input.getFilePath(), ret);
+                    saveSnapshotsToFile(new DatastoreSnapshotList(snapshots), fileName, ret);
+                }
+
+                @Override
+                public void onFailure(final Throwable failure) {
+                    onDatastoreBackupFailure(fileName, ret, failure);
+                }
+            }, MoreExecutors.directExecutor());
+        return ret;
+    }
+
+    private ListenableFuture<RpcResult<BackupDatastoreOutput>> backupDatastoreToDirectory(final String dirName,
+            final Timeout opTimeout) {
+        final var ret = SettableFuture.<RpcResult<BackupDatastoreOutput>>create();
+        final DatastoreBackupDirectory.Writer writer;
+        try {
+            writer = DatastoreBackupDirectory.newWriter(Path.of(dirName));
+        } catch (IOException e) {
+            onDatastoreBackupFailure(dirName, ret, e);
+            return ret;
+        }
+
+        // Shard managers hand each shard's snapshot to the writer as soon as they get it
+        Futures.addCallback(Futures.allAsList(
+            sendMessageToShardManager(DataStoreType.Config, new StreamSnapshot(writer), opTimeout),
+            sendMessageToShardManager(DataStoreType.Operational, new StreamSnapshot(writer), opTimeout)),
+            new FutureCallback<>() {
+                @Override
+                public void onSuccess(final List<Object> result) {
+                    try (writer) {
+                        writer.commit();
+                    } catch (IOException e) {
+                        onDatastoreBackupFailure(dirName, ret, e);
+                        return;
+                    }
+
+                    ret.set(newSuccessfulResult(new BackupDatastoreOutputBuilder().build()));
+                    LOG.info("Successfully backed up datastore to directory {}", dirName);
                 }
 
                 @Override
                 public void onFailure(final Throwable failure) {
-                    onDatastoreBackupFailure(input.getFilePath(), ret, failure);
+                    try {
+                        writer.close();
+                    } catch (IOException e) {
+                        failure.addSuppressed(e);
+                    }
+                    onDatastoreBackupFailure(dirName, ret, failure);
                 }
             }, MoreExecutors.directExecutor());
         return ret;
@@ -54,6 +54,7 @@ import org.opendaylight.controller.cluster.datastore.Shard;
 import org.opendaylight.controller.cluster.datastore.config.ModuleShardConfiguration;
 import org.opendaylight.controller.cluster.datastore.identifiers.ShardIdentifier;
 import org.opendaylight.controller.cluster.datastore.messages.CreateShard;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.raft.persisted.ServerInfo;
 import org.opendaylight.controller.cluster.raft.persisted.VotingConfig;
@@ -67,6 +68,7 @@ import org.opendaylight.raft.spi.CompressionType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.AddReplicasForAllShardsInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.AddShardReplicaInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.BackupDatastoreInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.BackupFormat;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.ChangeMemberVotingStatesForAllShardsInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.ChangeMemberVotingStatesForShardInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.cluster.admin.rev250131.DataStoreType;
@@ -157,6 +159,18 @@ class ClusterAdminRpcServiceTest {
             Files.deleteIfExists(file);
         }
 
+        final var dir = stateDir.resolve("testBackupDatastore");
+        rpcResult = service.backupDatastore(new BackupDatastoreInputBuilder().setFilePath(dir.toString())
+            .setFormat(BackupFormat.PerShardLz4).build()).get(5, TimeUnit.SECONDS);
+        verifySuccessfulRpcResult(rpcResult);
+
+        final var snapshots = DatastoreBackupDirectory.read(dir);
+        assertEquals("DatastoreSnapshot size", 2, snapshots.size());
+        final var dataStoreName = node.configDataStore().getActorUtils().getDataStoreName();
+        verifyDatastoreSnapshot(dataStoreName, snapshots.stream()
+            .filter(snapshot -> dataStoreName.equals(snapshot.getType()))
+            .findFirst().orElse(null), "cars", "people");
+
         // Test failure by killing a shard.
 
         node.configDataStore().getActorUtils().getShardManager().tell(node.datastoreContextBuilder()
@@ -8,13 +8,18 @@
 
 package org.opendaylight.controller.cluster.common.actor;
 
+import static java.util.Objects.requireNonNull;
+
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
 import com.typesafe.config.Config;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.concurrent.TimeUnit;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.dispatch.BoundedDequeBasedMailbox;
+import org.apache.pekko.dispatch.Envelope;
 import org.apache.pekko.dispatch.MailboxType;
 import org.apache.pekko.dispatch.ProducesMessageQueue;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
@@ -29,18 +34,22 @@ public class MeteredBoundedMailbox implements MailboxType,
 
     private final Integer capacity;
     private final FiniteDuration pushTimeOut;
+    private final boolean sojournMetering;
 
     public MeteredBoundedMailbox(final ActorSystem.Settings settings, final Config config) {
 
         CommonConfig commonConfig = new CommonConfig(settings.config());
         this.capacity = commonConfig.getMailBoxCapacity();
         this.pushTimeOut = commonConfig.getMailBoxPushTimeout();
+        sojournMetering = SojournTimeMeter.isEnabled(config);
     }
 
 
     @Override
     public MeteredMessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
-        final MeteredMessageQueue queue = new MeteredMessageQueue(this.capacity, this.pushTimeOut);
+        final MeteredMessageQueue queue = sojournMetering && owner.isDefined()
+            ? new SojournMeteredMessageQueue(capacity, pushTimeOut, new SojournTimeMeter(owner.get()))
+                : new MeteredMessageQueue(capacity, pushTimeOut);
         monitorQueueSize(owner, queue);
         return queue;
     }
@@ -85,4 +94,49 @@ public class MeteredBoundedMailbox implements MailboxType,
             super(capacity, pushTimeOut);
         }
     }
+
+    /**
+     * A {@link MeteredMessageQueue} which also measures the time messages spend in it. Envelopes are stamped and
+     * unstamped at the {@link java.util.concurrent.BlockingDeque} level, so that a message which does not fit into
+     * the queue reaches dead letters unchanged.
+     */
+    private static final class SojournMeteredMessageQueue extends MeteredMessageQueue {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This class is not serialized")
+        private final SojournTimeMeter meter;
+
+        SojournMeteredMessageQueue(final int capacity, final FiniteDuration pushTimeOut,
+                final SojournTimeMeter meter) {
+            super(capacity, pushTimeOut);
+            this.meter = requireNonNull(meter);
+        }
+
+        @Override
+        public void put(final Envelope envelope) throws InterruptedException {
+            super.put(meter.stamp(envelope));
+        }
+
+        @Override
+        public boolean offer(final Envelope envelope, final long timeout, final TimeUnit unit)
+                throws InterruptedException {
+            return super.offer(meter.stamp(envelope), timeout, unit);
+        }
+
+        @Override
+        public void putFirst(final Envelope envelope) throws InterruptedException {
+            super.putFirst(meter.stamp(envelope));
+        }
+
+        @Override
+        public boolean offerFirst(final Envelope envelope, final long timeout, final TimeUnit unit)
+                throws InterruptedException {
+            return super.offerFirst(meter.stamp(envelope), timeout, unit);
+        }
+
+        @Override
+        public Envelope poll() {
+            return meter.unstamp(super.poll());
+        }
+    }
 }
@@ -7,8 +7,13 @@
  */
 package org.opendaylight.controller.cluster.common.actor;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.codahale.metrics.LockFreeExponentiallyDecayingReservoir;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import java.util.HashMap;
 import org.apache.pekko.actor.AbstractActor;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import scala.PartialFunction;
@@ -29,15 +34,26 @@ public class MeteringBehavior extends AbstractPartialFunction<Object, BoxedUnit>
 
     private static final String MSG_PROCESSING_RATE = "msg-rate";
 
-    private final MetricRegistry metricRegistry = MetricsReporter.getInstance(DOMAIN).getMetricsRegistry();
+    private final MetricRegistry metricRegistry;
     private final String actorQualifiedName;
     private final Timer msgProcessingTimer;
     private final PartialFunction<Object, BoxedUnit> receive;
+    // Timers by message type, resolved once for each message class. Only accessed by the actor, hence not thread-safe.
+    private final HashMap<Class<?>, Timer> msgProcessingTimerByMsgType = new HashMap<>();
+
+    MeteringBehavior(final MetricRegistry metricRegistry, final String actorQualifiedName,
+            final PartialFunction<Object, BoxedUnit> receive) {
+        this.metricRegistry = requireNonNull(metricRegistry);
+        this.actorQualifiedName = requireNonNull(actorQualifiedName);
+        this.receive = requireNonNull(receive);
+        msgProcessingTimer = lockFreeTimer(metricRegistry,
+            MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE));
+    }
 
     private MeteringBehavior(final String actorName, final AbstractActor meteredActor) {
-        actorQualifiedName = meteredActor.self().path().parent().toStringWithoutAddress() + "/" + actorName;
-        msgProcessingTimer = metricRegistry.timer(MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE));
-        receive = meteredActor.createReceive().onMessage();
+        this(MetricsReporter.getInstance(DOMAIN).getMetricsRegistry(),
+            meteredActor.self().path().parent().toStringWithoutAddress() + "/" + actorName,
+            meteredActor.createReceive().onMessage());
     }
 
     /**
@@ -60,11 +76,14 @@ public class MeteringBehavior extends AbstractPartialFunction<Object, BoxedUnit>
 
     /**
      * Uses 2 timers to measure message processing rate. One for overall message processing rate and
-     * another to measure rate by message type. The timers are re-used if they were previously created.
+     * another to measure rate by message type. The timer for a particular message type is looked up only when a message
+     * of that type is seen for the first time and both timers are updated from a single pair of
+     * {@link System#nanoTime()} readings.
      *
      * <p>{@link com.codahale.metrics.MetricRegistry} maintains a reservoir for different timers where
      * collected timings are kept. It exposes various metrics for each timer based on collected
-     * data. Eg: count of messages, 99, 95, 50... percentiles, max, mean etc.
+     * data. Eg: count of messages, 99, 95, 50... percentiles, max, mean etc. The timers created here use
+     * a {@link LockFreeExponentiallyDecayingReservoir}, so that updating them does not contend on a lock.
      *
      * <p>These metrics are exposed as JMX bean.
      *
@@ -75,21 +94,31 @@ public class MeteringBehavior extends AbstractPartialFunction<Object, BoxedUnit>
      */
     @Override
     public BoxedUnit apply(final Object message) {
-        final String messageType = message.getClass().getSimpleName();
-        final String msgProcessingTimeByMsgType =
-                MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE, messageType);
-        final Timer msgProcessingTimerByMsgType = metricRegistry.timer(msgProcessingTimeByMsgType);
-
-        //start timers
-        final Timer.Context context = msgProcessingTimer.time();
-        final Timer.Context contextByMsgType = msgProcessingTimerByMsgType.time();
-
+        final long startNanos = System.nanoTime();
         try {
             return receive.apply(message);
         } finally {
-            //stop timers
-            contextByMsgType.stop();
-            context.stop();
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            msgProcessingTimerByMsgType.computeIfAbsent(message.getClass(), this::newMsgProcessingTimer)
+                .update(elapsedNanos, NANOSECONDS);
+            msgProcessingTimer.update(elapsedNanos, NANOSECONDS);
         }
     }
+
+    private Timer newMsgProcessingTimer(final Class<?> type) {
+        return lockFreeTimer(metricRegistry,
+            MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE, type.getSimpleName()));
+    }
+
+    /**
+     * Return the {@link Timer} registered under a name, registering a new one backed by
+     * a {@link LockFreeExponentiallyDecayingReservoir} if there is none.
+     *
+     * @param registry the {@link MetricRegistry}
+     * @param name the name of the timer
+     * @return a {@link Timer}
+     */
+    static Timer lockFreeTimer(final MetricRegistry registry, final String name) {
+        return registry.timer(name, () -> new Timer(LockFreeExponentiallyDecayingReservoir.builder().build()));
+    }
 }
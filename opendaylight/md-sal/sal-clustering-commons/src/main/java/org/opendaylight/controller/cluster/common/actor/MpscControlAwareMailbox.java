@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import com.codahale.metrics.Gauge;
+import com.typesafe.config.Config;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.ControlMessage;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MailboxType;
+import org.apache.pekko.dispatch.ProducesMessageQueue;
+import org.apache.pekko.dispatch.UnboundedDequeBasedMessageQueueSemantics;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.Option;
+
+/**
+ * An unbounded mailbox which delivers {@link ControlMessage}s ahead of any other messages and supports
+ * {@link UnboundedDequeBasedMessageQueueSemantics}, just like {@link UnboundedDequeBasedControlAwareMailbox}. Unlike
+ * that mailbox, messages are kept in {@link MpscLinkedQueue}s, which take advantage of the fact that an actor's mailbox
+ * is only ever consumed by a single thread, and the number of messages is tracked in striped counters, so that
+ * the queue size metrics can be sampled without traversing the queues.
+ *
+ * <p>Messages put back by {@link MessageQueue#enqueueFirst(ActorRef, Envelope)}, for example when an actor unstashes
+ * them, are delivered before any other messages of the same kind.
+ */
+public class MpscControlAwareMailbox implements MailboxType,
+        ProducesMessageQueue<MpscControlAwareMailbox.MessageQueue> {
+    private static final Logger LOG = LoggerFactory.getLogger(MpscControlAwareMailbox.class);
+    private static final String NORMAL_QUEUE_SIZE = "normal-q-size";
+    private static final String CONTROL_QUEUE_SIZE = "control-q-size";
+    private static final String TOTAL_QUEUE_SIZE = "total-q-size";
+
+    private final boolean sojournMetering;
+
+    public MpscControlAwareMailbox(final ActorSystem.Settings settings, final Config config) {
+        sojournMetering = SojournTimeMeter.isEnabled(config);
+    }
+
+    @Override
+    public MessageQueue create(final Option<ActorRef> owner, final Option<ActorSystem> system) {
+        LOG.debug("Creating MessageQueue for {}", owner);
+
+        final var queue = new MessageQueue(sojournMetering && owner.isDefined()
+            ? new SojournTimeMeter(owner.get()) : null);
+
+        MeteredBoundedMailbox.registerMetric(owner, NORMAL_QUEUE_SIZE, (Gauge<Integer>) queue.normal::size);
+        MeteredBoundedMailbox.registerMetric(owner, CONTROL_QUEUE_SIZE, (Gauge<Integer>) queue.control::size);
+        MeteredBoundedMailbox.registerMetric(owner, TOTAL_QUEUE_SIZE, (Gauge<Integer>) queue::numberOfMessages);
+
+        return queue;
+    }
+
+    /**
+     * Messages of one priority: those put back to the front of the queue and those enqueued normally.
+     */
+    private static final class Lane {
+        private final Deque<Envelope> first = new ConcurrentLinkedDeque<>();
+        private final MpscLinkedQueue<Envelope> queue = new MpscLinkedQueue<>();
+        // Incremented by producers before an envelope is added
+        private final LongAdder enqueued = new LongAdder();
+        // Incremented only by the consumer after an envelope is removed
+        private final AtomicLong dequeued = new AtomicLong();
+
+        void add(final Envelope envelope) {
+            enqueued.increment();
+            queue.offer(envelope);
+        }
+
+        void addFirst(final Envelope envelope) {
+            enqueued.increment();
+            first.addFirst(envelope);
+        }
+
+        @Nullable Envelope poll() {
+            var envelope = first.pollFirst();
+            if (envelope == null) {
+                envelope = queue.poll();
+                if (envelope == null) {
+                    return null;
+                }
+            }
+            dequeued.setRelease(dequeued.getPlain() + 1);
+            return envelope;
+        }
+
+        boolean isEmpty() {
+            return queue.isEmpty() && first.isEmpty();
+        }
+
+        int size() {
+            // Read the consumer's counter first, so that we never observe more dequeued than enqueued envelopes
+            final long consumed = dequeued.getAcquire();
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, enqueued.sum() - consumed));
+        }
+    }
+
+    static final class MessageQueue implements org.apache.pekko.dispatch.MessageQueue,
+            UnboundedDequeBasedMessageQueueSemantics {
+        private final Lane control = new Lane();
+        private final Lane normal = new Lane();
+        private final @Nullable SojournTimeMeter meter;
+
+        MessageQueue(final @Nullable SojournTimeMeter meter) {
+            this.meter = meter;
+        }
+
+        @Override
+        public void enqueue(final ActorRef receiver, final Envelope handle) {
+            laneOf(handle).add(stamp(handle));
+        }
+
+        @Override
+        public void enqueueFirst(final ActorRef actor, final Envelope envelope) {
+            laneOf(envelope).addFirst(stamp(envelope));
+        }
+
+        @Override
+        public Envelope dequeue() {
+            var envelope = control.poll();
+            if (envelope == null) {
+                envelope = normal.poll();
+            }
+            return meter == null ? envelope : meter.unstamp(envelope);
+        }
+
+        @Override
+        public int numberOfMessages() {
+            return (int) Math.min(Integer.MAX_VALUE, (long) control.size() + normal.size());
+        }
+
+        @Override
+        public boolean hasMessages() {
+            return !control.isEmpty() || !normal.isEmpty();
+        }
+
+        @Override
+        public void cleanUp(final ActorRef owner, final org.apache.pekko.dispatch.MessageQueue deadLetters) {
+            for (var envelope = dequeue(); envelope != null; envelope = dequeue()) {
+                deadLetters.enqueue(owner, envelope);
+            }
+        }
+
+        private Lane laneOf(final Envelope envelope) {
+            return envelope.message() instanceof ControlMessage ? control : normal;
+        }
+
+        private Envelope stamp(final Envelope envelope) {
+            return meter == null ? envelope : meter.stamp(envelope);
+        }
+    }
+}
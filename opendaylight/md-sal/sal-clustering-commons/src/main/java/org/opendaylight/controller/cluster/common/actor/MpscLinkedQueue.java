@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An unbounded linked queue supporting multiple producers and a single consumer. Producers publish a new node by
+ * swapping it into {@code tail} and then linking it from its predecessor, hence an {@link #offer(Object)} is wait-free.
+ * The consumer is the only thread advancing {@code head} and it does so without any atomic read-modify-write
+ * operations.
+ *
+ * <p>{@link #poll()} must only be called by a single thread at a time. {@link #isEmpty()} may be called by any thread.
+ *
+ * @param <E> element type
+ */
+@NonNullByDefault
+final class MpscLinkedQueue<E> {
+    private static final class Node<E> {
+        private static final VarHandle NEXT;
+
+        static {
+            try {
+                NEXT = MethodHandles.lookup().findVarHandle(Node.class, "next", Node.class);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private @Nullable E value;
+        @SuppressWarnings("unused")
+        private volatile @Nullable Node<E> next;
+
+        Node(final @Nullable E value) {
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable Node<E> next() {
+            return (Node<E>) NEXT.getAcquire(this);
+        }
+
+        void setNext(final Node<E> node) {
+            NEXT.setRelease(this, node);
+        }
+    }
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        final var lookup = MethodHandles.lookup();
+        try {
+            HEAD = lookup.findVarHandle(MpscLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(MpscLinkedQueue.class, "tail", Node.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // The most recently consumed node, written only by the consumer
+    @SuppressWarnings("unused")
+    private volatile Node<E> head;
+    // The most recently produced node
+    @SuppressWarnings("unused")
+    private volatile Node<E> tail;
+
+    MpscLinkedQueue() {
+        final var stub = new Node<E>(null);
+        head = stub;
+        tail = stub;
+    }
+
+    /**
+     * Append an element to the queue.
+     *
+     * @param element the element
+     */
+    void offer(final E element) {
+        final var node = new Node<>(requireNonNull(element));
+        @SuppressWarnings("unchecked")
+        final var prev = (Node<E>) TAIL.getAndSet(this, node);
+        prev.setNext(node);
+    }
+
+    /**
+     * Remove the first element of the queue. Must only be called from the consumer thread.
+     *
+     * @return the first element, or {@code null} if the queue is empty
+     */
+    @Nullable E poll() {
+        @SuppressWarnings("unchecked")
+        final var current = (Node<E>) HEAD.getOpaque(this);
+        var next = current.next();
+        if (next == null) {
+            if (TAIL.getAcquire(this) == current) {
+                return null;
+            }
+            // A producer has swapped the tail, but has not linked its node yet: wait for it to do so
+            do {
+                Thread.onSpinWait();
+                next = current.next();
+            } while (next == null);
+        }
+
+        final var value = next.value;
+        next.value = null;
+        HEAD.setRelease(this, next);
+        return value;
+    }
+
+    /**
+     * Check whether the queue is empty. An element whose {@link #offer(Object)} is still in progress is considered to
+     * be present.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    boolean isEmpty() {
+        return HEAD.getAcquire(this) == TAIL.getAcquire(this);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.typesafe.config.Config;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.dispatch.Envelope;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+
+/**
+ * Measures the time messages spend in a mailbox, from being enqueued until being dequeued. Each message is stamped
+ * with the time it was enqueued by replacing it with a wrapper in the {@link Envelope} stored in the queue. The wrapper
+ * is removed when the envelope is dequeued, so the actor and dead letters only ever observe the original message.
+ */
+@NonNullByDefault
+final class SojournTimeMeter {
+    /**
+     * Mailbox configuration key enabling sojourn time measurement. The measurement is disabled by default, as it costs
+     * an additional {@link Envelope} for each message.
+     */
+    static final String SOJOURN_TIME_METERING_ENABLED = "sojourn-time-metering-enabled";
+
+    private static final String SOJOURN_TIME = "sojourn-time";
+
+    private record StampedMessage(Object message, long enqueuedNanos) {
+        StampedMessage {
+            requireNonNull(message);
+        }
+    }
+
+    private final Timer timer;
+
+    SojournTimeMeter(final ActorRef owner) {
+        final var registry = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry();
+        timer = MeteringBehavior.lockFreeTimer(registry,
+            MetricRegistry.name(owner.path().toStringWithoutAddress(), SOJOURN_TIME));
+    }
+
+    /**
+     * Check whether a mailbox configuration enables sojourn time measurement.
+     *
+     * @param config the mailbox configuration
+     * @return {@code true} if sojourn time should be measured
+     */
+    static boolean isEnabled(final Config config) {
+        return config.hasPath(SOJOURN_TIME_METERING_ENABLED) && config.getBoolean(SOJOURN_TIME_METERING_ENABLED);
+    }
+
+    /**
+     * Stamp an envelope with the current time.
+     *
+     * @param envelope the envelope being enqueued
+     * @return the envelope to store in the queue
+     */
+    Envelope stamp(final Envelope envelope) {
+        return envelope.copy(new StampedMessage(envelope.message(), System.nanoTime()), envelope.sender());
+    }
+
+    /**
+     * Remove the stamp from an envelope, recording the time it has spent in the queue.
+     *
+     * @param envelope the envelope taken from the queue, or {@code null}
+     * @return the original envelope, or {@code null}
+     */
+    @Nullable Envelope unstamp(final @Nullable Envelope envelope) {
+        if (envelope != null && envelope.message() instanceof StampedMessage stamped) {
+            timer.update(System.nanoTime() - stamped.enqueuedNanos, NANOSECONDS);
+            return envelope.copy(stamped.message, envelope.sender());
+        }
+        return envelope;
+    }
+}
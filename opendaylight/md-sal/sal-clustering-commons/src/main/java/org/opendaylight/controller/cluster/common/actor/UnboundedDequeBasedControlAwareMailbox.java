@@ -7,10 +7,12 @@
  */
 package org.opendaylight.controller.cluster.common.actor;
 
+import static java.util.Objects.requireNonNull;
+
 import com.codahale.metrics.Gauge;
 import com.typesafe.config.Config;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Deque;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
@@ -37,14 +39,18 @@ public class UnboundedDequeBasedControlAwareMailbox implements MailboxType,
     private static final String CONTROL_QUEUE_SIZE = "control-q-size";
     private static final String TOTAL_QUEUE_SIZE = "total-q-size";
 
+    private final boolean sojournMetering;
+
     public UnboundedDequeBasedControlAwareMailbox(ActorSystem.Settings settings, Config config) {
+        sojournMetering = SojournTimeMeter.isEnabled(config);
     }
 
     @Override
     public MessageQueue create(Option<ActorRef> owner, Option<ActorSystem> system) {
         LOG.debug("Creating MessageQueue for {}", owner);
 
-        final MessageQueue queue = new MessageQueue();
+        final MessageQueue queue = sojournMetering && owner.isDefined()
+            ? new SojournMessageQueue(new SojournTimeMeter(owner.get())) : new MessageQueue();
 
         MeteredBoundedMailbox.registerMetric(owner, NORMAL_QUEUE_SIZE, (Gauge<Integer>) () -> queue.queue().size());
         MeteredBoundedMailbox.registerMetric(owner, CONTROL_QUEUE_SIZE,
@@ -62,12 +68,12 @@ public class UnboundedDequeBasedControlAwareMailbox implements MailboxType,
         private final Deque<Envelope> queue = new ConcurrentLinkedDeque<>();
 
         @Override
-        public Queue<Envelope> controlQueue() {
+        public Deque<Envelope> controlQueue() {
             return controlQueue;
         }
 
         @Override
-        public Queue<Envelope> queue() {
+        public Deque<Envelope> queue() {
             return queue;
         }
 
@@ -84,4 +90,42 @@ public class UnboundedDequeBasedControlAwareMailbox implements MailboxType,
             }
         }
     }
+
+    /**
+     * A {@link MessageQueue} which also measures the time messages spend in it.
+     */
+    private static final class SojournMessageQueue extends MessageQueue {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This class is not serialized")
+        private final SojournTimeMeter meter;
+
+        SojournMessageQueue(final SojournTimeMeter meter) {
+            this.meter = requireNonNull(meter);
+        }
+
+        @Override
+        public void enqueue(final ActorRef receiver, final Envelope handle) {
+            // Stamping hides the message type, hence we need to pick the queue ourselves
+            if (handle.message() instanceof ControlMessage) {
+                controlQueue().add(meter.stamp(handle));
+            } else {
+                queue().add(meter.stamp(handle));
+            }
+        }
+
+        @Override
+        public void enqueueFirst(final ActorRef actor, final Envelope envelope) {
+            if (envelope.message() instanceof ControlMessage) {
+                controlQueue().addFirst(meter.stamp(envelope));
+            } else {
+                queue().addFirst(meter.stamp(envelope));
+            }
+        }
+
+        @Override
+        public Envelope dequeue() {
+            return meter.unstamp(super.dequeue());
+        }
+    }
 }
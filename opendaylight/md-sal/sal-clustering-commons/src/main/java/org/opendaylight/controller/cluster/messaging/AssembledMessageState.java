@@ -33,6 +33,8 @@ public class AssembledMessageState implements AutoCloseable {
 
     private int lastSliceIndexReceived = SlicedMessageState.FIRST_SLICE_INDEX - 1;
     private int lastSliceHashCodeReceived = SlicedMessageState.INITIAL_SLICE_HASH_CODE;
+    // The highest index of a slice received ahead of the next expected slice, or 0 if there is no such slice
+    private int highestSliceIndexAhead = 0;
     private boolean sealed = false;
     private boolean closed = false;
     private long assembledSize;
@@ -95,6 +97,7 @@ public class AssembledMessageState implements AutoCloseable {
             assembledSize += data.length;
             lastSliceIndexReceived = sliceIndex;
             lastSliceHashCodeReceived = Arrays.hashCode(data);
+            highestSliceIndexAhead = 0;
 
             bufferedStream.write(data);
 
@@ -111,6 +114,41 @@ public class AssembledMessageState implements AutoCloseable {
         return sealed;
     }
 
+    /**
+     * Checks whether a slice is ahead of the next expected slice, i.e. one or more preceding slices have been lost
+     * in transit from a sender which does not wait for each slice to be acknowledged.
+     *
+     * @param sliceIndex the index of the slice
+     * @return true if the slice is ahead of the next expected slice
+     */
+    boolean isSliceAhead(final int sliceIndex) {
+        return !closed && !sealed && sliceIndex > lastSliceIndexReceived + 1;
+    }
+
+    /**
+     * Records a slice ahead of the next expected slice and determines whether the sender should be asked to resend
+     * the slices following the last slice received. We ask only once for each run of slices sent by the sender: a
+     * slice whose index does not exceed the previous slice ahead indicates the sender has resent slices, but lost one
+     * again.
+     *
+     * @param sliceIndex the index of the slice, which must be ahead
+     * @return true if the sender should be asked to resend slices
+     */
+    boolean recordSliceAhead(final int sliceIndex) {
+        final boolean resend = highestSliceIndexAhead == 0 || sliceIndex <= highestSliceIndexAhead;
+        highestSliceIndexAhead = sliceIndex;
+        return resend;
+    }
+
+    /**
+     * Returns the index of the last slice added.
+     *
+     * @return the index of the last slice added
+     */
+    int getLastSliceIndexReceived() {
+        return lastSliceIndexReceived;
+    }
+
     /**
      * Returns the assembled bytes as a ByteSource. This method must only be called after this instance is sealed.
      *
@@ -154,6 +154,21 @@ public final class MessageAssembler implements AutoCloseable {
         Object reAssembledMessage = null;
         synchronized (state) {
             final int sliceIndex = messageSlice.getSliceIndex();
+            if (state.isSliceAhead(sliceIndex)) {
+                // The sender keeps multiple slices in flight and some were lost: re-acknowledge the last slice we
+                // received, which tells the sender to resend all slices following it
+                if (state.recordSliceAhead(sliceIndex)) {
+                    final int lastSliceIndex = state.getLastSliceIndexReceived();
+                    LOG.debug("{}: Received slice {} ahead of expected slice {} for {} - requesting resend", logContext,
+                        sliceIndex, lastSliceIndex + 1, identifier);
+                    replyTo.tell(MessageSliceReply.success(identifier, lastSliceIndex, sendTo), ActorRef.noSender());
+                } else {
+                    LOG.debug("{}: Ignoring slice {} ahead of expected slice {} for {}", logContext, sliceIndex,
+                        state.getLastSliceIndexReceived() + 1, identifier);
+                }
+                return;
+            }
+
             try {
                 final MessageSliceReply successReply = MessageSliceReply.success(identifier, sliceIndex, sendTo);
                 if (state.addSlice(sliceIndex, messageSlice.getData(), messageSlice.getLastSliceHashCode())) {
@@ -32,6 +32,11 @@ import org.slf4j.LoggerFactory;
 /**
  * This class slices messages into smaller chunks. {@link MessageAssembler} is used to re-assemble the messages.
  *
+ * <p>By default each slice is sent only after the previous one has been acknowledged. If a slice window larger than one
+ * is configured, up to that many slices are kept in flight. The assembler acknowledges slices in order and, should it
+ * detect a missing slice, re-acknowledges the last slice it received in order, in which case we resend all slices
+ * following it.
+ *
  * @author Thomas Pantelis
  * @see MessageAssembler
  */
@@ -43,6 +48,7 @@ public class MessageSlicer implements AutoCloseable {
     private final Cache<MessageSliceIdentifier, SlicedMessageState<ActorRef>> stateCache;
     private final FileBackedOutputStreamFactory fileBackedStreamFactory;
     private final int messageSliceSize;
+    private final int sliceWindowSize;
     private final int maxSlicingTries;
     private final String logContext;
     private final long id;
@@ -50,6 +56,7 @@ public class MessageSlicer implements AutoCloseable {
     MessageSlicer(final Builder builder) {
         fileBackedStreamFactory = builder.fileBackedStreamFactory;
         messageSliceSize = builder.messageSliceSize;
+        sliceWindowSize = builder.sliceWindowSize;
         maxSlicingTries = builder.maxSlicingTries;
 
         id = SLICER_ID_COUNTER.getAndIncrement();
@@ -128,8 +135,8 @@ public class MessageSlicer implements AutoCloseable {
         MessageSliceIdentifier messageSliceId = new MessageSliceIdentifier(identifier, id);
         SlicedMessageState<ActorRef> state = null;
         try {
-            state = new SlicedMessageState<>(messageSliceId, fileBackedStream, messageSliceSize, maxSlicingTries,
-                    options.getReplyTo(), options.getOnFailureCallback(), logContext);
+            state = new SlicedMessageState<>(messageSliceId, fileBackedStream, messageSliceSize, sliceWindowSize,
+                    maxSlicingTries, options.getReplyTo(), options.getOnFailureCallback(), logContext);
 
             final Serializable message = options.getMessage();
             if (state.getTotalSlices() == 1 && message != null) {
@@ -145,6 +152,11 @@ public class MessageSlicer implements AutoCloseable {
 
             stateCache.put(messageSliceId, state);
             sendTo(options, firstSlice, ActorRef.noSender());
+            while (state.canSendNextSlice()) {
+                final MessageSlice nextSlice = getNextSliceMessage(state);
+                LOG.debug("{}: Sending next slice: {}", logContext, nextSlice);
+                sendTo(options, nextSlice, ActorRef.noSender());
+            }
             return true;
         } catch (IOException e) {
             LOG.error("{}: Error initializing SlicedMessageState for {}", logContext, identifier, e);
@@ -239,21 +251,33 @@ public class MessageSlicer implements AutoCloseable {
                     return true;
                 }
 
-                if (state.getCurrentSliceIndex() != reply.getSliceIndex()) {
+                final int sliceIndex = reply.getSliceIndex();
+                if (sliceWindowSize > 1 && sliceIndex <= state.getLastAckedSliceIndex()) {
+                    if (sliceIndex == state.getLastAckedSliceIndex()) {
+                        // The assembler has not seen a slice following the one it acknowledged again, resend them
+                        LOG.debug("{}: Resending slices following index {} for {}", logContext, sliceIndex,
+                            identifier);
+                        state.rewind();
+                        sendNextSlices(state, reply.getSendTo());
+                    } else {
+                        LOG.debug("{}: Ignoring stale {}", logContext, reply);
+                    }
+                    return true;
+                }
+
+                if (!state.ackSlice(sliceIndex)) {
                     LOG.warn("{}: Slice index {} in {} does not match expected index {}", logContext,
-                            reply.getSliceIndex(), reply, state.getCurrentSliceIndex());
+                            sliceIndex, reply, state.getLastAckedSliceIndex() + 1);
                     reply.getSendTo().tell(new AbortSlicing(identifier), ActorRef.noSender());
                     possiblyRetrySlicing(state, reply.getSendTo());
                     return true;
                 }
 
-                if (state.isLastSlice(reply.getSliceIndex())) {
+                if (state.isLastSlice(sliceIndex)) {
                     LOG.debug("{}: Received last slice reply for {}", logContext, identifier);
                     removeState(identifier);
                 } else {
-                    final MessageSlice nextSlice = getNextSliceMessage(state);
-                    LOG.debug("{}: Sending next slice: {}", logContext, nextSlice);
-                    reply.getSendTo().tell(nextSlice, ActorRef.noSender());
+                    sendNextSlices(state, reply.getSendTo());
                 }
             } catch (IOException e) {
                 LOG.warn("{}: Error processing {}", logContext, reply, e);
@@ -264,6 +288,14 @@ public class MessageSlicer implements AutoCloseable {
         return true;
     }
 
+    private void sendNextSlices(final SlicedMessageState<ActorRef> state, final ActorRef sendTo) throws IOException {
+        while (state.canSendNextSlice()) {
+            final MessageSlice nextSlice = getNextSliceMessage(state);
+            LOG.debug("{}: Sending next slice: {}", logContext, nextSlice);
+            sendTo.tell(nextSlice, ActorRef.noSender());
+        }
+    }
+
     private void processMessageSliceException(final MessageSliceException exception,
             final SlicedMessageState<ActorRef> state, final ActorRef sendTo) throws IOException {
         if (exception.isRetriable()) {
@@ -277,8 +309,17 @@ public class MessageSlicer implements AutoCloseable {
             throws IOException {
         if (state.canRetry()) {
             LOG.info("{}: Retrying message slicing for {}", logContext, state.getIdentifier());
-            state.reset();
-            sendTo.tell(getNextSliceMessage(state), ActorRef.noSender());
+            if (sliceWindowSize > 1) {
+                // Slices sent before the reset may still be in flight, hence we restart under a new identifier so
+                // that the replies to them do not interfere with the restarted slices
+                final var oldIdentifier = (MessageSliceIdentifier) state.getIdentifier();
+                state.reset(new MessageSliceIdentifier(oldIdentifier.getClientIdentifier(), id));
+                stateCache.put((MessageSliceIdentifier) state.getIdentifier(), state);
+                stateCache.invalidate(oldIdentifier);
+            } else {
+                state.reset();
+            }
+            sendNextSlices(state, sendTo);
         } else {
             String message = String.format("Maximum slicing retries reached for identifier %s - failing the message",
                     state.getIdentifier());
@@ -294,6 +335,11 @@ public class MessageSlicer implements AutoCloseable {
 
     private void stateRemoved(final RemovalNotification<Identifier, SlicedMessageState<ActorRef>> notification) {
         final SlicedMessageState<ActorRef> state = notification.getValue();
+        if (!state.getIdentifier().equals(notification.getKey())) {
+            LOG.debug("{}: SlicedMessageState for {} was re-keyed to {}", logContext, notification.getKey(),
+                state.getIdentifier());
+            return;
+        }
         state.close();
         if (notification.wasEvicted()) {
             LOG.warn("{}: SlicedMessageState for {} was expired from the cache", logContext, notification.getKey());
@@ -321,6 +367,7 @@ public class MessageSlicer implements AutoCloseable {
     public static class Builder {
         private FileBackedOutputStreamFactory fileBackedStreamFactory;
         private int messageSliceSize = -1;
+        private int sliceWindowSize = 1;
         private long expireStateAfterInactivityDuration = -1;
         private TimeUnit expireStateAfterInactivityUnit = TimeUnit.MINUTES;
         private int maxSlicingTries = DEFAULT_MAX_SLICING_TRIES;
@@ -351,6 +398,20 @@ public class MessageSlicer implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the maximum number of slices which can be sent without having been acknowledged by the assembling
+         * component on the other end. The default is 1, i.e. each slice is sent only after the previous one has been
+         * acknowledged.
+         *
+         * @param newSliceWindowSize the maximum number of unacknowledged slices
+         * @return this Builder
+         */
+        public Builder sliceWindowSize(final int newSliceWindowSize) {
+            checkArgument(newSliceWindowSize > 0, "sliceWindowSize must be > 0");
+            sliceWindowSize = newSliceWindowSize;
+            return this;
+        }
+
         /**
          * Sets the maximum number of tries for slicing a message. If exceeded, slicing fails. The default is
          * defined by {@link #DEFAULT_MAX_SLICING_TRIES}
@@ -20,6 +20,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Maintains the state of a sliced message. This class is NOT thread-safe.
  *
+ * <p>Up to {@code windowSize} slices may be sent before they are acknowledged. To support resending unacknowledged
+ * slices, we remember the hash codes of the slices in the window, as each slice carries the hash code of its
+ * predecessor.
+ *
  * @author Thomas Pantelis
  * @see MessageSlicer
  */
@@ -32,8 +36,9 @@ public class SlicedMessageState<T> implements AutoCloseable {
     // The initial hash code for a slice.
     static final int INITIAL_SLICE_HASH_CODE = -1;
 
-    private final Identifier identifier;
     private final int messageSliceSize;
+    private final int windowSize;
+    private final int[] sliceHashCodes;
     private final FileBackedOutputStream fileBackedStream;
     private final T replyTarget;
     private final SizedStreamSource messageBytes;
@@ -43,10 +48,10 @@ public class SlicedMessageState<T> implements AutoCloseable {
     private final Consumer<Throwable> onFailureCallback;
     private final String logContext;
 
-    private int currentByteOffset = 0;
+    private Identifier identifier;
     private int currentSliceIndex = FIRST_SLICE_INDEX - 1;
+    private int lastAckedSliceIndex = FIRST_SLICE_INDEX - 1;
     private int lastSliceHashCode = INITIAL_SLICE_HASH_CODE;
-    private int currentSliceHashCode = INITIAL_SLICE_HASH_CODE;
     private int tryCount = 1;
     private InputStream messageInputStream;
 
@@ -65,9 +70,30 @@ public class SlicedMessageState<T> implements AutoCloseable {
     public SlicedMessageState(final Identifier identifier, final FileBackedOutputStream fileBackedStream,
             final int messageSliceSize, final int maxRetries, final T replyTarget,
             final Consumer<Throwable> onFailureCallback, final String logContext) throws IOException {
+        this(identifier, fileBackedStream, messageSliceSize, 1, maxRetries, replyTarget, onFailureCallback,
+            logContext);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param identifier the identifier for this instance
+     * @param fileBackedStream the FileBackedOutputStream containing the serialized data to slice
+     * @param messageSliceSize the maximum size (in bytes) for a message slice
+     * @param windowSize the maximum number of slices which can be sent without being acknowledged
+     * @param maxRetries the maximum number of retries
+     * @param replyTarget the user-defined target for sliced message replies
+     * @param onFailureCallback the callback to notify on failure
+     * @param logContext the context for log messages
+     * @throws IOException if an error occurs opening the input stream
+     */
+    public SlicedMessageState(final Identifier identifier, final FileBackedOutputStream fileBackedStream,
+            final int messageSliceSize, final int windowSize, final int maxRetries, final T replyTarget,
+            final Consumer<Throwable> onFailureCallback, final String logContext) throws IOException {
         this.identifier = identifier;
         this.fileBackedStream = fileBackedStream;
         this.messageSliceSize = messageSliceSize;
+        this.windowSize = windowSize;
         this.maxRetries = maxRetries;
         this.replyTarget = replyTarget;
         this.onFailureCallback = onFailureCallback;
@@ -78,6 +104,8 @@ public class SlicedMessageState<T> implements AutoCloseable {
         messageInputStream = messageBytes.openStream();
 
         totalSlices = (int)(totalMessageSize / messageSliceSize + (totalMessageSize % messageSliceSize > 0 ? 1 : 0));
+        sliceHashCodes = new int[windowSize + 1];
+        sliceHashCodes[0] = INITIAL_SLICE_HASH_CODE;
 
         LOG.debug("{}: Message size: {} bytes, total slices to send: {}", logContext, totalMessageSize, totalSlices);
     }
@@ -91,6 +119,15 @@ public class SlicedMessageState<T> implements AutoCloseable {
         return currentSliceIndex;
     }
 
+    /**
+     * Returns the index of the last slice that has been acknowledged.
+     *
+     * @return the index of the last slice that has been acknowledged
+     */
+    public int getLastAckedSliceIndex() {
+        return lastAckedSliceIndex;
+    }
+
     /**
      * Returns the hash code of the last slice that was sent.
      *
@@ -155,6 +192,45 @@ public class SlicedMessageState<T> implements AutoCloseable {
         return totalSlices == index;
     }
 
+    /**
+     * Determines if the next slice can be sent, i.e. there is a next slice and sending it would not exceed the number
+     * of unacknowledged slices allowed.
+     *
+     * @return true if the next slice can be sent
+     */
+    public boolean canSendNextSlice() {
+        return currentSliceIndex < totalSlices && currentSliceIndex - lastAckedSliceIndex < windowSize;
+    }
+
+    /**
+     * Records the acknowledgement of a slice. Slices are acknowledged in order, hence this method only accepts
+     * the slice following the last acknowledged slice.
+     *
+     * @param sliceIndex the index of the acknowledged slice
+     * @return true if the acknowledgement was accepted, false if it does not match the expected slice index
+     */
+    public boolean ackSlice(final int sliceIndex) {
+        if (sliceIndex != lastAckedSliceIndex + 1 || sliceIndex > currentSliceIndex) {
+            return false;
+        }
+        lastAckedSliceIndex = sliceIndex;
+        return true;
+    }
+
+    /**
+     * Rewinds this instance so that the next slice returned by {@link #getNextSlice()} is the first unacknowledged
+     * slice.
+     *
+     * @throws IOException if an error occurs repositioning the input stream
+     */
+    public void rewind() throws IOException {
+        closeStream();
+        messageInputStream = messageBytes.openStream();
+        messageInputStream.skipNBytes((long) lastAckedSliceIndex * messageSliceSize);
+
+        currentSliceIndex = lastAckedSliceIndex;
+    }
+
     /**
      * Reads and returns the next slice of data.
      *
@@ -163,21 +239,8 @@ public class SlicedMessageState<T> implements AutoCloseable {
      */
     public byte[] getNextSlice() throws IOException {
         currentSliceIndex++;
-        final int start;
-        if (currentSliceIndex == FIRST_SLICE_INDEX) {
-            start = 0;
-        } else {
-            start = incrementByteOffset();
-        }
-
-        final int size;
-        if (messageSliceSize > totalMessageSize) {
-            size = (int) totalMessageSize;
-        } else if (start + messageSliceSize > totalMessageSize) {
-            size = (int) (totalMessageSize - start);
-        } else {
-            size = messageSliceSize;
-        }
+        final long start = (long) (currentSliceIndex - FIRST_SLICE_INDEX) * messageSliceSize;
+        final int size = (int) Math.min(messageSliceSize, totalMessageSize - start);
 
         LOG.debug("{}: getNextSlice: total size: {}, offset: {}, size: {}, index: {}", logContext, totalMessageSize,
                 start, size, currentSliceIndex);
@@ -189,12 +252,16 @@ public class SlicedMessageState<T> implements AutoCloseable {
                     "The # of bytes read from the input stream, %d, does not match the expected # %d", numRead, size));
         }
 
-        lastSliceHashCode = currentSliceHashCode;
-        currentSliceHashCode = Arrays.hashCode(nextSlice);
+        lastSliceHashCode = sliceHashCode(currentSliceIndex - 1);
+        sliceHashCodes[currentSliceIndex % sliceHashCodes.length] = Arrays.hashCode(nextSlice);
 
         return nextSlice;
     }
 
+    private int sliceHashCode(final int sliceIndex) {
+        return sliceHashCodes[sliceIndex % sliceHashCodes.length];
+    }
+
     /**
      * Resets this instance to restart slicing from the beginning.
      *
@@ -204,17 +271,24 @@ public class SlicedMessageState<T> implements AutoCloseable {
         closeStream();
 
         tryCount++;
-        currentByteOffset = 0;
         currentSliceIndex = FIRST_SLICE_INDEX - 1;
+        lastAckedSliceIndex = FIRST_SLICE_INDEX - 1;
         lastSliceHashCode = INITIAL_SLICE_HASH_CODE;
-        currentSliceHashCode = INITIAL_SLICE_HASH_CODE;
+        sliceHashCodes[0] = INITIAL_SLICE_HASH_CODE;
 
         messageInputStream = messageBytes.openStream();
     }
 
-    private int incrementByteOffset() {
-        currentByteOffset  += messageSliceSize;
-        return currentByteOffset;
+    /**
+     * Resets this instance to restart slicing from the beginning under a new identifier, so that any replies to slices
+     * sent under the previous identifier are not mistaken for replies to the restarted slices.
+     *
+     * @param newIdentifier the new identifier
+     * @throws IOException if an error occurs resetting the input stream
+     */
+    void reset(final Identifier newIdentifier) throws IOException {
+        identifier = newIdentifier;
+        reset();
     }
 
     private void closeStream() {
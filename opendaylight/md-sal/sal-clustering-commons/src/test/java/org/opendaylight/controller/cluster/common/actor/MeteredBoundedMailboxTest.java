@@ -7,6 +7,8 @@
  */
 package org.opendaylight.controller.cluster.common.actor;
 
+import static org.junit.Assert.assertEquals;
+
 import com.typesafe.config.ConfigFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -19,6 +21,7 @@ import org.apache.pekko.testkit.TestKit;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import scala.concurrent.duration.FiniteDuration;
 
 public class MeteredBoundedMailboxTest {
@@ -70,6 +73,20 @@ public class MeteredBoundedMailboxTest {
         mockReceiver.receiveN(11, twentySeconds);
     }
 
+    @Test
+    public void shouldMeasureSojournTimeWhenEnabled() {
+        final TestKit mockReceiver = new TestKit(actorSystem);
+        final ActorRef pingPongActor = actorSystem.actorOf(PingPongActor.props(lock)
+            .withMailbox("sojourn-bounded-mailbox"), "sojournpingpongactor");
+
+        pingPongActor.tell("ping", mockReceiver.testActor());
+        mockReceiver.expectMsg("pong");
+
+        final var timer = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry()
+            .timer(pingPongActor.path().toStringWithoutAddress() + ".sojourn-time");
+        assertEquals(1, timer.getCount());
+    }
+
     /**
      * For testing.
      */
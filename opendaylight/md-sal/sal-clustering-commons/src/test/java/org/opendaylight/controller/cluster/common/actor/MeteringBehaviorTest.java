@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.codahale.metrics.MetricRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import scala.runtime.AbstractPartialFunction;
+import scala.runtime.BoxedUnit;
+
+public class MeteringBehaviorTest {
+    private final MetricRegistry registry = new MetricRegistry();
+    private final List<Object> received = new ArrayList<>();
+    private final MeteringBehavior behavior = new MeteringBehavior(registry, "/user/test",
+        new AbstractPartialFunction<>() {
+            @Override
+            public boolean isDefinedAt(final Object message) {
+                return !(message instanceof Long);
+            }
+
+            @Override
+            public BoxedUnit apply(final Object message) {
+                if (message instanceof IllegalStateException ex) {
+                    throw ex;
+                }
+                received.add(message);
+                return BoxedUnit.UNIT;
+            }
+        });
+
+    @Test
+    public void testTimersByMessageType() {
+        assertTrue(behavior.isDefinedAt("foo"));
+        assertFalse(behavior.isDefinedAt(1L));
+
+        assertSame(BoxedUnit.UNIT, behavior.apply("foo"));
+        behavior.apply("bar");
+        behavior.apply(1);
+        assertEquals(List.of("foo", "bar", 1), received);
+
+        assertEquals(3, registry.timer("/user/test.msg-rate").getCount());
+        assertEquals(2, registry.timer("/user/test.msg-rate.String").getCount());
+        assertEquals(1, registry.timer("/user/test.msg-rate.Integer").getCount());
+    }
+
+    @Test
+    public void testFailedMessageIsTimed() {
+        final var ex = new IllegalStateException("mock");
+        assertSame(ex, assertThrows(IllegalStateException.class, () -> behavior.apply(ex)));
+
+        assertEquals(1, registry.timer("/user/test.msg-rate").getCount());
+        assertEquals(1, registry.timer("/user/test.msg-rate.IllegalStateException").getCount());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.typesafe.config.ConfigFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.actor.UntypedAbstractActor;
+import org.apache.pekko.dispatch.ControlMessage;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+import scala.Option;
+
+public class MpscControlAwareMailboxTest {
+    private static final int PRODUCERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 10_000;
+
+    private record MockControlMessage(int id) implements ControlMessage {
+
+    }
+
+    /**
+     * Blocks processing of its first message until released, then forwards all messages to a probe.
+     */
+    private static final class BlockingActor extends UntypedAbstractActor {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+        private final ActorRef probe;
+
+        BlockingActor(final CountDownLatch started, final CountDownLatch release, final ActorRef probe) {
+            this.started = started;
+            this.release = release;
+            this.probe = probe;
+        }
+
+        @Override
+        public void onReceive(final Object message) throws InterruptedException {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            probe.tell(message, ActorRef.noSender());
+        }
+    }
+
+    private ActorSystem system;
+    private ActorRef owner;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create("test", ConfigFactory.parseMap(Map.of(
+            "mpsc-mailbox.mailbox-type", MpscControlAwareMailbox.class.getName(),
+            "mpsc-mailbox.sojourn-time-metering-enabled", true)));
+        owner = new TestKit(system).getRef();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void testOrderingAndSize() {
+        final var queue = newQueue(false);
+        assertFalse(queue.hasMessages());
+        assertNull(queue.dequeue());
+
+        final var control = new MockControlMessage(1);
+        queue.enqueue(owner, new Envelope("first", owner));
+        queue.enqueue(owner, new Envelope(control, owner));
+        queue.enqueue(owner, new Envelope("second", owner));
+        queue.enqueueFirst(owner, new Envelope("stashed", owner));
+        queue.enqueueFirst(owner, new Envelope(new MockControlMessage(2), owner));
+        assertTrue(queue.hasMessages());
+        assertEquals(5, queue.numberOfMessages());
+
+        assertEquals(new MockControlMessage(2), queue.dequeue().message());
+        assertSame(control, queue.dequeue().message());
+        assertEquals(3, queue.numberOfMessages());
+        assertEquals("stashed", queue.dequeue().message());
+        final var first = queue.dequeue();
+        assertEquals("first", first.message());
+        assertSame(owner, first.sender());
+        assertEquals("second", queue.dequeue().message());
+        assertNull(queue.dequeue());
+        assertFalse(queue.hasMessages());
+        assertEquals(0, queue.numberOfMessages());
+    }
+
+    @Test
+    public void testSojournTime() {
+        final var queue = newQueue(true);
+        queue.enqueue(owner, new Envelope("first", owner));
+        queue.enqueue(owner, new Envelope(new MockControlMessage(1), owner));
+        assertEquals(new MockControlMessage(1), queue.dequeue().message());
+        assertEquals("first", queue.dequeue().message());
+
+        final var timer = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry()
+            .timer(owner.path().toStringWithoutAddress() + ".sojourn-time");
+        assertEquals(2, timer.getCount());
+    }
+
+    @Test
+    public void testCleanUp() {
+        final var queue = newQueue(false);
+        final var envelope = new Envelope("message", owner);
+        queue.enqueue(owner, envelope);
+
+        final var deadLetters = mock(MessageQueue.class);
+        queue.cleanUp(owner, deadLetters);
+        verify(deadLetters).enqueue(owner, envelope);
+        assertFalse(queue.hasMessages());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final var queue = newQueue(false);
+        final var executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            for (int p = 0; p < PRODUCERS; ++p) {
+                final int producer = p;
+                executor.execute(() -> {
+                    for (int i = 0; i < MESSAGES_PER_PRODUCER; ++i) {
+                        queue.enqueue(owner, new Envelope(new int[] { producer, i }, owner));
+                    }
+                });
+            }
+
+            // Messages of each producer are received in the order they were sent
+            final var expected = new int[PRODUCERS];
+            int received = 0;
+            while (received < PRODUCERS * MESSAGES_PER_PRODUCER) {
+                final var envelope = queue.dequeue();
+                if (envelope != null) {
+                    final var message = (int[]) envelope.message();
+                    assertEquals(expected[message[0]]++, message[1]);
+                    received++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertNull(queue.dequeue());
+        assertEquals(0, queue.numberOfMessages());
+    }
+
+    @Test
+    public void testControlMessagesAreDeliveredFirst() throws Exception {
+        final var probe = new TestKit(system);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var actor = system.actorOf(Props.create(BlockingActor.class, started, release, probe.getRef())
+            .withMailbox("mpsc-mailbox"));
+
+        actor.tell("blocking", ActorRef.noSender());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        actor.tell("normal", ActorRef.noSender());
+        actor.tell(new MockControlMessage(1), ActorRef.noSender());
+        release.countDown();
+
+        final var messages = new ArrayList<>();
+        for (int i = 0; i < 3; ++i) {
+            messages.add(probe.expectMsgClass(Object.class));
+        }
+        assertEquals(List.of("blocking", new MockControlMessage(1), "normal"), messages);
+    }
+
+    private MpscControlAwareMailbox.MessageQueue newQueue(final boolean sojournTime) {
+        return new MpscControlAwareMailbox(system.settings(), ConfigFactory.parseMap(
+            Map.of(SojournTimeMeter.SOJOURN_TIME_METERING_ENABLED, sojournTime))).create(Option.apply(owner),
+                Option.apply(system));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.typesafe.config.ConfigFactory;
+import java.util.Map;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.ControlMessage;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+import scala.Option;
+
+public class UnboundedDequeBasedControlAwareMailboxTest {
+    private static final class MockControlMessage implements ControlMessage {
+
+    }
+
+    private ActorSystem system;
+    private ActorRef owner;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.apply();
+        owner = new TestKit(system).getRef();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void testControlMessagesFirst() {
+        assertMessageOrder(false);
+    }
+
+    @Test
+    public void testControlMessagesFirstWithSojournTime() {
+        assertMessageOrder(true);
+
+        final var timer = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry()
+            .timer(owner.path().toStringWithoutAddress() + ".sojourn-time");
+        assertEquals(4, timer.getCount());
+    }
+
+    private void assertMessageOrder(final boolean sojournTime) {
+        final var queue = new UnboundedDequeBasedControlAwareMailbox(system.settings(), ConfigFactory.parseMap(
+            Map.of(SojournTimeMeter.SOJOURN_TIME_METERING_ENABLED, sojournTime))).create(Option.apply(owner),
+                Option.apply(system));
+
+        final var control = new MockControlMessage();
+        queue.enqueue(owner, new Envelope("first", owner));
+        queue.enqueue(owner, new Envelope(control, owner));
+        queue.enqueueFirst(owner, new Envelope("stashed", owner));
+        queue.enqueue(owner, new Envelope("second", owner));
+        assertEquals(4, queue.numberOfMessages());
+
+        assertSame(control, queue.dequeue().message());
+        assertEquals("stashed", queue.dequeue().message());
+        final var first = queue.dequeue();
+        assertEquals("first", first.message());
+        assertSame(owner, first.sender());
+        assertEquals("second", queue.dequeue().message());
+        assertNull(queue.dequeue());
+    }
+}
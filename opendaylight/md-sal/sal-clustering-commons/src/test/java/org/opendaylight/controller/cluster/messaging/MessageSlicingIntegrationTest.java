@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.cluster.messaging;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -20,7 +21,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.SerializationUtils;
@@ -42,6 +45,7 @@ import org.opendaylight.raft.spi.RestrictedObjectStreams;
 import org.opendaylight.yangtools.concepts.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * End-to-end integration tests for message slicing.
@@ -252,6 +256,92 @@ class MessageSlicingIntegrationTest {
         LOG.info("testSlicingWithFailure ending");
     }
 
+    @Test
+    void testSlicingWithWindow() {
+        LOG.info("testSlicingWithWindow starting");
+
+        doNothing().when(mockAssembledMessageCallback).accept(any(Object.class), any(ActorRef.class));
+
+        final var message = new BytesMessage(new byte[100]);
+        try (var slicer = newMessageSlicer("testSlicingWithWindow", 10, 4)) {
+            slice(slicer, IDENTIFIER, message, sendToProbe.ref(), replyToProbe.ref(), mockOnFailureCallback);
+
+            // The first four slices are sent without waiting for replies
+            int expLastSliceHashCode = SlicedMessageState.INITIAL_SLICE_HASH_CODE;
+            final var window = new ArrayList<MessageSlice>();
+            for (int sliceIndex = 1; sliceIndex <= 4; sliceIndex++) {
+                final var sliceMessage = sendToProbe.expectMsgClass(MessageSlice.class);
+                assertMessageSlice(sliceMessage, IDENTIFIER, sliceIndex, DONT_CARE, expLastSliceHashCode,
+                        replyToProbe.ref());
+                expLastSliceHashCode = Arrays.hashCode(sliceMessage.getData());
+                window.add(sliceMessage);
+            }
+            sendToProbe.expectNoMessage(FiniteDuration.create(100, TimeUnit.MILLISECONDS));
+
+            // Each reply opens the window for one more slice
+            for (var sliceMessage : window) {
+                assembler.handleMessage(sliceMessage, sendToProbe.ref());
+                final var reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+                assertSuccessfulMessageSliceReply(reply, IDENTIFIER, sliceMessage.getSliceIndex());
+                slicer.handleMessage(reply);
+            }
+
+            final var slicingId = window.get(0).getIdentifier();
+            assembleSlices(slicer);
+            assertAssembledMessage(message, replyToProbe.ref());
+
+            assertFalse(slicer.hasState(slicingId), "MessageSlicer did not remove state for " + slicingId);
+            assertFalse(assembler.hasState(slicingId), "MessageAssembler did not remove state for " + slicingId);
+        }
+
+        LOG.info("testSlicingWithWindow ending");
+    }
+
+    @Test
+    void testSlicingWithWindowAndLostSlice() {
+        LOG.info("testSlicingWithWindowAndLostSlice starting");
+
+        doNothing().when(mockAssembledMessageCallback).accept(any(Object.class), any(ActorRef.class));
+
+        final var message = new BytesMessage(new byte[100]);
+        try (var slicer = newMessageSlicer("testSlicingWithWindowAndLostSlice", 10, 4)) {
+            slice(slicer, IDENTIFIER, message, sendToProbe.ref(), replyToProbe.ref(), mockOnFailureCallback);
+
+            final var slice1 = sendToProbe.expectMsgClass(MessageSlice.class);
+            final var slice2 = sendToProbe.expectMsgClass(MessageSlice.class);
+            final var slice3 = sendToProbe.expectMsgClass(MessageSlice.class);
+            final var slice4 = sendToProbe.expectMsgClass(MessageSlice.class);
+
+            assembler.handleMessage(slice1, sendToProbe.ref());
+            slicer.handleMessage(replyToProbe.expectMsgClass(MessageSliceReply.class));
+            final var slice5 = sendToProbe.expectMsgClass(MessageSlice.class);
+            assertEquals(5, slice5.getSliceIndex());
+
+            // Lose slice 2: slice 3 results in the first slice being acknowledged again, subsequent slices are ignored
+            assembler.handleMessage(slice3, sendToProbe.ref());
+            final var resendReply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(resendReply, IDENTIFIER, 1);
+            assembler.handleMessage(slice4, sendToProbe.ref());
+            assembler.handleMessage(slice5, sendToProbe.ref());
+            replyToProbe.expectNoMessage(FiniteDuration.create(100, TimeUnit.MILLISECONDS));
+
+            // The slicer resends all slices following the first one, continuing the hash chain
+            slicer.handleMessage(resendReply);
+            final var resent = sendToProbe.expectMsgClass(MessageSlice.class);
+            assertMessageSlice(resent, IDENTIFIER, 2, slice2.getTotalSlices(), slice2.getLastSliceHashCode(),
+                    replyToProbe.ref());
+            assertArrayEquals(slice2.getData(), resent.getData());
+            assertEquals(slice1.getIdentifier(), resent.getIdentifier());
+
+            assembler.handleMessage(resent, sendToProbe.ref());
+            slicer.handleMessage(replyToProbe.expectMsgClass(MessageSliceReply.class));
+            assembleSlices(slicer);
+            assertAssembledMessage(message, replyToProbe.ref());
+        }
+
+        LOG.info("testSlicingWithWindowAndLostSlice ending");
+    }
+
     @Test
     void testSliceWithFileBackedOutputStream() throws Exception {
         LOG.info("testSliceWithFileBackedOutputStream starting");
@@ -319,6 +409,21 @@ class MessageSlicingIntegrationTest {
         }
     }
 
+    private void assembleSlices(final MessageSlicer slicer) {
+        while (true) {
+            final var sliceMessage = sendToProbe.expectMsgClass(MessageSlice.class);
+            assembler.handleMessage(sliceMessage, sendToProbe.ref());
+
+            final var reply = replyToProbe.expectMsgClass(MessageSliceReply.class);
+            assertSuccessfulMessageSliceReply(reply, IDENTIFIER, sliceMessage.getSliceIndex());
+            slicer.handleMessage(reply);
+
+            if (reply.getSliceIndex() == sliceMessage.getTotalSlices()) {
+                break;
+            }
+        }
+    }
+
     private void assertFailureCallback(final Class<?> exceptionType) {
         final var exceptionCaptor = ArgumentCaptor.forClass(Throwable.class);
         verify(mockOnFailureCallback).accept(exceptionCaptor.capture());
@@ -364,8 +469,14 @@ class MessageSlicingIntegrationTest {
     }
 
     private MessageSlicer newMessageSlicer(final String logContext, final int messageSliceSize) {
+        return newMessageSlicer(logContext, messageSliceSize, 1);
+    }
+
+    private MessageSlicer newMessageSlicer(final String logContext, final int messageSliceSize,
+            final int sliceWindowSize) {
         return MessageSlicer.builder()
             .messageSliceSize(messageSliceSize)
+            .sliceWindowSize(sliceWindowSize)
             .logContext(logContext)
             .fileBackedStreamFactory(streamFactory)
             .build();
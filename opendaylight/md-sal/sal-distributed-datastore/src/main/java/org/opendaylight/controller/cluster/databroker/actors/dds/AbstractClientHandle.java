@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -115,6 +116,25 @@ public abstract class AbstractClientHandle<T extends AbstractProxyTransaction> e
         return localState.computeIfAbsent(shard, this::createProxy);
     }
 
+    /**
+     * Ensure proxies for all shards holding data at or below specified path exist, if there is more than one of them.
+     *
+     * @param path the path
+     * @return proxies keyed by shard name, or {@code null} if the path is held by the single shard whose proxy is
+     *         returned from {@link #ensureProxy(YangInstanceIdentifier)}
+     */
+    final @Nullable Map<String, T> ensureSpanningProxies(final YangInstanceIdentifier path) {
+        final var shards = parent.resolveSpanningShards(path);
+        if (shards.isEmpty()) {
+            return null;
+        }
+
+        final var local = getState();
+        final var builder = ImmutableMap.<String, T>builderWithExpectedSize(shards.size());
+        shards.forEach((shardName, shard) -> builder.put(shardName, ensureProxy(local, shard)));
+        return builder.build();
+    }
+
     final Stream<T> ensureAllProxies() {
         final var local = getState();
         return parent.resolveAllShards().map(shard -> ensureProxy(local, shard));
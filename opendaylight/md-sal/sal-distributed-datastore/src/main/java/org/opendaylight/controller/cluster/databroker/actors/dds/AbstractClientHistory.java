@@ -118,6 +118,10 @@ public abstract class AbstractClientHistory extends LocalAbortable implements Id
         return client.resolveShardForPath(path);
     }
 
+    final Map<String, Long> resolveSpanningShards(final YangInstanceIdentifier path) {
+        return client.resolveSpanningShards(path);
+    }
+
     final Stream<Long> resolveAllShards() {
         return client.resolveAllShards();
     }
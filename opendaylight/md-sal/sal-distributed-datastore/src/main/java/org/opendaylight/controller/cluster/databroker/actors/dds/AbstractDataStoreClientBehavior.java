@@ -20,6 +20,7 @@ import java.lang.invoke.VarHandle;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
@@ -299,6 +300,15 @@ abstract class AbstractDataStoreClientBehavior extends ClientActorBehavior<Shard
 
     abstract Long resolveShardForPath(YangInstanceIdentifier path);
 
+    /**
+     * Resolve all shards holding data at or below specified path, if there is more than one of them.
+     *
+     * @param path the path
+     * @return shard cookies keyed by shard name, or an empty map if the path is held by the single shard returned from
+     *         {@link #resolveShardForPath(YangInstanceIdentifier)}
+     */
+    abstract Map<String, Long> resolveSpanningShards(YangInstanceIdentifier path);
+
     abstract Stream<Long> resolveAllShards();
 
     final ActorUtils actorUtils() {
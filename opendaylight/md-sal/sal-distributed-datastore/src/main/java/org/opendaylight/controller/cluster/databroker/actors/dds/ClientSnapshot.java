@@ -29,11 +29,18 @@ public class ClientSnapshot extends AbstractClientHandle<AbstractProxyTransactio
     }
 
     public FluentFuture<Boolean> exists(final YangInstanceIdentifier path) {
-        return ensureProxy(path).exists(path);
+        final var proxies = ensureSpanningProxies(path);
+        return proxies == null ? ensureProxy(path).exists(path)
+            : RootScatterGather.gatherExists(proxies.values().stream().map(proxy -> proxy.exists(path)));
     }
 
     public FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
-        return path.isEmpty() ? readRoot() : ensureProxy(path).read(path);
+        if (path.isEmpty()) {
+            return readRoot();
+        }
+        final var proxies = ensureSpanningProxies(path);
+        return proxies == null ? ensureProxy(path).read(path) : RootScatterGather.gather(parent().actorUtils(), path,
+            proxies.values().stream().map(proxy -> proxy.read(path)));
     }
 
     private FluentFuture<Optional<NormalizedNode>> readRoot() {
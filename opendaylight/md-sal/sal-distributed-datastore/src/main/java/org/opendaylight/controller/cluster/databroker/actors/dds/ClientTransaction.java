@@ -9,14 +9,17 @@ package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
@@ -49,11 +52,18 @@ public class ClientTransaction extends AbstractClientHandle<AbstractProxyTransac
     }
 
     public FluentFuture<Boolean> exists(final YangInstanceIdentifier path) {
-        return ensureProxy(path).exists(path);
+        final var proxies = ensureSpanningProxies(path);
+        return proxies == null ? ensureProxy(path).exists(path)
+            : RootScatterGather.gatherExists(proxies.values().stream().map(proxy -> proxy.exists(path)));
     }
 
     public FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
-        return path.isEmpty() ? readRoot() : ensureProxy(path).read(path);
+        if (path.isEmpty()) {
+            return readRoot();
+        }
+        final var proxies = ensureSpanningProxies(path);
+        return proxies == null ? ensureProxy(path).read(path) : RootScatterGather.gather(parent().actorUtils(), path,
+            proxies.values().stream().map(proxy -> proxy.read(path)));
     }
 
     private FluentFuture<Optional<NormalizedNode>> readRoot() {
@@ -64,22 +74,34 @@ public class ClientTransaction extends AbstractClientHandle<AbstractProxyTransac
     public void delete(final YangInstanceIdentifier path) {
         if (path.isEmpty()) {
             ensureAllProxies().forEach(proxy -> proxy.delete(YangInstanceIdentifier.of()));
-        } else {
+            return;
+        }
+
+        final var proxies = ensureSpanningProxies(path);
+        if (proxies == null) {
             ensureProxy(path).delete(path);
+        } else {
+            proxies.values().forEach(proxy -> proxy.delete(path));
         }
     }
 
     public void merge(final YangInstanceIdentifier path, final NormalizedNode data) {
         if (path.isEmpty()) {
             mergeRoot(RootScatterGather.castRootNode(data));
-        } else {
+            return;
+        }
+
+        final var proxies = ensureSpanningProxies(path);
+        if (proxies == null) {
             ensureProxy(path).merge(path, data);
+        } else {
+            strategyFor(path).scatterTouched(path, data).forEach((shard, part) -> proxies.get(shard).merge(path, part));
         }
     }
 
     private void mergeRoot(final @NonNull ContainerNode rootData) {
         if (!rootData.isEmpty()) {
-            RootScatterGather.scatterTouched(rootData, this::ensureProxy).forEach(
+            RootScatterGather.scatterTouched(rootData, this::scatterChild).forEach(
                 scattered -> scattered.shard().merge(YangInstanceIdentifier.of(), scattered.container()));
         }
     }
@@ -87,18 +109,41 @@ public class ClientTransaction extends AbstractClientHandle<AbstractProxyTransac
     public void write(final YangInstanceIdentifier path, final NormalizedNode data) {
         if (path.isEmpty()) {
             writeRoot(RootScatterGather.castRootNode(data));
-        } else {
+            return;
+        }
+
+        final var proxies = ensureSpanningProxies(path);
+        if (proxies == null) {
             ensureProxy(path).write(path, data);
+        } else {
+            strategyFor(path).scatterAll(path, data).forEach((shard, part) -> proxies.get(shard).write(path, part));
         }
     }
 
     private void writeRoot(final @NonNull ContainerNode rootData) {
-        RootScatterGather.scatterAll(rootData, this::ensureProxy, ensureAllProxies()).forEach(
+        RootScatterGather.scatterAll(rootData, this::scatterChild, ensureAllProxies()).forEach(
             scattered -> scattered.shard().write(YangInstanceIdentifier.of(), scattered.container()));
     }
 
-    private AbstractProxyTransaction ensureProxy(final PathArgument childId) {
-        return ensureProxy(YangInstanceIdentifier.of(childId));
+    /**
+     * Split a child of the root container into its per-shard constituents. Since the root is being written or merged
+     * into, only the shards actually touched by the child need to receive it.
+     */
+    private Map<AbstractProxyTransaction, DataContainerChild> scatterChild(final DataContainerChild child) {
+        final var path = YangInstanceIdentifier.of(child.name());
+        final var proxies = ensureSpanningProxies(path);
+        if (proxies == null) {
+            return Map.of(ensureProxy(path), child);
+        }
+
+        final var ret = new HashMap<AbstractProxyTransaction, DataContainerChild>();
+        strategyFor(path).scatterTouched(path, child).forEach(
+            (shard, part) -> ret.put(proxies.get(shard), (DataContainerChild) part));
+        return ret;
+    }
+
+    private ShardStrategy strategyFor(final YangInstanceIdentifier path) {
+        return parent().actorUtils().getShardStrategyFactory().getStrategy(path);
     }
 
     public DOMStoreThreePhaseCommitCohort ready() {
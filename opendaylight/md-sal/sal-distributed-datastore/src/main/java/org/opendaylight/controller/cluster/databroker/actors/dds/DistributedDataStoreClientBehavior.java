@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.cluster.databroker.actors.dds;
 
+import java.util.Map;
 import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.controller.cluster.access.client.ClientActorContext;
@@ -35,6 +36,11 @@ final class DistributedDataStoreClientBehavior extends AbstractDataStoreClientBe
         return resolver.resolveShardForPath(path);
     }
 
+    @Override
+    Map<String, Long> resolveSpanningShards(final YangInstanceIdentifier path) {
+        return resolver.resolveSpanningShards(path);
+    }
+
     @Override
     Stream<Long> resolveAllShards() {
         return resolver.resolveAllShards();
@@ -10,6 +10,7 @@ package org.opendaylight.controller.cluster.databroker.actors.dds;
 import static com.google.common.base.Verify.verifyNotNull;
 
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableMap;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -85,6 +86,19 @@ final class ModuleShardBackendResolver extends AbstractShardBackendResolver {
         return resolveCookie(actorUtils().getShardStrategyFactory().getStrategy(path).findShard(path));
     }
 
+    ImmutableMap<String, Long> resolveSpanningShards(final YangInstanceIdentifier path) {
+        final var shardNames = actorUtils().getShardStrategyFactory().getStrategy(path).findShards(path);
+        if (shardNames.size() < 2) {
+            return ImmutableMap.of();
+        }
+
+        final var builder = ImmutableMap.<String, Long>builderWithExpectedSize(shardNames.size());
+        for (var shardName : shardNames) {
+            builder.put(shardName, resolveCookie(shardName));
+        }
+        return builder.build();
+    }
+
     Stream<Long> resolveAllShards() {
         return actorUtils().getConfiguration().getAllShardNames().stream()
             .sorted()
@@ -15,11 +15,10 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.UnsignedLong;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -347,19 +346,17 @@ abstract class ProxyHistory implements Identifiable<LocalHistoryIdentifier> {
     // each of them prevents LeaderFrontendState.purgedHistories from coalescing, leading to a gradual heap exhaustion.
     //
     // <p>
-    // We keep these in an ArrayList for fast insertion, as that happens when we are otherwise idle. We translate these
-    // into purge requests when:
+    // We keep the transaction IDs in a growable long[] for fast insertion, as that happens when we are otherwise idle.
+    // We translate these into purge requests when:
     // - we are about to allocate a new transaction
     // - we get a successor proxy
     // - the list grows unreasonably long
     //
-    // TODO: we are tracking entire TransactionIdentifiers, but really only need to track the longs. Do that once we
-    //       have a {@code List<long>}.
     // FIXME: this is not tuneable, but perhaps should be
     // FIXME: default value deserves some explanation -- this affects depth of an RB Tree on the receiving end.
     private static final int PURGE_SKIPPED_TXID_THRESHOLD = 256;
 
-    private volatile @GuardedBy("lock") List<TransactionIdentifier> skippedTransactions;
+    private volatile @GuardedBy("lock") SkippedTransactions skippedTransactions;
 
     private ProxyHistory(final AbstractClientHistory parent,
             final AbstractClientConnection<ShardBackendInfo> connection, final LocalHistoryIdentifier identifier) {
@@ -439,9 +436,9 @@ abstract class ProxyHistory implements Identifiable<LocalHistoryIdentifier> {
 
             var local = skippedTransactions;
             if (local == null) {
-                skippedTransactions = local = new ArrayList<>();
+                skippedTransactions = local = new SkippedTransactions();
             }
-            local.add(txId);
+            local.add(txId.getTransactionId());
             LOG.debug("Recorded skipped transaction {}", txId);
             skipIfNeeded(local);
         } finally {
@@ -450,14 +447,14 @@ abstract class ProxyHistory implements Identifiable<LocalHistoryIdentifier> {
     }
 
     @Holding("lock")
-    private void skipIfNeeded(final List<TransactionIdentifier> current) {
-        if (current.size() >= PURGE_SKIPPED_TXID_THRESHOLD) {
+    private void skipIfNeeded(final SkippedTransactions current) {
+        if (current.size >= PURGE_SKIPPED_TXID_THRESHOLD) {
             skippedTransactions = null;
             doSkipTransactions(current);
         }
     }
 
-    private void skipTransactions(final List<TransactionIdentifier> toSkip) {
+    private void skipTransactions(final SkippedTransactions toSkip) {
         lock.lock();
         try {
             if (successor != null) {
@@ -494,13 +491,8 @@ abstract class ProxyHistory implements Identifiable<LocalHistoryIdentifier> {
     }
 
     @Holding("lock")
-    private void doSkipTransactions(final List<TransactionIdentifier> toSkip) {
-        final var txIds = toSkip.stream()
-            .mapToLong(TransactionIdentifier::getTransactionId)
-            .distinct()
-            .sorted()
-            .mapToObj(UnsignedLong::fromLongBits)
-            .collect(ImmutableList.toImmutableList());
+    private void doSkipTransactions(final SkippedTransactions toSkip) {
+        final var txIds = toSkip.toSortedDistinct();
 
         LOG.debug("Proxy {} skipping transactions {}", this, txIds);
         connection.enqueueRequest(new SkipTransactionsRequest(new TransactionIdentifier(identifier,
@@ -627,4 +619,43 @@ abstract class ProxyHistory implements Identifiable<LocalHistoryIdentifier> {
     void onTransactionSealed(final AbstractProxyTransaction tx) {
         // No-op on most implementations
     }
+
+    /**
+     * A simple append-only list of transaction IDs, so we do not need to box them.
+     */
+    private static final class SkippedTransactions {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(final long txId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = txId;
+        }
+
+        void addAll(final SkippedTransactions other) {
+            final int newSize = size + other.size;
+            if (newSize > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(newSize, size * 2));
+            }
+            System.arraycopy(other.ids, 0, ids, size, other.size);
+            size = newSize;
+        }
+
+        ImmutableList<UnsignedLong> toSortedDistinct() {
+            final var sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+
+            final var builder = ImmutableList.<UnsignedLong>builderWithExpectedSize(size);
+            for (int i = 0; i < sorted.length; ++i) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    builder.add(UnsignedLong.fromLongBits(sorted[i]));
+                }
+            }
+            return builder.build();
+        }
+    }
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.cluster.databroker.actors.dds;
 
+import java.util.Map;
 import java.util.stream.Stream;
 import org.opendaylight.controller.cluster.access.client.ClientActorContext;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
@@ -36,6 +37,12 @@ final class SimpleDataStoreClientBehavior extends AbstractDataStoreClientBehavio
         return ZERO;
     }
 
+    @Override
+    Map<String, Long> resolveSpanningShards(final YangInstanceIdentifier path) {
+        // There is only a single shard
+        return Map.of();
+    }
+
     @Override
     Stream<Long> resolveAllShards() {
         return Stream.of(ZERO);
@@ -17,7 +17,9 @@ import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.Uninterruptibles;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -42,6 +44,7 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeCommitCohort;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreTreeChangePublisher;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -170,7 +173,18 @@ public abstract class AbstractDataStore implements DistributedDataStoreInterface
             }
         }
 
-        final var shardName = actorUtils.getShardStrategyFactory().getStrategy(treeId).findShard(treeId);
+        // Subtrees partitioned across multiple shards need the same composition as the root
+        final var shardNames = actorUtils.getShardStrategyFactory().getStrategy(treeId).findShards(treeId);
+        if (shardNames.size() > 1) {
+            if (!clustered) {
+                throw new IllegalArgumentException(
+                    "Cannot listen on " + treeId + " without non-clustered listener " + listener);
+            }
+            LOG.debug("Registering tree listener: {} for tree: {} shards: {}", listener, treeId, shardNames);
+            return new RootDataTreeChangeListenerProxy<>(actorUtils, listener, treeId, Set.copyOf(shardNames));
+        }
+
+        final var shardName = shardNames.get(0);
         LOG.debug("Registering tree listener: {} for tree: {} shard: {}", listener, treeId, shardName);
 
         return DataTreeChangeListenerProxy.of(actorUtils, listener, treeId, clustered, shardName);
@@ -191,12 +205,28 @@ public abstract class AbstractDataStore implements DistributedDataStoreInterface
         requireNonNull(cohort, "listener should not be null");
 
 
-        final String shardName = actorUtils.getShardStrategyFactory().getStrategy(treeId).findShard(treeId);
-        LOG.debug("Registering cohort: {} for tree: {} shard: {}", cohort, treeId, shardName);
+        final var shardNames = actorUtils.getShardStrategyFactory().getStrategy(treeId).findShards(treeId);
+        LOG.debug("Registering cohort: {} for tree: {} shards: {}", cohort, treeId, shardNames);
+
+        if (shardNames.size() == 1) {
+            final var cohortProxy = new DataTreeCohortRegistrationProxy<>(actorUtils, subtree, cohort);
+            cohortProxy.init(shardNames.get(0));
+            return cohortProxy;
+        }
 
-        final var cohortProxy = new DataTreeCohortRegistrationProxy<>(actorUtils, subtree, cohort);
-        cohortProxy.init(shardName);
-        return cohortProxy;
+        // The subtree is partitioned across multiple shards, each of which will invoke the cohort for its part
+        final var cohortProxies = new ArrayList<Registration>(shardNames.size());
+        for (var shardName : shardNames) {
+            final var cohortProxy = new DataTreeCohortRegistrationProxy<>(actorUtils, subtree, cohort);
+            cohortProxy.init(shardName);
+            cohortProxies.add(cohortProxy);
+        }
+        return new AbstractRegistration() {
+            @Override
+            protected void removeRegistration() {
+                cohortProxies.forEach(Registration::close);
+            }
+        };
     }
 
     public void onModelContextUpdated(final EffectiveModelContext newModelContext) {
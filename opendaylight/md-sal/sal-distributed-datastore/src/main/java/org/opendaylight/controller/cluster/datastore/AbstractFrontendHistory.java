@@ -10,9 +10,6 @@ package org.opendaylight.controller.cluster.datastore;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.primitives.UnsignedLong;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +33,7 @@ import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifie
 import org.opendaylight.controller.cluster.access.concepts.RequestEnvelope;
 import org.opendaylight.controller.cluster.access.concepts.RequestException;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongBitmap;
 import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongSet;
 import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
@@ -56,12 +54,12 @@ abstract class AbstractFrontendHistory implements Identifiable<LocalHistoryIdent
 
     /**
      * Transactions closed by the previous leader. Boolean indicates whether the transaction was committed (true) or
-     * aborted (false). We only ever shrink these.
+     * aborted (false). We only ever shrink these, releasing storage once the last one is purged.
      */
-    private Map<UnsignedLong, Boolean> closedTransactions;
+    private final @NonNull MutableUnsignedLongBitmap closedTransactions;
 
     AbstractFrontendHistory(final String persistenceId, final TransactionParent parent,
-            final Map<UnsignedLong, Boolean> closedTransactions, final MutableUnsignedLongSet purgedTransactions) {
+            final MutableUnsignedLongBitmap closedTransactions, final MutableUnsignedLongSet purgedTransactions) {
         this.persistenceId = requireNonNull(persistenceId);
         this.parent = requireNonNull(parent);
         this.closedTransactions = requireNonNull(closedTransactions);
@@ -97,7 +95,7 @@ abstract class AbstractFrontendHistory implements Identifiable<LocalHistoryIdent
             throw new DeadTransactionException(purgedTransactions.toRangeSet());
         }
 
-        final Boolean closed = closedTransactions.get(UnsignedLong.fromLongBits(txidBits));
+        final Boolean closed = closedTransactions.get(txidBits);
         if (closed != null) {
             final boolean successful = closed;
             LOG.debug("{}: Request {} refers to a {} transaction", persistenceId, request, successful ? "successful"
@@ -137,16 +135,9 @@ abstract class AbstractFrontendHistory implements Identifiable<LocalHistoryIdent
             return new TransactionPurgeResponse(id, request.getSequence());
         }
 
-        // We perform two lookups instead of a straight remove, because once the map becomes empty we switch it
-        // to an ImmutableMap, which does not allow remove().
-        final UnsignedLong ul = UnsignedLong.fromLongBits(txidBits);
-        if (closedTransactions.containsKey(ul)) {
+        if (closedTransactions.containsKey(txidBits)) {
             parent.dataTree.purgeTransaction(id, () -> {
-                closedTransactions.remove(ul);
-                if (closedTransactions.isEmpty()) {
-                    closedTransactions = ImmutableMap.of();
-                }
-
+                closedTransactions.remove(txidBits);
                 purgedTransactions.add(txidBits);
                 LOG.debug("{}: finished purging inherited transaction {}", persistenceId, id);
                 envelope.sendSuccess(new TransactionPurgeResponse(id, request.getSequence()), readTime() - now);
@@ -177,22 +168,10 @@ abstract class AbstractFrontendHistory implements Identifiable<LocalHistoryIdent
     private SkipTransactionsResponse handleSkipTransactionsRequest(final SkipTransactionsRequest request,
             final RequestEnvelope envelope, final long now) {
         final var first = request.getTarget();
-        final var others = request.getOthers();
-        final var ids = new ArrayList<UnsignedLong>(others.size() + 1);
-        ids.add(UnsignedLong.fromLongBits(first.getTransactionId()));
-        ids.addAll(others);
-
-        final var it = ids.iterator();
-        while (it.hasNext()) {
-            final var id = it.next();
-            final long bits = id.longValue();
-            if (purgedTransactions.contains(bits)) {
-                LOG.warn("{}: history {} tracks {} as purged", persistenceId, getIdentifier(), id);
-                it.remove();
-            } else if (transactions.containsKey(new TransactionIdentifier(getIdentifier(), bits))) {
-                LOG.warn("{}: history {} tracks {} as open", persistenceId, getIdentifier(), id);
-                it.remove();
-            }
+        final var ids = MutableUnsignedLongSet.of();
+        skipTransaction(ids, first.getTransactionId());
+        for (var other : request.getOthers()) {
+            skipTransaction(ids, other.longValue());
         }
 
         if (ids.isEmpty()) {
@@ -200,8 +179,7 @@ abstract class AbstractFrontendHistory implements Identifiable<LocalHistoryIdent
             return new SkipTransactionsResponse(first, now);
         }
 
-        final var transactionIds = MutableUnsignedLongSet.of(ids.stream().mapToLong(UnsignedLong::longValue).toArray())
-            .immutableCopy();
+        final var transactionIds = ids.immutableCopy();
         LOG.debug("{}: history {} skipping transactions {}", persistenceId, getIdentifier(), transactionIds.ranges());
 
         parent.dataTree.skipTransactions(getIdentifier(), transactionIds, () -> {
@@ -211,6 +189,16 @@ abstract class AbstractFrontendHistory implements Identifiable<LocalHistoryIdent
         return null;
     }
 
+    private void skipTransaction(final MutableUnsignedLongSet ids, final long bits) {
+        if (purgedTransactions.contains(bits)) {
+            LOG.warn("{}: history {} tracks {} as purged", persistenceId, getIdentifier(), Long.toUnsignedString(bits));
+        } else if (transactions.containsKey(new TransactionIdentifier(getIdentifier(), bits))) {
+            LOG.warn("{}: history {} tracks {} as open", persistenceId, getIdentifier(), Long.toUnsignedString(bits));
+        } else {
+            ids.add(bits);
+        }
+    }
+
     final void destroy(final long sequence, final RequestEnvelope envelope, final long now) {
         LOG.debug("{}: closing history {}", persistenceId, getIdentifier());
         parent.dataTree.closeTransactionChain(getIdentifier(),
@@ -15,11 +15,13 @@ import com.google.common.primitives.UnsignedLong;
 import com.google.common.util.concurrent.FutureCallback;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeTip;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +50,12 @@ final class CommitCohort {
     private Exception nextFailure;
     private long lastAccess;
 
+    // Candidate prepared during canCommit, along with the tip and its generation it was prepared on. If the candidate
+    // is null, preparation has failed.
+    private DataTreeCandidateTip speculativeCandidate;
+    private DataTreeTip speculativeBase;
+    private long speculativeGeneration;
+
     @NonNullByDefault
     CommitCohort(final ReadWriteShardDataTreeTransaction transaction, final UserCohorts userCohorts) {
         this.transaction = requireNonNull(transaction);
@@ -86,6 +94,40 @@ final class CommitCohort {
         return candidate;
     }
 
+    /**
+     * Return the candidate prepared during canCommit, if it was prepared on top of specified tip.
+     *
+     * @param base expected tip
+     * @param generation expected tip generation
+     * @return prepared candidate, or {@code null} if preparation failed or was done on top of a different tip
+     */
+    @Nullable DataTreeCandidateTip speculativeCandidate(final DataTreeTip base, final long generation) {
+        return speculativeBase == base && speculativeGeneration == generation ? speculativeCandidate : null;
+    }
+
+    /**
+     * Check whether preparation has already been attempted on top of specified tip.
+     *
+     * @param base expected tip
+     * @param generation expected tip generation
+     * @return {@code true} if preparation on top of specified tip has been attempted
+     */
+    boolean isSpeculatedOn(final DataTreeTip base, final long generation) {
+        return speculativeBase == base && speculativeGeneration == generation;
+    }
+
+    void setSpeculativeCandidate(final DataTreeTip base, final long generation,
+            final @Nullable DataTreeCandidateTip dataTreeCandidate) {
+        speculativeBase = requireNonNull(base);
+        speculativeGeneration = generation;
+        speculativeCandidate = dataTreeCandidate;
+    }
+
+    private void clearSpeculativeCandidate() {
+        speculativeBase = null;
+        speculativeCandidate = null;
+    }
+
     void setNewCandidate(final DataTreeCandidateTip dataTreeCandidate) {
         checkState(State.PRE_COMMIT_COMPLETE);
         candidate = verifyNotNull(dataTreeCandidate);
@@ -140,6 +182,7 @@ final class CommitCohort {
     void successfulPreCommit(final DataTreeCandidateTip dataTreeCandidate) {
         LOG.trace("Transaction {} prepared candidate {}", getDataTreeModification(), dataTreeCandidate);
         candidate = verifyNotNull(dataTreeCandidate);
+        clearSpeculativeCandidate();
         switchState(State.PRE_COMMIT_COMPLETE).onSuccess(dataTreeCandidate);
     }
 
@@ -151,6 +194,7 @@ final class CommitCohort {
         }
 
         userCohorts.abort();
+        clearSpeculativeCandidate();
         dataTree().getStats().incrementFailedTransactionsCount();
         switchState(State.FAILED).onFailure(cause);
     }
@@ -207,6 +251,7 @@ final class CommitCohort {
         }
 
         candidate = null;
+        clearSpeculativeCandidate();
         dataTree.getStats().incrementAbortTransactionsCount();
         state = State.ABORTED;
 
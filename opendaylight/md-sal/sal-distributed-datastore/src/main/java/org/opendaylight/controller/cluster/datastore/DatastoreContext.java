@@ -71,6 +71,8 @@ public class DatastoreContext implements ClientActorConfig {
             TimeUnit.MILLISECONDS.convert(2, TimeUnit.MINUTES);
     public static final int DEFAULT_MAX_MESSAGE_SLICE_SIZE = 480 * 1024; // 480KiB
     public static final int DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY = 512;
+    public static final int DEFAULT_MAX_TRANSACTIONS_PER_PAYLOAD = 1;
+    public static final int DEFAULT_MAX_CONCURRENT_SHARD_RECOVERIES = 0;
     public static final ExportOnRecovery DEFAULT_EXPORT_ON_RECOVERY = ExportOnRecovery.Off;
     public static final String DEFAULT_RECOVERY_EXPORT_BASE_DIR = "persistence-export";
 
@@ -103,6 +105,8 @@ public class DatastoreContext implements ClientActorConfig {
     private long requestTimeout = AbstractClientConnection.DEFAULT_REQUEST_TIMEOUT_NANOS;
     private long noProgressTimeout = AbstractClientConnection.DEFAULT_NO_PROGRESS_TIMEOUT_NANOS;
     private int initialPayloadSerializedBufferCapacity = DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY;
+    private int maxTransactionsPerPayload = DEFAULT_MAX_TRANSACTIONS_PER_PAYLOAD;
+    private int maxConcurrentShardRecoveries = DEFAULT_MAX_CONCURRENT_SHARD_RECOVERIES;
     private boolean useLz4Compression = false;
     private ExportOnRecovery exportOnRecovery = DEFAULT_EXPORT_ON_RECOVERY;
     private String recoveryExportBaseDir = DEFAULT_RECOVERY_EXPORT_BASE_DIR;
@@ -147,6 +151,8 @@ public class DatastoreContext implements ClientActorConfig {
         requestTimeout = other.requestTimeout;
         noProgressTimeout = other.noProgressTimeout;
         initialPayloadSerializedBufferCapacity = other.initialPayloadSerializedBufferCapacity;
+        maxTransactionsPerPayload = other.maxTransactionsPerPayload;
+        maxConcurrentShardRecoveries = other.maxConcurrentShardRecoveries;
         useLz4Compression = other.useLz4Compression;
         raftConfig.setPreferredCompression(useLz4Compression ? CompressionType.LZ4 : CompressionType.NONE);
         exportOnRecovery = other.exportOnRecovery;
@@ -167,6 +173,15 @@ public class DatastoreContext implements ClientActorConfig {
         setTempFileDirectory(other.getTempFileDirectory());
         setFileBackedStreamingThreshold(other.getFileBackedStreamingThreshold());
         setSyncIndexThreshold(other.raftConfig.getSyncIndexThreshold());
+        setJournalGroupCommitLingerMicros(other.raftConfig.getJournalGroupCommitLingerMicros());
+        setJournalGroupCommitMaxBytes(other.raftConfig.getJournalGroupCommitMaxBytes());
+        setAppendEntriesPipelineWindow(other.raftConfig.getAppendEntriesPipelineWindow());
+        setLogPayloadHeapBudget(other.raftConfig.getLogPayloadHeapBudget());
+        setSnapshotChunkWindow(other.raftConfig.getSnapshotChunkWindow());
+        setMessageSliceWindow(other.raftConfig.getMessageSliceWindow());
+        setMaxDeltaSnapshots(other.raftConfig.getMaxDeltaSnapshots());
+        // Shards of a datastore share the threads decoding their journals
+        raftConfig.shareJournalRecoveryDecodeExecutor(other.raftConfig);
     }
 
     @VisibleForTesting
@@ -353,6 +368,39 @@ public class DatastoreContext implements ClientActorConfig {
         raftConfig.setSyncIndexThreshold(syncIndexThreshold);
     }
 
+    private void setJournalGroupCommitLingerMicros(final long journalGroupCommitLingerMicros) {
+        raftConfig.setJournalGroupCommitLingerMicros(journalGroupCommitLingerMicros);
+    }
+
+    private void setJournalGroupCommitMaxBytes(final long journalGroupCommitMaxBytes) {
+        raftConfig.setJournalGroupCommitMaxBytes(journalGroupCommitMaxBytes);
+    }
+
+    private void setAppendEntriesPipelineWindow(final int appendEntriesPipelineWindow) {
+        raftConfig.setAppendEntriesPipelineWindow(appendEntriesPipelineWindow);
+    }
+
+    private void setLogPayloadHeapBudget(final int shardLogPayloadHeapBudget) {
+        checkArgument(shardLogPayloadHeapBudget >= 0);
+        raftConfig.setLogPayloadHeapBudget(shardLogPayloadHeapBudget);
+    }
+
+    private void setSnapshotChunkWindow(final int snapshotChunkWindow) {
+        raftConfig.setSnapshotChunkWindow(snapshotChunkWindow);
+    }
+
+    private void setMessageSliceWindow(final int messageSliceWindow) {
+        raftConfig.setMessageSliceWindow(messageSliceWindow);
+    }
+
+    private void setMaxDeltaSnapshots(final int maxDeltaSnapshots) {
+        raftConfig.setMaxDeltaSnapshots(maxDeltaSnapshots);
+    }
+
+    private void setJournalRecoveryDecodeThreads(final int journalRecoveryDecodeThreads) {
+        raftConfig.setJournalRecoveryDecodeThreads(journalRecoveryDecodeThreads);
+    }
+
     public int getShardBatchedModificationCount() {
         return shardBatchedModificationCount;
     }
@@ -386,6 +434,11 @@ public class DatastoreContext implements ClientActorConfig {
         return maximumMessageSliceSize;
     }
 
+    @Override
+    public int getMessageSliceWindow() {
+        return raftConfig.getMessageSliceWindow();
+    }
+
     @Override
     public long getBackendAlivenessTimerInterval() {
         return backendAlivenessTimerInterval;
@@ -405,6 +458,14 @@ public class DatastoreContext implements ClientActorConfig {
         return initialPayloadSerializedBufferCapacity;
     }
 
+    public int getMaxTransactionsPerPayload() {
+        return maxTransactionsPerPayload;
+    }
+
+    public int getMaxConcurrentShardRecoveries() {
+        return maxConcurrentShardRecoveries;
+    }
+
     public static class Builder {
         private final DatastoreContext datastoreContext;
 
@@ -657,6 +718,46 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder journalGroupCommitLingerMicros(final long journalGroupCommitLingerMicros) {
+            datastoreContext.setJournalGroupCommitLingerMicros(journalGroupCommitLingerMicros);
+            return this;
+        }
+
+        public Builder journalGroupCommitMaxBytes(final long journalGroupCommitMaxBytes) {
+            datastoreContext.setJournalGroupCommitMaxBytes(journalGroupCommitMaxBytes);
+            return this;
+        }
+
+        public Builder appendEntriesPipelineWindow(final int appendEntriesPipelineWindow) {
+            datastoreContext.setAppendEntriesPipelineWindow(appendEntriesPipelineWindow);
+            return this;
+        }
+
+        public Builder shardLogPayloadHeapBudget(final int shardLogPayloadHeapBudget) {
+            datastoreContext.setLogPayloadHeapBudget(shardLogPayloadHeapBudget);
+            return this;
+        }
+
+        public Builder snapshotChunkWindow(final int snapshotChunkWindow) {
+            datastoreContext.setSnapshotChunkWindow(snapshotChunkWindow);
+            return this;
+        }
+
+        public Builder messageSliceWindow(final int messageSliceWindow) {
+            datastoreContext.setMessageSliceWindow(messageSliceWindow);
+            return this;
+        }
+
+        public Builder maxDeltaSnapshots(final int maxDeltaSnapshots) {
+            datastoreContext.setMaxDeltaSnapshots(maxDeltaSnapshots);
+            return this;
+        }
+
+        public Builder journalRecoveryDecodeThreads(final int journalRecoveryDecodeThreads) {
+            datastoreContext.setJournalRecoveryDecodeThreads(journalRecoveryDecodeThreads);
+            return this;
+        }
+
         public Builder backendAlivenessTimerIntervalInSeconds(final long interval) {
             datastoreContext.backendAlivenessTimerInterval = TimeUnit.SECONDS.toNanos(interval);
             return this;
@@ -677,6 +778,18 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder maxTransactionsPerPayload(final int maxTransactionsPerPayload) {
+            checkArgument(maxTransactionsPerPayload > 0);
+            datastoreContext.maxTransactionsPerPayload = maxTransactionsPerPayload;
+            return this;
+        }
+
+        public Builder maxConcurrentShardRecoveries(final int maxConcurrentShardRecoveries) {
+            checkArgument(maxConcurrentShardRecoveries >= 0);
+            datastoreContext.maxConcurrentShardRecoveries = maxConcurrentShardRecoveries;
+            return this;
+        }
+
         public DatastoreContext build() {
             return datastoreContext;
         }
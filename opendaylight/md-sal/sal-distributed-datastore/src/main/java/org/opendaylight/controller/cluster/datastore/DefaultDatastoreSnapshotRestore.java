@@ -15,9 +15,13 @@ import java.io.ObjectInputStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshotList;
 import org.osgi.service.component.annotations.Activate;
@@ -28,6 +32,9 @@ import org.slf4j.LoggerFactory;
 /**
  * This class looks for a previously saved data store backup file in a directory and, if found, de-serializes
  * the DatastoreSnapshot instances. This class has a static singleton that is created on bundle activation.
+ * The backup can either be a file containing a serialized {@link DatastoreSnapshotList} or a directory written by
+ * {@link DatastoreBackupDirectory}. Shards load their snapshots from such a directory only when they are restored,
+ * hence it is renamed rather than deleted, and is deleted on next activation.
  *
  * @author Thomas Pantelis
  */
@@ -35,6 +42,7 @@ import org.slf4j.LoggerFactory;
 @Component(immediate = true)
 public final class DefaultDatastoreSnapshotRestore implements DatastoreSnapshotRestore {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultDatastoreSnapshotRestore.class);
+    private static final String RESTORED_PREFIX = ".restored-";
 
     private final Map<String, DatastoreSnapshot> datastoreSnapshots = new ConcurrentHashMap<>();
     private final String restoreDirectoryPath;
@@ -59,7 +67,7 @@ public final class DefaultDatastoreSnapshotRestore implements DatastoreSnapshotR
 
         final Path[] files;
         try (var stream = Files.list(restoreDirectory)) {
-            files = stream.toArray(Path[]::new);
+            files = stream.filter(DefaultDatastoreSnapshotRestore::isCurrent).toArray(Path[]::new);
         } catch (NoSuchFileException e) {
             if (!LOG.isTraceEnabled()) {
                 e = null;
@@ -85,18 +93,35 @@ public final class DefaultDatastoreSnapshotRestore implements DatastoreSnapshotR
         final var restoreFile = files[0];
         LOG.info("Clustered datastore will be restored from file {}", restoreFile);
 
-        final DatastoreSnapshotList snapshots;
-        try (var ois = new ObjectInputStream(Files.newInputStream(restoreFile))) {
-            snapshots = (DatastoreSnapshotList) ois.readObject();
-            LOG.debug("Deserialized {} snapshots", snapshots.size());
-        } catch (ClassNotFoundException | IOException e) {
-            LOG.error("Error reading clustered datastore restore file {}", restoreFile, e);
-            return;
-        } finally {
+        final List<DatastoreSnapshot> snapshots;
+        if (Files.isDirectory(restoreFile)) {
+            // Claim the directory, so that it is not restored again
+            final var restored = restoreFile.resolveSibling(RESTORED_PREFIX + restoreFile.getFileName());
+            try {
+                Files.move(restoreFile, restored, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOG.error("Could not claim clustered datastore restore directory {}", restoreFile, e);
+                deleteQuietly(restoreFile);
+                return;
+            }
+
             try {
-                Files.delete(restoreFile);
+                snapshots = DatastoreBackupDirectory.read(restored);
+                LOG.debug("Found {} snapshots", snapshots.size());
             } catch (IOException e) {
-                LOG.error("Could not delete clustered datastore restore file {}", restoreFile, e);
+                LOG.error("Error reading clustered datastore restore directory {}", restoreFile, e);
+                deleteQuietly(restored);
+                return;
+            }
+        } else {
+            try (var ois = new ObjectInputStream(Files.newInputStream(restoreFile))) {
+                snapshots = (DatastoreSnapshotList) ois.readObject();
+                LOG.debug("Deserialized {} snapshots", snapshots.size());
+            } catch (ClassNotFoundException | IOException e) {
+                LOG.error("Error reading clustered datastore restore file {}", restoreFile, e);
+                return;
+            } finally {
+                deleteQuietly(restoreFile);
             }
         }
 
@@ -104,4 +129,33 @@ public final class DefaultDatastoreSnapshotRestore implements DatastoreSnapshotR
             datastoreSnapshots.put(snapshot.getType(), snapshot);
         }
     }
+
+    private static boolean isCurrent(final Path file) {
+        if (!file.getFileName().toString().startsWith(RESTORED_PREFIX)) {
+            return true;
+        }
+        LOG.info("Deleting {} left over from a previous restore", file);
+        deleteQuietly(file);
+        return false;
+    }
+
+    private static void deleteQuietly(final Path restoreFile) {
+        try {
+            delete(restoreFile);
+        } catch (IOException e) {
+            LOG.error("Could not delete clustered datastore restore file {}", restoreFile, e);
+        }
+    }
+
+    private static void delete(final Path restoreFile) throws IOException {
+        if (Files.isDirectory(restoreFile)) {
+            try (var paths = Files.walk(restoreFile)) {
+                for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        } else {
+            Files.delete(restoreFile);
+        }
+    }
 }
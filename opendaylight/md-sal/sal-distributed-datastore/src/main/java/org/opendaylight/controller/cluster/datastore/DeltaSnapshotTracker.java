@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+
+/**
+ * Tracks the subtrees of a {@link ShardDataTree} modified by committed {@link DataTreeCandidate}s, so that a delta
+ * snapshot containing only those subtrees can be taken. Modifications are tracked down to {@value #MAX_DEPTH} path
+ * arguments from the root, any modification deeper than that is tracked as a modification of its ancestor at that depth.
+ * Once the number of tracked subtrees exceeds {@value #MAX_SUBTREES}, or the root itself is replaced, tracking is
+ * abandoned, as a full snapshot is going to be cheaper.
+ *
+ * <p>This class is NOT thread-safe.
+ */
+@NonNullByDefault
+final class DeltaSnapshotTracker {
+    // Deep enough to distinguish individual entries of a list nested in a top-level container, i.e.
+    // /container/list/entry, and individual leaves of entries in top-level lists
+    private static final int MAX_DEPTH = 4;
+    private static final int MAX_SUBTREES = 65_536;
+
+    private final HashSet<YangInstanceIdentifier> subtrees = new HashSet<>();
+    private boolean overflow;
+
+    /**
+     * Record the subtrees modified by a committed {@link DataTreeCandidate}.
+     *
+     * @param candidate the candidate
+     */
+    void track(final DataTreeCandidate candidate) {
+        if (!overflow) {
+            final var rootPath = candidate.getRootPath();
+            track(rootPath, rootPath.getPathArguments().size(), candidate.getRootNode());
+        }
+    }
+
+    private void track(final YangInstanceIdentifier path, final int depth, final DataTreeCandidateNode node) {
+        switch (node.modificationType()) {
+            case UNMODIFIED -> {
+                // Nothing to do
+            }
+            case SUBTREE_MODIFIED -> {
+                if (depth < MAX_DEPTH) {
+                    for (var child : node.childNodes()) {
+                        track(path.node(child.name()), depth + 1, child);
+                        if (overflow) {
+                            return;
+                        }
+                    }
+                } else {
+                    add(path);
+                }
+            }
+            default -> add(path);
+        }
+    }
+
+    private void add(final YangInstanceIdentifier path) {
+        if (path.isEmpty() || subtrees.add(path) && subtrees.size() > MAX_SUBTREES) {
+            overflow = true;
+            subtrees.clear();
+        }
+    }
+
+    /**
+     * Return the modified subtrees. Subtrees nested in other modified subtrees are not reported.
+     *
+     * @return the modified subtrees, or {@code null} if tracking has been abandoned
+     */
+    @Nullable List<YangInstanceIdentifier> modifiedSubtrees() {
+        if (overflow) {
+            return null;
+        }
+
+        final var ret = new ArrayList<YangInstanceIdentifier>(subtrees.size());
+        for (var path : subtrees) {
+            if (!hasModifiedAncestor(path)) {
+                ret.add(path);
+            }
+        }
+        return ret;
+    }
+
+    private boolean hasModifiedAncestor(final YangInstanceIdentifier path) {
+        for (var parent = path.getParent(); parent != null; parent = parent.getParent()) {
+            if (subtrees.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
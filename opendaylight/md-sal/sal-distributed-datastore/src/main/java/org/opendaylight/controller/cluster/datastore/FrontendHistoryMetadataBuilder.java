@@ -10,21 +10,18 @@ package org.opendaylight.controller.cluster.datastore;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.primitives.UnsignedLong;
-import java.util.HashMap;
-import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
 import org.opendaylight.controller.cluster.datastore.persisted.FrontendHistoryMetadata;
 import org.opendaylight.controller.cluster.raft.spi.ImmutableUnsignedLongSet;
+import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongBitmap;
 import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongSet;
-import org.opendaylight.controller.cluster.raft.spi.UnsignedLongBitmap;
 import org.opendaylight.yangtools.concepts.Identifiable;
 
 final class FrontendHistoryMetadataBuilder implements Identifiable<LocalHistoryIdentifier> {
-    private final @NonNull Map<UnsignedLong, Boolean> closedTransactions;
+    private final @NonNull MutableUnsignedLongBitmap closedTransactions;
     private final @NonNull MutableUnsignedLongSet purgedTransactions;
     private final @NonNull LocalHistoryIdentifier identifier;
 
@@ -33,7 +30,7 @@ final class FrontendHistoryMetadataBuilder implements Identifiable<LocalHistoryI
     FrontendHistoryMetadataBuilder(final LocalHistoryIdentifier identifier) {
         this.identifier = requireNonNull(identifier);
         purgedTransactions = MutableUnsignedLongSet.of();
-        closedTransactions = new HashMap<>(2);
+        closedTransactions = MutableUnsignedLongBitmap.of();
     }
 
     FrontendHistoryMetadataBuilder(final ClientIdentifier clientId, final FrontendHistoryMetadata meta) {
@@ -50,7 +47,7 @@ final class FrontendHistoryMetadataBuilder implements Identifiable<LocalHistoryI
 
     public FrontendHistoryMetadata build() {
         return new FrontendHistoryMetadata(identifier.getHistoryId(), identifier.getCookie(), closed,
-            UnsignedLongBitmap.copyOf(closedTransactions), purgedTransactions.immutableCopy());
+            closedTransactions.immutableCopy(), purgedTransactions.immutableCopy());
     }
 
     void onHistoryClosed() {
@@ -59,16 +56,16 @@ final class FrontendHistoryMetadataBuilder implements Identifiable<LocalHistoryI
     }
 
     void onTransactionAborted(final TransactionIdentifier txId) {
-        closedTransactions.put(UnsignedLong.fromLongBits(txId.getTransactionId()), Boolean.FALSE);
+        closedTransactions.put(txId.getTransactionId(), false);
     }
 
     void onTransactionCommitted(final TransactionIdentifier txId) {
-        closedTransactions.put(UnsignedLong.fromLongBits(txId.getTransactionId()), Boolean.TRUE);
+        closedTransactions.put(txId.getTransactionId(), true);
     }
 
     void onTransactionPurged(final TransactionIdentifier txId) {
         final long txidBits = txId.getTransactionId();
-        closedTransactions.remove(UnsignedLong.fromLongBits(txidBits));
+        closedTransactions.remove(txidBits);
         purgedTransactions.add(txidBits);
     }
 
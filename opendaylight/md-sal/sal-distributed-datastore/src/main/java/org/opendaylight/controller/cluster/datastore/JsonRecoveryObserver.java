@@ -19,6 +19,7 @@ import java.util.Iterator;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionPayload;
+import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionsPayload;
 import org.opendaylight.controller.cluster.raft.spi.RecoveryObserver;
 import org.opendaylight.controller.cluster.raft.spi.StateMachineCommand;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot;
@@ -119,6 +120,10 @@ final class JsonRecoveryObserver implements RecoveryObserver {
         try {
             if (command instanceof CommitTransactionPayload payload) {
                 writeNode(local, payload.getCandidate().candidate());
+            } else if (command instanceof CommitTransactionsPayload payloads) {
+                for (var payload : payloads.transactions()) {
+                    writeNode(local, payload.getCandidate().candidate());
+                }
             } else {
                 local.beginObject().name("Payload").value(command.toString()).endObject();
             }
@@ -7,11 +7,8 @@
  */
 package org.opendaylight.controller.cluster.datastore;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.primitives.UnsignedLong;
-import java.util.HashMap;
-import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongBitmap;
 import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongSet;
 
 /**
@@ -19,17 +16,18 @@ import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongSet;
  */
 final class LocalFrontendHistory extends AbstractFrontendHistory {
     private LocalFrontendHistory(final String persistenceId, final ChainedTransactionParent parent,
-            final Map<UnsignedLong, Boolean> closedTransactions, final MutableUnsignedLongSet purgedTransactions) {
+            final MutableUnsignedLongBitmap closedTransactions, final MutableUnsignedLongSet purgedTransactions) {
         super(persistenceId, parent, closedTransactions, purgedTransactions);
     }
 
     static @NonNull LocalFrontendHistory create(final String persistenceId, final ChainedTransactionParent parent) {
-        return new LocalFrontendHistory(persistenceId, parent, ImmutableMap.of(), MutableUnsignedLongSet.of());
+        return new LocalFrontendHistory(persistenceId, parent, MutableUnsignedLongBitmap.of(),
+            MutableUnsignedLongSet.of());
     }
 
     static @NonNull LocalFrontendHistory recreate(final String persistenceId, final ChainedTransactionParent parent,
-            final Map<UnsignedLong, Boolean> closedTransactions, final MutableUnsignedLongSet purgedTransactions) {
-        return new LocalFrontendHistory(persistenceId, parent, new HashMap<>(closedTransactions),
+            final MutableUnsignedLongBitmap closedTransactions, final MutableUnsignedLongSet purgedTransactions) {
+        return new LocalFrontendHistory(persistenceId, parent, closedTransactions.mutableCopy(),
             purgedTransactions.mutableCopy());
     }
 }
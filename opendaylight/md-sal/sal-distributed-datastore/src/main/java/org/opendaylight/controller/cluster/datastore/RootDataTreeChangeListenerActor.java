@@ -24,8 +24,14 @@ import org.opendaylight.controller.cluster.datastore.messages.OnInitialData;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateNodes;
@@ -33,14 +39,17 @@ import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor {
+    private final YangInstanceIdentifier path;
     private final int shardCount;
 
     // Initial messages, retaining order in which we have received them
     private Map<ActorRef, Object> initialMessages = new LinkedHashMap<>();
     private Deque<DataTreeChanged> otherMessages = new ArrayDeque<>();
 
-    private RootDataTreeChangeListenerActor(final DOMDataTreeChangeListener listener, final int shardCount) {
-        super(listener, YangInstanceIdentifier.of());
+    private RootDataTreeChangeListenerActor(final DOMDataTreeChangeListener listener,
+            final YangInstanceIdentifier path, final int shardCount) {
+        super(listener, path);
+        this.path = path;
         this.shardCount = shardCount;
     }
 
@@ -86,20 +95,23 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
          *
          * 1) non-default shards contain immediate children of root from one module
          * 2) default shard contains everything else
-         * 3) there is no overlap between shards
+         * 3) there is no overlap between shards, except for modules partitioned by HashListShardStrategy, where each
+         *    of the module's shards contains the ancestors of the partitioned list
          *
-         * When we subscribe to each of the shards, each of them will report root as being written, which is an accurate
-         * view from each shard's perspective, but it does not reflect the aggregate reality.
+         * When we subscribe to each of the shards, each of them will report the registered path as being written,
+         * which is an accurate view from each shard's perspective, but it does not reflect the aggregate reality.
          *
-         * Construct an overall NormalizedNode view of the entire datastore by combining first-level children from all
-         * reported initial state reports, report that node as written and then report any additional deltas.
+         * Construct an overall NormalizedNode view of the registered path by merging all reported initial state
+         * reports, report that node as written and then report any additional deltas.
          */
         final var initialChanges = new ArrayList<DataTreeCandidate>();
         // Reserve first item
         initialChanges.add(null);
 
-        final var rootBuilder = ImmutableNodes.newContainerBuilder()
-                .withNodeIdentifier(NodeIdentifier.create(SchemaContext.NAME));
+        OnInitialData onInitialData = null;
+        NormalizedNode initialData = path.isEmpty()
+            ? ImmutableNodes.newContainerBuilder().withNodeIdentifier(NodeIdentifier.create(SchemaContext.NAME)).build()
+                : null;
         for (Object message : initialMessages.values()) {
             if (message instanceof DataTreeChanged dtc) {
                 final var changes = dtc.getChanges();
@@ -113,18 +125,34 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
                     initial = Iterables.get(changes, 0);
                 }
 
-                final NormalizedNode root = initial.getRootNode().getDataAfter();
-                verify(root instanceof ContainerNode, "Unexpected root node %s", root);
-                ((ContainerNode) root).body().forEach(rootBuilder::withChild);
+                final NormalizedNode data = initial.getRootNode().getDataAfter();
+                if (path.isEmpty()) {
+                    verify(data instanceof ContainerNode, "Unexpected root node %s", data);
+                }
+                if (data != null) {
+                    initialData = initialData == null ? data : mergeNodes(initialData, data);
+                }
+            } else if (message instanceof OnInitialData oid) {
+                onInitialData = oid;
             }
         }
         // We will not be intercepting any other messages, allow initial state to be reclaimed as soon as possible
         initialMessages = null;
 
-        // Replace first element with the combined initial change, report initial changes and clear the map
-        initialChanges.set(0, DataTreeCandidates.newDataTreeCandidate(YangInstanceIdentifier.of(),
-            DataTreeCandidateNodes.written(rootBuilder.build())));
-        super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        if (initialData != null) {
+            // Replace first element with the combined initial change, report initial changes and clear the map
+            initialChanges.set(0, DataTreeCandidates.newDataTreeCandidate(path,
+                DataTreeCandidateNodes.written(initialData)));
+            super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        } else {
+            // No shard has any data at the registered path
+            initialChanges.remove(0);
+            if (initialChanges.isEmpty()) {
+                super.onInitialData(verifyNotNull(onInitialData));
+            } else {
+                super.dataTreeChanged(new DataTreeChanged(initialChanges));
+            }
+        }
 
         // Now go through all messages we have held back and report them. Note we are removing them from the queue
         // to allow them to be reclaimed as soon as possible.
@@ -134,7 +162,43 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
         otherMessages = null;
     }
 
+    /**
+     * Merge two views of the same node, as reported by different shards. Containers and maps are merged recursively,
+     * as they are the only nodes which can be present in multiple shards. For any other node the second view wins.
+     */
+    private static NormalizedNode mergeNodes(final NormalizedNode first, final NormalizedNode second) {
+        if (first instanceof ContainerNode firstContainer && second instanceof ContainerNode secondContainer) {
+            final var children = new LinkedHashMap<PathArgument, DataContainerChild>();
+            firstContainer.body().forEach(child -> children.put(child.name(), child));
+            for (var child : secondContainer.body()) {
+                children.merge(child.name(), child, (prev, next) -> (DataContainerChild) mergeNodes(prev, next));
+            }
+            final var builder = ImmutableNodes.newContainerBuilder().withNodeIdentifier(firstContainer.name());
+            children.values().forEach(builder::withChild);
+            return builder.build();
+        }
+        if (first instanceof MapNode firstMap && second instanceof MapNode secondMap) {
+            final var entries = new LinkedHashMap<NodeIdentifierWithPredicates, MapEntryNode>();
+            firstMap.body().forEach(entry -> entries.put(entry.name(), entry));
+            secondMap.body().forEach(entry -> entries.put(entry.name(), entry));
+            if (firstMap instanceof UserMapNode) {
+                final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(firstMap.name());
+                entries.values().forEach(builder::withChild);
+                return builder.build();
+            }
+            final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(firstMap.name());
+            entries.values().forEach(builder::withChild);
+            return builder.build();
+        }
+        return second;
+    }
+
     static Props props(final DOMDataTreeChangeListener instance, final int shardCount) {
-        return Props.create(RootDataTreeChangeListenerActor.class, instance, shardCount);
+        return props(instance, YangInstanceIdentifier.of(), shardCount);
+    }
+
+    static Props props(final DOMDataTreeChangeListener instance, final YangInstanceIdentifier path,
+            final int shardCount) {
+        return Props.create(RootDataTreeChangeListenerActor.class, instance, path, shardCount);
     }
 }
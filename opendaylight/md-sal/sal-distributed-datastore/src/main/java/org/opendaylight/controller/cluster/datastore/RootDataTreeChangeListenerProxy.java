@@ -27,6 +27,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.controller.cluster.datastore.messages.CloseDataTreeNotificationListenerRegistration;
 import org.opendaylight.controller.cluster.datastore.messages.RegisterDataTreeChangeListener;
 import org.opendaylight.controller.cluster.datastore.messages.RegisterDataTreeNotificationListenerReply;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.HashListShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.yangtools.concepts.AbstractObjectRegistration;
@@ -70,13 +71,24 @@ final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
     private static final Logger LOG = LoggerFactory.getLogger(RootDataTreeChangeListenerProxy.class);
 
     private final ActorUtils actorUtils;
+    private final YangInstanceIdentifier path;
 
     private @GuardedBy("this") State state;
 
     RootDataTreeChangeListenerProxy(final ActorUtils actorUtils, final @NonNull L listener,
             final Set<String> shardNames) {
+        this(actorUtils, listener, YangInstanceIdentifier.of(), shardNames);
+    }
+
+    /**
+     * Register a listener on a path whose data is spread across multiple shards. This is the case for the root of the
+     * datastore and for subtrees partitioned by a {@link HashListShardStrategy}.
+     */
+    RootDataTreeChangeListenerProxy(final ActorUtils actorUtils, final @NonNull L listener,
+            final YangInstanceIdentifier path, final Set<String> shardNames) {
         super(listener);
         this.actorUtils = requireNonNull(actorUtils);
+        this.path = requireNonNull(path);
         state = new ResolveShards(shardNames.size());
 
         for (var shardName : shardNames) {
@@ -133,8 +145,8 @@ final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
     private void reportFailure(final Map<String, Object> localShards) {
         for (var entry : Maps.filterValues(localShards, Throwable.class::isInstance).entrySet()) {
             final var cause = (Throwable) entry.getValue();
-            LOG.error("{}: Failed to find local shard {}, cannot register {} at root", logContext(), entry.getKey(),
-                getInstance(), cause);
+            LOG.error("{}: Failed to find local shard {}, cannot register {} at {}", logContext(), entry.getKey(),
+                getInstance(), path, cause);
         }
         state = Terminated.INSTANCE;
     }
@@ -149,12 +161,12 @@ final class RootDataTreeChangeListenerProxy<L extends DOMDataTreeChangeListener>
 
         // Instantiate the DTCL actor and update state
         final var dtclActor = actorUtils.getActorSystem().actorOf(
-            RootDataTreeChangeListenerActor.props(getInstance(), localShards.size())
+            RootDataTreeChangeListenerActor.props(getInstance(), path, localShards.size())
               .withDispatcher(actorUtils.getNotificationDispatcherPath()));
         state = new Subscribed(dtclActor, localShards.size());
 
         // Subscribe to all shards
-        final var regMessage = new RegisterDataTreeChangeListener(YangInstanceIdentifier.of(), dtclActor, true);
+        final var regMessage = new RegisterDataTreeChangeListener(path, dtclActor, true);
         for (var entry : localShards.entrySet()) {
             // Do not retain references to localShards
             final var shardName = entry.getKey();
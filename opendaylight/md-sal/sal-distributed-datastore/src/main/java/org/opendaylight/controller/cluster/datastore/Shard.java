@@ -154,8 +154,10 @@ public class Shard extends RaftActor {
     private static final @NonNull RestrictedObjectStreams OBJECT_STREAMS =
         RestrictedObjectStreams.ofClassLoaders(Shard.class, RaftActor.class);
 
-    @VisibleForTesting
-    static final Path STATE_PATH = Path.of("shards");
+    /**
+     * Directory, relative to the datastore state directory, holding the state directories of individual shards.
+     */
+    public static final Path STATE_PATH = Path.of("shards");
 
     // FIXME: shard names should be encapsulated in their own class and this should be exposed as a constant.
     public static final String DEFAULT_NAME = "default";
@@ -260,6 +262,7 @@ public class Shard extends RaftActor {
 
         responseMessageSlicer = MessageSlicer.builder().logContext(name)
                 .messageSliceSize(datastoreContext.getMaximumMessageSliceSize())
+                .sliceWindowSize(datastoreContext.getMessageSliceWindow())
                 .fileBackedStreamFactory(getRaftActorContext().getFileBackedOutputStreamFactory())
                 .expireStateAfterInactivity(2, TimeUnit.MINUTES).build();
 
@@ -25,9 +25,11 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +57,9 @@ import org.opendaylight.controller.cluster.datastore.persisted.AbstractIdentifia
 import org.opendaylight.controller.cluster.datastore.persisted.CloseLocalHistoryPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionPayload.CandidateTransaction;
+import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionsPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.CreateLocalHistoryPayload;
+import org.opendaylight.controller.cluster.datastore.persisted.DeltaShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.PayloadVersion;
 import org.opendaylight.controller.cluster.datastore.persisted.PurgeLocalHistoryPayload;
@@ -110,14 +114,6 @@ public class ShardDataTree {
     private static final Timeout COMMIT_STEP_TIMEOUT = new Timeout(FiniteDuration.create(5, TimeUnit.SECONDS));
     private static final Logger LOG = LoggerFactory.getLogger(ShardDataTree.class);
 
-    /**
-     * Process this many transactions in a single batched run. If we exceed this limit, we need to schedule later
-     * execution to finish up the batch. This is necessary in case of a long list of transactions which progress
-     * immediately through their preCommit phase -- if that happens, their completion eats up stack frames and could
-     * result in StackOverflowError.
-     */
-    private static final int MAX_TRANSACTION_BATCH = 100;
-
     private final Map<LocalHistoryIdentifier, ChainedTransactionParent> transactionChains = new HashMap<>();
     private final DataTreeCohortActorRegistry cohortRegistry = new DataTreeCohortActorRegistry();
     private final Deque<CommitCohort> pendingTransactions = new ArrayDeque<>();
@@ -144,10 +140,36 @@ public class ShardDataTree {
      */
     private DataTreeTip tip;
 
+    /**
+     * Tracker of subtrees modified since the last snapshot, used to take delta snapshots. {@code null} if delta
+     * snapshots are not being taken.
+     */
+    private @Nullable DeltaSnapshotTracker deltaTracker;
+
     private EffectiveModelContext modelContext;
     private DataSchemaContextTree dataSchemaContext;
 
+    /**
+     * Incremented whenever {@link #dataTree} is modified, so that candidates prepared on top of it can be recognized as
+     * stale.
+     */
+    private long dataTreeGeneration;
+
+    /**
+     * The transaction whose preCommit is currently being executed, if any.
+     */
+    private @Nullable CommitCohort preCommitting;
+
+    /**
+     * Adaptive limit on the number of steps we take in a single batched run. If we exceed this limit, we need to
+     * schedule later execution to finish up the batch. This is necessary in case of a long list of transactions which
+     * progress immediately through their preCommit phase -- if that happens, their completion eats up stack frames and
+     * could result in StackOverflowError. It also allows other messages to be processed in the meantime.
+     */
+    private final TransactionBatchLimiter transactionBatchLimiter = new TransactionBatchLimiter();
+    private int transactionBatchLimit = transactionBatchLimiter.limit(0);
     private int currentTransactionBatch;
+    private int transactionBatchDepth;
 
     ShardDataTree(final Shard shard, final EffectiveModelContext modelContext, final DataTree dataTree,
             final ShardDataTreeChangeListenerPublisher treeChangeListenerPublisher,
@@ -201,12 +223,14 @@ public class ShardDataTree {
 
     final void updateSchemaContext(final @NonNull EffectiveModelContext newModelContext) {
         dataTree.setEffectiveModelContext(newModelContext);
+        dataTreeGeneration++;
         modelContext = newModelContext;
         dataSchemaContext = DataSchemaContextTree.from(newModelContext);
     }
 
     final void resetTransactionBatch() {
         currentTransactionBatch = 0;
+        transactionBatchLimit = transactionBatchLimiter.limit(pendingTransactions.size());
     }
 
     final int initialPayloadBufferSize() {
@@ -220,6 +244,50 @@ public class ShardDataTree {
      */
     @NonNull ShardDataTreeSnapshot takeStateSnapshot() {
         final var rootNode = takeSnapshot().readNode(YangInstanceIdentifier.of()).orElseThrow();
+        return new MetadataShardDataTreeSnapshot(rootNode, snapshotMetadata());
+    }
+
+    /**
+     * Take a delta snapshot of current state, containing only the subtrees modified since the last call to this method
+     * or to {@link #resetDeltaBase()}.
+     *
+     * @return A delta snapshot, or {@code null} if a delta snapshot cannot be taken
+     */
+    @Nullable ShardDataTreeSnapshot takeDeltaStateSnapshot() {
+        final var tracker = deltaTracker;
+        if (tracker == null) {
+            return null;
+        }
+        deltaTracker = new DeltaSnapshotTracker();
+
+        final var modified = tracker.modifiedSubtrees();
+        if (modified == null) {
+            LOG.debug("{}: too many modified subtrees, not taking a delta snapshot", logContext);
+            return null;
+        }
+
+        final var snapshot = takeSnapshot();
+        final var deletes = new HashSet<YangInstanceIdentifier>();
+        final var writes = new HashMap<YangInstanceIdentifier, NormalizedNode>();
+        for (var path : modified) {
+            snapshot.readNode(path).ifPresentOrElse(node -> writes.put(path, node), () -> deletes.add(path));
+        }
+
+        LOG.debug("{}: delta snapshot has {} deleted and {} written subtrees", logContext, deletes.size(),
+            writes.size());
+        return new DeltaShardDataTreeSnapshot(deletes, writes, snapshotMetadata());
+    }
+
+    /**
+     * Start tracking modifications for the purpose of {@link #takeDeltaStateSnapshot()}, using current state as the
+     * base.
+     */
+    final void resetDeltaBase() {
+        deltaTracker = new DeltaSnapshotTracker();
+    }
+
+    private Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>
+            snapshotMetadata() {
         final var metaBuilder =
             ImmutableMap.<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>builder();
 
@@ -229,8 +297,19 @@ public class ShardDataTree {
                 metaBuilder.put(snapshot.getType(), snapshot);
             }
         }
+        return metaBuilder.build();
+    }
 
-        return new MetadataShardDataTreeSnapshot(rootNode, metaBuilder.build());
+    private void commitDataTree(final DataTreeCandidate candidate) {
+        dataTree.commit(candidate);
+        dataTreeGeneration++;
+    }
+
+    private void trackModifications(final DataTreeCandidate candidate) {
+        final var tracker = deltaTracker;
+        if (tracker != null) {
+            tracker.track(candidate);
+        }
     }
 
     private boolean anyPendingTransactions() {
@@ -245,8 +324,11 @@ public class ShardDataTree {
             LOG.warn("{}: applying state snapshot with pending transactions", logContext);
         }
 
-        final var snapshotMeta = snapshot instanceof MetadataShardDataTreeSnapshot ms ? ms.getMetadata()
-            : Map.<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>of();
+        final var snapshotMeta = switch (snapshot) {
+            case MetadataShardDataTreeSnapshot ms -> ms.getMetadata();
+            case DeltaShardDataTreeSnapshot ds -> ds.getMetadata();
+            default -> Map.<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>of();
+        };
 
         for (var m : metadata) {
             final var s = snapshotMeta.get(m.getSupportedType());
@@ -259,19 +341,25 @@ public class ShardDataTree {
 
         final var unwrapped = newModification();
         final var mod = wrapper.apply(unwrapped);
-        // delete everything first
-        mod.delete(YangInstanceIdentifier.of());
+        if (snapshot instanceof DeltaShardDataTreeSnapshot delta) {
+            // replace only the subtrees modified since the base snapshot
+            delta.getDeletes().forEach(mod::delete);
+            delta.getWrites().forEach(mod::write);
+        } else {
+            // delete everything first
+            mod.delete(YangInstanceIdentifier.of());
 
-        snapshot.getRootNode().ifPresent(rootNode -> {
-            // Add everything from the remote node back
-            mod.write(YangInstanceIdentifier.of(), rootNode);
-        });
+            snapshot.getRootNode().ifPresent(rootNode -> {
+                // Add everything from the remote node back
+                mod.write(YangInstanceIdentifier.of(), rootNode);
+            });
+        }
 
         mod.ready();
 
         dataTree.validate(unwrapped);
         final var candidate = dataTree.prepare(unwrapped);
-        dataTree.commit(candidate);
+        commitDataTree(candidate);
         notifyListeners(candidate);
 
         LOG.debug("{}: state snapshot applied in {}", logContext, elapsed);
@@ -315,7 +403,7 @@ public class ShardDataTree {
         try {
             // FIXME: split these up into individual blocks and report separate IOExceptions
             dataTree.validate(unwrapped);
-            dataTree.commit(dataTree.prepare(unwrapped));
+            commitDataTree(dataTree.prepare(unwrapped));
         } catch (Exception e) {
             // FIXME: use our local storage: define a dedicated IOException with a dumpCommand(DataOutputStream) method
             //        and catch that exception whereever our IOException is being handled
@@ -347,6 +435,11 @@ public class ShardDataTree {
     final void applyRecoveryCommand(final @NonNull StateCommand command) throws IOException {
         switch (command) {
             case CommitTransactionPayload commit -> applyRecoveredCandidate(commit.acquireCandidate());
+            case CommitTransactionsPayload commits -> {
+                for (var commit : commits.transactions()) {
+                    applyRecoveredCandidate(commit.acquireCandidate());
+                }
+            }
             case AbortTransactionPayload abort -> allMetadataAbortedTransaction(abort.getIdentifier());
             case PurgeTransactionPayload purge -> allMetadataPurgedTransaction(purge.getIdentifier());
             case CreateLocalHistoryPayload create -> allMetadataCreatedLocalHistory(create.getIdentifier());
@@ -371,7 +464,8 @@ public class ShardDataTree {
         LOG.trace("{}: Applying foreign modification {}", logContext, mod);
         dataTree.validate(mod);
         final var candidate = dataTree.prepare(mod);
-        dataTree.commit(candidate);
+        commitDataTree(candidate);
+        trackModifications(candidate);
 
         allMetadataCommittedTransaction(transactionId);
         notifyListeners(candidate);
@@ -400,22 +494,13 @@ public class ShardDataTree {
          * pre-Boron state -- which limits the number of options here.
          */
         switch (payload) {
-            case CommitTransactionPayload commit -> {
-                if (identifier == null) {
-                    applyReplicatedCandidate(commit);
-                } else {
-                    verify(identifier instanceof TransactionIdentifier);
-                    // if we did not track this transaction before, it means that it came from another leader and we are
-                    // in the process of commiting it while in PreLeader state. That means that it hasnt yet been
-                    // committed to the local DataTree and would be lost if it was only applied via
-                    // payloadReplicationComplete().
-                    if (!payloadReplicationComplete((TransactionIdentifier) identifier)) {
-                        applyReplicatedCandidate(commit);
-                    }
+            case CommitTransactionPayload commit -> applyReplicatedCommit(identifier, commit);
+            case CommitTransactionsPayload commits -> {
+                verify(identifier == null || identifier instanceof TransactionIdentifier);
+                // The identifier is that of the first transaction, but it tells us we were the leader for all of them
+                for (var commit : commits.transactions()) {
+                    applyReplicatedCommit(identifier == null ? null : commit.getIdentifier(), commit);
                 }
-
-                // make sure acquireCandidate() is the last call touching the payload data as we want it to be GC-ed.
-                checkRootOverwrite(commit.acquireCandidate().candidate());
             }
             case AbortTransactionPayload abort -> {
                 if (identifier != null) {
@@ -457,6 +542,25 @@ public class ShardDataTree {
         }
     }
 
+    private void applyReplicatedCommit(final Identifier identifier, final CommitTransactionPayload commit)
+            throws IOException, DataValidationFailedException {
+        if (identifier == null) {
+            applyReplicatedCandidate(commit);
+        } else {
+            verify(identifier instanceof TransactionIdentifier);
+            // if we did not track this transaction before, it means that it came from another leader and we are
+            // in the process of commiting it while in PreLeader state. That means that it hasnt yet been
+            // committed to the local DataTree and would be lost if it was only applied via
+            // payloadReplicationComplete().
+            if (!payloadReplicationComplete((TransactionIdentifier) identifier)) {
+                applyReplicatedCandidate(commit);
+            }
+        }
+
+        // make sure acquireCandidate() is the last call touching the payload data as we want it to be GC-ed.
+        checkRootOverwrite(commit.acquireCandidate().candidate());
+    }
+
     private void checkRootOverwrite(final DataTreeCandidate candidate) {
         final var datastoreContext = shard.getDatastoreContext();
         if (!datastoreContext.isSnapshotOnRootOverwrite()) {
@@ -741,55 +845,142 @@ public class ShardDataTree {
 
     private void processNextPendingTransaction() {
         ++currentTransactionBatch;
-        if (currentTransactionBatch > MAX_TRANSACTION_BATCH) {
+        if (currentTransactionBatch > transactionBatchLimit) {
             LOG.debug("{}: Already processed {}, scheduling continuation", logContext, currentTransactionBatch);
             shard.scheduleNextPendingTransaction();
             return;
         }
 
-        final var entry = findFirstEntry(pendingTransactions, State.CAN_COMMIT_PENDING);
+        // Measure the cost of the outermost step, which includes all steps nested in it
+        final int startBatch = currentTransactionBatch;
+        final long startTime = transactionBatchDepth++ == 0 ? readTime() : 0;
         try {
+            final var entry = findFirstEntry(pendingTransactions);
             if (entry != null) {
-                canCommitEntry(entry);
+                switch (entry.getState()) {
+                    case CAN_COMMIT_PENDING -> canCommitEntry(entry, tip);
+                    case CAN_COMMIT_COMPLETE -> canCommitNextEntry();
+                    case PRE_COMMIT_PENDING -> {
+                        if (entry != preCommitting) {
+                            // preCommit was requested before the entry reached the head of the queue
+                            preCommitEntry(entry);
+                        } else {
+                            canCommitNextEntry();
+                        }
+                    }
+                    default -> {
+                        // No-op: waiting for canCommit
+                    }
+                }
             }
         } finally {
+            if (--transactionBatchDepth == 0) {
+                transactionBatchLimiter.recordRun(readTime() - startTime, currentTransactionBatch - startBatch + 1);
+            }
             maybeRunOperationOnPendingTransactionsComplete();
         }
     }
 
+    /**
+     * Pipeline canCommit of the first transaction waiting for it behind the head of the queue. The transaction is
+     * validated and prepared on top of the candidates prepared for the transactions ahead of it, so that multiple
+     * transactions can be validated while the head of the queue is waiting for its coordinator. The prepared candidate
+     * is then reused in preCommit, unless the transactions ahead of it have changed in the meantime.
+     */
+    private void canCommitNextEntry() {
+        DataTreeTip base = tip;
+        for (var entry : pendingTransactions) {
+            if (entry.isFailed()) {
+                // Will be removed once it reaches the head of the queue
+                continue;
+            }
+
+            switch (entry.getState()) {
+                case CAN_COMMIT_COMPLETE, PRE_COMMIT_PENDING -> {
+                    final var candidate = entry.speculativeCandidate(base, generationOf(base));
+                    if (candidate == null) {
+                        // Prepared on top of a different tip: it will be prepared again in preCommit
+                        return;
+                    }
+                    base = candidate;
+                }
+                case CAN_COMMIT_PENDING -> {
+                    if (!entry.isSpeculatedOn(base, generationOf(base))) {
+                        canCommitEntry(entry, base);
+                    }
+                    return;
+                }
+                default -> {
+                    // Not ready for canCommit, we cannot go any further
+                    return;
+                }
+            }
+        }
+    }
+
+    private long generationOf(final DataTreeTip base) {
+        // Candidates are immutable, but the data tree is not
+        return base == dataTree ? dataTreeGeneration : 0;
+    }
+
+    private void canCommitEntry(final CommitCohort cohort, final DataTreeTip base) {
+        final boolean speculative = !cohort.equals(pendingTransactions.peek());
+        final var cause = prepareEntry(cohort, base, speculative);
+        if (cause == null) {
+            cohort.successfulCanCommit();
+            // Proceed with the next transaction, if any
+            processNextPendingTransaction();
+        } else if (speculative) {
+            // A transaction ahead of this one may yet be aborted, in which case this transaction might succeed. Retry
+            // once this transaction reaches the head of the queue.
+            LOG.debug("{}: Transaction {} failed pipelined validation, deferring it", logContext,
+                cohort.transactionId(), cause);
+        } else {
+            // Failure path: propagate the failure, remove the transaction from the queue and loop to the next one
+            pendingTransactions.poll().failedCanCommit(cause);
+        }
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
-    private void canCommitEntry(final CommitCohort cohort) {
+    private @Nullable Exception prepareEntry(final CommitCohort cohort, final DataTreeTip base,
+            final boolean speculative) {
         final var modification = cohort.getDataTreeModification();
+        final long generation = generationOf(base);
 
         LOG.debug("{}: Validating transaction {}", logContext, cohort.transactionId());
-        final Exception cause;
         try {
-            tip.validate(modification);
+            base.validate(modification);
+            cohort.setSpeculativeCandidate(base, generation, base.prepare(modification));
             LOG.debug("{}: Transaction {} validated", logContext, cohort.transactionId());
-            cohort.successfulCanCommit();
-            return;
+            return null;
         } catch (ConflictingModificationAppliedException e) {
-            LOG.warn("{}: Store Tx {}: Conflicting modification for path {}.", logContext, cohort.transactionId(),
-                e.getPath());
-            cause = new OptimisticLockFailedException("Optimistic lock failed for path " + e.getPath(), e);
+            cohort.setSpeculativeCandidate(base, generation, null);
+            if (!speculative) {
+                LOG.warn("{}: Store Tx {}: Conflicting modification for path {}.", logContext,
+                    cohort.transactionId(), e.getPath());
+            }
+            return new OptimisticLockFailedException("Optimistic lock failed for path " + e.getPath(), e);
         } catch (DataValidationFailedException e) {
-            LOG.warn("{}: Store Tx {}: Data validation failed for path {}.", logContext, cohort.transactionId(),
-                e.getPath(), e);
-
-            // For debugging purposes, allow dumping of the modification. Coupled with the above
-            // precondition log, it should allow us to understand what went on.
-            LOG.debug("{}: Store Tx {}: modifications: {}", logContext, cohort.transactionId(), modification);
-            LOG.trace("{}: Current tree: {}", logContext, dataTree);
-            cause = new TransactionCommitFailedException("Data did not pass validation for path " + e.getPath(), e);
+            cohort.setSpeculativeCandidate(base, generation, null);
+            if (!speculative) {
+                LOG.warn("{}: Store Tx {}: Data validation failed for path {}.", logContext, cohort.transactionId(),
+                    e.getPath(), e);
+
+                // For debugging purposes, allow dumping of the modification. Coupled with the above
+                // precondition log, it should allow us to understand what went on.
+                LOG.debug("{}: Store Tx {}: modifications: {}", logContext, cohort.transactionId(), modification);
+                LOG.trace("{}: Current tree: {}", logContext, dataTree);
+            }
+            return new TransactionCommitFailedException("Data did not pass validation for path " + e.getPath(), e);
         } catch (Exception e) {
-            LOG.warn("{}: Unexpected failure in validation phase", logContext, e);
-            cause = e;
+            cohort.setSpeculativeCandidate(base, generation, null);
+            if (!speculative) {
+                LOG.warn("{}: Unexpected failure in validation phase", logContext, e);
+            }
+            return e;
         } finally {
             cohort.setLastAccess(readTime());
         }
-
-        // Failure path: propagate the failure, remove the transaction from the queue and loop to the next one
-        pendingTransactions.poll().failedCanCommit(cause);
     }
 
     private void processNextPending() {
@@ -797,7 +988,7 @@ public class ShardDataTree {
         processNextPendingTransaction();
     }
 
-    private @Nullable CommitCohort findFirstEntry(final Queue<CommitCohort> queue, final State allowedState) {
+    private @Nullable CommitCohort findFirstEntry(final Queue<CommitCohort> queue) {
         while (true) {
             final var entry = queue.peek();
             if (entry == null) {
@@ -811,10 +1002,15 @@ public class ShardDataTree {
                 continue;
             }
 
-            return entry.getState() == allowedState ? entry : null;
+            return entry;
         }
     }
 
+    private @Nullable CommitCohort findFirstEntry(final Queue<CommitCohort> queue, final State allowedState) {
+        final var entry = findFirstEntry(queue);
+        return entry != null && entry.getState() == allowedState ? entry : null;
+    }
+
     private void processNextPendingCommit() {
         final var entry = findFirstEntry(pendingCommits, State.COMMIT_PENDING);
         try {
@@ -838,48 +1034,68 @@ public class ShardDataTree {
             LOG.warn("{}: No transactions enqueued while attempting to start canCommit on {}", logContext, cohort);
             return;
         }
-        if (cohort.equals(head)) {
-            processNextPendingTransaction();
-        } else {
+        if (!cohort.equals(head)) {
             LOG.debug("{}: Tx {} is scheduled for canCommit step", logContext, cohort.transactionId());
         }
+        processNextPendingTransaction();
     }
 
     private void failPreCommit(final Throwable cause) {
+        preCommitting = null;
         pendingTransactions.poll().failedPreCommit(cause);
         processNextPendingTransaction();
     }
 
     // non-final for mocking
-    @SuppressWarnings("checkstyle:IllegalCatch")
     void startPreCommit(final CommitCohort cohort) {
         final var current = pendingTransactions.peek();
         checkState(current != null, "Attempted to pre-commit of %s when no transactions pending", cohort);
 
-        verify(cohort.equals(current), "Attempted to pre-commit %s while %s is pending", cohort, current);
+        if (!cohort.equals(current)) {
+            // canCommit has been pipelined, preCommit will follow once the transactions ahead of this one are done
+            LOG.debug("{}: Tx {} is scheduled for preCommit step", logContext, cohort.transactionId());
+            processNextPendingTransaction();
+            return;
+        }
+        preCommitEntry(cohort);
+    }
 
-        final var currentId = current.transactionId();
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void preCommitEntry(final CommitCohort cohort) {
+        final var currentId = cohort.transactionId();
         LOG.debug("{}: Preparing transaction {}", logContext, currentId);
 
         final DataTreeCandidateTip candidate;
-        try {
-            candidate = tip.prepare(cohort.getDataTreeModification());
-            LOG.debug("{}: Transaction {} candidate ready", logContext, currentId);
-        } catch (DataValidationFailedException | RuntimeException e) {
-            failPreCommit(e);
-            return;
+        final var prepared = cohort.speculativeCandidate(tip, generationOf(tip));
+        if (prepared != null) {
+            LOG.debug("{}: Transaction {} candidate prepared during canCommit", logContext, currentId);
+            candidate = prepared;
+        } else {
+            // The transactions ahead of this one have changed since canCommit, hence we need to validate again
+            try {
+                tip.validate(cohort.getDataTreeModification());
+                candidate = tip.prepare(cohort.getDataTreeModification());
+                cohort.setSpeculativeCandidate(tip, generationOf(tip), candidate);
+                LOG.debug("{}: Transaction {} candidate ready", logContext, currentId);
+            } catch (DataValidationFailedException | RuntimeException e) {
+                failPreCommit(e);
+                return;
+            }
         }
 
+        preCommitting = cohort;
         cohort.userPreCommit(candidate, new FutureCallback<>() {
             @Override
             public void onSuccess(final Empty result) {
+                preCommitting = null;
+
                 // Set the tip of the data tree.
                 tip = verifyNotNull(candidate);
 
-                current.setLastAccess(readTime());
+                cohort.setLastAccess(readTime());
                 // TODO: cross-reference removed and current
                 pendingTransactions.remove();
-                pendingCommits.add(current);
+                pendingCommits.add(cohort);
 
                 LOG.debug("{}: Transaction {} prepared", logContext, currentId);
 
@@ -913,12 +1129,13 @@ public class ShardDataTree {
         }
 
         try {
-            dataTree.commit(candidate);
+            commitDataTree(candidate);
         } catch (Exception e) {
             LOG.error("{}: Failed to commit transaction {}", logContext, txId, e);
             failCommit(e);
             return;
         }
+        trackModifications(candidate);
 
         allMetadataCommittedTransaction(txId);
 
@@ -941,47 +1158,82 @@ public class ShardDataTree {
             return;
         }
 
-        LOG.debug("{}: Starting commit for transaction {}", logContext, current.transactionId());
-
-        final var txId = cohort.transactionId();
-        final CommitTransactionPayload payload;
-        try {
-            payload = CommitTransactionPayload.create(txId, candidate, PayloadVersion.current(),
-                initialPayloadBufferSize());
-        } catch (IOException e) {
-            LOG.error("{}: Failed to encode transaction {} candidate {}", logContext, txId, candidate, e);
-            pendingCommits.poll().failedCommit(e);
-            processNextPending();
-            return;
-        }
+        // Transactions which are ready to commit at the same time are packed into a single payload, so they share
+        // a single journal entry
+        final int maxTransactions = shard.getDatastoreContext().getMaxTransactionsPerPayload();
+        final int expected = Math.min(maxTransactions, pendingCommits.size());
+        final var payloads = new ArrayList<CommitTransactionPayload>(expected);
+        final var committing = new ArrayList<CommitCohort>(expected);
+        var next = cohort;
+        var nextCandidate = candidate;
+        boolean failed = false;
+        while (true) {
+            final var txId = next.transactionId();
+            LOG.debug("{}: Starting commit for transaction {}", logContext, txId);
+
+            final CommitTransactionPayload payload;
+            try {
+                payload = CommitTransactionPayload.create(txId, nextCandidate, PayloadVersion.current(),
+                    initialPayloadBufferSize());
+            } catch (IOException e) {
+                LOG.error("{}: Failed to encode transaction {} candidate {}", logContext, txId, nextCandidate, e);
+                pendingCommits.poll().failedCommit(e);
+                failed = true;
+                break;
+            }
 
-        // We process next transactions pending canCommit before we call persistPayload to possibly progress subsequent
-        // transactions to the COMMIT_PENDING state so the payloads can be batched for replication. This is done for
-        // single-shard transactions that immediately transition from canCommit to preCommit to commit. Note that
-        // if the next pending transaction is progressed to COMMIT_PENDING and this method (startCommit) is called,
-        // the next transaction will not attempt to replicate b/c the current transaction is still at the head of the
-        // pendingCommits queue.
-        processNextPendingTransaction();
+            // We process next transactions pending canCommit before we call persistPayload to possibly progress
+            // subsequent transactions to the COMMIT_PENDING state so the payloads can be batched for replication.
+            // This is done for single-shard transactions that immediately transition from canCommit to preCommit to
+            // commit. Note that if the next pending transaction is progressed to COMMIT_PENDING and this method
+            // (startCommit) is called, the next transaction will not attempt to replicate b/c the current
+            // transaction is still at the head of the pendingCommits queue.
+            processNextPendingTransaction();
 
-        // After processing next pending transactions, we can now remove the current transaction from pendingCommits.
-        // Note this must be done before the call to peekNextPendingCommit below so we check the next transaction
-        // in order to properly determine the batchHint flag for the call to persistPayload.
-        pendingFinishCommits.add(pendingCommits.remove());
+            // After processing next pending transactions, we can now remove the current transaction from
+            // pendingCommits. Note this must be done before looking at the next transaction, so we can determine
+            // whether it can be packed into the same payload or batched with it for replication.
+            pendingFinishCommits.add(pendingCommits.remove());
+            payloads.add(payload);
+            committing.add(next);
 
-        // See if the next transaction is pending commit (ie in the COMMIT_PENDING state) so it can be batched with
-        // this transaction for replication.
-        boolean replicationBatchHint = peekNextPendingCommit();
+            if (payloads.size() >= maxTransactions) {
+                break;
+            }
+            next = findFirstEntry(pendingCommits, State.COMMIT_PENDING);
+            if (next == null) {
+                break;
+            }
+            nextCandidate = next.getCandidate();
+        }
 
-        // Once completed, we will continue via payloadReplicationComplete
-        shard.submitCommand(txId, payload, replicationBatchHint);
+        if (!payloads.isEmpty()) {
+            // See if the next transaction is pending commit (ie in the COMMIT_PENDING state) so it can be batched with
+            // this payload for replication.
+            final boolean replicationBatchHint = peekNextPendingCommit();
+            final var firstTxId = committing.get(0).transactionId();
 
-        current.setLastAccess(readTime());
+            // Once completed, we will continue via payloadReplicationComplete
+            if (payloads.size() == 1) {
+                shard.submitCommand(firstTxId, payloads.get(0), replicationBatchHint);
+            } else {
+                shard.submitCommand(firstTxId, CommitTransactionsPayload.create(payloads), replicationBatchHint);
+            }
 
-        LOG.debug("{}: Transaction {} submitted to persistence", logContext, txId);
+            final long now = readTime();
+            for (var submitted : committing) {
+                submitted.setLastAccess(now);
+                LOG.debug("{}: Transaction {} submitted to persistence", logContext, submitted.transactionId());
+            }
+        }
 
-        // Process the next transaction pending commit, if any. If there is one it will be batched with this
-        // transaction for replication.
-        processNextPendingCommit();
+        if (failed) {
+            processNextPending();
+        } else {
+            // Process the next transaction pending commit, if any. If there is one it will be batched with this
+            // payload for replication.
+            processNextPendingCommit();
+        }
     }
 
     final List<ActorRef> getCohortActors() {
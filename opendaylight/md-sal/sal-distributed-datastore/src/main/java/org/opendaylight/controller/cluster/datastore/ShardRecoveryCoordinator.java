@@ -10,7 +10,10 @@ package org.opendaylight.controller.cluster.datastore;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionPayload;
+import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionsPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.datastore.utils.NormalizedNodeXMLOutput;
 import org.opendaylight.controller.cluster.raft.RaftActorRecoveryCohort;
@@ -48,6 +51,26 @@ final class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
         open = true;
     }
 
+    /**
+     * Decodes the {@link CommitTransactionPayload}s contained in a command, so they are readily available when the
+     * command is applied. This method is safe to invoke from any thread, as the payload caches its candidate in
+     * a thread-safe manner.
+     */
+    @Override
+    public void prepareRecoveredCommand(final StateCommand command) throws IOException {
+        switch (command) {
+            case CommitTransactionPayload commit -> commit.getCandidate();
+            case CommitTransactionsPayload commits -> {
+                for (var commit : commits.transactions()) {
+                    commit.getCandidate();
+                }
+            }
+            default -> {
+                // Nothing to do
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void appendRecoveredCommand(final StateCommand command) {
@@ -95,7 +118,13 @@ final class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
             store.applyRecoverySnapshot(shardSnapshotState);
         } catch (Exception e) {
             final var shardSnapshot = shardSnapshotState.getSnapshot();
-            final var file = writeRoot("snapshot", shardSnapshot.getRootNode().orElse(null));
+            final var rootNode = shardSnapshot.getRootNode();
+            if (rootNode.isEmpty()) {
+                // Delta snapshots do not have a root node
+                throw new IllegalStateException(
+                    "%s: Failed to apply recovery snapshot %s".formatted(memberId, shardSnapshot), e);
+            }
+            final var file = writeRoot("snapshot", rootNode.orElseThrow());
             throw new IllegalStateException(
                 "%s: Failed to apply recovery snapshot %s. Node data was written to file %s".formatted(
                     memberId, shardSnapshot, file), e);
@@ -10,6 +10,7 @@ package org.opendaylight.controller.cluster.datastore;
 import static java.util.Objects.requireNonNull;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.raft.RaftActorSnapshotCohort;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot.Support;
@@ -43,6 +44,17 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort<ShardSnapshot
         return new ShardSnapshotState(store.takeStateSnapshot());
     }
 
+    @Override
+    public @Nullable ShardSnapshotState takeDeltaSnapshot() {
+        final var delta = store.takeDeltaStateSnapshot();
+        return delta == null ? null : new ShardSnapshotState(delta);
+    }
+
+    @Override
+    public void resetDeltaBase() {
+        store.resetDeltaBase();
+    }
+
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void applySnapshot(final ShardSnapshotState snapshotState) {
@@ -7,13 +7,10 @@
  */
 package org.opendaylight.controller.cluster.datastore;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.primitives.UnsignedLong;
-import java.util.HashMap;
-import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
+import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongBitmap;
 import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongSet;
 
 /**
@@ -22,7 +19,7 @@ import org.opendaylight.controller.cluster.raft.spi.MutableUnsignedLongSet;
  */
 final class StandaloneFrontendHistory extends AbstractFrontendHistory {
     private StandaloneFrontendHistory(final String persistenceId, final ClientIdentifier clientId,
-            final ShardDataTree tree, final Map<UnsignedLong, Boolean> closedTransactions,
+            final ShardDataTree tree, final MutableUnsignedLongBitmap closedTransactions,
             final MutableUnsignedLongSet purgedTransactions) {
         super(persistenceId, new SimpleTransactionParent(tree, identifierForClient(clientId)), closedTransactions,
             purgedTransactions);
@@ -34,14 +31,14 @@ final class StandaloneFrontendHistory extends AbstractFrontendHistory {
 
     static @NonNull StandaloneFrontendHistory create(final String persistenceId, final ClientIdentifier clientId,
             final ShardDataTree tree) {
-        return new StandaloneFrontendHistory(persistenceId, clientId, tree, ImmutableMap.of(),
+        return new StandaloneFrontendHistory(persistenceId, clientId, tree, MutableUnsignedLongBitmap.of(),
             MutableUnsignedLongSet.of());
     }
 
     static @NonNull StandaloneFrontendHistory recreate(final String persistenceId, final ClientIdentifier clientId,
-            final ShardDataTree tree, final Map<UnsignedLong, Boolean> closedTransactions,
+            final ShardDataTree tree, final MutableUnsignedLongBitmap closedTransactions,
             final MutableUnsignedLongSet purgedTransactions) {
-        return new StandaloneFrontendHistory(persistenceId, clientId, tree, new HashMap<>(closedTransactions),
+        return new StandaloneFrontendHistory(persistenceId, clientId, tree, closedTransactions.mutableCopy(),
             purgedTransactions.mutableCopy());
     }
 }
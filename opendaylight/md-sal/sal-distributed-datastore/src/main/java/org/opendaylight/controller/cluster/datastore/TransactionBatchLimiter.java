@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit on the number of transaction processing steps {@link ShardDataTree} performs in a single batched run
+ * before it schedules a continuation. The limit is derived from the measured cost of a processing step, so that a
+ * batch takes roughly {@link #SLICE_NANOS}, which keeps the shard responsive to other messages. When the queue of
+ * pending transactions is deeper than a single slice can drain, the slice is extended up to
+ * {@link #MAX_SLICE_MULTIPLIER} times, as most other traffic is then likely to be further transactions anyway.
+ *
+ * <p>This class is NOT thread-safe.
+ */
+final class TransactionBatchLimiter {
+    /**
+     * Minimum number of steps in a batch, so that we make progress even when steps are very expensive.
+     */
+    @VisibleForTesting
+    static final int MIN_BATCH = 16;
+    /**
+     * Maximum number of steps in a batch. Steps progress through nested callbacks, each of which eats up stack frames,
+     * hence this needs to be bounded to prevent a StackOverflowError.
+     */
+    @VisibleForTesting
+    static final int MAX_BATCH = 200;
+    /**
+     * Target duration of a batch.
+     */
+    @VisibleForTesting
+    static final long SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    /**
+     * Maximum extension of {@link #SLICE_NANOS} when the queue is deep.
+     */
+    @VisibleForTesting
+    static final int MAX_SLICE_MULTIPLIER = 4;
+
+    // Exponentially-weighted moving average, each sample contributes 1/8th
+    private static final int EWMA_SHIFT = 3;
+
+    // Estimated cost of a single step, initialized so that the initial limit is 100 steps
+    private long stepNanos = SLICE_NANOS / 100;
+
+    /**
+     * Return the maximum number of steps to perform in the next batch.
+     *
+     * @param queueDepth current number of pending transactions
+     * @return maximum number of steps
+     */
+    int limit(final int queueDepth) {
+        final long perSlice = Math.max(1, SLICE_NANOS / stepNanos);
+        final long slices = queueDepth <= perSlice ? 1
+            : Math.min(MAX_SLICE_MULTIPLIER, (queueDepth + perSlice - 1) / perSlice);
+        return (int) Math.max(MIN_BATCH, Math.min(MAX_BATCH, perSlice * slices));
+    }
+
+    /**
+     * Record the cost of a completed run of steps.
+     *
+     * @param elapsedNanos time taken by the run
+     * @param steps number of steps performed
+     */
+    void recordRun(final long elapsedNanos, final int steps) {
+        if (steps > 0 && elapsedNanos >= 0) {
+            final long sample = elapsedNanos / steps;
+            stepNanos = Math.max(1, stepNanos + ((sample - stepNanos) >> EWMA_SHIFT));
+        }
+    }
+
+    @VisibleForTesting
+    long stepNanos() {
+        return stepNanos;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("stepNanos", stepNanos).toString();
+    }
+}
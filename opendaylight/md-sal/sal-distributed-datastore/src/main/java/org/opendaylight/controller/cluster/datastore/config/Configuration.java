@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.datastore.config;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +33,12 @@ public interface Configuration {
      */
     @Nullable String getShardNameForModule(@NonNull String moduleName);
 
+    /**
+     * Returns all shard names corresponding to the given module name, in the order in which they were configured, or
+     * an empty list if none are configured.
+     */
+    @NonNull List<String> getShardNamesForModule(@NonNull String moduleName);
+
     /**
      * Returns the member replicas for the given shard name.
      */
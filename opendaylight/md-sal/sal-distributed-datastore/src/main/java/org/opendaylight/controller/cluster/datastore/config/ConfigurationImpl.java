@@ -109,6 +109,12 @@ public class ConfigurationImpl implements Configuration {
         return null;
     }
 
+    @Override
+    public List<String> getShardNamesForModule(final String moduleName) {
+        ModuleConfig moduleConfig = getModuleConfig(moduleName);
+        return moduleConfig != null ? List.copyOf(moduleConfig.getShardNames()) : List.of();
+    }
+
     private ModuleConfig getModuleConfig(final String moduleName) {
         return moduleConfigMap.get(requireNonNull(moduleName, "moduleName should not be null"));
     }
@@ -11,7 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -73,7 +73,8 @@ public final class ModuleConfig {
         private String name;
         private String nameSpace;
         private ShardStrategy shardStrategy;
-        private final Map<String, ShardConfig> shardConfigs = new HashMap<>();
+        // Retains configuration order, which is significant for partitioning strategies
+        private final Map<String, ShardConfig> shardConfigs = new LinkedHashMap<>();
 
         Builder(final String name) {
             this.name = name;
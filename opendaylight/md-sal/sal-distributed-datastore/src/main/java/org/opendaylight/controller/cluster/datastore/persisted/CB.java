@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.raft.spi.ByteArray;
+
+/**
+ * Serialization proxy for {@link CommitTransactionsPayload}.
+ */
+final class CB implements Externalizable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<CommitTransactionPayload> transactions;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public CB() {
+        // For Externalizable
+    }
+
+    CB(final List<CommitTransactionPayload> transactions) {
+        this.transactions = requireNonNull(transactions);
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeInt(transactions.size());
+        for (var transaction : transactions) {
+            final var source = transaction.source();
+            out.writeInt(source.legacySize());
+            source.copyTo(out);
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        final int count = in.readInt();
+        if (count < 2) {
+            throw new StreamCorruptedException("Invalid transaction count " + count);
+        }
+
+        // Do not trust count for allocation, it is bounded only by the amount of data we actually read
+        transactions = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            final int length = in.readInt();
+            if (length < 0) {
+                throw new StreamCorruptedException("Invalid payload length " + length);
+            }
+            transactions.add(new CommitTransactionPayload(
+                ByteArray.readFrom(in, length, CommitTransactionPayload.MAX_ARRAY_SIZE)));
+        }
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return new CommitTransactionsPayload(transactions);
+    }
+}
@@ -156,6 +156,10 @@ public final class CommitTransactionPayload extends IdentifiablePayload<Transact
         }
     }
 
+    @NonNull ByteArray source() {
+        return source;
+    }
+
     @Override
     public TransactionIdentifier getIdentifier() {
         try  {
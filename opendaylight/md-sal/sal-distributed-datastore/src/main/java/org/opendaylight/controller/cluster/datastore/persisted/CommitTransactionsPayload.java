@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.List;
+import org.apache.commons.lang3.SerializationUtils;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.raft.messages.IdentifiablePayload;
+
+/**
+ * Payload persisted when multiple transactions commit at the same time. It contains a {@link CommitTransactionPayload}
+ * for each of the transactions, in commit order, so that they share a single journal entry. Its identifier is the
+ * identifier of the first transaction.
+ */
+@Beta
+public final class CommitTransactionsPayload extends IdentifiablePayload<TransactionIdentifier>
+        implements Serializable {
+    // Exists to break initialization dependency between CommitTransactionsPayload/Proxy
+    private static final class ProxySizeHolder {
+        static final int PROXY_SIZE = SerializationUtils.serialize(new CB(List.of())).length;
+
+        private ProxySizeHolder() {
+            // Hidden on purpose
+        }
+    }
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private final @NonNull ImmutableList<CommitTransactionPayload> transactions;
+
+    CommitTransactionsPayload(final List<CommitTransactionPayload> transactions) {
+        this.transactions = ImmutableList.copyOf(transactions);
+    }
+
+    /**
+     * Create a new payload.
+     *
+     * @param transactions payloads of individual transactions, in commit order
+     * @return A new payload
+     * @throws IllegalArgumentException if {@code transactions} has less than two elements
+     */
+    public static @NonNull CommitTransactionsPayload create(final List<CommitTransactionPayload> transactions) {
+        checkArgument(transactions.size() > 1, "Insufficient transactions %s", transactions);
+        return new CommitTransactionsPayload(transactions);
+    }
+
+    /**
+     * Return the payloads of individual transactions, in commit order.
+     *
+     * @return payloads of individual transactions
+     */
+    public @NonNull List<CommitTransactionPayload> transactions() {
+        return transactions;
+    }
+
+    @Override
+    public TransactionIdentifier getIdentifier() {
+        return transactions.get(0).getIdentifier();
+    }
+
+    @Override
+    public int serializedSize() {
+        // Same inaccuracy as CommitTransactionPayload.serializedSize()
+        return ProxySizeHolder.PROXY_SIZE + size();
+    }
+
+    @Override
+    public int size() {
+        int size = Integer.BYTES;
+        for (var transaction : transactions) {
+            size += Integer.BYTES + transaction.size();
+        }
+        return size;
+    }
+
+    @Override
+    protected Object writeReplace() {
+        return new CB(transactions);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("transactions", transactions.size())
+            .add("size", size())
+            .toString();
+    }
+
+    @java.io.Serial
+    private void readObject(final ObjectInputStream stream) throws NotSerializableException {
+        throwNSE();
+    }
+
+    @java.io.Serial
+    private void readObjectNoData() throws ObjectStreamException {
+        throwNSE();
+    }
+
+    @java.io.Serial
+    private void writeObject(final ObjectOutputStream stream) throws NotSerializableException {
+        throwNSE();
+    }
+
+    private static void throwNSE() throws NotSerializableException {
+        throw new NotSerializableException(CommitTransactionsPayload.class.getName());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serialization proxy for {@link DeltaShardDataTreeSnapshot}.
+ */
+final class DD implements Externalizable {
+    private static final Logger LOG = LoggerFactory.getLogger(DD.class);
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata;
+    private NormalizedNodeStreamVersion version;
+    private Set<YangInstanceIdentifier> deletes;
+    private Map<YangInstanceIdentifier, NormalizedNode> writes;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public DD() {
+        // For Externalizable
+    }
+
+    DD(final DeltaShardDataTreeSnapshot snapshot) {
+        metadata = snapshot.getMetadata();
+        deletes = snapshot.getDeletes();
+        writes = snapshot.getWrites();
+        version = snapshot.version().getStreamVersion();
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeInt(metadata.size());
+        for (var m : metadata.values()) {
+            out.writeObject(m);
+        }
+        try (var stream = version.newDataOutput(out)) {
+            stream.writeInt(deletes.size());
+            for (var path : deletes) {
+                stream.writeYangInstanceIdentifier(path);
+            }
+            stream.writeInt(writes.size());
+            for (var entry : writes.entrySet()) {
+                stream.writeYangInstanceIdentifier(entry.getKey());
+                stream.writeNormalizedNode(entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        final int metaSize = in.readInt();
+        checkArgument(metaSize >= 0, "Invalid negative metadata map length %s", metaSize);
+
+        final var metaBuilder = ImmutableMap
+            .<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>builder();
+        for (int i = 0; i < metaSize; ++i) {
+            final var m = (ShardDataTreeSnapshotMetadata<?>) in.readObject();
+            if (m != null) {
+                metaBuilder.put(m.getType(), m);
+            } else {
+                LOG.warn("Skipping null metadata");
+            }
+        }
+        metadata = metaBuilder.build();
+
+        final var stream = NormalizedNodeDataInput.newDataInput(in);
+        version = stream.getVersion();
+
+        final int deleteSize = stream.readInt();
+        checkArgument(deleteSize >= 0, "Invalid negative delete count %s", deleteSize);
+        final var deleteBuilder = ImmutableSet.<YangInstanceIdentifier>builderWithExpectedSize(deleteSize);
+        for (int i = 0; i < deleteSize; ++i) {
+            deleteBuilder.add(stream.readYangInstanceIdentifier());
+        }
+        deletes = deleteBuilder.build();
+
+        final int writeSize = stream.readInt();
+        checkArgument(writeSize >= 0, "Invalid negative write count %s", writeSize);
+        final var writeBuilder = ImmutableMap.<YangInstanceIdentifier, NormalizedNode>builderWithExpectedSize(writeSize);
+        for (int i = 0; i < writeSize; ++i) {
+            writeBuilder.put(stream.readYangInstanceIdentifier(), stream.readNormalizedNode());
+        }
+        writes = writeBuilder.build();
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return new DeltaShardDataTreeSnapshot(deletes, writes, metadata);
+    }
+}
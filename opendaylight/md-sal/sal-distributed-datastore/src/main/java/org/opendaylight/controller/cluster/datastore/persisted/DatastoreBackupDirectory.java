@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot.ShardSnapshot;
+import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
+import org.opendaylight.raft.spi.CompressionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A datastore backup stored as a directory, as opposed to a single serialized {@link DatastoreSnapshotList}. Each
+ * {@link DatastoreSnapshot} is stored in a subdirectory named after its type, which contains one file for the
+ * {@link ShardManagerSnapshot}, if present, and one file for each {@link ShardSnapshot}. Each file is a serialized
+ * object compressed with {@link CompressionType#LZ4}.
+ *
+ * <p>A backup is written through a {@link Writer}, which writes each {@link ShardSnapshot} into its file as soon as it
+ * is handed over, so that the complete backup is never assembled in memory. When a backup is {@link #read(Path) read},
+ * only the {@link ShardManagerSnapshot}s are loaded. Each shard's {@link Snapshot} is loaded from its file when the
+ * shard asks for it during recovery.
+ *
+ * <p>A manifest file lists the contents of the backup, one entry per line, so that an incomplete backup is detected
+ * when it is read. The backup is written into a temporary directory first, which is then moved into place, so that a
+ * failed write does not leave a partial backup behind.
+ */
+@NonNullByDefault
+public final class DatastoreBackupDirectory {
+    private static final Logger LOG = LoggerFactory.getLogger(DatastoreBackupDirectory.class);
+    private static final CompressionType COMPRESSION = CompressionType.LZ4;
+    private static final String MANIFEST_FILE = "manifest";
+    private static final String MANIFEST_HEADER = "# Datastore backup";
+    private static final String ENTRY_DATASTORE = "datastore";
+    private static final String ENTRY_SHARD_MANAGER = "shard-manager";
+    private static final String ENTRY_SHARD = "shard";
+    private static final String SHARD_MANAGER_FILE = "shard-manager";
+    private static final String SHARD_FILE_PREFIX = "shard-";
+    private static final Pattern SHARD_FILE = Pattern.compile(SHARD_FILE_PREFIX + "(\\d{1,9})");
+    // Datastore types are used as directory names
+    private static final Pattern TYPE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    private DatastoreBackupDirectory() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Writes a backup, one shard at a time. Each datastore type needs to be started via
+     * {@link #startDatastore(String, ShardManagerSnapshot)} before its shards are written via
+     * {@link #writeShard(String, ShardSnapshot)}. Shards are written in the background, in parallel, and the backup
+     * becomes visible only once it is {@link #commit() committed}. Closing an uncommitted writer discards the backup.
+     * This class is thread-safe.
+     */
+    public static final class Writer implements AutoCloseable {
+        private final LinkedHashMap<String, List<String>> datastores = new LinkedHashMap<>();
+        private final HashSet<String> shardManagers = new HashSet<>();
+        private final ArrayList<Future<Path>> writes = new ArrayList<>();
+        private final ExecutorService executor;
+        private final Path target;
+        private final Path tmpDir;
+
+        private boolean finished;
+        private boolean committed;
+
+        private Writer(final Path target, final Path tmpDir) {
+            this.target = requireNonNull(target);
+            this.tmpDir = requireNonNull(tmpDir);
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("datastore-backup-", 0).daemon().factory());
+        }
+
+        /**
+         * Start writing a datastore.
+         *
+         * @param type the datastore type
+         * @param shardManagerSnapshot the {@link ShardManagerSnapshot}, if present
+         * @throws IOException if the type is not valid or has already been started, or an I/O error occurs
+         */
+        public synchronized void startDatastore(final String type,
+                final @Nullable ShardManagerSnapshot shardManagerSnapshot) throws IOException {
+            checkOpen();
+            if (!TYPE_NAME.matcher(type).matches()) {
+                throw new IOException("Invalid datastore type " + type);
+            }
+            if (datastores.containsKey(type)) {
+                throw new IOException("Datastore " + type + " has already been started");
+            }
+
+            final var typeDir = Files.createDirectory(tmpDir.resolve(type));
+            datastores.put(type, new ArrayList<>());
+            if (shardManagerSnapshot != null) {
+                shardManagers.add(type);
+                submit(typeDir.resolve(SHARD_MANAGER_FILE), shardManagerSnapshot);
+            }
+        }
+
+        /**
+         * Write a shard of a started datastore.
+         *
+         * @param type the datastore type
+         * @param shardSnapshot the {@link ShardSnapshot}
+         * @throws IOException if the datastore has not been started
+         */
+        public synchronized void writeShard(final String type, final ShardSnapshot shardSnapshot) throws IOException {
+            checkOpen();
+            final var shardNames = datastores.get(type);
+            if (shardNames == null) {
+                throw new IOException("Datastore " + type + " has not been started");
+            }
+
+            final var name = shardSnapshot.getName();
+            if (name.isBlank() || name.indexOf('\n') != -1 || name.indexOf('\r') != -1) {
+                throw new IOException("Invalid shard name \"" + name + "\"");
+            }
+            if (shardNames.contains(name)) {
+                throw new IOException("Shard " + name + " of datastore " + type + " has already been written");
+            }
+
+            final var file = tmpDir.resolve(type).resolve(SHARD_FILE_PREFIX + shardNames.size());
+            shardNames.add(name);
+            submit(file, shardSnapshot);
+        }
+
+        /**
+         * Wait for all shards to be written and move the backup into place.
+         *
+         * @throws IOException if any write failed or an I/O error occurs
+         */
+        public void commit() throws IOException {
+            final List<Future<Path>> pending;
+            final List<String> manifest;
+            synchronized (this) {
+                checkOpen();
+                finished = true;
+                pending = List.copyOf(writes);
+                manifest = manifestLines();
+            }
+
+            LOG.debug("Waiting for {} files to be written to {}", pending.size(), tmpDir);
+            for (var future : pending) {
+                getDone(future);
+            }
+            Files.write(tmpDir.resolve(MANIFEST_FILE), manifest, StandardCharsets.UTF_8);
+            Files.move(tmpDir, target, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                committed = true;
+            }
+            LOG.debug("Backup {} committed", target);
+        }
+
+        @Override
+        public void close() throws IOException {
+            final boolean discard;
+            synchronized (this) {
+                finished = true;
+                discard = !committed;
+            }
+            // Interrupt any outstanding writes and wait for them to finish, so the directory can be cleaned up
+            executor.shutdownNow();
+            executor.close();
+            if (discard) {
+                LOG.debug("Discarding uncommitted backup in {}", tmpDir);
+                deleteRecursively(tmpDir);
+            }
+        }
+
+        private void checkOpen() throws IOException {
+            if (finished) {
+                throw new IOException("Backup " + target + " has already been finished");
+            }
+        }
+
+        private void submit(final Path file, final Object obj) {
+            writes.add(executor.submit(() -> writeFile(file, obj)));
+        }
+
+        private List<String> manifestLines() {
+            final var ret = new ArrayList<String>();
+            ret.add(MANIFEST_HEADER);
+            datastores.forEach((type, shardNames) -> {
+                ret.add(ENTRY_DATASTORE + ' ' + type);
+                if (shardManagers.contains(type)) {
+                    ret.add(ENTRY_SHARD_MANAGER + ' ' + type);
+                }
+                for (var shardName : shardNames) {
+                    ret.add(ENTRY_SHARD + ' ' + type + ' ' + shardName);
+                }
+            });
+            return ret;
+        }
+    }
+
+    /**
+     * Start writing a backup into a new directory.
+     *
+     * @param directory the directory, which must not exist
+     * @return a {@link Writer}
+     * @throws IOException if the directory exists or an I/O error occurs
+     */
+    public static Writer newWriter(final Path directory) throws IOException {
+        final var target = directory.toAbsolutePath();
+        if (Files.exists(target)) {
+            throw new FileAlreadyExistsException(target.toString());
+        }
+
+        // Keep the temporary directory next to the target, so it can be moved atomically
+        return new Writer(target, Files.createTempDirectory(target.getParent(), "." + target.getFileName() + "-"));
+    }
+
+    /**
+     * Write a backup into a new directory.
+     *
+     * @param directory the directory, which must not exist
+     * @param snapshots the {@link DatastoreSnapshot}s to write
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(final Path directory, final List<DatastoreSnapshot> snapshots) throws IOException {
+        try (var writer = newWriter(directory)) {
+            for (var snapshot : snapshots) {
+                final var type = snapshot.getType();
+                writer.startDatastore(type, snapshot.getShardManagerSnapshot());
+                for (var shardSnapshot : snapshot.getShardSnapshots()) {
+                    writer.writeShard(type, shardSnapshot);
+                }
+            }
+            writer.commit();
+        }
+    }
+
+    /**
+     * Read a backup from a directory. The backup is validated and its {@link ShardManagerSnapshot}s are read, but
+     * each {@link ShardSnapshot} loads its {@link Snapshot} from the directory only when asked to, hence the directory
+     * needs to be retained until all shards have been restored.
+     *
+     * @param directory the directory
+     * @return the {@link DatastoreSnapshot}s
+     * @throws IOException if an I/O error occurs or the directory does not contain a valid backup
+     */
+    public static List<DatastoreSnapshot> read(final Path directory) throws IOException {
+        final var manifestFile = directory.resolve(MANIFEST_FILE);
+        final var datastores = new LinkedHashMap<String, List<String>>();
+        final var shardManagers = new HashSet<String>();
+
+        final var lines = Files.readAllLines(manifestFile, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); ++i) {
+            final var line = lines.get(i);
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            final var entry = line.split(" ", 3);
+            final var kind = entry[0];
+            final var type = entry.length > 1 ? entry[1] : "";
+            switch (kind) {
+                case ENTRY_DATASTORE -> {
+                    if (entry.length != 2 || !TYPE_NAME.matcher(type).matches()) {
+                        throw invalidEntry(manifestFile, i, line);
+                    }
+                    if (datastores.putIfAbsent(type, new ArrayList<>()) != null) {
+                        throw new IOException("Duplicate datastore " + type + " in " + manifestFile);
+                    }
+                }
+                case ENTRY_SHARD_MANAGER -> {
+                    if (entry.length != 2) {
+                        throw invalidEntry(manifestFile, i, line);
+                    }
+                    requireDatastore(manifestFile, datastores, type);
+                    if (!shardManagers.add(type)) {
+                        throw new IOException("Duplicate shard manager of datastore " + type + " in " + manifestFile);
+                    }
+                }
+                case ENTRY_SHARD -> {
+                    if (entry.length != 3 || entry[2].isBlank()) {
+                        throw invalidEntry(manifestFile, i, line);
+                    }
+                    final var shardNames = requireDatastore(manifestFile, datastores, type);
+                    if (shardNames.contains(entry[2])) {
+                        throw new IOException("Duplicate shard " + entry[2] + " of datastore " + type + " in "
+                            + manifestFile);
+                    }
+                    shardNames.add(entry[2]);
+                }
+                default -> throw new IOException("Unknown entry \"" + kind + "\" at line " + (i + 1) + " of "
+                    + manifestFile);
+            }
+        }
+
+        final var typeDirs = new HashSet<Path>();
+        final var ret = new ArrayList<DatastoreSnapshot>(datastores.size());
+        for (var datastore : datastores.entrySet()) {
+            final var type = datastore.getKey();
+            final var typeDir = directory.resolve(type);
+            if (!Files.isDirectory(typeDir)) {
+                throw new IOException("Missing directory " + typeDir);
+            }
+            typeDirs.add(typeDir);
+
+            final var shardNames = datastore.getValue();
+            final var files = listShardFiles(typeDir, shardNames.size());
+            final var shardSnapshots = new ArrayList<ShardSnapshot>(files.size());
+            for (int i = 0; i < files.size(); ++i) {
+                final var name = shardNames.get(i);
+                final var file = files.get(i);
+                shardSnapshots.add(new ShardSnapshot(name, () -> loadShard(file, name)));
+            }
+
+            ret.add(new DatastoreSnapshot(type, shardManagers.contains(type)
+                ? readFile(typeDir.resolve(SHARD_MANAGER_FILE), ShardManagerSnapshot.class) : null, shardSnapshots));
+        }
+
+        final List<Path> unexpected;
+        try (var stream = Files.list(directory)) {
+            unexpected = stream.filter(Files::isDirectory).filter(dir -> !typeDirs.contains(dir)).toList();
+        }
+        if (!unexpected.isEmpty()) {
+            throw new IOException("Unexpected directories " + unexpected + " in " + directory);
+        }
+
+        LOG.debug("Found {} datastores in {}", ret.size(), directory);
+        return ret;
+    }
+
+    private static IOException invalidEntry(final Path file, final int index, final String line) {
+        return new IOException("Invalid entry \"" + line + "\" at line " + (index + 1) + " of " + file);
+    }
+
+    private static List<String> requireDatastore(final Path file, final LinkedHashMap<String, List<String>> datastores,
+            final String type) throws IOException {
+        final var ret = datastores.get(type);
+        if (ret == null) {
+            throw new IOException("Unknown datastore " + type + " in " + file);
+        }
+        return ret;
+    }
+
+    private static List<Path> listShardFiles(final Path typeDir, final int expectedCount) throws IOException {
+        final var files = new TreeMap<Integer, Path>();
+        try (var stream = Files.list(typeDir)) {
+            for (var file : (Iterable<Path>) stream::iterator) {
+                final var matcher = SHARD_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    files.put(Integer.valueOf(matcher.group(1)), file);
+                }
+            }
+        }
+
+        // Shard files have to be numbered 0..expectedCount-1, without any gaps
+        if (files.size() != expectedCount || (!files.isEmpty() && files.lastKey() != expectedCount - 1)) {
+            throw new IOException("Expected " + expectedCount + " shard files in " + typeDir + ", found "
+                + files.keySet());
+        }
+        return List.copyOf(files.values());
+    }
+
+    private static Snapshot loadShard(final Path file, final String name) throws IOException {
+        final var shardSnapshot = readFile(file, ShardSnapshot.class);
+        if (!name.equals(shardSnapshot.getName())) {
+            throw new IOException("Expected shard " + name + " in " + file + ", found " + shardSnapshot.getName());
+        }
+        return shardSnapshot.getSnapshot();
+    }
+
+    private static void deleteRecursively(final Path directory) throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static Path writeFile(final Path file, final Object obj) throws IOException {
+        try (var oos = new ObjectOutputStream(COMPRESSION.encodeOutput(Files.newOutputStream(file)))) {
+            oos.writeObject(obj);
+        }
+        LOG.debug("Wrote {}", file);
+        return file;
+    }
+
+    private static <T> T readFile(final Path file, final Class<T> type) throws IOException {
+        final Object obj;
+        try (var ois = new ObjectInputStream(COMPRESSION.decodeInput(Files.newInputStream(file)))) {
+            obj = ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to read " + file, e);
+        }
+        if (!type.isInstance(obj)) {
+            throw new IOException("Unexpected " + obj.getClass() + " in " + file);
+        }
+        LOG.debug("Read {}", file);
+        return type.cast(obj);
+    }
+
+    private static <T> T getDone(final Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+            Throwables.throwIfInstanceOf(cause, IOException.class);
+            Throwables.throwIfUnchecked(cause);
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + future);
+        }
+    }
+}
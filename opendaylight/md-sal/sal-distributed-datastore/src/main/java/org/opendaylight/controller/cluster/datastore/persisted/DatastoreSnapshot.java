@@ -7,10 +7,13 @@
  */
 package org.opendaylight.controller.cluster.datastore.persisted;
 
+import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableList;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -54,23 +57,60 @@ public final class DatastoreSnapshot implements Serializable {
     }
 
     public static final class ShardSnapshot implements Serializable {
+        /**
+         * Source of a {@link Snapshot} which is not held in memory.
+         */
+        @FunctionalInterface
+        interface Loader {
+            /**
+             * Load the snapshot.
+             *
+             * @return the snapshot
+             * @throws IOException if the snapshot cannot be loaded
+             */
+            @NonNull Snapshot load() throws IOException;
+        }
+
         @java.io.Serial
         private static final long serialVersionUID = 1L;
 
         private final @NonNull String name;
-        private final @NonNull Snapshot snapshot;
+        private final @Nullable Snapshot snapshot;
+        private final transient @Nullable Loader loader;
 
         public ShardSnapshot(final @NonNull String name, final @NonNull Snapshot snapshot) {
             this.name = requireNonNull(name);
             this.snapshot = requireNonNull(snapshot);
+            loader = null;
+        }
+
+        ShardSnapshot(final @NonNull String name, final @NonNull Loader loader) {
+            this.name = requireNonNull(name);
+            this.loader = requireNonNull(loader);
+            snapshot = null;
         }
 
         public @NonNull String getName() {
             return name;
         }
 
+        /**
+         * Return the {@link Snapshot} of this shard. If this shard snapshot was read from a
+         * {@link DatastoreBackupDirectory}, the snapshot is loaded on each invocation and is not retained.
+         *
+         * @return the {@link Snapshot}
+         * @throws UncheckedIOException if the snapshot cannot be loaded
+         */
         public @NonNull Snapshot getSnapshot() {
-            return snapshot;
+            final var local = snapshot;
+            if (local != null) {
+                return local;
+            }
+            try {
+                return verifyNotNull(loader).load();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load snapshot of shard " + name, e);
+            }
         }
 
         @java.io.Serial
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A delta snapshot of a shard data tree. Unlike {@link MetadataShardDataTreeSnapshot}, it does not contain the entire
+ * data tree, but rather only the subtrees which have been modified since the snapshot it is based on. It is applied on
+ * top of the state reconstructed from that snapshot by deleting {@link #getDeletes()} and then writing
+ * {@link #getWrites()}. Metadata is always captured in its entirety.
+ */
+@Beta
+public final class DeltaShardDataTreeSnapshot extends ShardDataTreeSnapshot implements Serializable {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This field is not Serializable but this class "
+            + "implements writeReplace to delegate serialization to a Proxy class and thus instances of this class "
+            + "aren't serialized. FindBugs does not recognize this.")
+    private final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata;
+
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "See above justification.")
+    private final Set<YangInstanceIdentifier> deletes;
+
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "See above justification.")
+    private final Map<YangInstanceIdentifier, NormalizedNode> writes;
+
+    public DeltaShardDataTreeSnapshot(final Set<YangInstanceIdentifier> deletes,
+            final Map<YangInstanceIdentifier, NormalizedNode> writes,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata) {
+        this.deletes = ImmutableSet.copyOf(deletes);
+        this.writes = ImmutableMap.copyOf(writes);
+        this.metadata = ImmutableMap.copyOf(metadata);
+    }
+
+    public Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Return the paths of subtrees which have been deleted since the base snapshot.
+     *
+     * @return Deleted paths
+     */
+    public Set<YangInstanceIdentifier> getDeletes() {
+        return deletes;
+    }
+
+    /**
+     * Return the subtrees which have been written or modified since the base snapshot, keyed by their path.
+     *
+     * @return Written subtrees
+     */
+    public Map<YangInstanceIdentifier, NormalizedNode> getWrites() {
+        return writes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A delta snapshot does not contain a root node, hence this method always returns {@link Optional#empty()}.
+     */
+    @Override
+    public Optional<NormalizedNode> getRootNode() {
+        return Optional.empty();
+    }
+
+    PayloadVersion version() {
+        return PayloadVersion.POTASSIUM;
+    }
+
+    @Override
+    public void serialize(final ObjectOutput out) throws IOException {
+        version().writeTo(out);
+        out.writeObject(this);
+    }
+
+    @java.io.Serial
+    private Object writeReplace() {
+        return new DD(this);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("metadata", metadata)
+            .add("deletes", deletes.size())
+            .add("writes", writes.size())
+            .toString();
+    }
+}
@@ -106,6 +106,13 @@ public final class ShardInformation {
         return shardId;
     }
 
+    /**
+     * {@return the directory holding this shard's persisted state}
+     */
+    Path getShardStateDir() {
+        return stateDir.resolve(Shard.STATE_PATH).resolve(shardId.toString());
+    }
+
     void setLocalDataTree(final ReadOnlyDataTree dataTree) {
         localShardDataTree = Optional.ofNullable(dataTree);
     }
@@ -44,6 +44,7 @@ import org.apache.pekko.actor.OneForOneStrategy;
 import org.apache.pekko.actor.PoisonPill;
 import org.apache.pekko.actor.Status;
 import org.apache.pekko.actor.SupervisorStrategy;
+import org.apache.pekko.actor.Terminated;
 import org.apache.pekko.cluster.ClusterEvent;
 import org.apache.pekko.cluster.ClusterEvent.MemberWeaklyUp;
 import org.apache.pekko.cluster.Member;
@@ -82,6 +83,7 @@ import org.opendaylight.controller.cluster.datastore.messages.RemotePrimaryShard
 import org.opendaylight.controller.cluster.datastore.messages.RemoveShardReplica;
 import org.opendaylight.controller.cluster.datastore.messages.ShardLeaderStateChanged;
 import org.opendaylight.controller.cluster.datastore.messages.UpdateSchemaContext;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardManagerSnapshot;
 import org.opendaylight.controller.cluster.datastore.utils.CompositeOnComplete;
@@ -145,6 +147,7 @@ class ShardManager extends AbstractUntypedActorWithMetering {
     private final Map<String, CompositeOnComplete<Boolean>> shardActorsStopping = new HashMap<>();
     private final Set<Consumer<String>> shardAvailabilityCallbacks = new HashSet<>();
     private final ShardManagerInfo shardManagerMBean;
+    private final ShardRecoveryScheduler recoveryScheduler;
     private final SettableFuture<Empty> readinessFuture;
     private final PrimaryShardInfoFutureCache primaryShardInfoCache;
 
@@ -181,6 +184,9 @@ class ShardManager extends AbstractUntypedActorWithMetering {
                 datastoreContextFactory.getBaseDatastoreContext().getDataStoreMXBeanType());
         shardManagerMBean.registerMBean();
 
+        recoveryScheduler = new ShardRecoveryScheduler(name(), shardManagerMBean,
+            DispatcherType.Client.dispatcherIn(context()), this::executeInSelf, this::startRecoveringShard,
+            datastoreContextFactory.getBaseDatastoreContext().getMaxConcurrentShardRecoveries());
     }
 
     private ShardManager(final Path stateDir, final String possiblePersistenceId,
@@ -251,6 +257,9 @@ class ShardManager extends AbstractUntypedActorWithMetering {
             case RoleChangeNotification msg -> onRoleChangeNotification(msg);
             case FollowerInitialSyncUpStatus msg -> onFollowerInitialSyncStatus(msg);
             case ShardNotInitializedTimeout msg -> onShardNotInitializedTimeout(msg);
+            case ShardRecoveryTimeout(var shardInfo) ->
+                recoveryScheduler.onRecoveryAborted(shardInfo, "recovery timed out");
+            case Terminated msg -> onTerminated(msg);
             case ShardLeaderStateChanged msg -> onLeaderStateChanged(msg);
             case SwitchShardBehavior(var shardId, var switchBehavior) -> onSwitchShardBehavior(shardId, switchBehavior);
             case CreateShard msg -> onCreateShard(msg);
@@ -261,7 +270,8 @@ class ShardManager extends AbstractUntypedActorWithMetering {
                 getSender(), msg.removeShardOnFailure);
             case RemoveShardReplica msg -> onRemoveShardReplica(msg);
             case WrappedShardResponse msg -> onWrappedShardResponse(msg);
-            case GetSnapshot msg -> onGetSnapshot(msg);
+            case GetSnapshot msg -> onGetSnapshot(null);
+            case StreamSnapshot msg -> onGetSnapshot(msg.getWriter());
             case ServerRemoved msg -> onShardReplicaRemoved(msg);
             case ChangeShardMembersVotingStatus msg -> onChangeShardServersVotingStatus(msg);
             case FlipShardMembersVotingStatus msg -> onFlipShardMembersVotingStatus(msg);
@@ -415,6 +425,7 @@ class ShardManager extends AbstractUntypedActorWithMetering {
             LOG.debug("{} : Shard replica {} is not present in list", name(), shardId.toString());
             return;
         }
+        recoveryScheduler.remove(shardName);
 
         final ActorRef shardActor = shardInformation.getActor();
         if (shardActor != null) {
@@ -454,7 +465,7 @@ class ShardManager extends AbstractUntypedActorWithMetering {
         persistShardList();
     }
 
-    private void onGetSnapshot(final GetSnapshot getSnapshot) {
+    private void onGetSnapshot(final DatastoreBackupDirectory.@Nullable Writer writer) {
         LOG.debug("{}: onGetSnapshot", name());
 
         List<String> notInitialized = null;
@@ -476,10 +487,10 @@ class ShardManager extends AbstractUntypedActorWithMetering {
 
         ActorRef replyActor = getContext().actorOf(ShardManagerGetSnapshotReplyActor.props(
                 new ArrayList<>(localShards.keySet()), type, currentSnapshot , getSender(), name(),
-                datastoreContextFactory.getBaseDatastoreContext().getShardInitializationTimeout()));
+                datastoreContextFactory.getBaseDatastoreContext().getShardInitializationTimeout(), writer));
 
         for (var shardInfo : localShards.values()) {
-            shardInfo.getActor().tell(getSnapshot, replyActor);
+            shardInfo.getActor().tell(GetSnapshot.INSTANCE, replyActor);
         }
     }
 
@@ -697,7 +708,26 @@ class ShardManager extends AbstractUntypedActorWithMetering {
             return;
         }
 
-        markShardAsInitialized(shardId.getShardName());
+        final var shardName = shardId.getShardName();
+        recoveryScheduler.onRecoveryCompleted(shardName);
+        markShardAsInitialized(shardName);
+    }
+
+    private void onTerminated(final Terminated message) {
+        final var actor = message.actor();
+        final ShardIdentifier shardId;
+        try {
+            shardId = ShardIdentifier.fromShardIdString(actor.path().name());
+        } catch (IllegalArgumentException e) {
+            LOG.debug("{}: ignoring termination of actor {}", name(), actor, e);
+            return;
+        }
+
+        LOG.debug("{}: shard actor {} terminated", name(), actor);
+        final var info = localShards.get(shardId.getShardName());
+        if (info != null && actor.equals(info.getActor())) {
+            recoveryScheduler.onRecoveryAborted(info, "shard actor terminated");
+        }
     }
 
     private void markShardAsInitialized(final String shardName) {
@@ -867,6 +897,7 @@ class ShardManager extends AbstractUntypedActorWithMetering {
         for (ShardInformation info : localShards.values()) {
             info.setDatastoreContext(newShardDatastoreContext(info.getShardName()), self());
         }
+        recoveryScheduler.setMaxConcurrent(factory.getBaseDatastoreContext().getMaxConcurrentShardRecoveries());
     }
 
     private void onGetLocalShardIds() {
@@ -924,21 +955,38 @@ class ShardManager extends AbstractUntypedActorWithMetering {
             final var actor = info.getActor();
             if (actor != null) {
                 actor.tell(message, self());
-                continue;
+            } else if (!recoveryScheduler.isThrottled()) {
+                startShard(info);
+            } else if (!recoveryScheduler.isPending(info)) {
+                // The shard will pick up the current SchemaContext when it is started
+                recoveryScheduler.schedule(info);
             }
+        }
+    }
 
-            LOG.debug("Creating Shard {}", info.getShardId());
-            info.setActor(newShardActor(info));
-            // Update peer address for every existing peer memeber to avoid missing sending
-            // PeerAddressResolved and PeerUp to this shard while UpdateSchemaContext comes after MemberUp.
-            String shardName = info.getShardName();
-            for (var memberName : peerAddressResolver.getPeerMembers()) {
-                String peerId = getShardIdentifier(memberName, shardName).toString() ;
-                String peerAddress = peerAddressResolver.getShardActorAddress(shardName, memberName);
-                info.updatePeerAddress(peerId, peerAddress, self());
-                LOG.debug("{}: updated peer {} on member {} with address {} on shard {} whose actor address is {}",
-                    name(), peerId, memberName, peerAddress, info.getShardId(), info.getActor());
-            }
+    private void startRecoveringShard(final ShardInformation info) {
+        startShard(info);
+
+        // Do not hold up recovery of other shards if this one fails to report ActorInitialized
+        final var actor = info.getActor();
+        getContext().watch(actor);
+        getContext().system().scheduler().scheduleOnce(info.getDatastoreContext().getShardInitializationTimeout(),
+            self(), new ShardRecoveryTimeout(info), getContext().dispatcher(), self());
+    }
+
+    private void startShard(final ShardInformation info) {
+        LOG.debug("Creating Shard {}", info.getShardId());
+        info.setActor(newShardActor(info));
+
+        // Update peer address for every existing peer memeber to avoid missing sending
+        // PeerAddressResolved and PeerUp to this shard while UpdateSchemaContext comes after MemberUp.
+        String shardName = info.getShardName();
+        for (var memberName : peerAddressResolver.getPeerMembers()) {
+            String peerId = getShardIdentifier(memberName, shardName).toString() ;
+            String peerAddress = peerAddressResolver.getShardActorAddress(shardName, memberName);
+            info.updatePeerAddress(peerId, peerAddress, self());
+            LOG.debug("{}: updated peer {} on member {} with address {} on shard {} whose actor address is {}",
+                name(), peerId, memberName, peerAddress, info.getShardId(), info.getActor());
         }
     }
 
@@ -1691,6 +1739,12 @@ class ShardManager extends AbstractUntypedActorWithMetering {
         }
     }
 
+    private record ShardRecoveryTimeout(ShardInformation shardInfo) {
+        ShardRecoveryTimeout {
+            requireNonNull(shardInfo);
+        }
+    }
+
     private static final class ShardNotInitializedTimeout {
         private final ActorRef sender;
         private final ShardInformation shardInfo;
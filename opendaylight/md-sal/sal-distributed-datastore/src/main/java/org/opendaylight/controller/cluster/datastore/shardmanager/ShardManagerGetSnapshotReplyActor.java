@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.cluster.datastore.shardmanager;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -19,8 +20,11 @@ import org.apache.pekko.actor.PoisonPill;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.ReceiveTimeout;
 import org.apache.pekko.actor.Status.Failure;
+import org.apache.pekko.actor.Status.Success;
 import org.apache.pekko.actor.UntypedAbstractActor;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.datastore.identifiers.ShardIdentifier;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot.ShardSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardManagerSnapshot;
@@ -30,7 +34,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Temporary actor used by the ShardManager to compile GetSnapshot replies from the Shard actors and return
- * a DatastoreSnapshot instance reply.
+ * a DatastoreSnapshot instance reply. If given a {@link DatastoreBackupDirectory.Writer}, each shard's snapshot is
+ * handed to it as soon as it arrives instead, and the reply is a {@link Success} once all of them have been handed
+ * over.
  *
  * @author Thomas Pantelis
  */
@@ -41,6 +47,8 @@ final class ShardManagerGetSnapshotReplyActor extends UntypedAbstractActor {
     private final Params params;
     private final List<ShardSnapshot> shardSnapshots = new ArrayList<>();
 
+    private boolean failed;
+
     private ShardManagerGetSnapshotReplyActor(final Params params) {
         this.params = params;
         remainingShardNames = new HashSet<>(params.shardNames);
@@ -50,9 +58,23 @@ final class ShardManagerGetSnapshotReplyActor extends UntypedAbstractActor {
         getContext().setReceiveTimeout(params.receiveTimeout);
     }
 
+    @Override
+    public void preStart() {
+        final var writer = params.writer;
+        if (writer != null) {
+            try {
+                writer.startDatastore(params.datastoreType, params.shardManagerSnapshot);
+            } catch (IOException e) {
+                onWriteFailure(e);
+            }
+        }
+    }
+
     @Override
     public void onReceive(final Object message) {
-        if (message instanceof GetSnapshotReply msg) {
+        if (failed) {
+            LOG.debug("{}: Ignoring {} after failure", params.id, message);
+        } else if (message instanceof GetSnapshotReply msg) {
             onGetSnapshotReply(msg);
         } else if (message instanceof Failure) {
             LOG.debug("{}: Received {}", params.id, message);
@@ -75,24 +97,48 @@ final class ShardManagerGetSnapshotReplyActor extends UntypedAbstractActor {
         LOG.debug("{}: Received {}", params.id, getSnapshotReply);
 
         final var shardName = ShardIdentifier.fromShardIdString(getSnapshotReply.id()).getShardName();
-        shardSnapshots.add(new ShardSnapshot(shardName, getSnapshotReply.snapshot()));
+        final var shardSnapshot = new ShardSnapshot(shardName, getSnapshotReply.snapshot());
+        final var writer = params.writer;
+        if (writer != null) {
+            try {
+                writer.writeShard(params.datastoreType, shardSnapshot);
+            } catch (IOException e) {
+                onWriteFailure(e);
+                return;
+            }
+        } else {
+            shardSnapshots.add(shardSnapshot);
+        }
 
         remainingShardNames.remove(shardName);
         if (remainingShardNames.isEmpty()) {
             LOG.debug("{}: All shard snapshots received", params.id);
 
-            final var datastoreSnapshot = new DatastoreSnapshot(params.datastoreType, params.shardManagerSnapshot,
-                shardSnapshots);
-            params.replyToActor.tell(datastoreSnapshot, self());
+            params.replyToActor.tell(writer != null ? new Success(params.datastoreType)
+                : new DatastoreSnapshot(params.datastoreType, params.shardManagerSnapshot, shardSnapshots), self());
             self().tell(PoisonPill.getInstance(), self());
         }
     }
 
+    private void onWriteFailure(final IOException cause) {
+        LOG.warn("{}: Failed to write snapshot", params.id, cause);
+        params.replyToActor.tell(new Failure(cause), self());
+        // Ignore any further replies
+        failed = true;
+        self().tell(PoisonPill.getInstance(), self());
+    }
+
     public static Props props(final Collection<String> shardNames, final String datastoreType,
             final ShardManagerSnapshot shardManagerSnapshot, final ActorRef replyToActor, final String id,
             final Duration receiveTimeout) {
+        return props(shardNames, datastoreType, shardManagerSnapshot, replyToActor, id, receiveTimeout, null);
+    }
+
+    public static Props props(final Collection<String> shardNames, final String datastoreType,
+            final ShardManagerSnapshot shardManagerSnapshot, final ActorRef replyToActor, final String id,
+            final Duration receiveTimeout, final DatastoreBackupDirectory.@Nullable Writer writer) {
         return Props.create(ShardManagerGetSnapshotReplyActor.class, new Params(shardNames, datastoreType,
-                shardManagerSnapshot, replyToActor, id, receiveTimeout));
+                shardManagerSnapshot, replyToActor, id, receiveTimeout, writer));
     }
 
     private static final class Params {
@@ -102,16 +148,18 @@ final class ShardManagerGetSnapshotReplyActor extends UntypedAbstractActor {
         final ActorRef replyToActor;
         final String id;
         final Duration receiveTimeout;
+        final DatastoreBackupDirectory.@Nullable Writer writer;
 
         Params(final Collection<String> shardNames, final String datastoreType,
                 final ShardManagerSnapshot shardManagerSnapshot, final ActorRef replyToActor, final String id,
-                final Duration receiveTimeout) {
+                final Duration receiveTimeout, final DatastoreBackupDirectory.@Nullable Writer writer) {
             this.shardNames = shardNames;
             this.datastoreType = datastoreType;
             this.shardManagerSnapshot = shardManagerSnapshot;
             this.replyToActor = replyToActor;
             this.id = id;
             this.receiveTimeout = receiveTimeout;
+            this.writer = writer;
         }
     }
 }
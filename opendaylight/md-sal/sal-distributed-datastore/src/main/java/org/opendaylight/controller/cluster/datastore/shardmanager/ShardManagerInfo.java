@@ -34,6 +34,10 @@ final class ShardManagerInfo extends AbstractMXBean implements ShardManagerInfoM
     private final MemberName memberName;
 
     private volatile boolean syncStatus = false;
+    private volatile int pendingShardRecoveries;
+    private volatile List<String> recoveringShards = List.of();
+    private volatile int completedShardRecoveries;
+    private volatile long recoveredShardStateBytes;
 
     ShardManagerInfo(final ActorRef shardManager, final MemberName memberName, final String name,
         final String mxBeanType) {
@@ -68,6 +72,34 @@ final class ShardManagerInfo extends AbstractMXBean implements ShardManagerInfoM
         return memberName.getName();
     }
 
+    @Override
+    public int getPendingShardRecoveries() {
+        return pendingShardRecoveries;
+    }
+
+    @Override
+    public List<String> getRecoveringShards() {
+        return recoveringShards;
+    }
+
+    @Override
+    public int getCompletedShardRecoveries() {
+        return completedShardRecoveries;
+    }
+
+    @Override
+    public long getRecoveredShardStateBytes() {
+        return recoveredShardStateBytes;
+    }
+
+    void setRecoveryStatus(final int pending, final List<String> recovering, final int completed,
+            final long recoveredBytes) {
+        pendingShardRecoveries = pending;
+        recoveringShards = requireNonNull(recovering);
+        completedShardRecoveries = completed;
+        recoveredShardStateBytes = recoveredBytes;
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void requestSwitchShardState(final ShardIdentifier shardId, final TargetBehavior targetBehavior,
             final long term) {
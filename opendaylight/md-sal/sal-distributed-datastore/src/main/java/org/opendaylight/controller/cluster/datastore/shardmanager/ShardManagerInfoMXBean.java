@@ -59,6 +59,26 @@ public interface ShardManagerInfoMXBean {
      */
     String getMemberName();
 
+    /**
+     * {@return the number of local shards waiting to start recovery of their persisted state}
+     */
+    int getPendingShardRecoveries();
+
+    /**
+     * {@return the names of local shards currently recovering their persisted state}
+     */
+    List<String> getRecoveringShards();
+
+    /**
+     * {@return the number of local shards which have completed recovery of their persisted state}
+     */
+    int getCompletedShardRecoveries();
+
+    /**
+     * {@return the total size, in bytes, of persisted state recovered by local shards}
+     */
+    long getRecoveredShardStateBytes();
+
     /**
      * Switches the raft behavior of all the local shards to the newBehavior.
      *
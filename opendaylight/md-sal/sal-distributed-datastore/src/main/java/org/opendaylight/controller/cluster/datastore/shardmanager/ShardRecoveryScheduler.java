@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Stopwatch;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.controller.cluster.raft.spi.PropertiesTermInfoStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the start of local shards, so that only a limited number of them recovers persisted state at the same
+ * time. Shards which were leaders before the restart are started first, so that they can resume leadership quickly,
+ * followed by shards with the least amount of persisted state. A shard is considered to be recovering from the time
+ * its actor is started until it reports {@code ActorInitialized}, terminates or exceeds its recovery timeout.
+ *
+ * <p>The persisted state of a shard is inspected on a separate executor, as that involves file I/O. A shard becomes
+ * eligible to start as soon as its inspection is done, hence the priority applies to shards which are waiting for a
+ * recovery slot. Without a limit there is nothing to prioritize and {@link ShardManager} starts shards directly,
+ * without scheduling them. This class is not thread-safe and is expected to be used only from within
+ * {@link ShardManager}, with results of the inspection delivered back to it through the actor executor.
+ */
+@NonNullByDefault
+final class ShardRecoveryScheduler {
+    private record PendingShard(ShardInformation info, boolean wasLeader, long stateBytes, long sequence) {
+        static final Comparator<PendingShard> COMPARATOR = Comparator.comparing(PendingShard::wasLeader).reversed()
+            .thenComparingLong(PendingShard::stateBytes)
+            .thenComparingLong(PendingShard::sequence);
+
+        PendingShard {
+            requireNonNull(info);
+        }
+    }
+
+    private record RecoveringShard(ShardInformation info, long stateBytes, Stopwatch stopwatch) {
+        RecoveringShard {
+            requireNonNull(info);
+            requireNonNull(stopwatch);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardRecoveryScheduler.class);
+
+    private final PriorityQueue<PendingShard> pending = new PriorityQueue<>(PendingShard.COMPARATOR);
+    private final Map<String, RecoveringShard> recovering = new HashMap<>();
+    private final Set<ShardInformation> inspecting = new HashSet<>();
+    private final Consumer<ShardInformation> shardStarter;
+    private final Executor inspectExecutor;
+    private final Executor actorExecutor;
+    private final ShardManagerInfo mbean;
+    private final String logName;
+
+    private int maxConcurrent;
+    private long sequence;
+    private int completed;
+    private long recoveredBytes;
+
+    ShardRecoveryScheduler(final String logName, final ShardManagerInfo mbean, final Executor inspectExecutor,
+            final Executor actorExecutor, final Consumer<ShardInformation> shardStarter, final int maxConcurrent) {
+        this.logName = requireNonNull(logName);
+        this.mbean = requireNonNull(mbean);
+        this.inspectExecutor = requireNonNull(inspectExecutor);
+        this.actorExecutor = requireNonNull(actorExecutor);
+        this.shardStarter = requireNonNull(shardStarter);
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Check whether the number of concurrently recovering shards is limited. If it is not, shards should be started
+     * directly instead of being scheduled.
+     *
+     * @return {@code true} if the number of concurrently recovering shards is limited
+     */
+    boolean isThrottled() {
+        return maxConcurrent != 0;
+    }
+
+    /**
+     * Schedule a shard to be started. The shard is started as soon as its persisted state has been inspected, if the
+     * number of recovering shards allows it.
+     *
+     * @param info the shard
+     */
+    void schedule(final ShardInformation info) {
+        inspecting.add(info);
+        final var seq = sequence++;
+        inspectExecutor.execute(() -> {
+            final var shardDir = info.getShardStateDir();
+            final var shardId = info.getShardId().toString();
+            final var shard = new PendingShard(info, wasLeader(shardId, shardDir), stateBytes(shardDir), seq);
+            actorExecutor.execute(() -> onInspected(shard));
+        });
+        updateMBean();
+    }
+
+    private void onInspected(final PendingShard shard) {
+        if (!inspecting.remove(shard.info)) {
+            LOG.debug("{}: shard {} is no longer waiting to be inspected", logName, shard.info.getShardId());
+            return;
+        }
+
+        LOG.debug("{}: scheduling start of shard {}, previous leader: {}, persisted state: {} bytes", logName,
+            shard.info.getShardId(), shard.wasLeader, shard.stateBytes);
+        pending.add(shard);
+        startPending();
+    }
+
+    /**
+     * Check whether a shard is waiting to be started.
+     *
+     * @param info the shard
+     * @return {@code true} if the shard is waiting to be started
+     */
+    boolean isPending(final ShardInformation info) {
+        return inspecting.contains(info) || pending.stream().anyMatch(shard -> shard.info == info);
+    }
+
+    /**
+     * Record that a shard has completed recovery, possibly starting pending shards.
+     *
+     * @param shardName the name of the shard
+     */
+    void onRecoveryCompleted(final String shardName) {
+        final var shard = recovering.remove(shardName);
+        if (shard != null) {
+            completed++;
+            recoveredBytes += shard.stateBytes;
+            LOG.info("{}: shard {} recovered {} bytes of persisted state in {}", logName, shardName,
+                shard.stateBytes, shard.stopwatch.stop());
+            startPending();
+        }
+    }
+
+    /**
+     * Record that a shard has not completed recovery, but should no longer be counted as recovering, possibly starting
+     * pending shards. This is the case when its actor has terminated or when it has not completed recovery within its
+     * recovery timeout. Calls for a shard which is not recovering or which has been rescheduled since are ignored.
+     *
+     * @param info the shard
+     * @param reason the reason for giving up on the recovery
+     */
+    void onRecoveryAborted(final ShardInformation info, final String reason) {
+        final var shardName = info.getShardName();
+        final var shard = recovering.get(shardName);
+        if (shard != null && shard.info == info) {
+            recovering.remove(shardName);
+            LOG.warn("{}: no longer waiting for shard {} to recover after {}: {}", logName, shardName,
+                shard.stopwatch.stop(), reason);
+            startPending();
+        }
+    }
+
+    /**
+     * Forget about a shard, for example because it has been removed, possibly starting pending shards.
+     *
+     * @param shardName the name of the shard
+     */
+    void remove(final String shardName) {
+        final boolean wasInspecting = inspecting.removeIf(info -> shardName.equals(info.getShardName()));
+        if (pending.removeIf(shard -> shardName.equals(shard.info.getShardName()))
+            || recovering.remove(shardName) != null || wasInspecting) {
+            startPending();
+        }
+    }
+
+    /**
+     * Update the maximum number of concurrently recovering shards, possibly starting pending shards.
+     *
+     * @param newMaxConcurrent the new maximum, {@code 0} for no limit
+     */
+    void setMaxConcurrent(final int newMaxConcurrent) {
+        if (maxConcurrent != newMaxConcurrent) {
+            LOG.debug("{}: maximum concurrent shard recoveries changed from {} to {}", logName, maxConcurrent,
+                newMaxConcurrent);
+            maxConcurrent = newMaxConcurrent;
+            startPending();
+        }
+    }
+
+    private void startPending() {
+        while (maxConcurrent == 0 || recovering.size() < maxConcurrent) {
+            final var shard = pending.poll();
+            if (shard == null) {
+                break;
+            }
+            start(shard.info, shard.stateBytes);
+        }
+
+        if (maxConcurrent == 0 && !inspecting.isEmpty()) {
+            // The limit has been lifted, there is no point in waiting for the inspection to finish
+            final var infos = List.copyOf(inspecting);
+            inspecting.clear();
+            for (var info : infos) {
+                start(info, 0);
+            }
+        }
+
+        updateMBean();
+    }
+
+    private void start(final ShardInformation info, final long stateBytes) {
+        LOG.debug("{}: starting shard {}, {} shards recovering, {} waiting", logName, info.getShardId(),
+            recovering.size(), inspecting.size() + pending.size());
+        recovering.put(info.getShardName(), new RecoveringShard(info, stateBytes, Stopwatch.createStarted()));
+        shardStarter.accept(info);
+    }
+
+    private void updateMBean() {
+        mbean.setRecoveryStatus(inspecting.size() + pending.size(), List.copyOf(recovering.keySet()), completed,
+            recoveredBytes);
+    }
+
+    private boolean wasLeader(final String shardId, final Path shardDir) {
+        // A shard which has last voted for itself has been a candidate and most probably a leader
+        final var store = new PropertiesTermInfoStore(shardId, shardDir);
+        try {
+            final var termInfo = store.loadAndSetTerm();
+            return termInfo != null && shardId.equals(termInfo.votedFor());
+        } catch (IOException e) {
+            LOG.debug("{}: failed to read term information of shard {}", logName, shardId, e);
+            return false;
+        }
+    }
+
+    private long stateBytes(final Path shardDir) {
+        try (var paths = Files.walk(shardDir)) {
+            return paths.filter(Files::isRegularFile).mapToLong(ShardRecoveryScheduler::fileSize).sum();
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            LOG.debug("{}: failed to determine size of {}", logName, shardDir, e);
+            return 0;
+        }
+    }
+
+    private static long fileSize(final Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // The file may have disappeared while we were walking the directory
+            return 0;
+        }
+    }
+}
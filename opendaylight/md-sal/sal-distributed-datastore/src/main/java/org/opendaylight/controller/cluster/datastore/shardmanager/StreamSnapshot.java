@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
+
+/**
+ * Local ShardManager message to write a snapshot of the data store into a {@link DatastoreBackupDirectory.Writer}.
+ * Unlike {@link org.opendaylight.controller.cluster.raft.client.messages.GetSnapshot}, the snapshots of individual
+ * shards are not collected into a single
+ * {@link org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot}, but are handed to the writer as
+ * soon as they arrive. The reply to this message is a
+ * {@link org.apache.pekko.actor.Status.Success} once all shards have been handed over, or a
+ * {@link org.apache.pekko.actor.Status.Failure}. The writer is neither committed nor closed.
+ */
+public final class StreamSnapshot {
+    private final DatastoreBackupDirectory.Writer writer;
+
+    public StreamSnapshot(final DatastoreBackupDirectory.Writer writer) {
+        this.writer = requireNonNull(writer);
+    }
+
+    public DatastoreBackupDirectory.Writer getWriter() {
+        return writer;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("writer", writer).toString();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+/**
+ * A {@link ShardStrategy} which partitions the entries of a single keyed list across all shards configured for a
+ * module, based on a hash of the entry key. This allows a large list to be spread across multiple shard leaders, so
+ * that write throughput scales with the number of members. All data outside of the list is held in the first shard
+ * configured for the module, which also holds its share of list entries.
+ *
+ * <p>The list is identified by the local names of its ancestors and of itself, starting with the module's top-level
+ * container, e.g. {@code nodes/node}. All ancestors must be non-presence containers in the module's namespace, so that
+ * each shard can hold a subset of list entries without also holding the data of ancestors.
+ *
+ * <p>Paths pointing to a list entry or to its descendant are resolved to a single shard. Paths pointing to the list
+ * itself or to any of its ancestors are held by all of the module's shards, as reported by
+ * {@link #findShards(YangInstanceIdentifier)}, and data written to them has to be split with
+ * {@link #scatterAll(YangInstanceIdentifier, NormalizedNode)} or
+ * {@link #scatterTouched(YangInstanceIdentifier, NormalizedNode)}.
+ *
+ * <p>Note that the assignment of entries to shards depends on the number of configured shards, hence the set of shards
+ * cannot be changed once the list has been populated.
+ */
+public final class HashListShardStrategy implements ShardStrategy {
+    public static final String NAME = "hash-list";
+
+    private static final Splitter PATH_SPLITTER = Splitter.on('/').omitEmptyStrings().trimResults();
+
+    private final @NonNull ImmutableList<String> listPath;
+    private final @NonNull Configuration configuration;
+    private final @NonNull String moduleName;
+
+    public HashListShardStrategy(final String moduleName, final String listPath, final Configuration configuration) {
+        this.moduleName = requireNonNull(moduleName);
+        this.configuration = requireNonNull(configuration);
+        this.listPath = ImmutableList.copyOf(PATH_SPLITTER.split(listPath));
+        checkArgument(!this.listPath.isEmpty(), "Invalid partitioned list path '%s'", listPath);
+    }
+
+    @Override
+    public String findShard(final YangInstanceIdentifier path) {
+        final var shards = moduleShards();
+        if (shards.isEmpty()) {
+            return DefaultShardStrategy.DEFAULT_SHARD;
+        }
+        final var entry = findEntry(path);
+        return entry == null ? shards.get(0) : shards.get(partitionOf(entry, shards.size()));
+    }
+
+    @Override
+    public List<String> findShards(final YangInstanceIdentifier path) {
+        final var shards = moduleShards();
+        return shards.size() > 1 && isSpanning(path) ? shards : List.of(findShard(path));
+    }
+
+    @Override
+    public Map<String, NormalizedNode> scatterAll(final YangInstanceIdentifier path, final NormalizedNode data) {
+        final var shards = moduleShards();
+        return shards.size() > 1 && isSpanning(path) ? scatter(path.getPathArguments().size(), data, shards, true)
+            : Map.of(findShard(path), data);
+    }
+
+    @Override
+    public Map<String, NormalizedNode> scatterTouched(final YangInstanceIdentifier path, final NormalizedNode data) {
+        final var shards = moduleShards();
+        return shards.size() > 1 && isSpanning(path) ? scatter(path.getPathArguments().size(), data, shards, false)
+            : Map.of(findShard(path), data);
+    }
+
+    private @NonNull List<String> moduleShards() {
+        return configuration.getShardNamesForModule(moduleName);
+    }
+
+    /**
+     * Check whether a path points to the partitioned list or to one of its ancestors.
+     */
+    private boolean isSpanning(final YangInstanceIdentifier path) {
+        final var args = path.getPathArguments();
+        return !args.isEmpty() && args.size() <= listPath.size() && matchesListPath(args, args.size());
+    }
+
+    /**
+     * Find the list entry a path points into, if any.
+     */
+    private NodeIdentifierWithPredicates findEntry(final YangInstanceIdentifier path) {
+        final var args = path.getPathArguments();
+        final int depth = listPath.size();
+        return args.size() > depth && matchesListPath(args, depth)
+            && args.get(depth) instanceof NodeIdentifierWithPredicates entry ? entry : null;
+    }
+
+    private boolean matchesListPath(final List<PathArgument> args, final int depth) {
+        final var namespace = args.get(0).getNodeType().getNamespace();
+        for (int i = 0; i < depth; ++i) {
+            if (!(args.get(i) instanceof NodeIdentifier nid) || !matches(nid, namespace, listPath.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(final PathArgument arg, final XMLNamespace namespace, final String localName) {
+        final var qname = arg.getNodeType();
+        return localName.equals(qname.getLocalName()) && namespace.equals(qname.getNamespace());
+    }
+
+    /**
+     * Determine the partition of a list entry. The hash is computed from hash codes of key values, which are stable
+     * across JVMs for all types used to represent YANG values, except {@code binary}, which is handled explicitly.
+     */
+    static int partitionOf(final NodeIdentifierWithPredicates entry, final int partitions) {
+        int hash = 0;
+        for (var value : entry.values()) {
+            hash = 31 * hash + (value instanceof byte[] bytes ? Arrays.hashCode(bytes) : value.hashCode());
+        }
+        return Math.floorMod(Hashing.murmur3_32_fixed().hashInt(hash).asInt(), partitions);
+    }
+
+    private Map<String, NormalizedNode> scatter(final int depth, final NormalizedNode data, final List<String> shards,
+            final boolean all) {
+        if (depth == listPath.size()) {
+            checkArgument(data instanceof MapNode, "Unexpected list data %s", data);
+            return scatterList((MapNode) data, shards, all);
+        }
+
+        checkArgument(data instanceof ContainerNode, "Unexpected container data %s", data);
+        final var container = (ContainerNode) data;
+        final var namespace = container.name().getNodeType().getNamespace();
+        final var childName = listPath.get(depth);
+
+        // The first shard receives all children except the one leading to the list
+        final var first = ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name());
+        boolean firstTouched = false;
+        DataContainerChild child = null;
+        for (var candidate : container.body()) {
+            if (child == null && matches(candidate.name(), namespace, childName)) {
+                child = candidate;
+            } else {
+                first.withChild(candidate);
+                firstTouched = true;
+            }
+        }
+
+        final var childParts = child == null ? Map.<String, NormalizedNode>of()
+            : scatter(depth + 1, child, shards, all);
+        final var firstChild = childParts.get(shards.get(0));
+        if (firstChild != null) {
+            first.withChild((DataContainerChild) firstChild);
+            firstTouched = true;
+        }
+
+        final var ret = new LinkedHashMap<String, NormalizedNode>();
+        // The first shard also receives the container if nothing else would, so that it is propagated
+        if (all || firstTouched || childParts.isEmpty()) {
+            ret.put(shards.get(0), first.build());
+        }
+        for (var shard : shards.subList(1, shards.size())) {
+            final var part = childParts.get(shard);
+            if (part != null) {
+                ret.put(shard, ImmutableNodes.newContainerBuilder()
+                    .withNodeIdentifier(container.name())
+                    .withChild((DataContainerChild) part)
+                    .build());
+            } else if (all) {
+                ret.put(shard, ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name()).build());
+            }
+        }
+        return ret;
+    }
+
+    private static Map<String, NormalizedNode> scatterList(final MapNode list, final List<String> shards,
+            final boolean all) {
+        final var partitions = new ArrayList<List<MapEntryNode>>(shards.size());
+        for (int i = 0; i < shards.size(); ++i) {
+            partitions.add(new ArrayList<>());
+        }
+        for (var entry : list.body()) {
+            partitions.get(partitionOf(entry.name(), shards.size())).add(entry);
+        }
+
+        final var ret = new LinkedHashMap<String, NormalizedNode>();
+        for (int i = 0; i < shards.size(); ++i) {
+            final var entries = partitions.get(i);
+            // The first shard also receives an empty list, so that it is propagated
+            if (all || !entries.isEmpty() || i == 0 && list.isEmpty()) {
+                ret.put(shards.get(i), buildList(list, entries));
+            }
+        }
+        return ret;
+    }
+
+    private static MapNode buildList(final MapNode prototype, final List<MapEntryNode> entries) {
+        if (prototype instanceof UserMapNode) {
+            final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(prototype.name());
+            entries.forEach(builder::withChild);
+            return builder.build();
+        }
+        final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(prototype.name());
+        entries.forEach(builder::withChild);
+        return builder.build();
+    }
+}
@@ -7,7 +7,11 @@
  */
 package org.opendaylight.controller.cluster.datastore.shardstrategy;
 
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
  * The role of ShardStrategy is to figure out which shards a given piece of data belongs to.
@@ -22,4 +26,45 @@ public interface ShardStrategy {
      * @return the corresponding shard name.
      */
     String findShard(YangInstanceIdentifier path);
+
+    /**
+     * Find the names of all shards which hold data at or below the specified path. For most strategies this is only
+     * the shard returned by {@link #findShard(YangInstanceIdentifier)}, but strategies which partition a subtree
+     * across multiple shards report all of them for paths which are ancestors of that subtree. The first reported
+     * shard is the one returned by {@link #findShard(YangInstanceIdentifier)}.
+     *
+     * @param path the location of the data in the logical tree
+     * @return the corresponding shard names
+     */
+    default @NonNull List<String> findShards(final YangInstanceIdentifier path) {
+        return List.of(findShard(path));
+    }
+
+    /**
+     * Split data to be written to the specified path into its per-shard constituents. The returned map contains an
+     * entry for each shard reported by {@link #findShards(YangInstanceIdentifier)}, so that writing each constituent
+     * into its shard replaces all data previously stored at the path.
+     *
+     * @param path the location of the data in the logical tree
+     * @param data the data
+     * @return per-shard data, keyed by shard name
+     */
+    default @NonNull Map<String, NormalizedNode> scatterAll(final YangInstanceIdentifier path,
+            final NormalizedNode data) {
+        return Map.of(findShard(path), data);
+    }
+
+    /**
+     * Split data to be merged into the specified path into its per-shard constituents. Unlike
+     * {@link #scatterAll(YangInstanceIdentifier, NormalizedNode)}, the returned map contains only shards which are
+     * touched by the data.
+     *
+     * @param path the location of the data in the logical tree
+     * @param data the data
+     * @return per-shard data, keyed by shard name
+     */
+    default @NonNull Map<String, NormalizedNode> scatterTouched(final YangInstanceIdentifier path,
+            final NormalizedNode data) {
+        return Map.of(findShard(path), data);
+    }
 }
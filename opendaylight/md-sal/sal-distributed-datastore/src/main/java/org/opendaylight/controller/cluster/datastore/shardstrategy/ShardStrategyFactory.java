@@ -7,9 +7,11 @@
  */
 package org.opendaylight.controller.cluster.datastore.shardstrategy;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
@@ -35,9 +37,19 @@ public class ShardStrategyFactory {
 
     public static ShardStrategy newShardStrategyInstance(final String moduleName, final String strategyName,
             final Configuration configuration) {
+        return newShardStrategyInstance(moduleName, strategyName, null, configuration);
+    }
+
+    public static ShardStrategy newShardStrategyInstance(final String moduleName, final String strategyName,
+            final @Nullable String partitionedList, final Configuration configuration) {
         if (ModuleShardStrategy.NAME.equals(strategyName)) {
             return new ModuleShardStrategy(moduleName, configuration);
         }
+        if (HashListShardStrategy.NAME.equals(strategyName)) {
+            checkArgument(partitionedList != null, "Module %s does not specify partitioned-list for strategy %s",
+                moduleName, strategyName);
+            return new HashListShardStrategy(moduleName, partitionedList, configuration);
+        }
 
         return DefaultShardStrategy.getInstance();
     }
@@ -26,14 +26,15 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 
 /**
- * Utility methods for dealing with datastore root {@link ContainerNode} with respect to module shards.
+ * Utility methods for dealing with datastore root {@link ContainerNode} with respect to module shards, and with other
+ * paths whose data is spread across multiple shards.
  */
 public final class RootScatterGather {
     @NonNullByDefault
@@ -76,10 +77,23 @@ public final class RootScatterGather {
      */
     public static @NonNull FluentFuture<Optional<NormalizedNode>> gather(final ActorUtils actorUtils,
             final Stream<FluentFuture<Optional<NormalizedNode>>> readFutures) {
+        return gather(actorUtils, YangInstanceIdentifier.of(), readFutures);
+    }
+
+    /**
+     * Reconstruct data at a path from a set of constituents.
+     *
+     * @param actorUtils {@link ActorUtils} reference
+     * @param path Path of the data
+     * @param readFutures Consitutent read futures
+     * @return A composite future
+     */
+    public static @NonNull FluentFuture<Optional<NormalizedNode>> gather(final ActorUtils actorUtils,
+            final YangInstanceIdentifier path, final Stream<FluentFuture<Optional<NormalizedNode>>> readFutures) {
         return FluentFuture.from(Futures.transform(
             Futures.allAsList(readFutures.collect(ImmutableList.toImmutableList())), input -> {
                 try {
-                    return NormalizedNodeAggregator.aggregate(YangInstanceIdentifier.of(), input,
+                    return NormalizedNodeAggregator.aggregate(path, input,
                         actorUtils.getSchemaContext(), actorUtils.getDatastoreContext().getLogicalStoreType());
                 } catch (DataValidationFailedException e) {
                     throw new IllegalArgumentException("Failed to aggregate", e);
@@ -87,13 +101,34 @@ public final class RootScatterGather {
             }, MoreExecutors.directExecutor()));
     }
 
+    /**
+     * Reconstruct existence of data at a path from a set of constituents.
+     *
+     * @param existsFutures Constituent exists futures
+     * @return A composite future
+     */
+    public static @NonNull FluentFuture<Boolean> gatherExists(final Stream<FluentFuture<Boolean>> existsFutures) {
+        return FluentFuture.from(Futures.transform(
+            Futures.allAsList(existsFutures.collect(ImmutableList.toImmutableList())),
+            input -> input.contains(Boolean.TRUE), MoreExecutors.directExecutor()));
+    }
+
+    /**
+     * Split root container into per-shard root containers, covering all shards.
+     *
+     * @param <T> Shard reference type
+     * @param rootNode Root container to be split up
+     * @param childToShards Mapping function from a child to its per-shard constituents
+     * @param allShards All shard references
+     * @return Stream of {@link ShardContainer}s, one for each shard
+     */
     public static <T> @NonNull Stream<ShardContainer<T>> scatterAll(final ContainerNode rootNode,
-            final Function<PathArgument, T> childToShard, final Stream<T> allShards) {
+            final Function<DataContainerChild, Map<T, DataContainerChild>> childToShards, final Stream<T> allShards) {
         final var builders = allShards
             .collect(Collectors.toUnmodifiableMap(Function.identity(), unused -> ImmutableNodes.newContainerBuilder()));
         for (var child : rootNode.body()) {
-            final var shard = childToShard.apply(child.name());
-            verifyNotNull(builders.get(shard), "Failed to find builder for %s", shard).addChild(child);
+            childToShards.apply(child).forEach((shard, part) ->
+                verifyNotNull(builders.get(shard), "Failed to find builder for %s", shard).addChild(part));
         }
         return streamContainers(rootNode.name(), builders);
     }
@@ -103,15 +138,15 @@ public final class RootScatterGather {
      *
      * @param <T> Shard reference type
      * @param rootNode Root container to be split up
-     * @param childToShard Mapping function from child {@link PathArgument} to shard reference
+     * @param childToShards Mapping function from a child to its per-shard constituents
      * @return Stream of {@link ShardContainer}s, one for each touched shard
      */
     public static <T> @NonNull Stream<ShardContainer<T>> scatterTouched(final ContainerNode rootNode,
-            final Function<PathArgument, T> childToShard) {
+            final Function<DataContainerChild, Map<T, DataContainerChild>> childToShards) {
         final var builders = new HashMap<T, ContainerNode.Builder>();
         for (var child : rootNode.body()) {
-            builders.computeIfAbsent(childToShard.apply(child.name()), unused -> ImmutableNodes.newContainerBuilder())
-                .addChild(child);
+            childToShards.apply(child).forEach((shard, part) ->
+                builders.computeIfAbsent(shard, unused -> ImmutableNodes.newContainerBuilder()).addChild(part));
         }
         return streamContainers(rootNode.name(), builders);
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.databroker.actors.dds;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.opendaylight.controller.cluster.databroker.actors.dds.TestUtils.TRANSACTION_ID;
+import static org.opendaylight.controller.cluster.databroker.actors.dds.TestUtils.getWithTimeout;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFalseFluentFuture;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateTrueFluentFuture;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.controller.cluster.datastore.DatastoreContext;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.HashListShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
+import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.md.cluster.datastore.model.SchemaContextHelper;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Tests for {@link ClientTransaction} and {@link ClientSnapshot} operations on paths whose data is partitioned across
+ * multiple shards by {@link HashListShardStrategy}.
+ */
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class ScatterGatherClientHandleTest {
+    private static final List<String> SHARDS = List.of("cars-1", "cars-2", "cars-3");
+    private static final Map<String, Long> SHARD_COOKIES = Map.of("cars-1", 0L, "cars-2", 1L, "cars-3", 2L);
+
+    @Mock
+    private AbstractClientHistory history;
+    @Mock
+    private ActorUtils actorUtils;
+    @Mock
+    private ShardStrategyFactory strategyFactory;
+    @Mock
+    private DatastoreContext datastoreContext;
+
+    private HashListShardStrategy strategy;
+    private Map<String, AbstractProxyTransaction> proxies;
+
+    @Before
+    public void setUp() {
+        final var configuration = mock(Configuration.class);
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        strategy = new HashListShardStrategy("cars", "cars/car", configuration);
+
+        lenient().doReturn(actorUtils).when(history).actorUtils();
+        lenient().doReturn(strategyFactory).when(actorUtils).getShardStrategyFactory();
+        lenient().doReturn(strategy).when(strategyFactory).getStrategy(any());
+        lenient().doReturn(SchemaContextHelper.full()).when(actorUtils).getSchemaContext();
+        lenient().doReturn(datastoreContext).when(actorUtils).getDatastoreContext();
+        lenient().doReturn(LogicalDatastoreType.CONFIGURATION).when(datastoreContext).getLogicalStoreType();
+        lenient().doReturn(SHARD_COOKIES).when(history).resolveSpanningShards(CarsModel.BASE_PATH);
+        lenient().doReturn(SHARD_COOKIES).when(history).resolveSpanningShards(CarsModel.CAR_LIST_PATH);
+
+        proxies = Map.of(
+            "cars-1", mock(AbstractProxyTransaction.class),
+            "cars-2", mock(AbstractProxyTransaction.class),
+            "cars-3", mock(AbstractProxyTransaction.class));
+        proxies.forEach((shard, proxy) -> {
+            lenient().doReturn(proxy).when(history).createTransactionProxy(TRANSACTION_ID, SHARD_COOKIES.get(shard));
+            lenient().doReturn(proxy).when(history).createSnapshotProxy(TRANSACTION_ID, SHARD_COOKIES.get(shard));
+        });
+    }
+
+    @Test
+    public void testWrite() {
+        final var data = CarsModel.newCarsNode(CarsModel.newCarsMapNode(newEntries(10)));
+        newTransaction().write(CarsModel.BASE_PATH, data);
+
+        // Every shard receives its part, even if it does not hold any entries
+        final var parts = strategy.scatterAll(CarsModel.BASE_PATH, data);
+        assertEquals(SHARDS, List.copyOf(parts.keySet()));
+        parts.forEach((shard, part) -> verify(proxies.get(shard)).write(CarsModel.BASE_PATH, part));
+    }
+
+    @Test
+    public void testMerge() {
+        final var entry = CarsModel.newCarEntry("altima", Uint64.valueOf(1000));
+        final var owner = strategy.findShard(CarsModel.newCarPath("altima"));
+        newTransaction().merge(CarsModel.CAR_LIST_PATH, CarsModel.newCarsMapNode(entry));
+
+        // Only the shard owning the entry is touched
+        proxies.forEach((shard, proxy) -> {
+            if (shard.equals(owner)) {
+                verify(proxy).merge(CarsModel.CAR_LIST_PATH, CarsModel.newCarsMapNode(entry));
+            } else {
+                verify(proxy, never()).merge(any(), any());
+            }
+        });
+    }
+
+    @Test
+    public void testDelete() {
+        newTransaction().delete(CarsModel.CAR_LIST_PATH);
+        proxies.values().forEach(proxy -> verify(proxy).delete(CarsModel.CAR_LIST_PATH));
+    }
+
+    @Test
+    public void testTransactionRead() throws Exception {
+        final var transaction = newTransaction();
+        assertEquals(expectRead(), getWithTimeout(transaction.read(CarsModel.BASE_PATH)));
+    }
+
+    @Test
+    public void testTransactionExists() throws Exception {
+        final var transaction = newTransaction();
+        expectExists(false);
+        assertEquals(Boolean.FALSE, getWithTimeout(transaction.exists(CarsModel.CAR_LIST_PATH)));
+        expectExists(true);
+        assertEquals(Boolean.TRUE, getWithTimeout(transaction.exists(CarsModel.CAR_LIST_PATH)));
+    }
+
+    @Test
+    public void testSnapshotRead() throws Exception {
+        final var snapshot = new ClientSnapshot(history, TRANSACTION_ID);
+        assertEquals(expectRead(), getWithTimeout(snapshot.read(CarsModel.BASE_PATH)));
+    }
+
+    @Test
+    public void testSnapshotExists() throws Exception {
+        final var snapshot = new ClientSnapshot(history, TRANSACTION_ID);
+        expectExists(true);
+        assertEquals(Boolean.TRUE, getWithTimeout(snapshot.exists(CarsModel.CAR_LIST_PATH)));
+    }
+
+    private ClientTransaction newTransaction() {
+        return new ClientTransaction(history, TRANSACTION_ID);
+    }
+
+    /**
+     * Make each shard report its part of a cars container and return the expected aggregate.
+     */
+    private Optional<NormalizedNode> expectRead() {
+        final var data = CarsModel.newCarsNode(CarsModel.newCarsMapNode(newEntries(10)));
+        strategy.scatterAll(CarsModel.BASE_PATH, data).forEach((shard, part) ->
+            doReturn(immediateFluentFuture(Optional.of(part))).when(proxies.get(shard)).read(CarsModel.BASE_PATH));
+        return Optional.of(data);
+    }
+
+    /**
+     * Make the last shard report whether the list exists, all other shards report it does not.
+     */
+    private void expectExists(final boolean exists) {
+        proxies.forEach((shard, proxy) -> doReturn(exists && shard.equals(SHARDS.getLast())
+            ? immediateTrueFluentFuture() : immediateFalseFluentFuture()).when(proxy).exists(CarsModel.CAR_LIST_PATH));
+    }
+
+    private static MapEntryNode[] newEntries(final int count) {
+        final var ret = new MapEntryNode[count];
+        for (int i = 0; i < count; ++i) {
+            ret[i] = CarsModel.newCarEntry("car" + i, Uint64.valueOf(i));
+        }
+        return ret;
+    }
+}
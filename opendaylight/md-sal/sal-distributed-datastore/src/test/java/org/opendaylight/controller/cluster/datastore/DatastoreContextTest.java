@@ -14,7 +14,9 @@ import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEF
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_INITIAL_SETTLE_TIMEOUT_MULTIPLIER;
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_ISOLATED_LEADER_CHECK_INTERVAL_IN_MILLIS;
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_JOURNAL_RECOVERY_BATCH_SIZE;
+import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_MAX_CONCURRENT_SHARD_RECOVERIES;
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_MAX_MESSAGE_SLICE_SIZE;
+import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_MAX_TRANSACTIONS_PER_PAYLOAD;
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_OPERATION_TIMEOUT_IN_MS;
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_PERSISTENT;
 import static org.opendaylight.controller.cluster.datastore.DatastoreContext.DEFAULT_RECOVERY_EXPORT_BASE_DIR;
@@ -68,7 +70,10 @@ public class DatastoreContextTest {
         assertEquals(DatastoreContext.DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT,
                 context.getShardBatchedModificationCount());
         assertEquals(DEFAULT_MAX_MESSAGE_SLICE_SIZE, context.getMaximumMessageSliceSize());
+        assertEquals(1, context.getMessageSliceWindow());
         assertEquals(DEFAULT_RECOVERY_EXPORT_BASE_DIR, context.getRecoveryExportBaseDir());
+        assertEquals(DEFAULT_MAX_TRANSACTIONS_PER_PAYLOAD, context.getMaxTransactionsPerPayload());
+        assertEquals(DEFAULT_MAX_CONCURRENT_SHARD_RECOVERIES, context.getMaxConcurrentShardRecoveries());
     }
 
     @Test
@@ -94,7 +99,10 @@ public class DatastoreContextTest {
         builder.shardElectionTimeoutFactor(DEFAULT_SHARD_ELECTION_TIMEOUT_FACTOR + 1);
         builder.shardBatchedModificationCount(DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT + 1);
         builder.maximumMessageSliceSize(DEFAULT_MAX_MESSAGE_SLICE_SIZE + 1);
+        builder.messageSliceWindow(4);
         builder.initialPayloadSerializedBufferCapacity(DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY + 1);
+        builder.maxTransactionsPerPayload(DEFAULT_MAX_TRANSACTIONS_PER_PAYLOAD + 1);
+        builder.maxConcurrentShardRecoveries(DEFAULT_MAX_CONCURRENT_SHARD_RECOVERIES + 1);
         builder.exportOnRecovery(ExportOnRecovery.Json);
         builder.recoveryExportBaseDir(DEFAULT_RECOVERY_EXPORT_BASE_DIR + "-new");
 
@@ -145,8 +153,12 @@ public class DatastoreContextTest {
         assertEquals(DatastoreContext.DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT + 1,
                 context.getShardBatchedModificationCount());
         assertEquals(DEFAULT_MAX_MESSAGE_SLICE_SIZE + 1, context.getMaximumMessageSliceSize());
+        assertEquals(4, context.getMessageSliceWindow());
+        assertEquals(4, context.getShardRaftConfig().getMessageSliceWindow());
         assertEquals(DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY + 1,
                 context.getInitialPayloadSerializedBufferCapacity());
+        assertEquals(DEFAULT_MAX_TRANSACTIONS_PER_PAYLOAD + 1, context.getMaxTransactionsPerPayload());
+        assertEquals(DEFAULT_MAX_CONCURRENT_SHARD_RECOVERIES + 1, context.getMaxConcurrentShardRecoveries());
         assertEquals(DEFAULT_RECOVERY_EXPORT_BASE_DIR + "-new",
                 context.getRecoveryExportBaseDir());
         assertEquals(ExportOnRecovery.Json, context.getExportOnRecovery());
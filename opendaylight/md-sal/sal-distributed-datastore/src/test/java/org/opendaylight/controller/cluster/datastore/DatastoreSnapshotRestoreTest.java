@@ -11,10 +11,17 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +29,7 @@ import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreBackupDirectory;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshotList;
 import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
@@ -50,15 +58,14 @@ class DatastoreSnapshotRestoreTest {
     private Path restoreDirectory;
 
     private Path backupFile;
+    private DatastoreSnapshot configSnapshot;
+    private DatastoreSnapshot operSnapshot;
 
     @BeforeEach
     void beforeEach() throws Exception {
         backupFile = restoreDirectory.resolve("backup");
-    }
 
-    @Test
-    void test() throws Exception {
-        final DatastoreSnapshot configSnapshot = new DatastoreSnapshot("config",
+        configSnapshot = new DatastoreSnapshot("config",
                 newShardManagerSnapshot("config-one", "config-two"),
                 Arrays.asList(new DatastoreSnapshot.ShardSnapshot("config-one", newSnapshot(CarsModel.BASE_PATH,
                         CarsModel.newCarsNode(CarsModel.newCarsMapNode(CarsModel.newCarEntry("optima",
@@ -66,16 +73,158 @@ class DatastoreSnapshotRestoreTest {
                         new DatastoreSnapshot.ShardSnapshot("config-two", newSnapshot(PeopleModel.BASE_PATH,
                             PeopleModel.emptyContainer()))));
 
-        DatastoreSnapshot operSnapshot = new DatastoreSnapshot("oper",
+        operSnapshot = new DatastoreSnapshot("oper",
                 null, Arrays.asList(new DatastoreSnapshot.ShardSnapshot("oper-one", newSnapshot(TestModel.TEST_PATH,
                         TestModel.EMPTY_TEST))));
+    }
 
+    @Test
+    void test() throws Exception {
         DatastoreSnapshotList snapshotList = new DatastoreSnapshotList(Arrays.asList(configSnapshot, operSnapshot));
 
         try (var fos = Files.newOutputStream(backupFile)) {
             SerializationUtils.serialize(snapshotList, fos);
         }
 
+        assertRestored();
+    }
+
+    @Test
+    void testBackupDirectory() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+
+        assertRestored();
+    }
+
+    @Test
+    void testBackupDirectoryFailedWrite() throws Exception {
+        final var failing = new DatastoreSnapshot("oper", null, List.of(new DatastoreSnapshot.ShardSnapshot("oper-one",
+            Snapshot.create(new UnserializableState(), List.of(), 2, 1, 2, 1, new TermInfo(1, "member-1"), null))));
+
+        assertThrows(NotSerializableException.class,
+            () -> DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, failing)));
+
+        // No partial backup is left behind
+        try (var files = Files.list(restoreDirectory)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+
+    @Test
+    void testBackupDirectoryMissingType() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+        Files.delete(backupFile.resolve("oper").resolve("shard-0"));
+        Files.delete(backupFile.resolve("oper"));
+
+        final var ex = assertThrows(IOException.class, () -> DatastoreBackupDirectory.read(backupFile));
+        assertEquals("Missing directory " + backupFile.resolve("oper"), ex.getMessage());
+    }
+
+    @Test
+    void testBackupDirectoryMissingShard() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+        final var configDir = backupFile.resolve("config");
+        Files.move(configDir.resolve("shard-1"), configDir.resolve("shard-2"));
+
+        final var ex = assertThrows(IOException.class, () -> DatastoreBackupDirectory.read(backupFile));
+        assertEquals("Expected 2 shard files in " + configDir + ", found [0, 2]", ex.getMessage());
+
+        Files.delete(configDir.resolve("shard-2"));
+        assertThrows(IOException.class, () -> DatastoreBackupDirectory.read(backupFile));
+    }
+
+    @Test
+    void testBackupDirectoryWrittenPerShard() throws Exception {
+        try (var writer = DatastoreBackupDirectory.newWriter(backupFile)) {
+            writer.startDatastore("config", configSnapshot.getShardManagerSnapshot());
+            writer.startDatastore("oper", null);
+            writer.writeShard("config", configSnapshot.getShardSnapshots().get(0));
+            writer.writeShard("oper", operSnapshot.getShardSnapshots().get(0));
+            writer.writeShard("config", configSnapshot.getShardSnapshots().get(1));
+
+            // Nothing is visible until committed
+            assertFalse(Files.exists(backupFile));
+            writer.commit();
+
+            final var ex = assertThrows(IOException.class, () -> writer.writeShard("oper",
+                operSnapshot.getShardSnapshots().get(0)));
+            assertEquals("Backup " + backupFile.toAbsolutePath() + " has already been finished", ex.getMessage());
+        }
+
+        assertEquals(List.of("# Datastore backup", "datastore config", "shard-manager config",
+            "shard config config-one", "shard config config-two", "datastore oper", "shard oper oper-one"),
+            Files.readAllLines(backupFile.resolve("manifest")));
+        assertRestored();
+    }
+
+    @Test
+    void testBackupDirectoryDiscarded() throws Exception {
+        try (var writer = DatastoreBackupDirectory.newWriter(backupFile)) {
+            writer.startDatastore("config", null);
+            writer.writeShard("config", configSnapshot.getShardSnapshots().get(0));
+
+            final var ex = assertThrows(IOException.class, () -> writer.writeShard("oper",
+                operSnapshot.getShardSnapshots().get(0)));
+            assertEquals("Datastore oper has not been started", ex.getMessage());
+        }
+
+        // An uncommitted backup is not left behind
+        try (var files = Files.list(restoreDirectory)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+
+    @Test
+    void testBackupDirectoryUnknownEntry() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+        final var manifest = backupFile.resolve("manifest");
+        Files.writeString(manifest, "types config,oper\n", StandardOpenOption.APPEND);
+
+        final var ex = assertThrows(IOException.class, () -> DatastoreBackupDirectory.read(backupFile));
+        assertEquals("Unknown entry \"types\" at line 8 of " + manifest, ex.getMessage());
+    }
+
+    @Test
+    void testBackupDirectoryUnknownDatastore() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+        final var manifest = backupFile.resolve("manifest");
+        Files.writeString(manifest, "shard other other-one\n", StandardOpenOption.APPEND);
+
+        final var ex = assertThrows(IOException.class, () -> DatastoreBackupDirectory.read(backupFile));
+        assertEquals("Unknown datastore other in " + manifest, ex.getMessage());
+    }
+
+    @Test
+    void testBackupDirectoryLoadedPerShard() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+        final var snapshots = DatastoreBackupDirectory.read(backupFile);
+        assertEquals(2, snapshots.size());
+
+        // Shard snapshots are loaded only when asked for
+        Files.delete(backupFile.resolve("config").resolve("shard-1"));
+        final var configShards = snapshots.get(0).getShardSnapshots();
+        assertEquals("config-two", configShards.get(1).getName());
+        assertSnapshotEquals("config-one", configSnapshot.getShardSnapshots().get(0).getSnapshot(),
+            configShards.get(0).getSnapshot());
+        assertThrows(UncheckedIOException.class, () -> configShards.get(1).getSnapshot());
+    }
+
+    @Test
+    void testRestoredBackupDirectoryDeleted() throws Exception {
+        DatastoreBackupDirectory.write(backupFile, List.of(configSnapshot, operSnapshot));
+        assertRestored();
+
+        // The directory is retained until the next activation, but it is not restored again
+        final var restored = restoreDirectory.resolve(".restored-backup");
+        assertTrue(Files.isDirectory(restored));
+
+        final var instance = new DefaultDatastoreSnapshotRestore(restoreDirectory.toString());
+        instance.activate();
+        assertEquals(Optional.empty(), instance.getAndRemove("config"));
+        assertFalse(Files.exists(restored));
+    }
+
+    private void assertRestored() {
         DefaultDatastoreSnapshotRestore instance = new DefaultDatastoreSnapshotRestore(restoreDirectory.toString());
         instance.activate();
 
@@ -124,6 +273,16 @@ class DatastoreSnapshotRestoreTest {
         return assertInstanceOf(ShardSnapshotState.class, snapshot.state()).getSnapshot().getRootNode();
     }
 
+    private static final class UnserializableState implements Snapshot.State {
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        @java.io.Serial
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            throw new NotSerializableException();
+        }
+    }
+
     private static ShardManagerSnapshot newShardManagerSnapshot(final String... shards) {
         return new ShardManagerSnapshot(Arrays.asList(shards));
     }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.controller.cluster.datastore.messages.DataTreeChanged;
+import org.opendaylight.controller.cluster.datastore.messages.EnableNotification;
+import org.opendaylight.controller.cluster.datastore.messages.OnInitialData;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+public class RootDataTreeChangeListenerActorTest extends AbstractActorTest {
+    private static final MapEntryNode ALTIMA = CarsModel.newCarEntry("altima", Uint64.valueOf(1000));
+    private static final MapEntryNode ACCORD = CarsModel.newCarEntry("accord", Uint64.valueOf(2000));
+
+    private DOMDataTreeChangeListener listener;
+    private TestKit shard1;
+    private TestKit shard2;
+    private ActorRef subject;
+
+    @Before
+    public void before() {
+        listener = mock(DOMDataTreeChangeListener.class);
+        shard1 = new TestKit(getSystem());
+        shard2 = new TestKit(getSystem());
+        subject = getSystem().actorOf(RootDataTreeChangeListenerActor.props(listener, CarsModel.BASE_PATH, 2));
+        subject.tell(new EnableNotification(true, "test"), ActorRef.noSender());
+    }
+
+    @Test
+    public void testMergeInitialData() {
+        final var laterChange = DataTreeCandidates.fromNormalizedNode(CarsModel.newCarPath("altima"),
+            CarsModel.newCarEntry("altima", Uint64.valueOf(1500)));
+
+        subject.tell(initialChange(CarsModel.newCarsNode(CarsModel.newCarsMapNode(ALTIMA))), shard1.getRef());
+        // Held back until initial data from all shards is known
+        subject.tell(new DataTreeChanged(List.of(laterChange)), shard1.getRef());
+        subject.tell(initialChange(CarsModel.newCarsNode(CarsModel.newCarsMapNode(ACCORD))), shard2.getRef());
+
+        final var captor = captureChanges(2);
+        final var initial = captor.getAllValues().get(0);
+        assertEquals(1, initial.size());
+        assertWritten(CarsModel.newCarsNode(CarsModel.newCarsMapNode(ALTIMA, ACCORD)), initial.get(0));
+        assertEquals(List.of(laterChange), captor.getAllValues().get(1));
+    }
+
+    @Test
+    public void testMergeInitialDataWithEmptyShard() {
+        subject.tell(OnInitialData.INSTANCE, shard1.getRef());
+        subject.tell(initialChange(CarsModel.newCarsNode(CarsModel.newCarsMapNode(ACCORD))), shard2.getRef());
+
+        final var initial = captureChanges(1).getValue();
+        assertEquals(1, initial.size());
+        assertWritten(CarsModel.newCarsNode(CarsModel.newCarsMapNode(ACCORD)), initial.get(0));
+        verify(listener, never()).onInitialData();
+    }
+
+    @Test
+    public void testInitialDataWithAllShardsEmpty() {
+        subject.tell(OnInitialData.INSTANCE, shard1.getRef());
+        subject.tell(OnInitialData.INSTANCE, shard2.getRef());
+
+        verify(listener, timeout(5000)).onInitialData();
+    }
+
+    private static DataTreeChanged initialChange(final NormalizedNode data) {
+        return new DataTreeChanged(List.of(DataTreeCandidates.fromNormalizedNode(CarsModel.BASE_PATH, data)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<DataTreeCandidate>> captureChanges(final int count) {
+        final ArgumentCaptor<List<DataTreeCandidate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener, timeout(5000).times(count)).onDataTreeChanged(captor.capture());
+        return captor;
+    }
+
+    private static void assertWritten(final NormalizedNode expected, final DataTreeCandidate candidate) {
+        assertEquals(CarsModel.BASE_PATH, candidate.getRootPath());
+        assertEquals(ModificationType.WRITE, candidate.getRootNode().modificationType());
+        assertEquals(expected, candidate.getRootNode().dataAfter());
+    }
+}
@@ -9,8 +9,10 @@ package org.opendaylight.controller.cluster.datastore;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.Test;
@@ -54,6 +57,8 @@ import org.opendaylight.controller.cluster.access.concepts.FrontendType;
 import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionPayload;
+import org.opendaylight.controller.cluster.datastore.persisted.CommitTransactionsPayload;
+import org.opendaylight.controller.cluster.datastore.persisted.DeltaShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.PayloadVersion;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
@@ -231,6 +236,33 @@ public class ShardDataTreeTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testDeltaSnapshot() throws Exception {
+        immediatePayloadReplication(shardDataTree, mockShard);
+
+        // No tracking before the delta base is established
+        assertNull(shardDataTree.takeDeltaStateSnapshot());
+
+        addCar("optima");
+        addCar("sportage");
+        shardDataTree.resetDeltaBase();
+        final var full = shardDataTree.takeStateSnapshot();
+
+        doTransaction(parent, snapshot -> {
+            snapshot.write(CarsModel.newCarPath("murano"), CarsModel.newCarEntry("murano", Uint64.valueOf(100)));
+            snapshot.delete(CarsModel.newCarPath("optima"));
+        });
+
+        final var delta = assertInstanceOf(DeltaShardDataTreeSnapshot.class, shardDataTree.takeDeltaStateSnapshot());
+        assertEquals(Set.of(CarsModel.newCarPath("optima")), delta.getDeletes());
+        assertEquals(Set.of(CarsModel.newCarPath("murano")), delta.getWrites().keySet());
+
+        final var newDataTree = new ShardDataTree(mockShard, fullSchema, TreeType.OPERATIONAL);
+        newDataTree.applySnapshot(full);
+        newDataTree.applySnapshot(delta);
+        assertEquals(getCars(), newDataTree.takeSnapshot().readNode(CarsModel.BASE_PATH).orElseThrow());
+    }
+
     @Test
     public void testPipelinedTransactionsWithCoordinatedCommits() throws Exception {
         final CommitCohort cohort1 = newShardDataTreeCohort(snapshot ->
@@ -359,6 +391,63 @@ public class ShardDataTreeTest extends AbstractTest {
         assertEquals("Car node", Optional.of(carNode), shardDataTree.takeSnapshot().readNode(carPath));
     }
 
+    @Test
+    public void testPipelinedTransactionsPackedIntoPayload() throws Exception {
+        doReturn(DatastoreContext.newBuilder().maxTransactionsPerPayload(2).build()).when(mockShard)
+            .getDatastoreContext();
+
+        final CommitCohort cohort1 = newShardDataTreeCohort(snapshot ->
+            snapshot.write(CarsModel.BASE_PATH, CarsModel.emptyContainer()));
+
+        final CommitCohort cohort2 = newShardDataTreeCohort(snapshot ->
+            snapshot.write(CarsModel.CAR_LIST_PATH, CarsModel.newCarMapNode()));
+
+        YangInstanceIdentifier carPath = CarsModel.newCarPath("optima");
+        MapEntryNode carNode = CarsModel.newCarEntry("optima", Uint64.valueOf(100));
+        final CommitCohort cohort3 = newShardDataTreeCohort(snapshot -> snapshot.write(carPath, carNode));
+
+        final FutureCallback<UnsignedLong> commitCallback2 = immediate3PhaseCommit(cohort2);
+        final FutureCallback<UnsignedLong> commitCallback3 = immediate3PhaseCommit(cohort3);
+        final FutureCallback<UnsignedLong> commitCallback1 = immediate3PhaseCommit(cohort1);
+
+        // The first two transactions share a payload, the third one does not fit and is batched for replication
+        final var packedCaptor = ArgumentCaptor.forClass(CommitTransactionsPayload.class);
+        final var singleCaptor = ArgumentCaptor.forClass(CommitTransactionPayload.class);
+        InOrder inOrder = inOrder(mockShard);
+        inOrder.verify(mockShard).submitCommand(eq(cohort1.transactionId()), packedCaptor.capture(), eq(true));
+        inOrder.verify(mockShard).submitCommand(eq(cohort3.transactionId()), singleCaptor.capture(), eq(false));
+        verify(mockShard, never()).submitCommand(eq(cohort2.transactionId()), any(), anyBoolean());
+
+        final var packed = packedCaptor.getValue();
+        assertEquals(cohort1.transactionId(), packed.getIdentifier());
+        assertEquals(List.of(cohort1.transactionId(), cohort2.transactionId()),
+            packed.transactions().stream().map(CommitTransactionPayload::getIdentifier).toList());
+
+        shardDataTree.applyReplicatedPayload(cohort1.transactionId(), packed);
+        shardDataTree.applyReplicatedPayload(cohort3.transactionId(), singleCaptor.getValue());
+
+        inOrder = inOrder(commitCallback1, commitCallback2, commitCallback3);
+        inOrder.verify(commitCallback1).onSuccess(any(UnsignedLong.class));
+        inOrder.verify(commitCallback2).onSuccess(any(UnsignedLong.class));
+        inOrder.verify(commitCallback3).onSuccess(any(UnsignedLong.class));
+
+        assertEquals("Car node", Optional.of(carNode), shardDataTree.takeSnapshot().readNode(carPath));
+    }
+
+    @Test
+    public void testApplyPackedPayloadFromLeader() throws Exception {
+        final var carNode = CarsModel.newCarEntry("optima", Uint64.valueOf(100));
+        final var payload = CommitTransactionsPayload.create(List.of(
+            CommitTransactionPayload.create(nextTransactionId(), DataTreeCandidates.fromNormalizedNode(
+                CarsModel.BASE_PATH, CarsModel.create())),
+            CommitTransactionPayload.create(nextTransactionId(), DataTreeCandidates.fromNormalizedNode(
+                CarsModel.newCarPath("optima"), carNode))));
+
+        shardDataTree.applyReplicatedPayload(null, payload);
+
+        assertEquals(Optional.of(carNode), shardDataTree.takeSnapshot().readNode(CarsModel.newCarPath("optima")));
+    }
+
     @Test
     public void testPipelinedTransactionsWithImmediateReplication() {
         immediatePayloadReplication(shardDataTree, mockShard);
@@ -475,6 +564,69 @@ public class ShardDataTreeTest extends AbstractTest {
             shardDataTree.takeSnapshot().readNode(PeopleModel.BASE_PATH));
     }
 
+    @Test
+    public void testPipelinedCanCommit() {
+        immediatePayloadReplication(shardDataTree, mockShard);
+
+        final CommitCohort cohort1 = newShardDataTreeCohort(snapshot ->
+            snapshot.write(CarsModel.BASE_PATH, CarsModel.emptyContainer()));
+
+        final CommitCohort cohort2 = newShardDataTreeCohort(snapshot ->
+            snapshot.write(CarsModel.CAR_LIST_PATH, CarsModel.newCarMapNode()));
+
+        YangInstanceIdentifier carPath = CarsModel.newCarPath("optima");
+        MapEntryNode carNode = CarsModel.newCarEntry("optima", Uint64.valueOf(100));
+        final CommitCohort cohort3 = newShardDataTreeCohort(snapshot -> snapshot.write(carPath, carNode));
+
+        // cohort2 and cohort3 are validated on top of the transactions ahead of them, which are still waiting for
+        // their preCommit
+        immediateCanCommit(cohort1);
+        immediateCanCommit(cohort2);
+        immediateCanCommit(cohort3);
+
+        immediatePreCommit(cohort1);
+        immediatePreCommit(cohort2);
+        immediatePreCommit(cohort3);
+        immediateCommit(cohort1);
+        immediateCommit(cohort2);
+        immediateCommit(cohort3);
+
+        assertEquals("Car node", Optional.of(carNode), shardDataTree.takeSnapshot().readNode(carPath));
+    }
+
+    @Test
+    public void testPipelinedCanCommitDeferredOnConflict() {
+        immediatePayloadReplication(shardDataTree, mockShard);
+
+        immediate3PhaseCommit(newShardDataTreeCohort(snapshot ->
+            snapshot.write(CarsModel.BASE_PATH, CarsModel.emptyContainer())));
+
+        final CommitCohort cohort1 = newShardDataTreeCohort(snapshot -> snapshot.delete(CarsModel.BASE_PATH));
+
+        final CommitCohort cohort2 = newShardDataTreeCohort(snapshot ->
+            snapshot.write(CarsModel.CAR_LIST_PATH, CarsModel.newCarMapNode()));
+
+        immediateCanCommit(cohort1);
+
+        // cohort2 does not validate on top of cohort1 and has to wait for it
+        final FutureCallback<Empty> canCommitCallback2 = coordinatedCanCommit(cohort2);
+        verifyNoMoreInteractions(canCommitCallback2);
+
+        // once cohort1 is aborted, cohort2 is validated against the data tree
+        @SuppressWarnings("unchecked")
+        FutureCallback<Empty> mockAbortCallback = mock(FutureCallback.class);
+        doNothing().when(mockAbortCallback).onSuccess(Empty.value());
+        cohort1.abort(mockAbortCallback);
+        verify(mockAbortCallback).onSuccess(Empty.value());
+        verify(canCommitCallback2).onSuccess(Empty.value());
+
+        immediatePreCommit(cohort2);
+        immediateCommit(cohort2);
+
+        assertTrue("Car list present",
+            shardDataTree.takeSnapshot().readNode(CarsModel.CAR_LIST_PATH).isPresent());
+    }
+
     @Test
     public void testUintCommitPayload() throws IOException {
         shardDataTree.applyRecoveryCommand(CommitTransactionPayload.create(nextTransactionId(),
@@ -404,10 +404,11 @@ public class ShardTest extends AbstractShardTest {
         assertEquals(tx1, pre1.getTarget());
         final var can2 = connection.assertResponse(TransactionCanCommitSuccess.class);
         assertEquals(tx2, can2.getTarget());
-        final var pre2 = connection.assertResponse(TransactionPreCommitSuccess.class);
-        assertEquals(tx2, pre2.getTarget());
+        // tx3 is validated on top of tx2 while tx2 waits for its preCommit
         final var can3 = connection.assertResponse(TransactionCanCommitSuccess.class);
         assertEquals(tx3, can3.getTarget());
+        final var pre2 = connection.assertResponse(TransactionPreCommitSuccess.class);
+        assertEquals(tx2, pre2.getTarget());
         final var pre3 = connection.assertResponse(TransactionPreCommitSuccess.class);
         assertEquals(tx3, pre3.getTarget());
         final var commit1 = connection.assertResponse(TransactionCommitSuccess.class);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TransactionBatchLimiterTest {
+    private final TransactionBatchLimiter limiter = new TransactionBatchLimiter();
+
+    @Test
+    public void testInitialLimit() {
+        assertEquals(100, limiter.limit(0));
+        assertEquals(100, limiter.limit(100));
+    }
+
+    @Test
+    public void testCheapSteps() {
+        for (int i = 0; i < 100; ++i) {
+            limiter.recordRun(100_000, 100);
+        }
+        // 1us per step would fit 1000 steps into a slice
+        assertEquals(TransactionBatchLimiter.MAX_BATCH, limiter.limit(0));
+    }
+
+    @Test
+    public void testExpensiveSteps() {
+        for (int i = 0; i < 100; ++i) {
+            limiter.recordRun(TransactionBatchLimiter.SLICE_NANOS, 1);
+        }
+        assertEquals(TransactionBatchLimiter.MIN_BATCH, limiter.limit(0));
+        assertEquals(TransactionBatchLimiter.MIN_BATCH, limiter.limit(10_000));
+    }
+
+    @Test
+    public void testDeepQueue() {
+        for (int i = 0; i < 100; ++i) {
+            limiter.recordRun(TransactionBatchLimiter.SLICE_NANOS, 40);
+        }
+        final long stepNanos = limiter.stepNanos();
+        assertTrue(stepNanos > 24_900 && stepNanos <= 25_000);
+
+        final int perSlice = limiter.limit(0);
+        assertEquals(TransactionBatchLimiter.SLICE_NANOS / stepNanos, perSlice);
+        assertEquals(perSlice, limiter.limit(perSlice));
+        assertEquals(2 * perSlice, limiter.limit(perSlice + 1));
+        assertEquals(TransactionBatchLimiter.MAX_SLICE_MULTIPLIER * perSlice, limiter.limit(10_000));
+    }
+
+    @Test
+    public void testIgnoredRuns() {
+        limiter.recordRun(1_000_000, 0);
+        limiter.recordRun(-1, 1);
+        assertEquals(TransactionBatchLimiter.SLICE_NANOS / 100, limiter.stepNanos());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.List;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
+import org.opendaylight.controller.cluster.datastore.AbstractTest;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+public class CommitTransactionsPayloadTest extends AbstractTest {
+    private DataTreeCandidate candidate1;
+    private DataTreeCandidate candidate2;
+    private TransactionIdentifier txId1;
+    private TransactionIdentifier txId2;
+    private CommitTransactionsPayload payload;
+
+    @Before
+    public void setUp() throws IOException {
+        setUpStatic();
+        candidate1 = DataTreeCandidates.fromNormalizedNode(TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "foo"))
+            .build());
+        candidate2 = DataTreeCandidates.fromNormalizedNode(TestModel.TEST_PATH.node(TestModel.DESC_QNAME),
+            ImmutableNodes.leafNode(TestModel.DESC_QNAME, "bar"));
+        txId1 = nextTransactionId();
+        txId2 = nextTransactionId();
+        payload = CommitTransactionsPayload.create(List.of(
+            CommitTransactionPayload.create(txId1, candidate1),
+            CommitTransactionPayload.create(txId2, candidate2)));
+    }
+
+    @Test
+    public void testPayloadSize() {
+        assertEquals("payload size", 12 + payload.transactions().get(0).size() + payload.transactions().get(1).size(),
+            payload.size());
+        assertEquals("serialized size", 408, SerializationUtils.serialize(payload).length);
+    }
+
+    @Test
+    public void testPayloadSerDes() throws IOException {
+        final var clone = SerializationUtils.clone(payload);
+        assertEquals(txId1, clone.getIdentifier());
+
+        final var transactions = clone.transactions();
+        assertEquals(2, transactions.size());
+
+        final var first = transactions.get(0).getCandidate();
+        assertEquals(txId1, first.transactionId());
+        assertEquals(candidate1.getRootPath(), first.candidate().getRootPath());
+        assertEquals(candidate1.getRootNode().dataAfter(), first.candidate().getRootNode().dataAfter());
+
+        final var second = transactions.get(1).getCandidate();
+        assertEquals(txId2, second.transactionId());
+        assertEquals(candidate2.getRootPath(), second.candidate().getRootPath());
+        assertEquals(candidate2.getRootNode().dataAfter(), second.candidate().getRootNode().dataAfter());
+    }
+
+    @Test
+    public void testSingleTransaction() throws IOException {
+        final var single = List.of(CommitTransactionPayload.create(txId1, candidate1));
+        assertThrows(IllegalArgumentException.class, () -> CommitTransactionsPayload.create(single));
+    }
+
+    @Test
+    public void testReadSingleTransaction() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(bytes)) {
+            oos.writeInt(1);
+        }
+
+        try (var ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final var ex = assertThrows(StreamCorruptedException.class, () -> new CB().readExternal(ois));
+            assertEquals("Invalid transaction count 1", ex.getMessage());
+        }
+    }
+}
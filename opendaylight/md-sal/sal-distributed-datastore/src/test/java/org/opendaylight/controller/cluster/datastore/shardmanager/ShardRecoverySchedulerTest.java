@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.apache.pekko.actor.ActorRef;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.datastore.identifiers.ShardIdentifier;
+import org.opendaylight.controller.cluster.raft.spi.PropertiesTermInfoStore;
+import org.opendaylight.raft.api.TermInfo;
+
+public class ShardRecoverySchedulerTest {
+    private static final MemberName MEMBER_1 = MemberName.forName("member-1");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<String> started = new ArrayList<>();
+    private ShardManagerInfo mbean;
+    private Path stateDir;
+
+    @Before
+    public void setUp() {
+        stateDir = temporaryFolder.getRoot().toPath();
+        mbean = new ShardManagerInfo(mock(ActorRef.class), MEMBER_1, "shard-manager-test",
+            "DistributedConfigDatastore");
+    }
+
+    @Test
+    public void testRecoveryOrderAndLimit() throws Exception {
+        final var small = newShardInfo("small", 100, false);
+        final var large = newShardInfo("large", 10_000, false);
+        final var leader = newShardInfo("leader", 1_000_000, true);
+
+        final var scheduler = newScheduler(Runnable::run);
+        scheduler.schedule(large);
+        scheduler.schedule(small);
+        scheduler.schedule(leader);
+        assertEquals(List.of("large"), started);
+        assertTrue(scheduler.isPending(small));
+        assertFalse(scheduler.isPending(large));
+        assertEquals(2, mbean.getPendingShardRecoveries());
+        assertEquals(List.of("large"), mbean.getRecoveringShards());
+
+        // Previous leader goes first, followed by the shard with less state
+        scheduler.onRecoveryCompleted("large");
+        assertEquals(List.of("large", "leader"), started);
+        scheduler.onRecoveryCompleted("leader");
+        assertEquals(List.of("large", "leader", "small"), started);
+        scheduler.onRecoveryCompleted("small");
+
+        assertEquals(0, mbean.getPendingShardRecoveries());
+        assertEquals(List.of(), mbean.getRecoveringShards());
+        assertEquals(3, mbean.getCompletedShardRecoveries());
+        assertTrue(mbean.getRecoveredShardStateBytes() >= 1_010_100);
+
+        // Unknown shards are ignored
+        scheduler.onRecoveryCompleted("unknown");
+        assertEquals(3, mbean.getCompletedShardRecoveries());
+    }
+
+    @Test
+    public void testUnlimitedAndLimitChange() throws Exception {
+        final var scheduler = newScheduler(Runnable::run);
+        scheduler.schedule(newShardInfo("one", 0, false));
+        scheduler.schedule(newShardInfo("two", 0, false));
+        scheduler.schedule(newShardInfo("three", 0, false));
+        assertEquals(List.of("one"), started);
+
+        scheduler.setMaxConcurrent(0);
+        assertEquals(List.of("one", "two", "three"), started);
+        assertEquals(3, mbean.getRecoveringShards().size());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        final var scheduler = newScheduler(Runnable::run);
+        scheduler.schedule(newShardInfo("one", 0, false));
+        scheduler.schedule(newShardInfo("two", 0, false));
+        scheduler.schedule(newShardInfo("three", 0, false));
+
+        scheduler.remove("two");
+        scheduler.remove("one");
+        assertEquals(List.of("one", "three"), started);
+        assertEquals(0, mbean.getPendingShardRecoveries());
+    }
+
+    @Test
+    public void testRecoveryAborted() throws Exception {
+        final var scheduler = newScheduler(Runnable::run);
+        final var one = newShardInfo("one", 0, false);
+        scheduler.schedule(one);
+        scheduler.schedule(newShardInfo("two", 0, false));
+        assertEquals(List.of("one"), started);
+
+        // A shard which has been removed and added again is a different shard
+        scheduler.onRecoveryAborted(newShardInfo("one", 0, false), "terminated");
+        assertEquals(List.of("one"), started);
+
+        // Failed or hung shard does not hold up the others
+        scheduler.onRecoveryAborted(one, "timed out");
+        assertEquals(List.of("one", "two"), started);
+        assertEquals(List.of("two"), mbean.getRecoveringShards());
+        assertEquals(0, mbean.getCompletedShardRecoveries());
+
+        // Late completion of an aborted recovery is ignored
+        scheduler.onRecoveryCompleted("one");
+        assertEquals(0, mbean.getCompletedShardRecoveries());
+        scheduler.onRecoveryCompleted("two");
+        assertEquals(1, mbean.getCompletedShardRecoveries());
+    }
+
+    @Test
+    public void testInspectionOffActorThread() throws Exception {
+        final var tasks = new ArrayDeque<Runnable>();
+        final var scheduler = newScheduler(tasks::add);
+        final var small = newShardInfo("small", 100, false);
+        final var leader = newShardInfo("leader", 1_000_000, true);
+        final var removed = newShardInfo("removed", 0, false);
+        final var other = newShardInfo("other", 10, false);
+        scheduler.schedule(small);
+        scheduler.schedule(leader);
+        scheduler.schedule(removed);
+        scheduler.schedule(other);
+
+        // Nothing is started before persisted state has been inspected
+        assertEquals(List.of(), started);
+        assertTrue(scheduler.isPending(small));
+        assertEquals(4, mbean.getPendingShardRecoveries());
+
+        // ... but a shard does not wait for inspection of the others
+        tasks.remove().run();
+        assertEquals(List.of("small"), started);
+        assertFalse(scheduler.isPending(small));
+        scheduler.remove("removed");
+        assertFalse(scheduler.isPending(removed));
+        tasks.remove().run();
+
+        // Result of inspecting a removed shard is ignored
+        tasks.remove().run();
+        tasks.remove().run();
+        assertEquals(List.of("small"), started);
+        assertEquals(2, mbean.getPendingShardRecoveries());
+
+        // Previous leader goes first among the shards waiting for a slot
+        scheduler.onRecoveryCompleted("small");
+        assertEquals(List.of("small", "leader"), started);
+        scheduler.onRecoveryCompleted("leader");
+        assertEquals(List.of("small", "leader", "other"), started);
+    }
+
+    @Test
+    public void testLimitLiftedDuringInspection() throws Exception {
+        final var tasks = new ArrayDeque<Runnable>();
+        final var scheduler = newScheduler(tasks::add);
+        assertTrue(scheduler.isThrottled());
+        scheduler.schedule(newShardInfo("one", 0, false));
+        scheduler.schedule(newShardInfo("two", 0, false));
+        assertEquals(List.of(), started);
+
+        // Shards being inspected are started right away
+        scheduler.setMaxConcurrent(0);
+        assertFalse(scheduler.isThrottled());
+        assertEquals(2, started.size());
+        assertEquals(0, mbean.getPendingShardRecoveries());
+
+        // ... and the results of their inspection are ignored
+        tasks.remove().run();
+        tasks.remove().run();
+        assertEquals(2, started.size());
+        assertEquals(2, mbean.getRecoveringShards().size());
+    }
+
+    private ShardRecoveryScheduler newScheduler(final Executor inspectExecutor) {
+        return new ShardRecoveryScheduler("test", mbean, inspectExecutor, Runnable::run,
+            info -> started.add(info.getShardName()), 1);
+    }
+
+    private ShardInformation newShardInfo(final String shardName, final int stateBytes, final boolean wasLeader)
+            throws Exception {
+        final var shardId = ShardIdentifier.create(shardName, MEMBER_1, "config");
+        final var info = new ShardInformation(stateDir, shardName, shardId, Map.of(), null, null, null);
+
+        final var shardDir = info.getShardStateDir();
+        Files.createDirectories(shardDir);
+        if (stateBytes > 0) {
+            Files.write(shardDir.resolve("state"), new byte[stateBytes]);
+        }
+        if (wasLeader) {
+            new PropertiesTermInfoStore(shardId.toString(), shardDir).storeAndSetTerm(
+                new TermInfo(1, shardId.toString()));
+        }
+        return info;
+    }
+}
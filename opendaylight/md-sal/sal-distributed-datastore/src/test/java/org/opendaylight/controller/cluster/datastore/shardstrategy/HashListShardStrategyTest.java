@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class HashListShardStrategyTest {
+    private static final List<String> SHARDS = List.of("cars-1", "cars-2", "cars-3");
+
+    private HashListShardStrategy strategy;
+
+    @Before
+    public void setUp() {
+        final var configuration = mock(Configuration.class);
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        strategy = new HashListShardStrategy("cars", "cars/car", configuration);
+    }
+
+    @Test
+    public void testInvalidListPath() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new HashListShardStrategy("cars", "/", mock(Configuration.class)));
+    }
+
+    @Test
+    public void testFindShardForEntry() {
+        final var seen = new HashSet<String>();
+        for (int i = 0; i < 100; ++i) {
+            final var path = CarsModel.newCarPath("car" + i);
+            final var shard = strategy.findShard(path);
+            assertTrue(SHARDS.contains(shard));
+            assertEquals(List.of(shard), strategy.findShards(path));
+            // Descendants of an entry are co-located with it
+            assertEquals(shard, strategy.findShard(path.node(CarsModel.CAR_PRICE_QNAME)));
+            seen.add(shard);
+        }
+        assertEquals(Set.copyOf(SHARDS), seen);
+    }
+
+    @Test
+    public void testFindShardsForAncestors() {
+        assertEquals("cars-1", strategy.findShard(CarsModel.BASE_PATH));
+        assertEquals(SHARDS, strategy.findShards(CarsModel.BASE_PATH));
+        assertEquals(SHARDS, strategy.findShards(CarsModel.CAR_LIST_PATH));
+    }
+
+    @Test
+    public void testFindShardWithoutShards() {
+        final var unconfigured = new HashListShardStrategy("cars", "cars/car", mock(Configuration.class));
+        assertEquals(DefaultShardStrategy.DEFAULT_SHARD, unconfigured.findShard(CarsModel.newCarPath("altima")));
+        assertEquals(List.of(DefaultShardStrategy.DEFAULT_SHARD), unconfigured.findShards(CarsModel.BASE_PATH));
+    }
+
+    @Test
+    public void testScatterAll() {
+        final var entries = newEntries(20);
+        final var parts = strategy.scatterAll(CarsModel.BASE_PATH,
+            CarsModel.newCarsNode(CarsModel.newCarsMapNode(entries)));
+        assertEquals(SHARDS, List.copyOf(parts.keySet()));
+
+        int total = 0;
+        for (var part : parts.entrySet()) {
+            for (var entry : carList(part.getValue()).body()) {
+                assertEquals(part.getKey(), strategy.findShard(CarsModel.newCarPath(carName(entry))));
+                total++;
+            }
+        }
+        assertEquals(entries.length, total);
+    }
+
+    @Test
+    public void testScatterAllEmpty() {
+        final var parts = strategy.scatterAll(CarsModel.BASE_PATH, CarsModel.emptyContainer());
+        assertEquals(SHARDS, List.copyOf(parts.keySet()));
+        parts.values().forEach(part -> assertEquals(CarsModel.emptyContainer(), part));
+    }
+
+    @Test
+    public void testScatterTouched() {
+        final var entry = CarsModel.newCarEntry("altima", Uint64.valueOf(1000));
+        final var shard = strategy.findShard(CarsModel.newCarPath("altima"));
+
+        // Only the shard owning the entry is touched
+        assertEquals(Map.of(shard, CarsModel.newCarsMapNode(entry)),
+            strategy.scatterTouched(CarsModel.CAR_LIST_PATH, CarsModel.newCarsMapNode(entry)));
+
+        // An empty list is written to the first shard only
+        assertEquals(Map.of("cars-1", CarsModel.newCarsMapNode()),
+            strategy.scatterTouched(CarsModel.CAR_LIST_PATH, CarsModel.newCarsMapNode()));
+    }
+
+    @Test
+    public void testScatterEntry() {
+        final var path = CarsModel.newCarPath("altima");
+        final var entry = CarsModel.newCarEntry("altima", Uint64.valueOf(1000));
+        assertEquals(Map.of(strategy.findShard(path), entry), strategy.scatterAll(path, entry));
+    }
+
+    private static MapEntryNode[] newEntries(final int count) {
+        final var ret = new MapEntryNode[count];
+        for (int i = 0; i < count; ++i) {
+            ret[i] = CarsModel.newCarEntry("car" + i, Uint64.valueOf(i));
+        }
+        return ret;
+    }
+
+    private static MapNode carList(final NormalizedNode cars) {
+        return (MapNode) ((ContainerNode) cars).getChildByArg(CarsModel.CAR_LIST_PATH.getLastPathArgument());
+    }
+
+    private static String carName(final MapEntryNode entry) {
+        return (String) entry.name().getValue(CarsModel.CAR_NAME_QNAME);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.raft.journal;
+
+import com.google.common.base.MoreObjects;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.raft.journal.Segment.Position;
+
+/**
+ * A {@link SegmentIndex} maintaining target density, just like {@link SparseSegmentIndex}. Indexed positions are kept
+ * in a pair of sorted primitive arrays, so that there is no boxing nor per-entry allocation. This works because
+ * entries are always indexed in ascending order and only ever removed from the tail.
+ */
+final class ArraySegmentIndex implements SegmentIndex {
+    private static final int MIN_DENSITY = 1000;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int density;
+
+    // Indexed entries, valid in range [0, size)
+    private long[] indices = new long[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Last known position. May not be accurate immediately after a truncate() or construction
+    private @Nullable Position last;
+
+    ArraySegmentIndex() {
+        density = MIN_DENSITY;
+    }
+
+    ArraySegmentIndex(final double density) {
+        this.density = (int) Math.ceil(MIN_DENSITY / (density * MIN_DENSITY));
+    }
+
+    @Override
+    public Position index(final long index, final int position) {
+        final var newLast = new Position(index, position);
+        last = newLast;
+        if (index % density == 0) {
+            append(index, position);
+        }
+        return newLast;
+    }
+
+    private void append(final long index, final int position) {
+        if (size != 0) {
+            // Re-indexing after truncate() starts at the nearest retained entry, hence we need to allow it to be
+            // overwritten
+            final long lastIndex = indices[size - 1];
+            if (lastIndex == index) {
+                positions[size - 1] = position;
+                return;
+            }
+            if (lastIndex > index) {
+                throw new IllegalArgumentException("Index " + index + " does not follow " + lastIndex);
+            }
+        }
+        if (size == indices.length) {
+            final int newCapacity = size << 1;
+            indices = Arrays.copyOf(indices, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+        }
+        indices[size] = index;
+        positions[size] = position;
+        size++;
+    }
+
+    @Override
+    public Position last() {
+        return last;
+    }
+
+    @Override
+    public Position lookup(final long index) {
+        final int found = Arrays.binarySearch(indices, 0, size, index);
+        if (found >= 0) {
+            return new Position(index, positions[found]);
+        }
+
+        // floor entry is the one just before the insertion point
+        final int floor = -found - 2;
+        return floor < 0 ? null : positionAt(floor);
+    }
+
+    @Override
+    public Position truncate(final long index) {
+        // Clear all indexes unto and including index. This is just a matter of adjusting size, as the arrays' contents
+        // past it are never looked at.
+        final int found = Arrays.binarySearch(indices, 0, size, index);
+        size = found >= 0 ? found : -found - 1;
+
+        // Update last position to the last entry, but make sure to return a pointer to index if that is what we have
+        // indexed.
+        final var newLast = size == 0 ? null : positionAt(size - 1);
+        last = newLast;
+        return found >= 0 ? new Position(index, positions[found]) : newLast;
+    }
+
+    @Override
+    public void forEach(final Consumer<Position> consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(positionAt(i));
+        }
+    }
+
+    private Position positionAt(final int offset) {
+        return new Position(indices[offset], positions[offset]);
+    }
+
+    @Override
+    public String toString() {
+        final var helper = MoreObjects.toStringHelper(this).add("size", size);
+        if (size != 0) {
+            helper.add("first", positionAt(0)).add("last", positionAt(size - 1));
+        }
+        return helper.toString();
+    }
+}
@@ -108,11 +108,37 @@ final class Segment {
 
     Segment(final SegmentFile file, final StorageLevel storageLevel, final int maxEntrySize, final double indexDensity)
             throws IOException {
+        this(file, storageLevel, maxEntrySize, indexDensity, false);
+    }
+
+    /**
+     * Open a segment, optionally attempting to restore its index from its {@link SegmentIndexFile}.
+     *
+     * @param file the {@link SegmentFile}
+     * @param storageLevel the {@link StorageLevel}
+     * @param maxEntrySize maximum size of an entry
+     * @param indexDensity index density
+     * @param sealed {@code true} if this segment is known to be sealed and its {@link SegmentIndexFile} can be used
+     * @throws IOException if an I/O error occurs
+     */
+    Segment(final SegmentFile file, final StorageLevel storageLevel, final int maxEntrySize, final double indexDensity,
+            final boolean sealed) throws IOException {
         this.file = requireNonNull(file);
         this.storageLevel = requireNonNull(storageLevel);
         this.maxEntrySize = maxEntrySize;
 
-        segmentIndex = new SparseSegmentIndex(indexDensity);
+        if (sealed) {
+            final var index = new ArraySegmentIndex(indexDensity);
+            final var endPosition = SegmentIndexFile.read(file.indexPath(), file.descriptor(), index);
+            if (endPosition != -1) {
+                LOG.debug("Restored index of {} from {}", file.path(), file.indexPath());
+                segmentIndex = index;
+                state = new Inactive(endPosition);
+                return;
+            }
+        }
+
+        segmentIndex = new ArraySegmentIndex(indexDensity);
 
         try (var tmpAccess = file.newAccess(storageLevel, maxEntrySize)) {
             final var fileReader = tmpAccess.newFileReader();
@@ -200,9 +226,39 @@ final class Segment {
      */
     SegmentWriter acquireWriter() {
         checkOpen();
+        // We are about to be written to, hence any persisted index may become stale
+        deleteIndexFile();
         return acquire().writer();
     }
 
+    /**
+     * Persist this segment's index into its {@link SegmentIndexFile}. This should be called only once the segment has
+     * been flushed and will not be written to anymore. Failure to do so is not fatal, as the index can always be
+     * recovered from the segment itself.
+     */
+    void persistIndex() {
+        final var currentPosition = switch (state) {
+            case Active active -> active.writer().currentPosition();
+            case Inactive inactive -> inactive.currentPosition();
+        };
+
+        final var indexPath = file.indexPath();
+        try {
+            SegmentIndexFile.write(indexPath, file.descriptor(), segmentIndex, currentPosition);
+        } catch (IOException e) {
+            LOG.warn("Failed to persist index of {} to {}", file.path(), indexPath, e);
+            deleteIndexFile();
+        }
+    }
+
+    private void deleteIndexFile() {
+        try {
+            Files.deleteIfExists(file.indexPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Releases the reference to the segment writer.
      */
@@ -284,6 +340,7 @@ final class Segment {
     void delete() {
         close();
         LOG.debug("Deleting segment: {}", this);
+        deleteIndexFile();
         try {
             Files.deleteIfExists(file.path());
         } catch (IOException e) {
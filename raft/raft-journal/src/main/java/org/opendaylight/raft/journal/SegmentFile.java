@@ -35,6 +35,7 @@ final class SegmentFile {
     private static final char PART_SEPARATOR = '-';
     private static final char EXTENSION_SEPARATOR = '.';
     private static final String EXTENSION = "log";
+    private static final String INDEX_EXTENSION = "idx";
 
     private final @NonNull SegmentDescriptor descriptor;
     private final @NonNull ByteBufAllocator allocator;
@@ -85,6 +86,25 @@ final class SegmentFile {
         return path;
     }
 
+    /**
+     * Returns the path of the {@link SegmentIndexFile} corresponding to this file.
+     *
+     * @return the index file path
+     */
+    @NonNull Path indexPath() {
+        final var fileName = path.getFileName().toString();
+        return path.resolveSibling(fileName.substring(0, fileName.length() - EXTENSION.length()) + INDEX_EXTENSION);
+    }
+
+    /**
+     * Returns the {@link SegmentDescriptor} of this file.
+     *
+     * @return the {@link SegmentDescriptor}
+     */
+    @NonNull SegmentDescriptor descriptor() {
+        return descriptor;
+    }
+
     /**
      * Returns the {@link ByteBufAllocator} for this file.
      *
@@ -16,6 +16,7 @@
  */
 package org.opendaylight.raft.journal;
 
+import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.raft.journal.Segment.Position;
@@ -55,4 +56,11 @@ interface SegmentIndex {
      * @return the position of the given index or a lesser index, or {@code null}
      */
     @Nullable Position truncate(long index);
+
+    /**
+     * Invokes specified consumer on each indexed position, in ascending order of indices.
+     *
+     * @param consumer the consumer to invoke
+     */
+    void forEach(@NonNull Consumer<@NonNull Position> consumer);
 }
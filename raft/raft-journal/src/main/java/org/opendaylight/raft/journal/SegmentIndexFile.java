@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.raft.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.raft.journal.Segment.Position;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sidecar file holding a persisted {@link SegmentIndex} of a sealed {@link SegmentFile}, so that reopening a journal
+ * does not need to scan its entries. The file layout is:
+ * <ul>
+ *   <li>{@code magic} (32-bit signed integer) - {@value #MAGIC}</li>
+ *   <li>{@code version} (32-bit signed integer) - {@value #VERSION}</li>
+ *   <li>{@code descriptor} ({@value SegmentDescriptor#BYTES} bytes) - copy of the segment's {@link SegmentDescriptor}
+ *   </li>
+ *   <li>{@code endPosition} (32-bit signed integer) - the position just past the last entry in the segment</li>
+ *   <li>{@code lastIndex} (64-bit signed integer) - the index of the last entry in the segment</li>
+ *   <li>{@code lastPosition} (32-bit signed integer) - the position of the last entry, or {@code -1} if empty</li>
+ *   <li>{@code count} (32-bit signed integer) - the number of indexed positions</li>
+ *   <li>{@code count} pairs of 64-bit index and 32-bit position</li>
+ *   <li>{@code checksum} (32-bit signed integer) - CRC32 of all preceding bytes</li>
+ * </ul>
+ * A sidecar which does not match its segment in any way is ignored and the segment is scanned instead.
+ */
+@NonNullByDefault
+final class SegmentIndexFile {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+    private static final int MAGIC = 0x524A4958;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + SegmentDescriptor.BYTES + Integer.BYTES
+        + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private SegmentIndexFile() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Persist a {@link SegmentIndex} to a file.
+     *
+     * @param path the file path
+     * @param descriptor the {@link SegmentDescriptor} of indexed segment
+     * @param index the {@link SegmentIndex}
+     * @param endPosition the position just past the last entry in the segment
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(final Path path, final SegmentDescriptor descriptor, final SegmentIndex index,
+            final int endPosition) throws IOException {
+        final var positions = new ArrayList<Position>();
+        index.forEach(positions::add);
+
+        final var buffer = ByteBuffer.allocate(HEADER_BYTES + positions.size() * ENTRY_BYTES + Integer.BYTES)
+            .putInt(MAGIC)
+            .putInt(VERSION)
+            .put(descriptor.toArray())
+            .putInt(endPosition);
+        final var last = index.last();
+        if (last != null) {
+            buffer.putLong(last.index()).putInt(last.position());
+        } else {
+            buffer.putLong(descriptor.index() - 1).putInt(-1);
+        }
+        buffer.putInt(positions.size());
+        for (var position : positions) {
+            buffer.putLong(position.index()).putInt(position.position());
+        }
+        buffer.putInt(SegmentEntry.computeChecksum(buffer.duplicate().flip()));
+        buffer.flip();
+
+        // Write to a temporary file and then atomically replace
+        final var tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Attempt to populate a {@link SegmentIndex} from a file.
+     *
+     * @param path the file path
+     * @param descriptor the {@link SegmentDescriptor} of indexed segment
+     * @param index the {@link SegmentIndex} to populate
+     * @return the position just past the last entry in the segment, or {@code -1} if the file does not exist or is not
+     *         valid
+     * @throws IOException if an I/O error occurs
+     */
+    static int read(final Path path, final SegmentDescriptor descriptor, final SegmentIndex index) throws IOException {
+        final ByteBuffer buffer;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (size < HEADER_BYTES + Integer.BYTES || size > Integer.MAX_VALUE) {
+                LOG.warn("Ignoring index file {} of invalid size {}", path, size);
+                return -1;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (NoSuchFileException e) {
+            LOG.trace("Index file {} does not exist", path, e);
+            return -1;
+        }
+
+        final var checksumOffset = buffer.limit() - Integer.BYTES;
+        if (SegmentEntry.computeChecksum(buffer.slice(0, checksumOffset)) != buffer.getInt(checksumOffset)) {
+            LOG.warn("Ignoring index file {} with invalid checksum", path);
+            return -1;
+        }
+
+        final var magic = buffer.getInt();
+        final var version = buffer.getInt();
+        if (magic != MAGIC || version != VERSION) {
+            LOG.warn("Ignoring index file {} with unrecognized magic {} version {}", path, magic, version);
+            return -1;
+        }
+        final var descriptorBytes = new byte[SegmentDescriptor.BYTES];
+        buffer.get(descriptorBytes);
+        if (!Arrays.equals(descriptorBytes, descriptor.toArray())) {
+            LOG.warn("Ignoring index file {} not matching {}", path, descriptor);
+            return -1;
+        }
+
+        final var endPosition = buffer.getInt();
+        final var lastIndex = buffer.getLong();
+        final var lastPosition = buffer.getInt();
+        final var count = buffer.getInt();
+        if (count < 0 || (long) count * ENTRY_BYTES != checksumOffset - HEADER_BYTES) {
+            LOG.warn("Ignoring index file {} with invalid entry count {}", path, count);
+            return -1;
+        }
+
+        for (int i = 0; i < count; i++) {
+            index.index(buffer.getLong(), buffer.getInt());
+        }
+        if (lastPosition >= 0) {
+            index.index(lastIndex, lastPosition);
+        }
+        return endPosition;
+    }
+}
@@ -106,6 +106,7 @@ final class SegmentedEntryWriter implements EntryWriter {
     @Override
     public void checkpoint() throws IOException {
         currentWriter.flush();
+        currentSegment.persistIndex();
         currentSegment.releaseWriter();
         currentSegment = journal.createNextSegment();
         currentWriter = currentSegment.acquireWriter();
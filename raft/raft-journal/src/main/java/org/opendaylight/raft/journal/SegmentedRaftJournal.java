@@ -305,7 +305,7 @@ public final class SegmentedRaftJournal implements RaftJournal {
         // Ensure log directories are created.
         Files.createDirectories(directory);
 
-        final var segmentsMap = new TreeMap<Long, Segment>();
+        final var segmentFiles = new TreeMap<Long, SegmentFile>();
 
         // Iterate through all files in the log directory.
         for (var file : directory.toFile().listFiles(File::isFile)) {
@@ -317,26 +317,37 @@ public final class SegmentedRaftJournal implements RaftJournal {
                 try {
                     segmentFile = SegmentFile.openExisting(filePath, allocator);
                 } catch (IOException e) {
-                    segmentsMap.values().forEach(Segment::close);
+                    closeFiles(segmentFiles.values());
                     throw e;
                 }
 
                 // Load the segment.
                 LOG.debug("Loaded disk segment: {} ({})", segmentFile.segmentId(), segmentFile.path());
-
-                // Add the segment to the segments list.
-                final Segment segment;
-                try {
-                    segment = new Segment(segmentFile, storageLevel, maxEntrySize, indexDensity);
-                } catch (IOException e) {
-                    segmentFile.close();
-                    segmentsMap.values().forEach(Segment::close);
-                    throw e;
+                final var prev = segmentFiles.put(segmentFile.firstIndex(), segmentFile);
+                if (prev != null) {
+                    prev.close();
                 }
-                segmentsMap.put(segment.firstIndex(), segment);
             }
         }
 
+        // Add the segments to the segments list. All but the last segment are sealed and therefore we can try to use
+        // their persisted indices instead of scanning them.
+        final var segmentsMap = new TreeMap<Long, Segment>();
+        final var lastFirstIndex = segmentFiles.isEmpty() ? null : segmentFiles.lastKey();
+        for (var entry : segmentFiles.entrySet()) {
+            final var segmentFile = entry.getValue();
+            final Segment segment;
+            try {
+                segment = new Segment(segmentFile, storageLevel, maxEntrySize, indexDensity,
+                    !entry.getKey().equals(lastFirstIndex));
+            } catch (IOException e) {
+                closeFiles(segmentFiles.tailMap(entry.getKey()).values());
+                segmentsMap.values().forEach(Segment::close);
+                throw e;
+            }
+            segmentsMap.put(segment.firstIndex(), segment);
+        }
+
         // Verify that all the segments in the log align with one another.
         Segment previousSegment = null;
         boolean corrupted = false;
@@ -357,6 +368,12 @@ public final class SegmentedRaftJournal implements RaftJournal {
         return new ConcurrentSkipListMap<>(segmentsMap);
     }
 
+    private static void closeFiles(final Collection<SegmentFile> files) throws IOException {
+        for (var file : files) {
+            file.close();
+        }
+    }
+
     /**
      * Resets journal readers to the given head.
      *
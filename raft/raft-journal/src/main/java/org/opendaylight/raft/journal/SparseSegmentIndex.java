@@ -18,6 +18,7 @@ package org.opendaylight.raft.journal;
 
 import com.google.common.base.MoreObjects;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.raft.journal.Segment.Position;
 
@@ -75,6 +76,11 @@ final class SparseSegmentIndex implements SegmentIndex {
         return firstRemoved != null && firstRemoved.getKey() == index ? new Position(firstRemoved) : newLast;
     }
 
+    @Override
+    public void forEach(final Consumer<Position> consumer) {
+        positions.forEach((index, position) -> consumer.accept(new Position(index, position)));
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("positions", positions).toString();
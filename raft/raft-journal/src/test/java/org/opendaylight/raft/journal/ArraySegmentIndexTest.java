@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.raft.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.raft.journal.Segment.Position;
+
+class ArraySegmentIndexTest extends AbstractSegmentIndexTest {
+    @Override
+    SegmentIndex newIndex(final double density) {
+        return new ArraySegmentIndex(density);
+    }
+
+    @Test
+    void growAndTruncate() {
+        final var index = new ArraySegmentIndex(.5);
+        for (int i = 1; i <= 1000; i++) {
+            index.index(i, i * 10);
+        }
+        assertEquals(new Position(1000, 10000), index.last());
+        assertEquals(new Position(998, 9980), index.lookup(999));
+        assertEquals(new Position(2, 20), index.lookup(2));
+        assertNull(index.lookup(1));
+
+        assertEquals(new Position(500, 5000), index.truncate(500));
+        assertEquals(new Position(498, 4980), index.last());
+        assertEquals(new Position(498, 4980), index.lookup(700));
+
+        // re-index after truncation
+        index.index(500, 5000);
+        assertEquals(new Position(500, 5000), index.lookup(700));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.raft.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time needed to reopen a large {@link SegmentedRaftJournal}, with and without {@link SegmentIndexFile}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JournalRecoveryBenchmark {
+    private static final int MAX_SEGMENT_SIZE = 32 * 1024 * 1024;
+
+    @Param({ "1024" })
+    public int entrySize;
+
+    @Param({ "2097152" })
+    public int entryCount;
+
+    @Param
+    public StorageLevel storageLevel;
+
+    @Param({ "true", "false" })
+    public boolean indexFiles;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal-recovery");
+
+        final var payload = new byte[entrySize];
+        try (var journal = newBuilder().build()) {
+            final var writer = journal.writer();
+            for (int i = 0; i < entryCount; i++) {
+                writer.append((obj, buf) -> {
+                    if (buf.writableBytes() < obj.length) {
+                        return false;
+                    }
+                    buf.writeBytes(obj);
+                    return true;
+                }, payload);
+            }
+            writer.flush();
+        }
+
+        if (!indexFiles) {
+            try (var files = Files.list(directory)) {
+                for (var file : files.filter(file -> file.getFileName().toString().endsWith(".idx")).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        try (var files = Files.walk(directory)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long reopen() throws IOException {
+        try (var journal = newBuilder().build()) {
+            return journal.lastIndex();
+        }
+    }
+
+    private SegmentedRaftJournal.Builder newBuilder() {
+        return SegmentedRaftJournal.builder()
+            .withDirectory(directory)
+            .withName("recovery")
+            .withStorageLevel(storageLevel)
+            .withMaxEntrySize(entrySize)
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JournalRecoveryBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.raft.journal;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link SparseSegmentIndex} and {@link ArraySegmentIndex} performance. Run via {@link #main(String[])} or
+ * through JMH's usual means, adding {@code -prof gc} to see allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SegmentIndexBenchmark {
+    /**
+     * Supported index implementations.
+     */
+    public enum Implementation {
+        /**
+         * {@link SparseSegmentIndex}.
+         */
+        TREEMAP(SparseSegmentIndex::new),
+        /**
+         * {@link ArraySegmentIndex}.
+         */
+        ARRAY(ArraySegmentIndex::new);
+
+        final DoubleFunction<SegmentIndex> factory;
+
+        Implementation(final DoubleFunction<SegmentIndex> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    public Implementation implementation;
+
+    @Param({ "100000", "1000000" })
+    public int entries;
+
+    @Param({ "0.01", "0.1", "0.5" })
+    public double density;
+
+    private SegmentIndex populated;
+    private long[] lookups;
+    private int lookupOffset;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        populated = populate(implementation.factory.apply(density), entries);
+
+        final var random = ThreadLocalRandom.current();
+        lookups = new long[4096];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = random.nextLong(1, entries + 1);
+        }
+    }
+
+    @Benchmark
+    public SegmentIndex index() {
+        return populate(implementation.factory.apply(density), entries);
+    }
+
+    @Benchmark
+    public void lookup(final Blackhole bh) {
+        bh.consume(populated.lookup(lookups[lookupOffset++ & lookups.length - 1]));
+    }
+
+    @Benchmark
+    public SegmentIndex truncateAndReindex() {
+        final var index = implementation.factory.apply(density);
+        populate(index, entries);
+        // Simulate leader change: drop the upper half of the segment and rewrite it
+        final long half = entries / 2;
+        final var nearest = index.truncate(half);
+        for (long i = nearest != null ? nearest.index() : 1; i <= entries; i++) {
+            index.index(i, (int) i * 64);
+        }
+        return index;
+    }
+
+    private static SegmentIndex populate(final SegmentIndex index, final int entries) {
+        for (int i = 1; i <= entries; i++) {
+            index.index(i, i * 64);
+        }
+        return index;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SegmentIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
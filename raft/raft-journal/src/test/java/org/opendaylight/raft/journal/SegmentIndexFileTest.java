@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendaylight.raft.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.raft.journal.Segment.Position;
+
+class SegmentIndexFileTest {
+    private static final SegmentDescriptor DESCRIPTOR = SegmentDescriptor.builder()
+        .withId(2)
+        .withIndex(101)
+        .withMaxSegmentSize(1024 * 1024)
+        .withMaxEntries(2048)
+        .withUpdated(12345)
+        .build();
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final var index = new ArraySegmentIndex(.5);
+        for (int i = 101; i <= 200; i++) {
+            index.index(i, i * 8);
+        }
+
+        final var path = dir.resolve("test-2.idx");
+        SegmentIndexFile.write(path, DESCRIPTOR, index, 4096);
+
+        final var restored = new ArraySegmentIndex(.5);
+        assertEquals(4096, SegmentIndexFile.read(path, DESCRIPTOR, restored));
+        assertEquals(new Position(200, 1600), restored.last());
+        assertEquals(positions(index), positions(restored));
+    }
+
+    @Test
+    void testEmptyIndex() throws IOException {
+        final var path = dir.resolve("test-2.idx");
+        SegmentIndexFile.write(path, DESCRIPTOR, new ArraySegmentIndex(), SegmentDescriptor.BYTES);
+
+        final var restored = new ArraySegmentIndex();
+        assertEquals(SegmentDescriptor.BYTES, SegmentIndexFile.read(path, DESCRIPTOR, restored));
+        assertNull(restored.last());
+    }
+
+    @Test
+    void testMissingFile() throws IOException {
+        assertEquals(-1, SegmentIndexFile.read(dir.resolve("test-2.idx"), DESCRIPTOR, new ArraySegmentIndex()));
+    }
+
+    @Test
+    void testDescriptorMismatch() throws IOException {
+        final var path = dir.resolve("test-2.idx");
+        SegmentIndexFile.write(path, DESCRIPTOR, populatedIndex(), 4096);
+
+        final var other = SegmentDescriptor.builder()
+            .withId(2)
+            .withIndex(101)
+            .withMaxSegmentSize(1024 * 1024)
+            .withMaxEntries(2048)
+            .withUpdated(12346)
+            .build();
+        final var restored = new ArraySegmentIndex();
+        assertEquals(-1, SegmentIndexFile.read(path, other, restored));
+        assertNull(restored.last());
+    }
+
+    @Test
+    void testCorruptedFile() throws IOException {
+        final var path = dir.resolve("test-2.idx");
+        SegmentIndexFile.write(path, DESCRIPTOR, populatedIndex(), 4096);
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(path, bytes);
+
+        final var restored = new ArraySegmentIndex();
+        assertEquals(-1, SegmentIndexFile.read(path, DESCRIPTOR, restored));
+        assertNull(restored.last());
+    }
+
+    @Test
+    void testJournalReopen() throws IOException {
+        final var builder = SegmentedRaftJournal.builder()
+            .withDirectory(dir)
+            .withName("test")
+            .withMaxEntrySize(64)
+            .withMaxSegmentSize(4096);
+
+        try (var journal = builder.build()) {
+            final var writer = journal.writer();
+            for (int i = 1; i <= 1000; i++) {
+                writer.append(SegmentIndexFileTest::writeLong, (long) i);
+            }
+            writer.flush();
+        }
+
+        // All segments but the last one should have been sealed
+        final var logs = new ArrayList<Path>();
+        final var indices = new ArrayList<Path>();
+        try (var files = Files.list(dir)) {
+            files.forEach(file -> {
+                final var name = file.getFileName().toString();
+                if (name.endsWith(".log")) {
+                    logs.add(file);
+                } else if (name.endsWith(".idx")) {
+                    indices.add(file);
+                }
+            });
+        }
+        assertTrue(logs.size() > 2);
+        assertEquals(logs.size() - 1, indices.size());
+
+        try (var journal = builder.build()) {
+            assertEquals(1, journal.firstIndex());
+            assertEquals(1000, journal.lastIndex());
+            try (var reader = journal.openReader(1)) {
+                for (long i = 1; i <= 1000; i++) {
+                    assertEquals(i, reader.tryNext(SegmentIndexFileTest::readLong));
+                }
+                assertNull(reader.tryNext(SegmentIndexFileTest::readLong));
+            }
+            try (var reader = journal.openReader(777)) {
+                assertEquals(777L, reader.tryNext(SegmentIndexFileTest::readLong));
+            }
+
+            // Further writes continue where we left off
+            journal.writer().append(SegmentIndexFileTest::writeLong, 1001L);
+            assertEquals(1001, journal.lastIndex());
+        }
+    }
+
+    private static boolean writeLong(final Long value, final ByteBuf buf) {
+        if (buf.writableBytes() < Long.BYTES) {
+            return false;
+        }
+        buf.writeLong(value);
+        return true;
+    }
+
+    private static Long readLong(final long index, final ByteBuf buf) {
+        return buf.readLong();
+    }
+
+    private static SegmentIndex populatedIndex() {
+        final var index = new ArraySegmentIndex();
+        for (int i = 101; i <= 2000; i++) {
+            index.index(i, i * 8);
+        }
+        return index;
+    }
+
+    private static ArrayList<Position> positions(final SegmentIndex index) {
+        final var ret = new ArrayList<Position>();
+        index.forEach(ret::add);
+        return ret;
+    }
+}
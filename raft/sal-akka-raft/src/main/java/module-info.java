@@ -28,8 +28,10 @@ module org.opendaylight.controller.cluster.raft {
     requires transitive org.opendaylight.controller.repackaged.pekko;
     requires transitive org.opendaylight.controller.cluster.commons;
     requires transitive org.opendaylight.controller.cluster.mgmt.api;
+    requires com.codahale.metrics;
     requires com.google.common;
     requires io.netty.buffer;
+    requires org.agrona.core;
     requires org.apache.commons.lang3;
     requires org.opendaylight.controller.scala3.library;
     requires org.opendaylight.raft.journal;
@@ -11,6 +11,7 @@ import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.VerifyException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -51,6 +52,11 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
     private long previousSnapshotTerm = -1;
     private int dataSize = 0;
 
+    // Sum of size() of entries whose command has been evicted
+    private long evictedDataSize;
+    // Offset of the first entry which may not have been evicted yet
+    private int evictionCursor;
+
     protected AbstractReplicatedLog(final @NonNull String memberId) {
         this.memberId = requireNonNull(memberId);
     }
@@ -68,6 +74,11 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         snapshottedJournal = null;
     }
 
+    private void clearEvicted() {
+        evictedDataSize = 0;
+        evictionCursor = 0;
+    }
+
     @Override
     public final void resetToLog(final ReplicatedLog prev) {
         clearRollback();
@@ -78,6 +89,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         commitIndex = prev.getCommitIndex();
         lastApplied = prev.getLastApplied();
 
+        clearEvicted();
         dataSize = 0;
         final var prevSize = prev.size();
         journal = new ArrayList<>((int) Objects.checkIndex(prevSize, Integer.MAX_VALUE));
@@ -96,6 +108,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         snapshotTerm = snapshot.getLastAppliedTerm();
 
         // Yes, there are faster ways to do this, but we want to be defensive
+        clearEvicted();
         dataSize = 0;
         journal = new ArrayList<>();
         final var unapplied = snapshot.getUnAppliedEntries();
@@ -105,7 +118,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
 
     @Override
     public final LogEntry entryAt(final long offset) {
-        return verifyNotNull(journal.get((int) Objects.checkIndex(offset, size())));
+        return verifyNotNull(loadedEntry((int) Objects.checkIndex(offset, size())));
     }
 
     @Override
@@ -117,20 +130,40 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
             return null;
         }
 
-        return journal.get(adjustedIndex);
+        return loadedEntry(adjustedIndex);
+    }
+
+    @Override
+    public final EntryMeta lookupMeta(final long index) {
+        final int adjustedIndex = adjustedIndex(index);
+        return adjustedIndex < 0 || adjustedIndex >= journal.size() ? null : journal.get(adjustedIndex);
     }
 
     @Override
     public final StoredEntryMeta lookupStoredMeta(final long index) {
-        final var entry = lookup(index);
-        return entry == null ? null : new StoredEntryMeta(entry, !entry.isPersistencePending());
+        final int adjustedIndex = adjustedIndex(index);
+        if (adjustedIndex < 0 || adjustedIndex >= journal.size()) {
+            return null;
+        }
+        final var entry = journal.get(adjustedIndex);
+        return new StoredEntryMeta(entry, !entry.isPersistencePending());
     }
 
     @Override
     public final T last() {
+        return journal.isEmpty() ? null : loadedEntry(journal.size() - 1);
+    }
+
+    @Override
+    public final EntryMeta lastMeta() {
         return journal.isEmpty() ? null : journal.getLast();
     }
 
+    private @NonNull T loadedEntry(final int offset) {
+        final var entry = journal.get(offset);
+        return isEvicted(entry) ? verifyNotNull(loadEvicted(offset, entry)) : entry;
+    }
+
     @Override
     public final long getCommitIndex() {
         return commitIndex;
@@ -175,8 +208,12 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         final var toRemove = journal.subList(adjustedIndex, size);
         for (var entry : toRemove) {
             dataSize -= entry.size();
+            if (isEvicted(entry)) {
+                evictedDataSize -= entry.size();
+            }
         }
         toRemove.clear();
+        evictionCursor = Math.min(evictionCursor, adjustedIndex);
 
         return adjustedIndex;
     }
@@ -203,6 +240,44 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
     @NonNullByDefault
     protected abstract @NonNull T adoptEntry(LogEntry entry);
 
+    /**
+     * Checks if an entry's command has been evicted by {@link #evictEntry(LogEntry)}. Default implementation returns
+     * {@code false}.
+     *
+     * @param entry the entry
+     * @return {@code true} if the command has been evicted
+     */
+    @NonNullByDefault
+    protected boolean isEvicted(final T entry) {
+        return false;
+    }
+
+    /**
+     * Returns an equivalent of an entry, which does not hold its command, if possible. Default implementation returns
+     * {@code null}, i.e. commands are never evicted.
+     *
+     * @param entry the entry, guaranteed not to be pending persistence
+     * @return the evicted entry, or {@code null} if the command cannot be evicted
+     */
+    @NonNullByDefault
+    protected @Nullable T evictEntry(final T entry) {
+        return null;
+    }
+
+    /**
+     * Returns an entry with its command loaded back. Invoked for entries for which {@link #isEvicted(LogEntry)}
+     * returned {@code true}. Consecutive invocations are typically made for consecutive offsets, which implementations
+     * may take advantage of.
+     *
+     * @param offset the entry offset
+     * @param entry the evicted entry
+     * @return the entry with its command
+     */
+    @NonNullByDefault
+    protected T loadEvicted(final int offset, final T entry) {
+        throw new VerifyException("Unexpected evicted entry " + entry);
+    }
+
     @Override
     public final void increaseJournalLogCapacity(final int amount) {
         journal.ensureCapacity(journal.size() + amount);
@@ -228,8 +303,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
             maxIndex = size;
         }
 
-        return maxDataSize < 0 ? new ArrayList<>(journal.subList(adjustedIndex, maxIndex))
-            : copyJournalEntries(adjustedIndex, maxIndex, maxDataSize);
+        return copyJournalEntries(adjustedIndex, maxIndex, maxDataSize < 0 ? Long.MAX_VALUE : maxDataSize);
     }
 
     private @NonNull List<ReplicatedLogEntry> copyJournalEntries(final int fromIndex, final int toIndex,
@@ -243,12 +317,12 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
                 if (retList.isEmpty()) {
                     // Edge case - the first entry's size exceeds the threshold. We need to return
                     // at least the first entry so add it here.
-                    retList.add(entry);
+                    retList.add(loadedEntry(i));
                 }
                 break;
             }
 
-            retList.add(entry);
+            retList.add(loadedEntry(i));
         }
 
         return retList;
@@ -265,6 +339,32 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         return dataSize;
     }
 
+    @Override
+    public final long onHeapDataSize() {
+        return Math.max(0, dataSize() - evictedDataSize);
+    }
+
+    @Override
+    public final void evictPayloads(final long index, final long heapBudget) {
+        final int limit = Math.min(adjustedIndex(index) + 1, journal.size());
+        while (evictionCursor < limit && onHeapDataSize() > heapBudget) {
+            final var entry = journal.get(evictionCursor);
+            if (entry.isPersistencePending()) {
+                // Not stored yet, hence we cannot evict this entry nor any following it
+                break;
+            }
+            if (!isEvicted(entry)) {
+                final var evicted = evictEntry(entry);
+                if (evicted == null) {
+                    break;
+                }
+                journal.set(evictionCursor, evicted);
+                evictedDataSize += entry.size();
+            }
+            evictionCursor++;
+        }
+    }
+
     @Override
     public final boolean isPresent(final long logEntryIndex) {
         if (logEntryIndex > lastIndex()) {
@@ -317,6 +417,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
     @Override
     public final void clear(final int startIndex, final int endIndex) {
         journal.subList(startIndex, endIndex).clear();
+        evictionCursor = 0;
     }
 
     @Override
@@ -347,6 +448,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
 
         previousFirstJournalIndex = firstJournalIndex;
         firstJournalIndex += trimSize;
+        evictionCursor = Math.max(0, evictionCursor - trimSize);
 
         previousSnapshotIndex = snapshotIndex;
         setSnapshotIndex(snapshotCapturedIndex);
@@ -365,11 +467,16 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         if (updateDataSize) {
             // need to recalc the datasize based on the entries left after precommit.
             int newDataSize = 0;
+            long newEvictedDataSize = 0;
             for (var logEntry : journal) {
                 newDataSize += logEntry.size();
+                if (isEvicted(logEntry)) {
+                    newEvictedDataSize += logEntry.size();
+                }
             }
             LOG.trace("{}: Updated dataSize from {} to {}", memberId, dataSize, newDataSize);
             dataSize = newDataSize;
+            evictedDataSize = newEvictedDataSize;
         }
     }
 
@@ -378,6 +485,7 @@ public abstract class AbstractReplicatedLog<T extends ReplicatedLogEntry> implem
         snapshottedJournal.addAll(journal);
         journal = snapshottedJournal;
         snapshottedJournal = null;
+        evictionCursor = 0;
 
         firstJournalIndex = previousFirstJournalIndex;
         previousFirstJournalIndex = EntryJournal.FIRST_JOURNAL_INDEX;
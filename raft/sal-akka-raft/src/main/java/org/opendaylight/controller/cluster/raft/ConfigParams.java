@@ -9,7 +9,9 @@ package org.opendaylight.controller.cluster.raft;
 
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.raft.spi.CompressionType;
 import org.opendaylight.raft.spi.RaftPolicy;
 
@@ -148,6 +150,83 @@ public interface ConfigParams {
      */
     long getSyncIndexThreshold();
 
+    /**
+     * Returns the maximum time the journal writer waits for more entries to arrive before it flushes the journal to
+     * durable storage.
+     *
+     * @return the maximum group commit linger time in microseconds, {@code 0} to flush as soon as possible
+     */
+    long getJournalGroupCommitLingerMicros();
+
+    /**
+     * Returns the maximum number of bytes the journal writer accumulates before it flushes the journal to durable
+     * storage.
+     *
+     * @return the maximum group commit size in bytes, {@code 0} for no limit
+     */
+    long getJournalGroupCommitMaxBytes();
+
+    /**
+     * Returns the maximum number of AppendEntries batches a leader keeps in flight to a single follower without having
+     * received a reply. A value of {@code 1} means the leader waits for each batch to be acknowledged before sending the
+     * next one.
+     *
+     * @return the AppendEntries pipeline window, at least {@code 1}
+     */
+    int getAppendEntriesPipelineWindow();
+
+    /**
+     * Returns the maximum size of entry commands held in the in-memory Raft log. Commands of entries which have been
+     * applied and sent to all followers are evicted from memory once this size is exceeded, and are read back from
+     * the journal when needed. 0 means that commands are never evicted.
+     *
+     * @return maximum size of commands held in memory (in MiB)
+     */
+    int getLogPayloadHeapBudget();
+
+    /**
+     * Returns the maximum number of InstallSnapshot chunks a leader keeps in flight to a single follower without having
+     * received a reply. A value of {@code 1} means the leader waits for each chunk to be acknowledged before sending the
+     * next one. Followers use this value to bound the number of chunks they buffer while waiting for a missing one.
+     *
+     * @return the InstallSnapshot chunk window, at least {@code 1}
+     */
+    int getSnapshotChunkWindow();
+
+    /**
+     * Returns the maximum number of AppendEntries message slices a leader keeps in flight to a single follower without
+     * having received a reply. A value of {@code 1} means the leader waits for each slice to be acknowledged before
+     * sending the next one.
+     *
+     * @return the message slice window, at least {@code 1}
+     */
+    int getMessageSliceWindow();
+
+    /**
+     * Returns the maximum number of consecutive delta snapshots, i.e. snapshots recording only the state changed since
+     * the previous snapshot, taken before a full snapshot is taken again. A value of {@code 0} means every snapshot is
+     * a full snapshot.
+     *
+     * @return the maximum number of consecutive delta snapshots
+     */
+    int getMaxDeltaSnapshots();
+
+    /**
+     * Returns the number of threads used to decode journal entries ahead of them being applied during recovery. A value
+     * of {@code 0} means entries are decoded by the recovering actor as they are applied.
+     *
+     * @return the number of journal recovery decode threads
+     */
+    int getJournalRecoveryDecodeThreads();
+
+    /**
+     * Returns the executor used to decode journal entries ahead of them being applied during recovery. The executor
+     * has {@link #getJournalRecoveryDecodeThreads()} threads and is shared by all actors using this configuration.
+     *
+     * @return the journal recovery decode executor, or {@code null} if entries are decoded by the recovering actor
+     */
+    @Nullable Executor getJournalRecoveryDecodeExecutor();
+
     /**
      * Returns the preferred {@link CompressionType}.
      *
@@ -12,7 +12,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.raft.spi.CompressionType;
 import org.opendaylight.raft.spi.RaftPolicy;
 import org.opendaylight.raft.spi.WellKnownRaftPolicy;
@@ -76,6 +81,23 @@ public class DefaultConfigParamsImpl implements ConfigParams {
 
     private long syncIndexThreshold = 10;
 
+    private long journalGroupCommitLingerMicros;
+    private long journalGroupCommitMaxBytes;
+
+    private int appendEntriesPipelineWindow = 1;
+
+    private int logPayloadHeapBudget;
+
+    private int snapshotChunkWindow = 1;
+
+    private int messageSliceWindow = 1;
+
+    private int maxDeltaSnapshots;
+
+    private int journalRecoveryDecodeThreads;
+
+    private @Nullable Executor journalRecoveryDecodeExecutor;
+
     private @NonNull CompressionType preferredCompression = CompressionType.NONE;
 
     public void setHeartBeatInterval(final Duration heartBeatInterval) {
@@ -231,6 +253,114 @@ public class DefaultConfigParamsImpl implements ConfigParams {
         this.syncIndexThreshold = syncIndexThreshold;
     }
 
+    @Override
+    public long getJournalGroupCommitLingerMicros() {
+        return journalGroupCommitLingerMicros;
+    }
+
+    public void setJournalGroupCommitLingerMicros(final long journalGroupCommitLingerMicros) {
+        checkArgument(journalGroupCommitLingerMicros >= 0);
+        this.journalGroupCommitLingerMicros = journalGroupCommitLingerMicros;
+    }
+
+    @Override
+    public long getJournalGroupCommitMaxBytes() {
+        return journalGroupCommitMaxBytes;
+    }
+
+    public void setJournalGroupCommitMaxBytes(final long journalGroupCommitMaxBytes) {
+        checkArgument(journalGroupCommitMaxBytes >= 0);
+        this.journalGroupCommitMaxBytes = journalGroupCommitMaxBytes;
+    }
+
+    @Override
+    public int getAppendEntriesPipelineWindow() {
+        return appendEntriesPipelineWindow;
+    }
+
+    public void setAppendEntriesPipelineWindow(final int appendEntriesPipelineWindow) {
+        checkArgument(appendEntriesPipelineWindow > 0);
+        this.appendEntriesPipelineWindow = appendEntriesPipelineWindow;
+    }
+
+    @Override
+    public int getLogPayloadHeapBudget() {
+        return logPayloadHeapBudget;
+    }
+
+    public void setLogPayloadHeapBudget(final int logPayloadHeapBudget) {
+        checkArgument(logPayloadHeapBudget >= 0);
+        this.logPayloadHeapBudget = logPayloadHeapBudget;
+    }
+
+    @Override
+    public int getSnapshotChunkWindow() {
+        return snapshotChunkWindow;
+    }
+
+    public void setSnapshotChunkWindow(final int snapshotChunkWindow) {
+        checkArgument(snapshotChunkWindow > 0);
+        this.snapshotChunkWindow = snapshotChunkWindow;
+    }
+
+    @Override
+    public int getMessageSliceWindow() {
+        return messageSliceWindow;
+    }
+
+    public void setMessageSliceWindow(final int messageSliceWindow) {
+        checkArgument(messageSliceWindow > 0);
+        this.messageSliceWindow = messageSliceWindow;
+    }
+
+    @Override
+    public int getMaxDeltaSnapshots() {
+        return maxDeltaSnapshots;
+    }
+
+    public void setMaxDeltaSnapshots(final int maxDeltaSnapshots) {
+        checkArgument(maxDeltaSnapshots >= 0);
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
+    }
+
+    @Override
+    public int getJournalRecoveryDecodeThreads() {
+        return journalRecoveryDecodeThreads;
+    }
+
+    public void setJournalRecoveryDecodeThreads(final int journalRecoveryDecodeThreads) {
+        checkArgument(journalRecoveryDecodeThreads >= 0);
+        if (this.journalRecoveryDecodeThreads != journalRecoveryDecodeThreads) {
+            this.journalRecoveryDecodeThreads = journalRecoveryDecodeThreads;
+            journalRecoveryDecodeExecutor = journalRecoveryDecodeThreads == 0 ? null
+                : newJournalRecoveryDecodeExecutor(journalRecoveryDecodeThreads);
+        }
+    }
+
+    @Override
+    public @Nullable Executor getJournalRecoveryDecodeExecutor() {
+        return journalRecoveryDecodeExecutor;
+    }
+
+    /**
+     * Use the journal recovery decode threads of another configuration, so that actors using either configuration
+     * share them.
+     *
+     * @param other the other configuration
+     */
+    public void shareJournalRecoveryDecodeExecutor(final DefaultConfigParamsImpl other) {
+        journalRecoveryDecodeThreads = other.journalRecoveryDecodeThreads;
+        journalRecoveryDecodeExecutor = other.journalRecoveryDecodeExecutor;
+    }
+
+    private static Executor newJournalRecoveryDecodeExecutor(final int threads) {
+        // Threads go away when there is nothing to decode, hence the executor does not need to be shut down
+        final var executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), Thread.ofPlatform().name("journal-recovery-decode-", 0).daemon().factory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Override
     public CompressionType getPreferredCompression() {
         return preferredCompression;
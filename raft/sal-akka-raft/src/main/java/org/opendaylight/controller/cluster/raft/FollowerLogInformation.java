@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import java.util.ArrayDeque;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,6 +36,12 @@ public final class FollowerLogInformation {
 
     private long matchIndex;
 
+    // Last indices of AppendEntries batches sent beyond nextIndex and not acknowledged yet, in the order they were sent
+    private final ArrayDeque<Long> inFlightBatches = new ArrayDeque<>();
+
+    // The index following the last entry sent to the follower, valid only when inFlightBatches is not empty
+    private long pipelineNextIndex;
+
     private long lastReplicatedIndex = -1L;
 
     private long sentCommitIndex = -1L;
@@ -100,6 +107,8 @@ public final class FollowerLogInformation {
             return false;
         }
 
+        resetPipeline();
+
         if (followerLastIndex >= 0 && nextIndex > followerLastIndex) {
             // If the follower's last log index is lower than nextIndex, jump directly to it, so we converge
             // on a common index more quickly.
@@ -111,7 +120,8 @@ public final class FollowerLogInformation {
     }
 
     /**
-     * Sets the index of the follower's next log entry.
+     * Sets the index of the follower's next log entry. Moving the index backwards discards any AppendEntries batches in
+     * flight.
      *
      * @param nextIndex the new index.
      * @return true if the new index differed from the current index and the current index was updated, false
@@ -120,6 +130,9 @@ public final class FollowerLogInformation {
     @SuppressWarnings("checkstyle:hiddenField")
     public boolean setNextIndex(final long nextIndex) {
         if (this.nextIndex != nextIndex) {
+            if (nextIndex < this.nextIndex) {
+                resetPipeline();
+            }
             this.nextIndex = nextIndex;
             return true;
         }
@@ -247,6 +260,96 @@ public final class FollowerLogInformation {
         return true;
     }
 
+    /**
+     * Checks if the next batch of entries can be sent to the follower ahead of the acknowledgement of the batches
+     * already in flight. This is the case when there is at least one batch in flight and fewer than
+     * {@link ConfigParams#getAppendEntriesPipelineWindow()} batches are outstanding. When this method returns
+     * {@code true}, the batch should be sent starting at {@link #getPipelineNextIndex()}.
+     *
+     * @return true if it is OK to pipeline, false otherwise
+     */
+    public boolean okToPipeline() {
+        return !inFlightBatches.isEmpty()
+            && inFlightBatches.size() < context.getConfigParams().getAppendEntriesPipelineWindow()
+            && peerInfo.getVotingState() != VotingState.VOTING_NOT_INITIALIZED;
+    }
+
+    /**
+     * Checks if there are AppendEntries batches in flight and the last one was sent within the current heart beat
+     * interval. If the follower does not acknowledge any of them within that interval, the leader falls back to
+     * resending from {@link #getNextIndex()}, just as it does without pipelining.
+     *
+     * @return true if a pipeline is active, false otherwise
+     */
+    public boolean isPipelineActive() {
+        if (inFlightBatches.isEmpty()) {
+            return false;
+        }
+        if (lastReplicatedStopwatch.elapsed(TimeUnit.MILLISECONDS)
+                < context.getConfigParams().getHeartBeatInterval().toMillis()) {
+            return true;
+        }
+        resetPipeline();
+        return false;
+    }
+
+    /**
+     * Returns the index of the next log entry to send to the follower when pipelining. This is the index following
+     * the last entry sent if there are batches in flight, {@link #getNextIndex()} otherwise.
+     *
+     * @return index of the next log entry to pipeline
+     */
+    public long getPipelineNextIndex() {
+        return inFlightBatches.isEmpty() ? nextIndex : pipelineNextIndex;
+    }
+
+    /**
+     * Records that a batch of entries starting at {@link #getPipelineNextIndex()} has been sent to the follower. This
+     * has no effect if {@link ConfigParams#getAppendEntriesPipelineWindow()} does not allow pipelining.
+     *
+     * @param lastIndex the index of the last entry in the batch
+     */
+    public void pipelineSent(final long lastIndex) {
+        if (context.getConfigParams().getAppendEntriesPipelineWindow() > 1) {
+            inFlightBatches.addLast(lastIndex);
+            pipelineNextIndex = lastIndex + 1;
+            resetLastReplicated();
+        }
+    }
+
+    /**
+     * Records a successful reply from the follower, retiring all batches it covers.
+     *
+     * @param followerLastIndex follower's last reported index
+     */
+    public void pipelineAcknowledged(final long followerLastIndex) {
+        while (!inFlightBatches.isEmpty() && inFlightBatches.peekFirst() <= followerLastIndex) {
+            inFlightBatches.removeFirst();
+        }
+    }
+
+    /**
+     * Discards all batches in flight, so that replication resumes from {@link #getNextIndex()}. This is called when the
+     * follower sends a negative reply.
+     */
+    public void resetPipeline() {
+        if (!inFlightBatches.isEmpty()) {
+            inFlightBatches.clear();
+            // Allow okToReplicate() to resend from nextIndex right away
+            lastReplicatedIndex = -1L;
+        }
+    }
+
+    /**
+     * Returns the number of AppendEntries batches sent to the follower and not acknowledged yet.
+     *
+     * @return the number of batches in flight
+     */
+    @VisibleForTesting
+    public int inFlightBatchCount() {
+        return inFlightBatches.size();
+    }
+
     private void resetLastReplicated() {
         lastReplicatedIndex = getNextIndex();
         if (lastReplicatedStopwatch.isRunning()) {
@@ -360,6 +463,7 @@ public final class FollowerLogInformation {
     public String toString() {
         return "FollowerLogInformation [id=" + getId() + ", nextIndex=" + nextIndex + ", matchIndex=" + matchIndex
                 + ", lastReplicatedIndex=" + lastReplicatedIndex + ", commitIndex=" + sentCommitIndex
+                + ", inFlightBatches=" + inFlightBatches.size()
                 + ", votingState=" + peerInfo.getVotingState()
                 + ", stopwatch=" + stopwatch.elapsed(TimeUnit.MILLISECONDS)
                 + ", followerTimeoutMillis=" + context.getConfigParams().getElectionTimeOutInterval().toMillis() + "]";
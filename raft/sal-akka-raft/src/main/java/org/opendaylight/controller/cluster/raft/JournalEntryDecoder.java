@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournal;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournal.JournalEntry;
+import org.opendaylight.controller.cluster.raft.spi.LogEntry;
+import org.opendaylight.controller.cluster.raft.spi.SerializedCommand;
+import org.opendaylight.controller.cluster.raft.spi.StateCommand;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Turns {@link JournalEntry}s read from an {@link EntryJournal.Reader} into {@link LogEntry}s during
+ * {@link JournalRecovery}. When given an {@link Executor}, entries are read ahead of them being requested and their
+ * commands are decoded on that executor, with {@link StateCommand}s also being passed to
+ * {@link RaftActorRecoveryCohort#prepareRecoveredCommand(StateCommand)}. The executor is expected to be shared by all
+ * recovering actors, while each of them limits its read-ahead to a number of serialized bytes. Decoded entries are
+ * always handed out strictly in journal order. Otherwise each entry is decoded when it is requested, just as it would
+ * be without this class.
+ */
+@NonNullByDefault
+final class JournalEntryDecoder implements AutoCloseable {
+    /**
+     * A {@link LogEntry} along with the journal index it was read from.
+     *
+     * @param journalIndex the journal index
+     * @param logEntry the {@link LogEntry}
+     */
+    record DecodedEntry(long journalIndex, LogEntry logEntry) {
+        DecodedEntry {
+            requireNonNull(logEntry);
+        }
+    }
+
+    private record PendingEntry(long journalIndex, int size, FutureTask<LogEntry> future) {
+        PendingEntry {
+            requireNonNull(future);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournalEntryDecoder.class);
+    // Serialized size of entries read ahead, bounding the memory used by entries waiting to be applied
+    static final long DEFAULT_READ_AHEAD_BYTES = 16 * 1024 * 1024;
+
+    private final ArrayDeque<PendingEntry> pending = new ArrayDeque<>();
+    private final RaftActorRecoveryCohort recoveryCohort;
+    private final RestrictedObjectStreams objectStreams;
+    private final EntryJournal.Reader reader;
+    private final @Nullable Executor executor;
+    private final long prepareToJournalIndex;
+    private final long readAheadBytes;
+
+    private @Nullable JournalEntry nextEntry;
+    private long nextJournalIndex;
+    private long entryCount;
+    private long pendingBytes;
+
+    /**
+     * Default constructor.
+     *
+     * @param memberId the member ID
+     * @param recoveryCohort the {@link RaftActorRecoveryCohort}
+     * @param objectStreams the {@link RestrictedObjectStreams} to decode commands with
+     * @param reader the {@link EntryJournal.Reader}
+     * @param journalIndex the journal index of {@code journalEntry}
+     * @param journalEntry the first entry, already read from {@code reader}, or {@code null}
+     * @param prepareToJournalIndex the last journal index whose commands are going to be applied
+     * @param executor the executor to decode entries on, {@code null} to decode them on the calling thread
+     */
+    JournalEntryDecoder(final String memberId, final RaftActorRecoveryCohort recoveryCohort,
+            final RestrictedObjectStreams objectStreams, final EntryJournal.Reader reader, final long journalIndex,
+            final @Nullable JournalEntry journalEntry, final long prepareToJournalIndex,
+            final @Nullable Executor executor) {
+        this(memberId, recoveryCohort, objectStreams, reader, journalIndex, journalEntry, prepareToJournalIndex,
+            executor, DEFAULT_READ_AHEAD_BYTES);
+    }
+
+    @VisibleForTesting
+    JournalEntryDecoder(final String memberId, final RaftActorRecoveryCohort recoveryCohort,
+            final RestrictedObjectStreams objectStreams, final EntryJournal.Reader reader, final long journalIndex,
+            final @Nullable JournalEntry journalEntry, final long prepareToJournalIndex,
+            final @Nullable Executor executor, final long readAheadBytes) {
+        this.recoveryCohort = requireNonNull(recoveryCohort);
+        this.objectStreams = requireNonNull(objectStreams);
+        this.reader = requireNonNull(reader);
+        this.prepareToJournalIndex = prepareToJournalIndex;
+        this.executor = executor;
+        this.readAheadBytes = readAheadBytes;
+        nextJournalIndex = journalIndex;
+        nextEntry = journalEntry;
+
+        if (executor != null) {
+            LOG.debug("{}: decoding journal entries ahead of up to {} bytes", memberId, readAheadBytes);
+        }
+    }
+
+    /**
+     * Return the next entry in the journal.
+     *
+     * @return the next {@link DecodedEntry}, or {@code null} if there are no more entries
+     * @throws IOException if an I/O error occurs or the entry cannot be decoded
+     */
+    @Nullable DecodedEntry next() throws IOException {
+        if (executor == null) {
+            final var entry = nextEntry;
+            if (entry == null) {
+                return null;
+            }
+            final var ret = new DecodedEntry(nextJournalIndex, entry.toLogEntry(objectStreams));
+            readNext();
+            return ret;
+        }
+
+        fillPending(executor);
+        final var head = pending.poll();
+        if (head == null) {
+            return null;
+        }
+        pendingBytes -= head.size;
+
+        final LogEntry logEntry;
+        try {
+            logEntry = head.future.get();
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+            Throwables.throwIfInstanceOf(cause, IOException.class);
+            Throwables.throwIfUnchecked(cause);
+            throw new IOException("Failed to decode entry at " + head.journalIndex, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while decoding entry at " + head.journalIndex);
+        }
+        return new DecodedEntry(head.journalIndex, logEntry);
+    }
+
+    /**
+     * {@return the journal index following the last entry returned by {@link #next()}}
+     */
+    long nextJournalIndex() {
+        final var head = pending.peek();
+        return head != null ? head.journalIndex : nextJournalIndex;
+    }
+
+    /**
+     * {@return the number of entries read from the journal}
+     */
+    long entryCount() {
+        return entryCount;
+    }
+
+    @Override
+    public void close() {
+        pending.forEach(entry -> entry.future.cancel(false));
+        pending.clear();
+        pendingBytes = 0;
+    }
+
+    private void fillPending(final Executor service) throws IOException {
+        // Always read at least one entry, so that even an entry exceeding the limit is decoded
+        while (pending.isEmpty() || pendingBytes < readAheadBytes) {
+            final var entry = nextEntry;
+            if (entry == null) {
+                break;
+            }
+
+            // Take a copy of the command's bytes, as the entry may be backed by journal storage
+            final var journalIndex = nextJournalIndex;
+            final var index = entry.index();
+            final var term = entry.term();
+            final var command = entry.toSerializedCommand();
+            final var prepare = journalIndex <= prepareToJournalIndex;
+            final var task = new FutureTask<>(() -> decode(index, term, command, prepare));
+            final var size = command.size();
+            pending.add(new PendingEntry(journalIndex, size, task));
+            pendingBytes += size;
+            service.execute(task);
+            readNext();
+        }
+    }
+
+    private LogEntry decode(final long index, final long term, final SerializedCommand serialized,
+            final boolean prepare) throws IOException {
+        final var command = serialized.toCommand(objectStreams);
+        if (prepare && command instanceof StateCommand stateCommand) {
+            recoveryCohort.prepareRecoveredCommand(stateCommand);
+        }
+        return new DefaultLogEntry(index, term, command);
+    }
+
+    private void readNext() throws IOException {
+        entryCount++;
+        nextJournalIndex = reader.nextJournalIndex();
+        nextEntry = reader.nextEntry();
+    }
+}
@@ -9,8 +9,10 @@ package org.opendaylight.controller.cluster.raft;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.base.Stopwatch;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Executor;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot.State;
@@ -31,17 +33,19 @@ final class JournalRecovery<T extends State> extends Recovery<T> {
     private static final Logger LOG = LoggerFactory.getLogger(JournalRecovery.class);
 
     private final EntryJournal journal;
+    private final @Nullable Executor decodeExecutor;
 
     JournalRecovery(final RaftActor actor, final RaftActorSnapshotCohort<T> snapshotCohort,
             final RaftActorRecoveryCohort recoveryCohort, final ConfigParams configParams, final EntryJournal journal) {
         super(actor, snapshotCohort, recoveryCohort, configParams);
         this.journal = requireNonNull(journal);
+        decodeExecutor = configParams.getJournalRecoveryDecodeExecutor();
     }
 
     @Override
-    void doRecover(final EntryInfo lastIncluded, final @Nullable State state, final List<LogEntry> entries)
+    void doRecover(final EntryInfo lastIncluded, final List<State> states, final List<LogEntry> entries)
             throws IOException {
-        initializeState(lastIncluded, state);
+        initializeState(lastIncluded, states);
 
         try (var reader = journal.openReader()) {
             // If entries is non-empty, it has come from a snapshot and we need to do some more work to ensure migrate
@@ -100,34 +104,39 @@ final class JournalRecovery<T extends State> extends Recovery<T> {
             LOG.debug("{}: applying entries up to {}", memberId(), applyToIndex);
 
             // Process everything in the journal, being mindful of snapshot intervals. We should not be touching
-            // pekkoLog past this point.
+            // pekkoLog past this point. Entries are possibly decoded ahead of time, but are processed in journal order.
             var lastApplied = recoveryLog.getLastApplied();
-            while (journalEntry != null) {
-                final var logEntry = journalEntry.toLogEntry(actor.objectStreams());
-
-                if (recoveryLog.isInSnapshot(logEntry.index())) {
-                    LOG.debug("{}: entry {} implied by snapshot, adjusting replayFrom/applyTo to at least {}",
-                        memberId(), logEntry, journalIndex);
-                    journal.discardHead(journalIndex + 1);
-                    if (applyToIndex < journalIndex) {
-                        journal.setApplyTo(journalIndex);
-                        applyToIndex = journalIndex;
-                    }
-                } else {
-                    LOG.debug("{}: recovered journal {}", memberId(), logEntry);
-                    recoverEntry(logEntry);
-                    if (isMigratedPayload(logEntry)) {
-                        setMigratedDataRecovered();
-                    }
-
-                    if (journalIndex <= applyToIndex) {
-                        applyEntry(logEntry);
-                        lastApplied = logEntry.index();
+            final var sw = Stopwatch.createStarted();
+            try (var decoder = new JournalEntryDecoder(memberId(), recoveryCohort, actor.objectStreams(), reader,
+                    journalIndex, journalEntry, applyToIndex, decodeExecutor)) {
+                for (var decoded = decoder.next(); decoded != null; decoded = decoder.next()) {
+                    journalIndex = decoded.journalIndex();
+                    final var logEntry = decoded.logEntry();
+
+                    if (recoveryLog.isInSnapshot(logEntry.index())) {
+                        LOG.debug("{}: entry {} implied by snapshot, adjusting replayFrom/applyTo to at least {}",
+                            memberId(), logEntry, journalIndex);
+                        journal.discardHead(journalIndex + 1);
+                        if (applyToIndex < journalIndex) {
+                            journal.setApplyTo(journalIndex);
+                            applyToIndex = journalIndex;
+                        }
+                    } else {
+                        LOG.debug("{}: recovered journal {}", memberId(), logEntry);
+                        recoverEntry(logEntry);
+                        if (isMigratedPayload(logEntry)) {
+                            setMigratedDataRecovered();
+                        }
+
+                        if (journalIndex <= applyToIndex) {
+                            applyEntry(logEntry);
+                            lastApplied = logEntry.index();
+                        }
                     }
                 }
 
-                journalIndex = reader.nextJournalIndex();
-                journalEntry = reader.nextEntry();
+                journalIndex = decoder.nextJournalIndex();
+                reportReplayed(decoder.entryCount(), sw.stop());
             }
 
             // We should have processed entries at least to applyToIndex
@@ -151,6 +160,14 @@ final class JournalRecovery<T extends State> extends Recovery<T> {
         }
     }
 
+    private void reportReplayed(final long entryCount, final Stopwatch sw) {
+        final var elapsed = sw.elapsed();
+        final var nanos = elapsed.toNanos();
+        LOG.debug("{}: replayed {} journal entries in {} ({} entries/s)", memberId(), entryCount, sw,
+            nanos > 0 ? entryCount * 1_000_000_000L / nanos : entryCount);
+        actor.recoveryObserver().onJournalReplayed(entryCount, elapsed);
+    }
+
     private void recoverEntry(final LogEntry entry) throws IOException {
         if (!recoveryLog.append(entry)) {
             throw new IOException("Failed to append entry " + entry);
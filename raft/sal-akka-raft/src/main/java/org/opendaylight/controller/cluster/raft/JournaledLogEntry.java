@@ -11,42 +11,116 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.VerifyException;
+import java.io.IOException;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.messages.Payload;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
+import org.opendaylight.controller.cluster.raft.spi.SerializedCommand;
+import org.opendaylight.raft.api.EntryMeta;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
 
 /**
- * A {@link ReplicatedLogEntry} implementation used by {@link ReplicatedLogImpl}.
+ * A {@link ReplicatedLogEntry} implementation used by {@link ReplicatedLogImpl}. An instance may have its
+ * {@link #command()} evicted, in which case it retains only its {@link EntryMeta} and sizes, and the command needs to be
+ * read back from the journal. An instance may also carry the {@link #serializedCommand()}, so that the command is
+ * serialized only once, both for the journal and for all peers it is sent to.
  */
 @NonNullByDefault
 final class JournaledLogEntry implements ReplicatedLogEntry {
     private final long index;
     private final long term;
-    private final Payload command;
+    // null if the command has been evicted, in which case evictedSize and evictedSerializedSize are valid
+    private final @Nullable Payload command;
+    private final int evictedSize;
+    private final int evictedSerializedSize;
+    // serialized form of command, if known, dropped along with the command
+    private final @Nullable SerializedCommand serializedCommand;
 
     private boolean persistencePending;
 
-    private JournaledLogEntry(final long index, final long term, final Payload command, boolean persistencePending) {
+    private JournaledLogEntry(final long index, final long term, final Payload command, boolean persistencePending,
+            final @Nullable SerializedCommand serializedCommand) {
         this.index = index;
         this.term = term;
         this.command = requireNonNull(command);
         this.persistencePending = persistencePending;
+        this.serializedCommand = serializedCommand;
+        evictedSize = 0;
+        evictedSerializedSize = 0;
+    }
+
+    private JournaledLogEntry(final JournaledLogEntry entry) {
+        index = entry.index;
+        term = entry.term;
+        command = null;
+        persistencePending = false;
+        evictedSize = entry.size();
+        evictedSerializedSize = entry.serializedSize();
+        serializedCommand = null;
     }
 
     static JournaledLogEntry of(final LogEntry entry) {
         return entry instanceof JournaledLogEntry simple && !simple.isPersistencePending() ? simple
-            : new JournaledLogEntry(entry.index(), entry.term(), entry.command().toSerialForm(), false);
+            : new JournaledLogEntry(entry.index(), entry.term(), entry.command().toSerialForm(), false,
+                entry.serializedCommand());
+    }
+
+    static JournaledLogEntry pendingOf(final long index, final long term, final Payload command,
+            final @Nullable SerializedCommand serializedCommand) {
+        return new JournaledLogEntry(index, term, command, true, serializedCommand);
+    }
+
+    /**
+     * Returns an entry with a command loaded from its {@link SerializedCommand}, which is retained.
+     *
+     * @param meta the entry's {@link EntryMeta}
+     * @param serializedCommand the serialized command
+     * @param objectStreams the {@link RestrictedObjectStreams} context
+     * @return a loaded entry
+     * @throws IOException if the command cannot be decoded
+     */
+    static JournaledLogEntry loadedOf(final EntryMeta meta, final SerializedCommand serializedCommand,
+            final RestrictedObjectStreams objectStreams) throws IOException {
+        return new JournaledLogEntry(meta.index(), meta.term(),
+            serializedCommand.toCommand(objectStreams).toSerialForm(), false, serializedCommand);
+    }
+
+    /**
+     * Returns an equivalent entry which does not hold {@link #command()}.
+     *
+     * @return an evicted entry
+     * @throws VerifyException if persistence of this entry is pending
+     */
+    JournaledLogEntry toEvicted() {
+        if (persistencePending) {
+            throw new VerifyException(this + " is pending");
+        }
+        return command == null ? this : new JournaledLogEntry(this);
     }
 
-    static JournaledLogEntry pendingOf(final long index, final long term, final Payload command) {
-        return new JournaledLogEntry(index, term, command, true);
+    /**
+     * Checks if this entry's command has been evicted.
+     *
+     * @return {@code true} if the command has been evicted
+     */
+    boolean isEvicted() {
+        return command == null;
     }
 
     @Override
     public Payload command() {
-        return command;
+        final var local = command;
+        if (local == null) {
+            throw new VerifyException(this + " has been evicted");
+        }
+        return local;
+    }
+
+    @Override
+    public @Nullable SerializedCommand serializedCommand() {
+        return serializedCommand;
     }
 
     @Override
@@ -61,13 +135,15 @@ final class JournaledLogEntry implements ReplicatedLogEntry {
 
     @Override
     public int size() {
-        return command.size();
+        final var local = command;
+        return local != null ? local.size() : evictedSize;
     }
 
     @Override
     public int serializedSize() {
         // Assumes WritableObjects.writeLongs() for index/term
-        return 17 + command.serializedSize();
+        final var local = command;
+        return local != null ? 17 + local.serializedSize() : evictedSerializedSize;
     }
 
     @Override
@@ -94,7 +170,7 @@ final class JournaledLogEntry implements ReplicatedLogEntry {
     @Override
     public boolean equals(final @Nullable Object obj) {
         return this == obj || obj instanceof JournaledLogEntry other && index == other.index
-            && term == other.term && command.equals(other.command);
+            && term == other.term && Objects.equals(command, other.command);
     }
 
     @Override
@@ -102,7 +178,7 @@ final class JournaledLogEntry implements ReplicatedLogEntry {
         return MoreObjects.toStringHelper(this)
             .add("index", index)
             .add("term", term)
-            .add("command", command)
+            .add("command", command != null ? command : "<evicted>")
             .add("pending", persistencePending)
             .toString();
     }
@@ -19,6 +19,8 @@ import org.opendaylight.controller.cluster.raft.persisted.VotingConfig;
 import org.opendaylight.controller.cluster.raft.spi.DisabledRaftStorage;
 import org.opendaylight.controller.cluster.raft.spi.EnabledRaftStorage;
 import org.opendaylight.controller.cluster.raft.spi.EntryJournal;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask.GroupCommit;
 import org.opendaylight.controller.cluster.raft.spi.RaftSnapshot;
 import org.opendaylight.controller.cluster.raft.spi.RaftStorage;
 import org.opendaylight.controller.cluster.raft.spi.RaftStorageCompleter;
@@ -49,8 +51,14 @@ final class PersistenceControl extends PersistenceProvider {
 
     PersistenceControl(final RaftStorageCompleter completer, final Path directory, final CompressionType compression,
             final Configuration streamConfig) {
+        this(completer, directory, compression, streamConfig, GroupCommit.DEFAULT);
+    }
+
+    PersistenceControl(final RaftStorageCompleter completer, final Path directory, final CompressionType compression,
+            final Configuration streamConfig, final GroupCommit groupCommit) {
         this(new DisabledRaftStorage(completer, directory, compression, streamConfig),
-            new EnabledRaftStorage(completer, directory, compression, streamConfig, DEFAULT_JOURNAL_MAPPED));
+            new EnabledRaftStorage(completer, directory, compression, streamConfig, DEFAULT_JOURNAL_MAPPED,
+                groupCommit));
     }
 
     void start() throws IOException {
@@ -76,13 +84,16 @@ final class PersistenceControl extends PersistenceProvider {
         return storage instanceof EnabledRaftStorage;
     }
 
-    /**
-     * {@return the underlying EntryJournal, if available}
-     */
+    @Override
     @Nullable EntryJournal journal() {
         return storage instanceof EnabledRaftStorage enabled ? enabled.journal() : null;
     }
 
+    @Override
+    @Nullable JournalWriteTask journalWriter() {
+        return storage instanceof EnabledRaftStorage enabled ? enabled.journalWriter() : null;
+    }
+
     @Override
     RaftStorageCompleter completer() {
         return storage.completer();
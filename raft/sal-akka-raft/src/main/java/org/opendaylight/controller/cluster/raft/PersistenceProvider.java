@@ -15,7 +15,10 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import java.util.function.BiFunction;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournal;
 import org.opendaylight.controller.cluster.raft.spi.EntryStore;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask;
 import org.opendaylight.controller.cluster.raft.spi.RaftStorageCompleter;
 import org.opendaylight.controller.cluster.raft.spi.SnapshotStore;
 
@@ -59,6 +62,20 @@ public abstract class PersistenceProvider {
 
     abstract RaftStorageCompleter completer();
 
+    /**
+     * {@return the underlying EntryJournal, if available}
+     */
+    @Nullable EntryJournal journal() {
+        return null;
+    }
+
+    /**
+     * {@return the JournalWriteTask writing to the underlying EntryJournal, if available}
+     */
+    @Nullable JournalWriteTask journalWriter() {
+        return null;
+    }
+
     final void setStorage(final EntryStore newEntryStore, final SnapshotStore newSnapshotStore) {
         entryStore = requireNonNull(newEntryStore);
         snapshotStore = requireNonNull(newSnapshotStore);
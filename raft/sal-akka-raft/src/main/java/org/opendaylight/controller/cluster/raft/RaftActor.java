@@ -60,6 +60,7 @@ import org.opendaylight.controller.cluster.raft.persisted.NoopPayload;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
 import org.opendaylight.controller.cluster.raft.spi.AbstractRaftCommand;
 import org.opendaylight.controller.cluster.raft.spi.AbstractStateCommand;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask.GroupCommit;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
 import org.opendaylight.controller.cluster.raft.spi.NoopRecoveryObserver;
 import org.opendaylight.controller.cluster.raft.spi.RaftCommand;
@@ -147,7 +148,8 @@ public abstract class RaftActor extends AbstractUntypedActor {
         final var streamConfig = new FileBackedOutputStream.Configuration(config.getFileBackedStreamingThreshold(),
             config.getTempFileDirectory());
         persistenceControl = new PersistenceControl(completer, localAccess.stateDir(),
-            config.getPreferredCompression(), streamConfig);
+            config.getPreferredCompression(), streamConfig, new GroupCommit(config.getJournalGroupCommitLingerMicros(),
+                config.getJournalGroupCommitMaxBytes()));
 
         context = new RaftActorContextImpl(self(), getContext(), localAccess, peerInfos, config, payloadVersion,
             objectStreams, persistenceControl, this::applyCommand);
@@ -210,6 +212,7 @@ public abstract class RaftActor extends AbstractUntypedActor {
             }
         }
         persistenceControl.stop();
+        context.close();
 
         super.postStop();
     }
@@ -99,7 +99,7 @@ public class RaftActorContextImpl implements RaftActorContext {
         fileBackedOutputStreamFactory = new FileBackedOutputStreamFactory(
                 configParams.getFileBackedStreamingThreshold(), configParams.getTempFileDirectory());
 
-        replicatedLog = new ReplicatedLogImpl(this);
+        replicatedLog = new ReplicatedLogImpl(this, persistenceProvider::journalWriter);
     }
 
     @VisibleForTesting
@@ -166,6 +166,15 @@ public class RaftActorContextImpl implements RaftActorContext {
         termInformation.storeAndSetTerm(newElectionInfo);
     }
 
+    /**
+     * Release resources held by this context. Invoked when the actor stops.
+     */
+    void close() {
+        if (replicatedLog instanceof ReplicatedLogImpl impl) {
+            impl.close();
+        }
+    }
+
     @VisibleForTesting
     @Deprecated(forRemoval = true)
     public final void resetReplicatedLog(final @NonNull ReplicatedLog newState) {
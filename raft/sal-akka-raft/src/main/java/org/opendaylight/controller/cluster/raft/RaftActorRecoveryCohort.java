@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.cluster.raft;
 
+import java.io.IOException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.controller.cluster.raft.spi.StateCommand;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot;
@@ -35,6 +36,19 @@ public interface RaftActorRecoveryCohort {
      */
     void startLogRecoveryBatch(int maxBatchSize);
 
+    /**
+     * This method is called during recovery before a {@link StateCommand} is passed to
+     * {@link #appendRecoveredCommand(StateCommand)}, giving the implementation a chance to perform any expensive
+     * decoding ahead of time. Unlike the other methods, it may be invoked concurrently from multiple threads other than
+     * the actor's and must not touch any state other than the command itself. The default implementation does nothing.
+     *
+     * @param command the command
+     * @throws IOException if the command cannot be decoded
+     */
+    default void prepareRecoveredCommand(final StateCommand command) throws IOException {
+        // No-op
+    }
+
     /**
      * This method is called during recovery to append a {@link StateCommand} to the current batch. This method is
      * called 1 or more times after {@link #startLogRecoveryBatch}.
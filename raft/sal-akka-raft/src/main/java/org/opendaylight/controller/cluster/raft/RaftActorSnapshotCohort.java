@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.raft;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot.State;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot.Support;
@@ -28,6 +29,27 @@ public interface RaftActorSnapshotCohort<T extends State> {
      */
     @NonNull T takeSnapshot();
 
+    /**
+     * Take a delta snapshot of current state, containing only the changes made since the last call to this method or to
+     * {@link #resetDeltaBase()}. During recovery the returned snapshot is passed to
+     * {@link RaftActorRecoveryCohort#applyRecoveredSnapshot(StateSnapshot)} after the snapshot it is based on. The
+     * default implementation returns {@code null}.
+     *
+     * @return a delta snapshot, or {@code null} if a delta snapshot cannot be taken and a full snapshot should be taken
+     *         instead
+     */
+    default @Nullable T takeDeltaSnapshot() {
+        return null;
+    }
+
+    /**
+     * Reset the base of the next {@link #takeDeltaSnapshot()} to current state. This method is invoked when a full
+     * snapshot of current state is being persisted. The default implementation does nothing.
+     */
+    default void resetDeltaBase() {
+        // No-op
+    }
+
     /**
      * This method is called to apply a snapshot installed by the leader.
      *
@@ -18,7 +18,11 @@ public final class RaftVersions {
     // BORON_VERSION = 3
     public static final short FLUORINE_VERSION = 4;
     public static final short ARGON_VERSION = 5;
-    public static final short CURRENT_VERSION = ARGON_VERSION;
+    /**
+     * Titanium version, which ships {@code AppendEntries} commands in their serialized form, as stored in the journal.
+     */
+    public static final short TITANIUM_VERSION = 6;
+    public static final short CURRENT_VERSION = TITANIUM_VERSION;
 
     private RaftVersions() {
         // Hidden on purpose
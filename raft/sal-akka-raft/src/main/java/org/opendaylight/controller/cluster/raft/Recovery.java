@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Instant;
@@ -20,7 +21,6 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.persisted.MigratedSerializable;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot.State;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
@@ -90,11 +90,12 @@ abstract sealed class Recovery<T extends @NonNull State> permits JournalRecovery
 
         final List<LogEntry> entries;
         final EntryInfo lastIncluded;
-        final State state;
+        final List<State> states;
 
         // Consult SnapshotStore next
-        final var snapshotFile = snapshotStore().lastSnapshot();
-        if (snapshotFile != null) {
+        final var snapshotChain = snapshotStore().lastSnapshotChain();
+        if (!snapshotChain.isEmpty()) {
+            final var snapshotFile = snapshotChain.getLast();
             LOG.debug("{}: initializing from snapshot taken at {}", memberId(), snapshotFile.timestamp());
             setDataRecovered();
 
@@ -112,15 +113,28 @@ abstract sealed class Recovery<T extends @NonNull State> permits JournalRecovery
             }
 
             lastIncluded = snapshotFile.lastIncluded();
-            state = snapshotFile.readSnapshot(snapshotCohort.support().reader());
+
+            // Read the full snapshot and any delta snapshots based on it
+            final var reader = snapshotCohort.support().reader();
+            final var builder = ImmutableList.<State>builderWithExpectedSize(snapshotChain.size());
+            for (var file : snapshotChain) {
+                final var state = file.readSnapshot(reader);
+                if (state != null) {
+                    builder.add(state);
+                }
+            }
+            states = builder.build();
+            if (snapshotChain.size() > 1) {
+                LOG.debug("{}: snapshot state consists of {} snapshots", memberId(), snapshotChain.size());
+            }
         } else {
             entries = List.of();
             lastIncluded = EntryInfo.of(-1, -1);
-            state = null;
+            states = List.of();
         }
 
         // Recover snapshot state, entries and possibly play out journal, if present
-        doRecover(lastIncluded, state, entries);
+        doRecover(lastIncluded, states, entries);
         applyRecoveredCommands();
 
         final var recoveryTime = stopRecoveryTimers();
@@ -137,12 +151,18 @@ abstract sealed class Recovery<T extends @NonNull State> permits JournalRecovery
     }
 
     @NonNullByDefault
-    abstract void doRecover(EntryInfo lastIncluded, @Nullable State state, List<LogEntry> entries)
+    abstract void doRecover(EntryInfo lastIncluded, List<State> states, List<LogEntry> entries)
         throws IOException;
 
+    /**
+     * Initialize state from a snapshot.
+     *
+     * @param lastIncluded last journal entry included in the snapshot
+     * @param states snapshot states to apply, in order: a full snapshot followed by any delta snapshots
+     */
     @NonNullByDefault
-    final void initializeState(final EntryInfo lastIncluded, final @Nullable State state) {
-        if (state != null) {
+    final void initializeState(final EntryInfo lastIncluded, final List<State> states) {
+        for (var state : states) {
             if (state.needsMigration()) {
                 setMigratedDataRecovered();
             }
@@ -383,6 +383,29 @@ public interface ReplicatedLog {
      */
     int dataSize();
 
+    /**
+     * Returns the size of the data in the log which is held on heap (in bytes). This is {@link #dataSize()} less the
+     * size of entries evicted via {@link #evictPayloads(long, long)}.
+     *
+     * @return the size of the data in the log held on heap (in bytes)
+     */
+    default long onHeapDataSize() {
+        return dataSize();
+    }
+
+    /**
+     * Evicts commands of entries up to and including specified index from heap, oldest first, until
+     * {@link #onHeapDataSize()} does not exceed specified budget. Evicted commands are read back from the persistent
+     * journal when they are needed again. Entries whose persistence is pending are never evicted. Default implementation
+     * does nothing.
+     *
+     * @param index the index of the last entry which may be evicted
+     * @param heapBudget the number of bytes which may be retained on heap
+     */
+    default void evictPayloads(final long index, final long heapBudget) {
+        // No-op
+    }
+
     /**
      * Determines if a snapshot needs to be captured based on the count/memory consumed and initiates the capture.
      *
@@ -9,22 +9,35 @@ package org.opendaylight.controller.cluster.raft;
 
 import static java.util.Objects.requireNonNull;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Throwables;
+import com.google.common.base.VerifyException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.common.actor.MeteringBehavior;
 import org.opendaylight.controller.cluster.raft.messages.Payload;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournal;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
 import org.opendaylight.controller.cluster.raft.spi.RaftCallback;
+import org.opendaylight.controller.cluster.raft.spi.SerializedCommand;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.raft.api.EntryMeta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Implementation of ReplicatedLog used by the RaftActor.
+ * Implementation of ReplicatedLog used by the RaftActor. Commands of entries are serialized once, when they are appended,
+ * and their {@link SerializedCommand} is kept with them, so that it can be stored in the {@link EntryJournal} and sent
+ * to peers without touching the journal. Commands of entries which have been persisted may be evicted from heap, in
+ * which case they are read back from the {@link EntryJournal} as needed. All such reads go through the
+ * {@link JournalWriteTask}, which synchronizes them with its modifications of the journal.
  */
 final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
     /**
@@ -80,7 +93,10 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
 
         @Override
         void invoke(final long serializedCommandSize) {
-            invokeSync(entry, () -> callback.accept(userEntry));
+            invokeSync(entry, () -> {
+                persistedIndex = Math.max(persistedIndex, entry.index());
+                callback.accept(userEntry);
+            });
         }
     }
 
@@ -94,6 +110,7 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
         void invoke(final long serializedCommandSize) {
             invokeSync(entry, () -> {
                 entry.clearPersistencePending();
+                persistedIndex = Math.max(persistedIndex, entry.index());
                 callback.accept(entry);
             });
         }
@@ -104,12 +121,45 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
     private static final int DATA_SIZE_DIVIDER = 5;
 
     private final RaftActorContext context;
+    private final Supplier<@Nullable JournalWriteTask> writerSupplier;
+    private final Gauge<Long> onHeapBytesGauge = this::onHeapDataSize;
 
     private long dataSizeSinceLastSnapshot = 0L;
 
+    // The highest index known to have been persisted since we were instantiated. Only entries at or below this index
+    // are evicted.
+    private long persistedIndex = -1;
+
+    // The writer from which evicted entries are loaded, i.e. the writer which was active when they were last evicted
+    // or loaded. It is replaced by the current writer if it can no longer read them.
+    private @Nullable JournalWriteTask evictionWriter;
+
     ReplicatedLogImpl(final RaftActorContext context) {
+        this(context, () -> null);
+    }
+
+    ReplicatedLogImpl(final RaftActorContext context, final Supplier<@Nullable JournalWriteTask> writerSupplier) {
         super(context.getId());
         this.context = context;
+        this.writerSupplier = requireNonNull(writerSupplier);
+
+        final var registry = metricRegistry();
+        final var onHeapBytes = MetricRegistry.name(memberId, "log", "onHeapBytes");
+        registry.remove(onHeapBytes);
+        registry.register(onHeapBytes, onHeapBytesGauge);
+    }
+
+    /**
+     * Release resources held by this log. The gauge reporting on-heap bytes is removed, unless it has already been
+     * replaced by another instance.
+     */
+    void close() {
+        metricRegistry().removeMatching((name, metric) -> metric == onHeapBytesGauge);
+        evictionWriter = null;
+    }
+
+    private static MetricRegistry metricRegistry() {
+        return MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry();
     }
 
     @Override
@@ -117,6 +167,7 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
         long adjustedIndex = removeFrom(fromIndex);
         if (adjustedIndex >= 0) {
             context.entryStore().discardTail(adjustedIndex + firstJournalIndex());
+            persistedIndex = Math.min(persistedIndex, fromIndex - 1);
             return true;
         }
         return false;
@@ -161,7 +212,8 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
             // as if we were maintaining a real snapshot
             return dataSizeSinceLastSnapshot / DATA_SIZE_DIVIDER;
         }
-        return dataSize();
+        // Evicted entries do not occupy heap, hence should not drive snapshots
+        return onHeapDataSize();
     }
 
     @Override
@@ -184,7 +236,7 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
     public boolean appendSubmitted(final long index, final long term, final Payload command,
             final Consumer<ReplicatedLogEntry> callback)  {
         requireNonNull(callback);
-        final var entry = JournaledLogEntry.pendingOf(index, term, command);
+        final var entry = JournaledLogEntry.pendingOf(index, term, command, serialize(command));
         LOG.debug("{}: Append log entry and persist {} ", memberId, entry);
 
         final var ret = appendImpl(entry);
@@ -194,6 +246,15 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
         return ret;
     }
 
+    private @Nullable SerializedCommand serialize(final Payload command) {
+        try {
+            return SerializedCommand.of(command);
+        } catch (IOException e) {
+            LOG.warn("{}: failed to serialize {}, it will be serialized as needed", memberId, command, e);
+            return null;
+        }
+    }
+
     @NonNullByDefault
     private void invokeSync(final ReplicatedLogEntry entry, final @Nullable Runnable callback) {
         LOG.debug("{}: persist complete {}", memberId, entry);
@@ -214,4 +275,84 @@ final class ReplicatedLogImpl extends AbstractReplicatedLog<JournaledLogEntry> {
     protected JournaledLogEntry adoptEntry(final LogEntry entry) {
         return JournaledLogEntry.of(entry);
     }
+
+    @Override
+    protected boolean isEvicted(final JournaledLogEntry entry) {
+        return entry.isEvicted();
+    }
+
+    @Override
+    protected JournaledLogEntry evictEntry(final JournaledLogEntry entry) {
+        if (entry.index() > persistedIndex) {
+            return null;
+        }
+        // Keep the entry on heap if there is no journal we could load it from
+        final var writer = writerSupplier.get();
+        if (writer == null || !writer.isReadable()) {
+            return null;
+        }
+        evictionWriter = writer;
+        return entry.toEvicted();
+    }
+
+    @Override
+    protected JournaledLogEntry loadEvicted(final int offset, final JournaledLogEntry entry) {
+        final var journalIndex = firstJournalIndex() + offset;
+        final var writer = evictionWriter;
+        IOException failure = null;
+        if (writer != null) {
+            try {
+                return readEvicted(writer, journalIndex, entry);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        // The writer may have been closed, failed or replaced since the entry was evicted, retry with the current one
+        final var current = writerSupplier.get();
+        if (current == null || current == writer) {
+            if (failure != null) {
+                throw new UncheckedIOException("Failed to load " + entry, failure);
+            }
+            throw new VerifyException("No journal to load " + entry);
+        }
+        if (failure != null) {
+            LOG.debug("{}: failed to load {}, retrying with current journal", memberId, entry, failure);
+        }
+
+        final JournaledLogEntry loaded;
+        try {
+            loaded = readEvicted(current, journalIndex, entry);
+        } catch (IOException e) {
+            if (failure != null) {
+                e.addSuppressed(failure);
+            }
+            throw new UncheckedIOException("Failed to load " + entry, e);
+        }
+        evictionWriter = current;
+        return loaded;
+    }
+
+    @NonNullByDefault
+    private JournaledLogEntry readEvicted(final JournalWriteTask writer, final long journalIndex,
+            final JournaledLogEntry entry) throws IOException {
+        // Retain the serialized command, so that the entry can be sent to peers without serializing it again
+        final var loaded = readJournalEntry(writer, journalIndex, entry,
+            journalEntry -> JournaledLogEntry.loadedOf(entry, journalEntry.toSerializedCommand(),
+                context.objectStreams()));
+        LOG.trace("{}: loaded evicted {} from journal index {}", memberId, entry, journalIndex);
+        return loaded;
+    }
+
+    @NonNullByDefault
+    private static <T> T readJournalEntry(final JournalWriteTask writer, final long journalIndex,
+            final EntryMeta expected, final JournalWriteTask.EntryFunction<T> function) throws IOException {
+        return writer.readEntry(journalIndex, journalEntry -> {
+            if (journalEntry.index() != expected.index() || journalEntry.term() != expected.term()) {
+                throw new VerifyException("Journal index " + journalIndex + " contains " + journalEntry
+                    + " instead of " + expected);
+            }
+            return function.apply(journalEntry);
+        });
+    }
 }
@@ -280,6 +280,16 @@ public final class SnapshotManager {
     private @NonNull RaftActorSnapshotCohort<?> snapshotCohort = NoopRaftActorSnapshotCohort.INSTANCE;
     private @NonNull Task task = Idle.INSTANCE;
 
+    /**
+     * Timestamp of the last persisted snapshot, which can serve as the base of a delta snapshot, or {@code null} if the
+     * next snapshot needs to be a full snapshot.
+     */
+    private @Nullable Instant deltaBase;
+    /**
+     * Number of delta snapshots taken since the last full snapshot.
+     */
+    private int deltaSnapshots;
+
     /**
      * Constructs an instance.
      *
@@ -341,7 +351,7 @@ public final class SnapshotManager {
     @NonNullByDefault
     private <T extends Snapshot.State> boolean captureToInstall(final RaftActorSnapshotCohort<T> typedCohort,
             final CaptureSnapshot request) {
-        final var snapshot = typedCohort.takeSnapshot();
+        final var snapshot = takeFullSnapshot(typedCohort);
         context.snapshotStore().streamToInstall(request.lastApplied(),
             ToStorage.of(typedCohort.support().writer(), snapshot), new CaptureToInstallCallback<>(snapshot));
         return true;
@@ -379,13 +389,41 @@ public final class SnapshotManager {
 
     private boolean capture(final @NonNull CaptureSnapshot request) {
         LOG.info("{}: Initiating snapshot capture {}", memberId(), request);
-        final var snapshotState = snapshotCohort.takeSnapshot();
+
+        // Take a delta snapshot if we have a base and have not reached the limit of consecutive delta snapshots
+        final var base = deltaBase;
+        final var delta = base != null && deltaSnapshots < context.getConfigParams().getMaxDeltaSnapshots()
+            ? snapshotCohort.takeDeltaSnapshot() : null;
+        final Snapshot.State snapshotState;
+        final Instant snapshotBase;
+        if (delta != null) {
+            deltaBase = null;
+            deltaSnapshots++;
+            snapshotState = delta;
+            snapshotBase = base;
+            LOG.debug("{}: captured delta snapshot {} based on {}", memberId(), deltaSnapshots, base);
+        } else {
+            snapshotState = takeFullSnapshot(snapshotCohort);
+            snapshotBase = null;
+        }
+
         final var lastJournalIndex = context.getReplicatedLog().lastAppliedJournalIndex();
         LOG.debug("{}: captured snapshot at lastSequenceNumber: {}", memberId(), lastJournalIndex);
-        persist(lastJournalIndex, request, snapshotState);
+        persist(lastJournalIndex, request, snapshotState, snapshotBase);
         return true;
     }
 
+    @NonNullByDefault
+    private <T extends Snapshot.State> T takeFullSnapshot(final RaftActorSnapshotCohort<T> typedCohort) {
+        // Any delta snapshots are going to be based on this snapshot once it is persisted
+        deltaBase = null;
+        deltaSnapshots = 0;
+        if (context.getConfigParams().getMaxDeltaSnapshots() > 0) {
+            typedCohort.resetDeltaBase();
+        }
+        return typedCohort.takeSnapshot();
+    }
+
     @NonNullByDefault
     private CaptureSnapshot newCaptureSnapshot(final @Nullable EntryMeta lastLogEntry, final long replicatedToAllIndex,
             final boolean mandatoryTrim) {
@@ -425,17 +463,21 @@ public final class SnapshotManager {
         final var callback = leaderSnapshot.callback;
         final var lastJournalIndex = context.getReplicatedLog().lastAppliedJournalIndex();
         task = new PersistApply(lastJournalIndex, snapshot, callback);
+        deltaBase = null;
         LOG.debug("{}: last applied journal index prior to persisting applied snapshot: {}", memberId(),
             lastJournalIndex);
-        saveSnapshot(new RaftSnapshot(snapshot.votingConfig()), snapshot.lastApplied(), snapshot.state(),
+        saveSnapshot(new RaftSnapshot(snapshot.votingConfig()), snapshot.lastApplied(), snapshot.state(), null,
             lastJournalIndex);
     }
 
     @NonNullByDefault
     private <T extends StateSnapshot> void saveSnapshot(final RaftSnapshot raftSnapshot, final EntryInfo lastIncluded,
-            final Snapshot.@Nullable State snapshot, final long lastJournalIndex) {
+            final Snapshot.@Nullable State snapshot, final @Nullable Instant snapshotBase,
+            final long lastJournalIndex) {
+        final var writer = snapshotCohort().support().writer();
         context.snapshotStore().saveSnapshot(raftSnapshot, lastIncluded,
-            ToStorage.ofNullable(snapshotCohort().support().writer(), snapshot),
+            snapshot != null && snapshotBase != null ? ToStorage.ofDelta(writer, snapshot, snapshotBase)
+                : ToStorage.ofNullable(writer, snapshot),
             new SaveSnapshotCallback(lastJournalIndex));
     }
 
@@ -453,7 +495,7 @@ public final class SnapshotManager {
             return;
         }
 
-        persist(lastJournalIndex, request, snapshotState);
+        persist(lastJournalIndex, request, snapshotState, null);
 
         if (context.getCurrentBehavior() instanceof AbstractLeader leader) {
             leader.sendInstallSnapshot(installable);
@@ -461,14 +503,14 @@ public final class SnapshotManager {
     }
 
     private void persist(final long lastJournalIndex, final CaptureSnapshot request,
-            final Snapshot.State snapshotState) {
+            final Snapshot.State snapshotState, final @Nullable Instant snapshotBase) {
         // create a snapshot object from the state provided and save it when snapshot is saved async,
 
         LOG.info("{}: Persising snapshot at {}/{}", memberId(), request.lastApplied(), request.lastEntry());
 
         // Note: we ignore unapplied entries, as that is not what we want to trim
         saveSnapshot(new RaftSnapshot(context.getPeerServerInfo(true)), request.lastApplied(), snapshotState,
-            lastJournalIndex);
+            snapshotBase, lastJournalIndex);
 
         final var config = context.getConfigParams();
         final long absoluteThreshold = config.getSnapshotDataThreshold();
@@ -476,7 +518,7 @@ public final class SnapshotManager {
                 : context.getTotalMemory() * config.getSnapshotDataThresholdPercentage() / 100;
 
         final var replLog = context.getReplicatedLog();
-        final boolean dataSizeThresholdExceeded = replLog.dataSize() > dataThreshold;
+        final boolean dataSizeThresholdExceeded = replLog.onHeapDataSize() > dataThreshold;
         final boolean logSizeExceededSnapshotBatchCount = replLog.size() >= config.getSnapshotBatchCount();
 
         final var currentBehavior = context.getCurrentBehavior();
@@ -485,7 +527,7 @@ public final class SnapshotManager {
                 final var lastAppliedIndex = request.getLastAppliedIndex();
                 if (dataSizeThresholdExceeded) {
                     LOG.debug("{}: log data size {} exceeds the memory threshold {} - doing snapshotPreCommit "
-                            + "with index {}", memberId(), replLog.dataSize(), dataThreshold, lastAppliedIndex);
+                            + "with index {}", memberId(), replLog.onHeapDataSize(), dataThreshold, lastAppliedIndex);
                 } else if (logSizeExceededSnapshotBatchCount) {
                     LOG.debug(
                         "{}: log size {} exceeds the snapshot batch count {} - doing snapshotPreCommit with index {}",
@@ -542,6 +584,7 @@ public final class SnapshotManager {
         }
 
         final var lastJournalIndex = commit(persist);
+        deltaBase = timestamp;
         LOG.debug("{}: Snapshot success, discarding journal entries up to {}", memberId(), lastJournalIndex);
         context.entryStore().discardHead(lastJournalIndex + 1);
 
@@ -566,6 +609,12 @@ public final class SnapshotManager {
                         applySnapshotState(snapshotCohort, state);
                     }
 
+                    // The applied snapshot is the base of any subsequent delta snapshots
+                    deltaSnapshots = 0;
+                    if (context.getConfigParams().getMaxDeltaSnapshots() > 0) {
+                        snapshotCohort.resetDeltaBase();
+                    }
+
                     if (callback != null) {
                         callback.onSuccess();
                     }
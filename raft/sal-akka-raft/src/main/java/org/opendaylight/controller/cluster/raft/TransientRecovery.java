@@ -9,7 +9,6 @@ package org.opendaylight.controller.cluster.raft;
 
 import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot.State;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
 import org.opendaylight.raft.api.EntryInfo;
@@ -27,9 +26,9 @@ final class TransientRecovery<T extends State> extends Recovery<T> {
     }
 
     @Override
-    void doRecover(final EntryInfo lastIncluded, final @Nullable State state, final List<LogEntry> entries) {
+    void doRecover(final EntryInfo lastIncluded, final List<State> states, final List<LogEntry> entries) {
         // This should be boil down to a no-op, but let's be explicit
-        initializeState(EntryInfo.of(-1, -1), null);
+        initializeState(EntryInfo.of(-1, -1), List.of());
     }
 
     @Override
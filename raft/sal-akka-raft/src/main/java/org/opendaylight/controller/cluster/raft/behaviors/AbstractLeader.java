@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -36,6 +37,7 @@ import org.opendaylight.controller.cluster.raft.FollowerLogInformation;
 import org.opendaylight.controller.cluster.raft.PeerInfo;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
 import org.opendaylight.controller.cluster.raft.RaftVersions;
+import org.opendaylight.controller.cluster.raft.ReplicatedLog;
 import org.opendaylight.controller.cluster.raft.VotingState;
 import org.opendaylight.controller.cluster.raft.base.messages.Replicate;
 import org.opendaylight.controller.cluster.raft.messages.AppendEntries;
@@ -114,6 +116,8 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
     private Cancellable heartbeatSchedule = null;
     private InstallableSnapshot snapshotHolder = null;
     private int minReplicationCount;
+    // Scratch space for quorumMatchIndex()
+    private long[] votingMatchIndices = new long[0];
 
     AbstractLeader(final RaftActorContext context, final RaftRole state,
             final @Nullable AbstractLeader initializeFromLeader) {
@@ -122,6 +126,7 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         appendEntriesMessageSlicer = MessageSlicer.builder()
             .logContext(logName)
             .messageSliceSize(context.getConfigParams().getMaximumMessageSliceSize())
+            .sliceWindowSize(context.getConfigParams().getMessageSliceWindow())
             .expireStateAfterInactivity(
                 context.getConfigParams().getElectionTimeOutInterval().toMillis() * 3, TimeUnit.MILLISECONDS)
             .build();
@@ -285,12 +290,17 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
                         followersLastLogTermInLeadersLog, followerLogInformation.getNextIndex());
             } else {
                 updated = updateFollowerLogInformation(followerLogInformation, appendEntriesReply);
+                followerLogInformation.pipelineAcknowledged(followerLastLogIndex);
             }
         } else {
             LOG.info("{}: handleAppendEntriesReply - received unsuccessful reply: {}, leader snapshotIndex: {}, "
                     + "snapshotTerm: {}, replicatedToAllIndex: {}", logName, appendEntriesReply,
                     replLog.getSnapshotIndex(), replLog.getSnapshotTerm(), getReplicatedToAllIndex());
 
+            // Anything we have pipelined past this point is useless, fall back to stop-and-wait until we find where
+            // the logs match
+            followerLogInformation.resetPipeline();
+
             long followersLastLogTermInLeadersLogOrSnapshot = replLog.getLogEntryOrSnapshotTerm(followerLastLogIndex);
             if (appendEntriesReply.isForceInstallSnapshot()) {
                 // Reset the followers match and next index. This is to signal that this follower has nothing
@@ -339,12 +349,44 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
     }
 
     private void possiblyUpdateCommitIndex() {
-        // Figure out if we can update the the commitIndex as follows:
-        //   If there exists an index N such that N > commitIndex, a majority of matchIndex[i] ≥ N,
-        //     and log[N].term == currentTerm:
-        //   set commitIndex = N (§5.3, §5.4).
         final var replLog = context.getReplicatedLog();
-        for (long index = replLog.getCommitIndex() + 1; ; index++) {
+        final var newCommitIndex = findNewCommitIndex(replLog);
+        if (newCommitIndex > replLog.getCommitIndex()) {
+            LOG.trace("{}: Setting commit index to {}", logName, newCommitIndex);
+            replLog.setCommitIndex(newCommitIndex);
+        }
+
+        // Apply the change to the state machine
+        if (replLog.getCommitIndex() > replLog.getLastApplied()) {
+            LOG.debug("{}: Applying to log - commitIndex: {}, lastAppliedIndex: {}", logName,
+                replLog.getCommitIndex(), replLog.getLastApplied());
+
+            applyLogToStateMachine(replLog.getCommitIndex());
+        }
+
+        if (!context.getSnapshotManager().isCapturing()) {
+            purgeInMemoryLog();
+        }
+    }
+
+    /**
+     * Find the new commit index as follows:
+     * <pre>
+     *   If there exists an index N such that N > commitIndex, a majority of matchIndex[i] ≥ N,
+     *     and log[N].term == currentTerm:
+     *   set commitIndex = N (§5.3, §5.4).
+     * </pre>
+     * Rather than counting replicas for each N, we determine the highest index replicated to a majority once, via
+     * {@link #quorumMatchIndex()}, and then only check the log entries up to that index.
+     *
+     * @param replLog the {@link ReplicatedLog}
+     * @return the new commit index, which is equal to current commit index if it cannot be advanced
+     */
+    @VisibleForTesting
+    final long findNewCommitIndex(final ReplicatedLog replLog) {
+        final var quorumIndex = quorumMatchIndex();
+        long newCommitIndex = replLog.getCommitIndex();
+        for (long index = newCommitIndex + 1; index <= quorumIndex; index++) {
             final var storedMeta = replLog.lookupStoredMeta(index);
             if (storedMeta == null) {
                 LOG.trace("{}: ReplicatedLogEntry not found for index {} - snapshotIndex: {}, journal size: {}",
@@ -352,9 +394,7 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
                 break;
             }
 
-            final var logEntry = storedMeta.meta();
-            int replicatedCount = storedMeta.durable() ? 1 : 0;
-            if (replicatedCount == 0) {
+            if (!storedMeta.durable()) {
                 // FIXME: Revisit this piece of code once we have simplified ReplicatedLog/persistence/snapshotting
                 //        interactions. We really should be counting ourselves as 0 in replicatedCount -- i.e. the state
                 //        before CONTROLLER-1490's https://git.opendaylight.org/gerrit/c/controller/+/48441.
@@ -388,51 +428,71 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
                 break;
             }
 
-            LOG.trace("{}: checking Nth index {}", logName, index);
-            for (var logInfo : followerToLog.values()) {
-                final var peerInfo = context.getPeerInfo(logInfo.getId());
-                if (logInfo.getMatchIndex() >= index && peerInfo != null && peerInfo.isVoting()) {
-                    replicatedCount++;
-                } else if (LOG.isTraceEnabled()) {
-                    LOG.trace("{}: Not counting follower {} - matchIndex: {}, {}", logName, logInfo.getId(),
-                            logInfo.getMatchIndex(), peerInfo);
-                }
-            }
-
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("{}: replicatedCount {}, minReplicationCount: {}", logName, replicatedCount,
-                        minReplicationCount);
-            }
-            if (replicatedCount < minReplicationCount) {
-                LOG.trace("{}: minReplicationCount not reached, actual {} - breaking", logName, replicatedCount);
-                break;
-            }
-
             // Don't update the commit index if the log entry is from a previous term, as per §5.4.1:
             // "Raft never commits log entries from previous terms by counting replicas".
             // However we keep looping so we can make progress when new entries in the current term
-            // reach consensus, as per §5.4.1: "once an entry from the current term is committed by
+            // have reached consensus, as per §5.4.1: "once an entry from the current term is committed by
             // counting replicas, then all prior entries are committed indirectly".
+            final var logEntry = storedMeta.meta();
             if (logEntry.term() == currentTerm()) {
-                LOG.trace("{}: Setting commit index to {}", logName, index);
-                replLog.setCommitIndex(index);
+                newCommitIndex = index;
             } else {
                 LOG.debug("{}: Not updating commit index to {} - retrieved log entry with index {}, term {} does not "
                     + "match the current term {}", logName, index, logEntry.index(), logEntry.term(), currentTerm());
             }
         }
 
-        // Apply the change to the state machine
-        if (replLog.getCommitIndex() > replLog.getLastApplied()) {
-            LOG.debug("{}: Applying to log - commitIndex: {}, lastAppliedIndex: {}", logName,
-                replLog.getCommitIndex(), replLog.getLastApplied());
+        return newCommitIndex;
+    }
 
-            applyLogToStateMachine(replLog.getCommitIndex());
+    /**
+     * Determine the highest index replicated to a majority of voting members, counting ourselves as having replicated
+     * all entries. This is the {@code minReplicationCount - 1}-th largest {@code matchIndex} of voting followers.
+     *
+     * @return the highest replicated index, {@link Long#MAX_VALUE} if we form a majority on our own, or {@code -1} if
+     *         there are not enough voting followers
+     */
+    private long quorumMatchIndex() {
+        final int required = minReplicationCount - 1;
+        if (required <= 0) {
+            return Long.MAX_VALUE;
         }
 
-        if (!context.getSnapshotManager().isCapturing()) {
-            purgeInMemoryLog();
+        int count = 0;
+        for (var logInfo : followerToLog.values()) {
+            final var peerInfo = context.getPeerInfo(logInfo.getId());
+            if (peerInfo != null && peerInfo.isVoting()) {
+                if (count == votingMatchIndices.length) {
+                    votingMatchIndices = Arrays.copyOf(votingMatchIndices, Math.max(count * 2, 4));
+                }
+                votingMatchIndices[count++] = logInfo.getMatchIndex();
+            } else if (LOG.isTraceEnabled()) {
+                LOG.trace("{}: Not counting follower {} - matchIndex: {}, {}", logName, logInfo.getId(),
+                    logInfo.getMatchIndex(), peerInfo);
+            }
+        }
+
+        if (count < required) {
+            LOG.trace("{}: minReplicationCount {} not reachable with {} voting followers", logName,
+                minReplicationCount, count);
+            return -1;
+        }
+
+        // Select the required-th largest matchIndex
+        Arrays.sort(votingMatchIndices, 0, count);
+        final var ret = votingMatchIndices[count - required];
+        LOG.trace("{}: quorum matchIndex {}, minReplicationCount: {}", logName, ret, minReplicationCount);
+        return ret;
+    }
+
+    @Override
+    final long evictablePayloadIndex() {
+        // Do not evict entries we have not sent to all followers yet
+        long ret = super.evictablePayloadIndex();
+        for (var info : followerToLog.values()) {
+            ret = Math.min(ret, info.getPipelineNextIndex() - 1);
         }
+        return ret;
     }
 
     private boolean updateFollowerLogInformation(final FollowerLogInformation followerLogInformation,
@@ -576,35 +636,38 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         installSnapshotState.resetChunkTimer();
         followerLogInfo.markFollowerActive();
 
-        final var expectedChunkIndex = installSnapshotState.getChunkIndex();
         final var replyChunkIndex = reply.getChunkIndex();
-        if (replyChunkIndex != expectedChunkIndex) {
-            LOG.error("{}: Chunk index {} in InstallSnapshotReply from follower {} does not match expected index {}",
-                logName, replyChunkIndex, followerId, expectedChunkIndex);
-
-            if (replyChunkIndex == LeaderInstallSnapshotState.INVALID_CHUNK_INDEX) {
-                // Since the Follower did not find this index to be valid we should reset the follower snapshot
-                // so that Installing the snapshot can resume from the beginning
-                installSnapshotState.reset();
-            }
+        if (replyChunkIndex == LeaderInstallSnapshotState.INVALID_CHUNK_INDEX) {
+            LOG.error("{}: Follower {} rejected InstallSnapshot, restarting from the first chunk", logName,
+                followerId);
+            // Since the Follower did not find this index to be valid we should reset the follower snapshot
+            // so that Installing the snapshot can resume from the beginning
+            installSnapshotState.reset();
+            return;
+        }
+
+        if (installSnapshotState.getUnackedChunk(replyChunkIndex) == null) {
+            // This can happen when a chunk has been resent after a timeout and the follower replied to both copies
+            LOG.debug("{}: Chunk index {} in InstallSnapshotReply from follower {} does not match any chunk in flight",
+                logName, replyChunkIndex, followerId);
+            sendNextSnapshotChunk(followerId, followerLogInfo);
             return;
         }
 
         if (!reply.isSuccess()) {
             LOG.warn("{}: Received failed InstallSnapshotReply - will retry: {}", logName, reply);
-            installSnapshotState.markSendStatus(false);
+            installSnapshotState.markChunkFailed(replyChunkIndex);
             sendNextSnapshotChunk(followerId, followerLogInfo);
             return;
         }
 
-        if (!installSnapshotState.isLastChunk(replyChunkIndex)) {
+        if (!installSnapshotState.markChunkAcked(replyChunkIndex)) {
             LOG.debug("{}: Success InstallSnapshotReply from {}, sending next chunk", logName, followerId);
-            installSnapshotState.markSendStatus(true);
             sendNextSnapshotChunk(followerId, followerLogInfo);
             return;
         }
 
-        // this was the last chunk reply
+        // all chunks have been acknowledged, the last reply is sent once the snapshot has been applied
         final long followerMatchIndex = snapshotHolder.lastIncluded().index();
         followerLogInfo.setMatchIndex(followerMatchIndex);
         followerLogInfo.setNextIndex(followerMatchIndex + 1);
@@ -694,6 +757,7 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         final var followerActor = context.getPeerActorSelection(followerId);
         if (followerActor != null) {
             long followerNextIndex = followerLogInformation.getNextIndex();
+            long sendFromIndex = followerNextIndex;
             boolean isFollowerActive = followerLogInformation.isFollowerActive();
             boolean sendAppendEntries = false;
             @NonNull List<@NonNull LogEntry> entries = List.of();
@@ -734,8 +798,18 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
                     LOG.debug("{}: sendAppendEntries: {} is present for follower {}", logName, followerNextIndex,
                         followerId);
 
-                    if (followerLogInformation.okToReplicate(replLog.getCommitIndex())) {
-                        entries = getEntriesToSend(followerLogInformation, followerActor);
+                    if (followerLogInformation.isPipelineActive()) {
+                        // There are batches in flight: follow up on them with the next batch if the window allows
+                        // it, otherwise just make sure the follower learns about the new commitIndex
+                        sendFromIndex = followerLogInformation.getPipelineNextIndex();
+                        if (followerLogInformation.okToPipeline() && replLog.isPresent(sendFromIndex)) {
+                            entries = getEntriesToSend(followerLogInformation, followerActor, sendFromIndex);
+                            sendAppendEntries = true;
+                        } else {
+                            sendAppendEntries = followerLogInformation.hasStaleCommitIndex(replLog.getCommitIndex());
+                        }
+                    } else if (followerLogInformation.okToReplicate(replLog.getCommitIndex())) {
+                        entries = getEntriesToSend(followerLogInformation, followerActor, followerNextIndex);
                         sendAppendEntries = true;
                     }
                 } else if (isFollowerActive && followerNextIndex >= 0
@@ -771,21 +845,23 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
             }
 
             if (sendAppendEntries) {
-                sendAppendEntriesToFollower(followerActor, entries, followerLogInformation);
+                sendAppendEntriesToFollower(followerActor, entries, followerLogInformation, sendFromIndex);
+                if (!entries.isEmpty()) {
+                    followerLogInformation.pipelineSent(entries.getLast().index());
+                }
             }
         }
     }
 
     @NonNullByDefault
     private List<LogEntry> getEntriesToSend(final FollowerLogInformation followerLogInfo,
-            final ActorSelection followerActor) {
+            final ActorSelection followerActor, final long followerNextIndex) {
         // Try to get all the entries in the journal but not exceeding the max data size for a single AppendEntries
         // message.
         final var replLog = replicatedLog();
 
         int maxEntries = (int) replLog.size();
         final int maxDataSize = context.getConfigParams().getMaximumMessageSliceSize();
-        final long followerNextIndex = followerLogInfo.getNextIndex();
         final var entries = replLog.getFrom(followerNextIndex, maxEntries, maxDataSize);
 
         // If the first entry's size exceeds the max data size threshold, it will be returned from the call above. If
@@ -806,9 +882,11 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         if (fileBackedStream == null) {
             fileBackedStream = context.getFileBackedOutputStreamFactory().newSharedInstance();
 
+            // The serialized stream is shared by all followers, hence we use the format all of them understand
             final var appendEntries = new AppendEntries(currentTerm(), memberId(),
                     replLog.getLogEntryIndex(followerNextIndex - 1), replLog.getLogEntryTerm(followerNextIndex - 1),
-                    entries, replLog.getCommitIndex(), getReplicatedToAllIndex(), context.getPayloadVersion());
+                    entries, replLog.getCommitIndex(), getReplicatedToAllIndex(), context.getPayloadVersion(),
+                    RaftVersions.ARGON_VERSION, null);
 
             LOG.debug("{}: Serializing {} for slicing for follower {}", logName, appendEntries,
                     followerLogInfo.getId());
@@ -851,7 +929,7 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
 
     @NonNullByDefault
     private void sendAppendEntriesToFollower(final ActorSelection followerActor, final List<? extends LogEntry> entries,
-            final FollowerLogInformation followerLogInformation) {
+            final FollowerLogInformation followerLogInformation, final long followerNextIndex) {
         // In certain cases outlined below we don't want to send the actual commit index to prevent the follower from
         // possibly committing and applying conflicting entries (those with same index, different term) from a prior
         // term that weren't replicated to a majority, which would be a violation of raft.
@@ -866,7 +944,8 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         final var leaderCommitIndex = isInstallingSnaphot || followerLogInformation.isLogEntrySlicingInProgress()
                 || !followerLogInformation.isFollowerActive() ? -1 : replLog.getCommitIndex();
 
-        long followerNextIndex = followerLogInformation.getNextIndex();
+        // Followers which understand serialized commands get them in the form they were serialized in when they were
+        // appended to the log, without the commands being serialized again
         final var appendEntries = new AppendEntries(currentTerm(), memberId(),
             replLog.getLogEntryIndex(followerNextIndex - 1), replLog.getLogEntryTerm(followerNextIndex - 1), entries,
             leaderCommitIndex, super.getReplicatedToAllIndex(), context.getPayloadVersion(),
@@ -914,8 +993,7 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         final var captureInitiated = context.getSnapshotManager()
             .captureToInstall(replicatedLog().lastMeta(), getReplicatedToAllIndex(), followerId);
         if (captureInitiated) {
-            followerLogInfo.setLeaderInstallSnapshotState(new LeaderInstallSnapshotState(
-                context.getConfigParams().getMaximumMessageSliceSize(), logName));
+            followerLogInfo.setLeaderInstallSnapshotState(newInstallSnapshotState());
         }
         return captureInitiated;
     }
@@ -968,49 +1046,59 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         }
     }
 
+    private @NonNull LeaderInstallSnapshotState newInstallSnapshotState() {
+        final var configParams = context.getConfigParams();
+        return new LeaderInstallSnapshotState(configParams.getMaximumMessageSliceSize(),
+            configParams.getSnapshotChunkWindow(), logName);
+    }
+
     /**
-     * Sends a snapshot chunk to a given follower. InstallSnapshot should qualify as a heartbeat too.
+     * Sends snapshot chunks to a given follower, as long as the number of chunks in flight allows it. InstallSnapshot
+     * should qualify as a heartbeat too.
      */
     private void sendSnapshotChunk(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo,
             final InstallableSnapshot snapshot) {
         var installSnapshotState = followerLogInfo.getInstallSnapshotState();
         if (installSnapshotState == null) {
-            installSnapshotState = new LeaderInstallSnapshotState(
-                context.getConfigParams().getMaximumMessageSliceSize(), logName);
+            installSnapshotState = newInstallSnapshotState();
             followerLogInfo.setLeaderInstallSnapshotState(installSnapshotState);
         }
 
-        final byte[] data;
         try {
             // Ensure the snapshot bytes are set - this is a no-op.
             final var source = snapshot.source();
             installSnapshotState.setSnapshotBytes(source == null ? ByteArray.empty() : source.io());
 
-            if (installSnapshotState.canSendNextChunk()) {
-                data = installSnapshotState.getNextChunk();
-            } else {
-                return;
+            while (installSnapshotState.canSendNextChunk()) {
+                sendSnapshotChunk(followerActor, followerLogInfo, snapshot, installSnapshotState.getNextChunk());
             }
         } catch (IOException e) {
-            LOG.warn("{}: Unable to send chunk: {}/{}. Reseting snapshot progress. Snapshot state: {}", logName,
-                installSnapshotState.getChunkIndex(), installSnapshotState.getTotalChunks(), installSnapshotState, e);
+            LOG.warn("{}: Unable to send chunk to follower {}. Reseting snapshot progress. Snapshot state: {}",
+                logName, followerLogInfo.getId(), installSnapshotState, e);
             installSnapshotState.reset();
             return;
         }
 
+        if (installSnapshotState.getChunksInFlight() > 0) {
+            installSnapshotState.startChunkTimer();
+        }
+    }
+
+    private void sendSnapshotChunk(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo,
+            final InstallableSnapshot snapshot, final LeaderInstallSnapshotState.Chunk chunk) {
+        final var data = chunk.data();
         LOG.debug("{}: next snapshot chunk size for follower {}: {}", logName, followerLogInfo.getId(), data.length);
 
-        final int chunkIndex = installSnapshotState.incrementChunkIndex();
-        final int totalChunks = installSnapshotState.getTotalChunks();
+        final int chunkIndex = chunk.index();
+        final int totalChunks = followerLogInfo.getInstallSnapshotState().getTotalChunks();
         final var votingConfig = chunkIndex == totalChunks ? context.getPeerServerInfo(true) : null;
 
-        installSnapshotState.startChunkTimer();
         followerActor.tell(
             new InstallSnapshot(currentTerm(), memberId(),
                 // snapshot term/index inforation
                 snapshot.lastIncluded().index(), snapshot.lastIncluded().term(),
                 // this chunk and its indexing info and previous hash code
-                data, chunkIndex, totalChunks, OptionalInt.of(installSnapshotState.getLastChunkHashCode()),
+                data, chunkIndex, totalChunks, OptionalInt.of(chunk.lastChunkHashCode()),
                 // voting configuration, if present
                 votingConfig,
                 // make sure the follower understands this message
@@ -1034,7 +1122,9 @@ public abstract sealed class AbstractLeader extends RaftActorBehavior permits Is
         final var installSnapshotState = followerLogInfo.getInstallSnapshotState();
         // we are resending, timer needs to be reset
         installSnapshotState.resetChunkTimer();
-        installSnapshotState.markSendStatus(false);
+        final int count = installSnapshotState.markUnackedChunksFailed();
+        LOG.debug("{}: Timed out waiting for InstallSnapshotReply from follower {}, resending {} chunks", logName,
+            followerLogInfo.getId(), count);
 
         sendSnapshotChunk(followerActor, followerLogInfo, snapshotHolder);
         return true;
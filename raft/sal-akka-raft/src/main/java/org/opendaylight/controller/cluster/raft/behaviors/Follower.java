@@ -9,9 +9,11 @@ package org.opendaylight.controller.cluster.raft.behaviors;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -35,6 +37,7 @@ import org.opendaylight.controller.cluster.raft.messages.RequestVote;
 import org.opendaylight.controller.cluster.raft.messages.RequestVoteReply;
 import org.opendaylight.controller.cluster.raft.persisted.VotingConfig;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
+import org.opendaylight.controller.cluster.raft.spi.SerializedLogEntry;
 import org.opendaylight.raft.api.EntryInfo;
 import org.opendaylight.raft.api.RaftRole;
 import org.opendaylight.raft.api.TermInfo;
@@ -234,12 +237,16 @@ public class Follower extends RaftActorBehavior {
     //                         At that point this method becomes primitive enough to be inlined into
     //                         handleAppendEntries()
     private boolean processNewEntries(final AppendEntries appendEntries, final ActorRef sender) {
-        final var entries = appendEntries.getEntries();
-        final int numLogEntries = entries.size();
+        final int numLogEntries = appendEntries.getEntries().size();
         if (numLogEntries == 0) {
             return true;
         }
 
+        final var entries = decodeEntries(appendEntries.getEntries());
+        if (entries == null) {
+            return false;
+        }
+
         LOG.debug("{}: Number of entries to be appended = {}", logName, numLogEntries);
 
         final var replLog = replicatedLog();
@@ -354,6 +361,36 @@ public class Follower extends RaftActorBehavior {
         return true;
     }
 
+    /**
+     * Decode any entries which the leader has sent as {@link SerializedLogEntry}. Decoded entries retain their
+     * {@link LogEntry#serializedCommand()}, so that the journal can store them without serializing them again.
+     *
+     * @param entries entries to decode
+     * @return decoded entries, or {@code null} if decoding fails
+     */
+    private @Nullable List<? extends LogEntry> decodeEntries(final List<? extends LogEntry> entries) {
+        if (entries.stream().noneMatch(entry -> entry instanceof SerializedLogEntry serialized
+                && !serialized.isDecoded())) {
+            return entries;
+        }
+
+        final var objectStreams = context.objectStreams();
+        final var builder = ImmutableList.<LogEntry>builderWithExpectedSize(entries.size());
+        for (var entry : entries) {
+            if (entry instanceof SerializedLogEntry serialized) {
+                try {
+                    builder.add(serialized.decode(objectStreams));
+                } catch (IOException e) {
+                    LOG.error("{}: Failed to decode {}, ignoring entries", logName, entry, e);
+                    return null;
+                }
+            } else {
+                builder.add(entry);
+            }
+        }
+        return builder.build();
+    }
+
     private boolean isOutOfSync(final AppendEntries appendEntries, final ActorRef sender) {
 
         final long lastIndex = lastIndex();
@@ -631,6 +668,11 @@ public class Follower extends RaftActorBehavior {
 
         // update leader
         leaderId = installSnapshot.getLeaderId();
+        if (snapshotTracker != null && !snapshotTracker.leaderId().equals(leaderId)) {
+            LOG.debug("{}: snapshot install is in progress but the prior snapshot leaderId {} does not match the "
+                + "InstallSnapshot leaderId {}", logName, snapshotTracker.leaderId(), leaderId);
+            closeSnapshotTracker();
+        }
         if (snapshotTracker == null) {
             final var chunkIndex = installSnapshot.getChunkIndex();
             if (chunkIndex != 1) {
@@ -638,8 +680,14 @@ public class Follower extends RaftActorBehavior {
                 sender.tell(new InstallSnapshotReply(currentTerm(), memberId(), -1, false), actor());
                 return;
             }
+            // The leader keeps at most snapshot-chunk-window chunks in flight, so we never need to buffer more than
+            // one less than that while waiting for a missing chunk
             snapshotTracker = new SnapshotTracker(logName, installSnapshot.getTotalChunks(), leaderId,
-                context.getFileBackedOutputStreamFactory().newInstance(), installSnapshot.compression());
+                context.getFileBackedOutputStreamFactory().newInstance(), installSnapshot.compression(),
+                context.getConfigParams().getSnapshotChunkWindow() - 1);
+        }
+        if (installSnapshot.getChunkIndex() == installSnapshot.getTotalChunks()) {
+            snapshotTracker.setVotingConfig(installSnapshot.votingConfig());
         }
 
         updateInitialSyncStatus(installSnapshot.getLastIncludedIndex(), leaderId);
@@ -680,7 +728,7 @@ public class Follower extends RaftActorBehavior {
 
         actor().tell(new ApplyLeaderSnapshot(leaderId, installSnapshot.getTerm(),
             EntryInfo.of(installSnapshot.getLastIncludedIndex(), installSnapshot.getLastIncludedTerm()),
-            createSource(snapshotBytes, tracker.compression()), installSnapshot.votingConfig(),
+            createSource(snapshotBytes, tracker.compression()), tracker.votingConfig(),
             new ApplyLeaderSnapshot.Callback() {
                 @Override
                 public void onSuccess() {
@@ -7,22 +7,74 @@
  */
 package org.opendaylight.controller.cluster.raft.behaviors;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.raft.spi.SizedStreamSource;
 import org.opendaylight.raft.spi.StreamSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Encapsulates the leader state and logic for sending snapshot chunks to a follower.
+ * Encapsulates the leader state and logic for sending snapshot chunks to a follower. Up to {@code maxChunksInFlight}
+ * chunks may be sent without having received a reply. Each chunk is retained until the follower acknowledges it, so
+ * that only the chunks which failed or timed out need to be sent again.
  */
 public final class LeaderInstallSnapshotState implements AutoCloseable {
+    /**
+     * A single chunk of the snapshot.
+     */
+    static final class Chunk {
+        private final int index;
+        private final byte[] data;
+        private final int lastChunkHashCode;
+
+        private boolean acked;
+        private boolean needsSend = true;
+
+        Chunk(final int index, final byte[] data, final int lastChunkHashCode) {
+            this.index = index;
+            this.data = data;
+            this.lastChunkHashCode = lastChunkHashCode;
+        }
+
+        int index() {
+            return index;
+        }
+
+        byte[] data() {
+            return data;
+        }
+
+        /**
+         * Returns the hash code of the chunk preceding this one, as sent to the follower.
+         *
+         * @return the hash code of the previous chunk
+         */
+        int lastChunkHashCode() {
+            return lastChunkHashCode;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                .add("index", index)
+                .add("size", data.length)
+                .add("acked", acked)
+                .add("needsSend", needsSend)
+                .toString();
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(LeaderInstallSnapshotState.class);
 
     // The index of the first chunk that is sent when installing a snapshot
@@ -31,29 +83,33 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     // The index that the follower should respond with if it needs the install snapshot to be reset
     static final int INVALID_CHUNK_INDEX = -1;
 
-    static final int INITIAL_OFFSET = -1;
-
     // This would be passed as the hash code of the last chunk when sending the first chunk
     static final int INITIAL_LAST_CHUNK_HASH_CODE = -1;
 
+    // Chunks which have been read from the snapshot but not acknowledged yet, ordered by their index
+    private final ArrayDeque<Chunk> inFlight = new ArrayDeque<>();
+    private final Stopwatch chunkTimer = Stopwatch.createUnstarted();
     private final int snapshotChunkSize;
+    private final int maxChunksInFlight;
     private final String logName;
+
     private SizedStreamSource snapshotBytes;
-    private long offset = INITIAL_OFFSET;
-    // the next snapshot chunk is sent only if the replyReceivedForOffset matches offset
-    private long replyReceivedForOffset = -1;
-    // if replyStatus is false, the previous chunk is attempted
-    private boolean replyStatus = false;
-    private int chunkIndex = FIRST_CHUNK_INDEX;
+    private InputStream snapshotInputStream;
+    private long offset;
     private int totalChunks;
+    // the index of the next chunk to be read from snapshotInputStream
+    private int nextChunkIndex = FIRST_CHUNK_INDEX;
+    // the hash code of the chunk last read from snapshotInputStream
     private int lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-    private int nextChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-    private InputStream snapshotInputStream;
-    private final Stopwatch chunkTimer = Stopwatch.createUnstarted();
-    private byte[] currentChunk = null;
 
     LeaderInstallSnapshotState(final int snapshotChunkSize, final String logName) {
+        this(snapshotChunkSize, 1, logName);
+    }
+
+    LeaderInstallSnapshotState(final int snapshotChunkSize, final int maxChunksInFlight, final String logName) {
+        checkArgument(maxChunksInFlight > 0, "Invalid maxChunksInFlight %s", maxChunksInFlight);
         this.snapshotChunkSize = snapshotChunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
         this.logName = logName;
     }
 
@@ -66,32 +122,17 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         snapshotInputStream = snapshotBytes.openStream();
 
         final var snapshotSize = this.snapshotBytes.size();
-        totalChunks = (int) (snapshotSize / snapshotChunkSize + (snapshotSize % snapshotChunkSize > 0 ? 1 : 0));
-        replyReceivedForOffset = INITIAL_OFFSET;
-        chunkIndex = FIRST_CHUNK_INDEX;
-        LOG.debug("{}: Snapshot {} bytes, total chunks to send: {}", logName, snapshotSize, totalChunks);
-    }
-
-    private long incrementOffset() {
-        // if offset is -1 doesn't matter whether it was the initial value or reset, move the offset to 0 to begin with
-        if (offset == INITIAL_OFFSET) {
-            offset = 0;
-        } else {
-            offset = offset + snapshotChunkSize;
-        }
-        return offset;
-    }
-
-    int incrementChunkIndex() {
-        if (replyStatus) {
-            // if prev chunk failed, we would want to send the same chunk again
-            chunkIndex =  chunkIndex + 1;
-        }
-        return chunkIndex;
+        // An empty snapshot is still sent as a single, empty chunk
+        totalChunks = Math.max(1,
+            (int) (snapshotSize / snapshotChunkSize + (snapshotSize % snapshotChunkSize > 0 ? 1 : 0)));
+        LOG.debug("{}: Snapshot {} bytes, total chunks to send: {}, at most {} in flight", logName, snapshotSize,
+            totalChunks, maxChunksInFlight);
     }
 
     void startChunkTimer() {
-        chunkTimer.start();
+        if (!chunkTimer.isRunning()) {
+            chunkTimer.start();
+        }
     }
 
     void resetChunkTimer() {
@@ -102,65 +143,143 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         return chunkTimer.elapsed(TimeUnit.SECONDS) > timeout.toSeconds();
     }
 
-    int getChunkIndex() {
-        return chunkIndex;
-    }
-
     int getTotalChunks() {
         return totalChunks;
     }
 
-    boolean canSendNextChunk() {
-        // we only send a false if a chunk is sent but we have not received a reply yet
-        return snapshotBytes != null && (nextChunkHashCode == INITIAL_LAST_CHUNK_HASH_CODE
-                || replyReceivedForOffset == offset);
+    int getMaxChunksInFlight() {
+        return maxChunksInFlight;
+    }
+
+    /**
+     * Returns the number of chunks sent to the follower, but not acknowledged by it.
+     *
+     * @return the number of unacknowledged chunks
+     */
+    int getChunksInFlight() {
+        int count = 0;
+        for (var chunk : inFlight) {
+            if (!chunk.acked) {
+                count++;
+            }
+        }
+        return count;
     }
 
     boolean isLastChunk(final int index) {
         return totalChunks == index;
     }
 
-    void markSendStatus(final boolean success) {
-        if (success) {
-            // if the chunk sent was successful
-            replyReceivedForOffset = offset;
-            replyStatus = true;
-            lastChunkHashCode = nextChunkHashCode;
-        } else {
-            // if the chunk sent was failure, revert offset to previous so we can retry
-            offset = replyReceivedForOffset;
-            replyStatus = false;
-        }
-    }
-
-    byte[] getNextChunk() throws IOException {
-        // increment offset to indicate next chunk is in flight, canSendNextChunk() wont let us hit this again until,
-        // markSendStatus() is called with either success or failure
-        final var start = incrementOffset();
-        if (replyStatus || currentChunk == null) {
-            final var snapshotSize = snapshotBytes.size();
-            int size = snapshotChunkSize;
-            if (snapshotChunkSize > snapshotSize) {
-                size = (int) snapshotSize;
-            } else if (start + snapshotChunkSize > snapshotSize) {
-                size = (int) (snapshotSize - start);
+    boolean canSendNextChunk() {
+        if (snapshotBytes == null) {
+            return false;
+        }
+        for (var chunk : inFlight) {
+            if (chunk.needsSend) {
+                return true;
             }
+        }
+        // The window is anchored at the oldest unacknowledged chunk, so that a single missing chunk does not allow
+        // an unbounded number of chunks to be buffered by the follower
+        return inFlight.size() < maxChunksInFlight && nextChunkIndex <= totalChunks;
+    }
 
-            currentChunk = new byte[size];
-            final var numRead = snapshotInputStream.read(currentChunk);
-            if (numRead != size) {
-                throw new IOException(
-                    "The # of bytes read from the input stream, %d, does not match the expected # %d".formatted(
-                        numRead, size));
+    /**
+     * Returns the next chunk to send. Chunks which need to be sent again take precedence over chunks which have not
+     * been sent yet. This method should only be called when {@link #canSendNextChunk()} returns {@code true}.
+     *
+     * @return the next chunk to send
+     * @throws IOException if the chunk cannot be read from the snapshot
+     */
+    @NonNull Chunk getNextChunk() throws IOException {
+        for (var chunk : inFlight) {
+            if (chunk.needsSend) {
+                chunk.needsSend = false;
+                LOG.debug("{}: Resending chunk {}", logName, chunk);
+                return chunk;
             }
+        }
+
+        final var snapshotSize = snapshotBytes.size();
+        final var size = (int) Math.min(snapshotChunkSize, snapshotSize - offset);
+        final var data = new byte[size];
+        final var numRead = snapshotInputStream.readNBytes(data, 0, size);
+        if (numRead != size) {
+            throw new IOException("The # of bytes read from the input stream, %d, does not match the expected # %d"
+                .formatted(numRead, size));
+        }
 
-            nextChunkHashCode = Arrays.hashCode(currentChunk);
+        final var chunk = new Chunk(nextChunkIndex++, data, lastChunkHashCode);
+        chunk.needsSend = false;
+        inFlight.addLast(chunk);
+        lastChunkHashCode = Arrays.hashCode(data);
+
+        LOG.debug("{}: Next chunk: total length={}, offset={}, size={}, hashCode={}", logName, snapshotSize, offset,
+            size, lastChunkHashCode);
+        offset += size;
+        return chunk;
+    }
 
-            LOG.debug("{}: Next chunk: total length={}, offset={}, size={}, hashCode={}", logName, snapshotSize, start,
-                size, nextChunkHashCode);
+    /**
+     * Returns the chunk with specified index, if it has been sent but not acknowledged yet.
+     *
+     * @param index the chunk index
+     * @return the chunk, or {@code null}
+     */
+    @Nullable Chunk getUnackedChunk(final int index) {
+        for (var chunk : inFlight) {
+            if (chunk.index == index) {
+                return chunk.acked ? null : chunk;
+            }
         }
+        return null;
+    }
 
-        return currentChunk;
+    /**
+     * Mark a chunk as acknowledged by the follower.
+     *
+     * @param index the chunk index
+     * @return {@code true} if all chunks have now been acknowledged
+     */
+    boolean markChunkAcked(final int index) {
+        final var chunk = getUnackedChunk(index);
+        if (chunk != null) {
+            chunk.acked = true;
+            chunk.needsSend = false;
+            while (!inFlight.isEmpty() && inFlight.peekFirst().acked) {
+                inFlight.removeFirst();
+            }
+        }
+        return inFlight.isEmpty() && nextChunkIndex > totalChunks;
+    }
+
+    /**
+     * Mark a chunk as failed, so it is sent again.
+     *
+     * @param index the chunk index
+     */
+    void markChunkFailed(final int index) {
+        final var chunk = getUnackedChunk(index);
+        if (chunk != null) {
+            chunk.needsSend = true;
+        }
+    }
+
+    /**
+     * Mark all chunks which have not been acknowledged for sending again, for example because no reply has been
+     * received within the timeout.
+     *
+     * @return the number of chunks marked
+     */
+    int markUnackedChunksFailed() {
+        int count = 0;
+        for (var chunk : inFlight) {
+            if (!chunk.acked) {
+                chunk.needsSend = true;
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -169,14 +288,11 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     void reset() {
         closeStream();
         chunkTimer.reset();
+        inFlight.clear();
 
-        offset = INITIAL_OFFSET;
-        replyStatus = false;
-        replyReceivedForOffset = INITIAL_OFFSET;
-        chunkIndex = FIRST_CHUNK_INDEX;
-        currentChunk = null;
+        offset = 0;
+        nextChunkIndex = FIRST_CHUNK_INDEX;
         lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-        nextChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
 
         try {
             snapshotInputStream = snapshotBytes.openStream();
@@ -188,6 +304,7 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     @Override
     public void close() {
         closeStream();
+        inFlight.clear();
         snapshotBytes = null;
     }
 
@@ -203,22 +320,17 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         }
     }
 
-    int getLastChunkHashCode() {
-        return lastChunkHashCode;
-    }
-
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("snapshotChunkSize", snapshotChunkSize)
+                .add("maxChunksInFlight", maxChunksInFlight)
                 .add("offset", offset)
-                .add("replyReceivedForOffset", replyReceivedForOffset)
-                .add("replyStatus", replyStatus)
-                .add("chunkIndex", chunkIndex)
+                .add("nextChunkIndex", nextChunkIndex)
                 .add("totalChunks", totalChunks)
                 .add("lastChunkHashCode", lastChunkHashCode)
-                .add("nextChunkHashCode", nextChunkHashCode)
-                .add("snapshotSize", snapshotBytes.size())
+                .add("inFlight", inFlight)
+                .add("snapshotSize", snapshotBytes != null ? snapshotBytes.size() : null)
                 .add("chunkTimer", chunkTimer)
                 .toString();
     }
@@ -18,6 +18,7 @@ import org.apache.pekko.actor.Cancellable;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.raft.ConfigParams;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
 import org.opendaylight.controller.cluster.raft.ReplicatedLog;
 import org.opendaylight.controller.cluster.raft.base.messages.ElectionTimeout;
@@ -350,6 +351,22 @@ public abstract class RaftActorBehavior implements AutoCloseable {
         // in case if the above code throws an error and this message is not sent, it would be fine
         // as the  append entries received later would initiate add this message to the journal
         replLog.markLastApplied();
+
+        final int heapBudget = context.getConfigParams().getLogPayloadHeapBudget();
+        if (heapBudget > 0) {
+            replLog.evictPayloads(evictablePayloadIndex(), heapBudget * 1_048_576L);
+        }
+    }
+
+    /**
+     * Returns the index of the last entry whose command is not needed on heap anymore and can be evicted when
+     * the log exceeds {@link ConfigParams#getLogPayloadHeapBudget()}. Default implementation returns
+     * {@code lastApplied}.
+     *
+     * @return the index of the last evictable entry
+     */
+    long evictablePayloadIndex() {
+        return replicatedLog().getLastApplied();
     }
 
     /**
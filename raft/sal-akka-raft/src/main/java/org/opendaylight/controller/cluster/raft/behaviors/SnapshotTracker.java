@@ -12,9 +12,11 @@ import static java.util.Objects.requireNonNull;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.OptionalInt;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.raft.persisted.VotingConfig;
 import org.opendaylight.raft.spi.CompressionType;
 import org.opendaylight.raft.spi.FileBackedOutputStream;
 import org.opendaylight.raft.spi.SizedStreamSource;
@@ -22,11 +24,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Helper class that maintains state for a snapshot that is being installed in chunks on a Follower.
+ * Helper class that maintains state for a snapshot that is being installed in chunks on a Follower. Chunks are written
+ * in order, but up to {@code maxBufferedChunks} chunks received ahead of a missing chunk are held in memory until the
+ * missing chunk is received.
  */
 class SnapshotTracker implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(SnapshotTracker.class);
 
+    private record BufferedChunk(byte[] chunk, OptionalInt lastChunkHashCode) {
+        // Nothing else
+    }
+
+    // Chunks received ahead of lastChunkIndex + 1, indexed by their chunk index
+    private final HashMap<Integer, BufferedChunk> bufferedChunks = new HashMap<>();
+    // Hash codes of chunks written so far, used to recognize chunks which have been resent, null if not buffering
+    private final int @Nullable [] chunkHashCodes;
+    private final int maxBufferedChunks;
     private final int totalChunks;
     private final @NonNull String leaderId;
     private final @NonNull BufferedOutputStream bufferedStream;
@@ -38,11 +51,20 @@ class SnapshotTracker implements AutoCloseable {
     private boolean sealed = false;
     private int lastChunkHashCode = LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE;
     private long count;
+    private @Nullable VotingConfig votingConfig;
 
     SnapshotTracker(final String logName, final int totalChunks, final String leaderId,
             final FileBackedOutputStream fileBackedStream, final @Nullable CompressionType compression) {
+        this(logName, totalChunks, leaderId, fileBackedStream, compression, 0);
+    }
+
+    SnapshotTracker(final String logName, final int totalChunks, final String leaderId,
+            final FileBackedOutputStream fileBackedStream, final @Nullable CompressionType compression,
+            final int maxBufferedChunks) {
         this.logName = requireNonNull(logName);
         this.totalChunks = totalChunks;
+        this.maxBufferedChunks = maxBufferedChunks;
+        chunkHashCodes = maxBufferedChunks > 0 ? new int[totalChunks + 1] : null;
         this.leaderId = requireNonNull(leaderId);
         this.fileBackedStream = requireNonNull(fileBackedStream);
         bufferedStream = new BufferedOutputStream(fileBackedStream);
@@ -50,7 +72,8 @@ class SnapshotTracker implements AutoCloseable {
     }
 
     /**
-     * Adds a chunk to the tracker.
+     * Adds a chunk to the tracker. If this tracker buffers chunks, a chunk which has already been received is ignored
+     * and a chunk which is not the next one expected is held until all chunks preceding it have been received.
      *
      * @param chunkIndex the index of the chunk
      * @param chunk the chunk data
@@ -69,10 +92,40 @@ class SnapshotTracker implements AutoCloseable {
                     + " all chunks already received");
         }
 
-        if (lastChunkIndex + 1 != chunkIndex) {
-            throw new InvalidChunkException("Expected chunkIndex " + (lastChunkIndex + 1) + " got " + chunkIndex);
+        final var expectedIndex = lastChunkIndex + 1;
+        if (chunkIndex == expectedIndex) {
+            writeChunk(chunkIndex, chunk, maybeLastChunkHashCode);
+            // Write out any chunks this one was holding up
+            for (var next = bufferedChunks.remove(lastChunkIndex + 1); next != null;
+                    next = bufferedChunks.remove(lastChunkIndex + 1)) {
+                writeChunk(lastChunkIndex + 1, next.chunk, next.lastChunkHashCode);
+            }
+            return sealed;
         }
 
+        if (chunkHashCodes == null || chunkIndex < LeaderInstallSnapshotState.FIRST_CHUNK_INDEX
+                || chunkIndex > totalChunks || chunkIndex > expectedIndex + maxBufferedChunks) {
+            throw new InvalidChunkException("Expected chunkIndex " + expectedIndex + " got " + chunkIndex);
+        }
+
+        if (chunkIndex < expectedIndex) {
+            // A chunk we have already written, make sure it is the same
+            final var hashCode = Arrays.hashCode(chunk);
+            if (chunkHashCodes[chunkIndex] != hashCode) {
+                throw new InvalidChunkException("Chunk " + chunkIndex + " does not match the previously received "
+                    + "chunk, expected hash code " + chunkHashCodes[chunkIndex] + " was " + hashCode);
+            }
+            LOG.debug("{}: ignoring already-written chunk {}", logName, chunkIndex);
+        } else if (bufferedChunks.putIfAbsent(chunkIndex, new BufferedChunk(chunk, maybeLastChunkHashCode)) == null) {
+            LOG.debug("{}: buffered chunk {} while waiting for chunk {}", logName, chunkIndex, expectedIndex);
+        } else {
+            LOG.debug("{}: ignoring already-buffered chunk {}", logName, chunkIndex);
+        }
+        return false;
+    }
+
+    private void writeChunk(final int chunkIndex, final byte[] chunk, final OptionalInt maybeLastChunkHashCode)
+            throws IOException {
         if (maybeLastChunkHashCode.isPresent()) {
             final var actualChunkHashCode = maybeLastChunkHashCode.orElseThrow();
             if (actualChunkHashCode != lastChunkHashCode) {
@@ -87,7 +140,9 @@ class SnapshotTracker implements AutoCloseable {
         sealed = chunkIndex == totalChunks;
         lastChunkIndex = chunkIndex;
         lastChunkHashCode = Arrays.hashCode(chunk);
-        return sealed;
+        if (chunkHashCodes != null) {
+            chunkHashCodes[chunkIndex] = lastChunkHashCode;
+        }
     }
 
     @NonNull SizedStreamSource toStreamSource() throws IOException {
@@ -107,8 +162,23 @@ class SnapshotTracker implements AutoCloseable {
         return leaderId;
     }
 
+    /**
+     * Returns the {@link VotingConfig} attached to the last chunk. Since the last chunk may have been buffered, this
+     * is not necessarily the configuration carried by the chunk which sealed the snapshot.
+     *
+     * @return the {@link VotingConfig}, or {@code null}
+     */
+    @Nullable VotingConfig votingConfig() {
+        return votingConfig;
+    }
+
+    void setVotingConfig(final @Nullable VotingConfig votingConfig) {
+        this.votingConfig = votingConfig;
+    }
+
     @Override
     public void close() {
+        bufferedChunks.clear();
         fileBackedStream.cleanup();
     }
 
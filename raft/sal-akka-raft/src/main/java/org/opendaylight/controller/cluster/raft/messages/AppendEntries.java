@@ -146,7 +146,10 @@ public final class AppendEntries extends RaftRPC {
 
     @Override
     Object writeReplace() {
-        return recipientRaftVersion <= RaftVersions.FLUORINE_VERSION ? new ProxyV2(this) : new AE(this);
+        if (recipientRaftVersion <= RaftVersions.FLUORINE_VERSION) {
+            return new ProxyV2(this);
+        }
+        return recipientRaftVersion == RaftVersions.ARGON_VERSION ? new AE(this) : new AS(this);
     }
 
     /**
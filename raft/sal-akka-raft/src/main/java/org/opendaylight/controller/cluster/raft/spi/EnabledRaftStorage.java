@@ -7,13 +7,17 @@
  */
 package org.opendaylight.controller.cluster.raft.spi;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.VerifyException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.RaftActor;
 import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask.GroupCommit;
 import org.opendaylight.raft.spi.CompressionType;
 import org.opendaylight.raft.spi.FileBackedOutputStream.Configuration;
 import org.slf4j.Logger;
@@ -26,6 +30,7 @@ public final class EnabledRaftStorage extends RaftStorage {
     private static final Logger LOG = LoggerFactory.getLogger(EnabledRaftStorage.class);
     private static final AtomicLong WRITER_COUNTER = new AtomicLong();
 
+    private final GroupCommit groupCommit;
     private final boolean mapped;
 
     // FIXME: we should have a queue push timeout, similar to Pekko circuit breaker to deal with queue waits
@@ -35,8 +40,16 @@ public final class EnabledRaftStorage extends RaftStorage {
     @NonNullByDefault
     public EnabledRaftStorage(final RaftStorageCompleter completer, final Path directory,
             final CompressionType compression, final Configuration streamConfig, final boolean mapped) {
+        this(completer, directory, compression, streamConfig, mapped, GroupCommit.DEFAULT);
+    }
+
+    @NonNullByDefault
+    public EnabledRaftStorage(final RaftStorageCompleter completer, final Path directory,
+            final CompressionType compression, final Configuration streamConfig, final boolean mapped,
+            final GroupCommit groupCommit) {
         super(completer, directory, compression, streamConfig);
         this.mapped = mapped;
+        this.groupCommit = requireNonNull(groupCommit);
     }
 
     /**
@@ -47,6 +60,14 @@ public final class EnabledRaftStorage extends RaftStorage {
         return task.journal();
     }
 
+    /**
+     * {@return the {@link JournalWriteTask} writing to the underlying EntryJournal, or {@code null} if access has not
+     *          been enabled}
+     */
+    public @Nullable JournalWriteTask journalWriter() {
+        return thread != null ? task : null;
+    }
+
     @Override
     @NonNullByDefault
     public void startPersistEntry(final ReplicatedLogEntry entry, final RaftCallback<Long> callback) {
@@ -107,7 +128,7 @@ public final class EnabledRaftStorage extends RaftStorage {
     protected void postStart() throws IOException {
         final var journal = new EntryJournalV1(memberId(), directory, compression, mapped);
         LOG.info("{}: journal open: applyTo={}", memberId(), journal.applyToJournalIndex());
-        task = new JournalWriteTask(completer(), journal, 2048);
+        task = new JournalWriteTask(completer(), journal, 2048, groupCommit);
     }
 
     /**
@@ -136,6 +157,9 @@ public final class EnabledRaftStorage extends RaftStorage {
     protected void preStop() {
         if (thread == null) {
             LOG.debug("{}: not enabled, no clean up necessary", memberId());
+            if (task != null) {
+                task.removeMetrics();
+            }
             task = null;
             return;
         }
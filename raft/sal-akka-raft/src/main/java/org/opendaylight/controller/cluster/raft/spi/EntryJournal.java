@@ -53,6 +53,26 @@ public interface EntryJournal extends AutoCloseable {
             return term;
         }
 
+        /**
+         * {@return the {@link CompressionType} of the serialized command}
+         */
+        public final CompressionType compression() {
+            return compression;
+        }
+
+        /**
+         * Returns this entry's command in its serialized form as stored in the journal, i.e. without decoding it.
+         * The returned object does not reference journal storage, hence it remains valid after the journal moves on.
+         *
+         * @return a {@link SerializedCommand}
+         * @throws IOException if an I/O error occurs
+         */
+        public SerializedCommand toSerializedCommand() throws IOException {
+            try (var in = newCommandStream()) {
+                return SerializedCommand.of(compression, in.readAllBytes());
+            }
+        }
+
         /**
          * Returns an {@link InputStream} containing this entry's command in its serialized form.
          *
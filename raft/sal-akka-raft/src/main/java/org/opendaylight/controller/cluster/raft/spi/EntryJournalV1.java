@@ -16,6 +16,7 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -152,6 +153,11 @@ public final class EntryJournalV1 implements EntryJournal, AutoCloseable {
             return new ByteBufInputStream(buf.slice());
         }
 
+        @Override
+        public SerializedCommand toSerializedCommand() {
+            return SerializedCommand.of(compression(), ByteBufUtil.getBytes(buf));
+        }
+
         @Override
         protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
             return helper.add("size", buf.readableBytes());
@@ -225,11 +231,18 @@ public final class EntryJournalV1 implements EntryJournal, AutoCloseable {
                 return false;
             }
 
+            // An already-serialized command is written verbatim, retaining its compression, unless it is not compressed
+            // and we are configured to compress
+            final var serialized = obj.serializedCommand();
+            final var verbatim = serialized != null
+                && (serialized.compression() != CompressionType.NONE || compression == CompressionType.NONE);
+            final var entryCompression = verbatim ? serialized.compression() : compression;
+
             // Write the header out first, as we want to it to be always present inline
             final var headerIndex = buf.writerIndex();
             final int headerSize;
             try (var bbos = new ByteBufOutputStream(buf)) {
-                bbos.writeByte(switch (compression) {
+                bbos.writeByte(switch (entryCompression) {
                     case LZ4 -> HDR_IC;
                     case NONE -> HDR_IU;
                 });
@@ -241,8 +254,16 @@ public final class EntryJournalV1 implements EntryJournal, AutoCloseable {
             final TransientFile bodyFile;
             final long bodySize;
             try (var out = new BufThenFileOutputStream(directory, buf, JOURNAL_INLINE_ENTRY_SIZE - headerSize)) {
-                try (var oos = new ObjectOutputStream(compression.encodeOutput(out))) {
-                    oos.writeObject(obj.command().toSerialForm());
+                if (verbatim) {
+                    serialized.writeBytes(out);
+                } else if (serialized != null) {
+                    try (var encoded = compression.encodeOutput(out)) {
+                        serialized.writeBytes(encoded);
+                    }
+                } else {
+                    try (var oos = new ObjectOutputStream(compression.encodeOutput(out))) {
+                        oos.writeObject(obj.command().toSerialForm());
+                    }
                 }
 
                 bodyFile = out.file();
@@ -250,7 +271,7 @@ public final class EntryJournalV1 implements EntryJournal, AutoCloseable {
             }
 
             if (bodyFile != null) {
-                buf.setByte(headerIndex, switch (compression) {
+                buf.setByte(headerIndex, switch (entryCompression) {
                     case LZ4 -> HDR_FC;
                     case NONE -> HDR_FU;
                 });
@@ -474,12 +495,26 @@ public final class EntryJournalV1 implements EntryJournal, AutoCloseable {
 
     @Override
     public long appendEntry(final LogEntry entry) throws IOException {
+        final var ret = writeEntry(entry);
+        flush();
+        return ret;
+    }
+
+    /**
+     * Append an entry at the current {@code journalIndex} without making it durable. Callers are required to invoke
+     * {@link #flush()} before they report the entry as persisted.
+     *
+     * @param entry the journal entry to append
+     * @return the serialized size of {@link LogEntry#command()}
+     * @throws IOException if an I/O error occurs
+     */
+    long writeEntry(final LogEntry entry) throws IOException {
         final var writer = entryJournal.writer();
         final var journalIndex = writer.nextIndex();
         final var mapper = new LogEntryWriter();
         writer.append(mapper, entry);
 
-        final var ret = switch (mapper.result) {
+        return switch (mapper.result) {
             case InlineResult(var bodySize) -> bodySize;
             case FileResult(var file, var bodySize) -> {
                 try {
@@ -494,10 +529,15 @@ public final class EntryJournalV1 implements EntryJournal, AutoCloseable {
             // Internal error, modeled for non-nullness
             case NoResult no -> throw new IOException("Failed to write entry");
         };
+    }
 
-        // FIXME: defer flush
-        writer.flush();
-        return ret;
+    /**
+     * Flush all entries written via {@link #writeEntry(LogEntry)} to durable storage.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void flush() throws IOException {
+        entryJournal.writer().flush();
     }
 
     @Override
@@ -10,6 +10,7 @@ package org.opendaylight.controller.cluster.raft.spi;
 import com.google.common.base.MoreObjects;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot.ToStorage;
@@ -26,6 +27,11 @@ public abstract class ForwardingSnapshotStore implements SnapshotStore {
         return delegate().lastSnapshot();
     }
 
+    @Override
+    public List<SnapshotFile> lastSnapshotChain() throws IOException {
+        return delegate().lastSnapshotChain();
+    }
+
     @Override
     public void saveSnapshot(final RaftSnapshot raftSnapshot, final EntryInfo lastIncluded,
             final @Nullable ToStorage<?> snapshot, final RaftCallback<Instant> callback) {
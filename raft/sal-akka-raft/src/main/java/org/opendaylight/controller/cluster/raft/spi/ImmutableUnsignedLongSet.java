@@ -7,13 +7,16 @@
  */
 package org.opendaylight.controller.cluster.raft.spi;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.collect.ImmutableSortedSet;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.NavigableSet;
-import java.util.TreeSet;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.concepts.WritableObject;
 import org.opendaylight.yangtools.concepts.WritableObjects;
@@ -22,24 +25,22 @@ import org.opendaylight.yangtools.concepts.WritableObjects;
  * An immutable {@link UnsignedLongSet}.
  */
 public final class ImmutableUnsignedLongSet extends UnsignedLongSet implements Immutable, WritableObject {
-    // Do not all
-    private static final int ARRAY_MAX_ELEMENTS = 4096;
+    private static final @NonNull ImmutableUnsignedLongSet EMPTY = new ImmutableUnsignedLongSet(new long[0], 0);
+
+    private final long @NonNull [] bits;
+    private final int rangeSize;
 
-    private static final @NonNull ImmutableUnsignedLongSet EMPTY =
-        new ImmutableUnsignedLongSet(ImmutableSortedSet.of());
+    // Lazily-instantiated, racy single-check: ImmutableSortedSet is safe to publish and rebuilding it is idempotent
+    private @Nullable ImmutableSortedSet<EntryImpl> ranges;
 
-    private ImmutableUnsignedLongSet(final NavigableSet<EntryImpl> ranges) {
-        super(ranges);
+    private ImmutableUnsignedLongSet(final long[] bits, final int rangeSize) {
+        this.bits = requireNonNull(bits);
+        this.rangeSize = rangeSize;
     }
 
     static @NonNull ImmutableUnsignedLongSet copyOf(final MutableUnsignedLongSet mutable) {
-        if (mutable.isEmpty()) {
-            return of();
-        }
-        if (mutable.rangeSize() <= ARRAY_MAX_ELEMENTS) {
-            return new ImmutableUnsignedLongSet(ImmutableSortedSet.copyOfSorted(mutable.trustedRanges()));
-        }
-        return new ImmutableUnsignedLongSet(new TreeSet<>(mutable.trustedRanges()));
+        final int size = mutable.rangeSize();
+        return size == 0 ? of() : new ImmutableUnsignedLongSet(Arrays.copyOf(mutable.bits(), 2 * size), size);
     }
 
     /**
@@ -51,11 +52,30 @@ public final class ImmutableUnsignedLongSet extends UnsignedLongSet implements I
         return EMPTY;
     }
 
+    @Override
+    long[] bits() {
+        return bits;
+    }
+
+    @Override
+    public int rangeSize() {
+        return rangeSize;
+    }
+
     @Override
     public ImmutableUnsignedLongSet immutableCopy() {
         return this;
     }
 
+    @Override
+    public NavigableSet<? extends Entry> ranges() {
+        var local = ranges;
+        if (local == null) {
+            ranges = local = buildRanges();
+        }
+        return local;
+    }
+
     public static @NonNull ImmutableUnsignedLongSet readFrom(final DataInput in) throws IOException {
         return readFrom(in, in.readInt());
     }
@@ -64,39 +84,29 @@ public final class ImmutableUnsignedLongSet extends UnsignedLongSet implements I
         if (size == 0) {
             return EMPTY;
         }
-        return new ImmutableUnsignedLongSet(size <= ARRAY_MAX_ELEMENTS ? readArrayRanges(in, size)
-            : readTreeRanges(in, size));
-    }
 
-    private static ImmutableSortedSet<EntryImpl> readArrayRanges(final DataInput in, final int size)
-            throws IOException {
-        final var ranges = new EntryImpl[size];
+        // We always write ranges in order, in which case each range is appended. Should we encounter unordered or
+        // overlapping ranges, they are merged as needed.
+        final var ranges = new MutableUnsignedLongSet(new long[2 * size], 0);
         for (int i = 0; i < size; ++i) {
-            ranges[i] = readEntry(in);
+            readEntry(in, ranges);
         }
-        return ImmutableSortedSet.copyOf(ranges);
-    }
 
-    private static TreeSet<EntryImpl> readTreeRanges(final DataInput in, final int size) throws IOException {
-        final var ranges = new TreeSet<EntryImpl>();
-        for (int i = 0; i < size; ++i) {
-            ranges.add(readEntry(in));
-        }
-        return ranges;
+        final int rangeSize = ranges.rangeSize();
+        return rangeSize == size ? new ImmutableUnsignedLongSet(ranges.bits(), rangeSize) : ranges.immutableCopy();
     }
 
     // These two methods provide the same serialization format as the one we've used to serialize Range<UnsignedLong>
-    private static EntryImpl readEntry(final DataInput in) throws IOException {
+    private static void readEntry(final DataInput in, final MutableUnsignedLongSet ranges) throws IOException {
         final byte hdr = WritableObjects.readLongHeader(in);
         final long first = WritableObjects.readFirstLong(in, hdr);
         final long second = WritableObjects.readSecondLong(in, hdr) - 1;
 
-        final int cmp = Long.compareUnsigned(first, second);
-        if (cmp > 0) {
+        if (Long.compareUnsigned(first, second) > 0) {
             throw new IOException("Lower endpoint " + Long.toUnsignedString(first) + " is greater than upper "
                 + "endpoint " + Long.toUnsignedString(second));
         }
-        return cmp == 0 ? new Entry1(first) : new EntryN(first, second);
+        ranges.addRange(first, second);
     }
 
     @Override
@@ -114,8 +124,8 @@ public final class ImmutableUnsignedLongSet extends UnsignedLongSet implements I
     }
 
     private void writeRanges(final @NonNull DataOutput out) throws IOException {
-        for (var range : trustedRanges()) {
-            WritableObjects.writeLongs(out, range.lowerBits(), range.upperBits() + 1);
+        for (int i = 0; i < rangeSize; ++i) {
+            WritableObjects.writeLongs(out, lowerBitsAt(i), upperBitsAt(i) + 1);
         }
     }
 }
@@ -7,8 +7,13 @@
  */
 package org.opendaylight.controller.cluster.raft.spi;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects.ToStringHelper;
@@ -17,22 +22,50 @@ import com.google.common.base.Throwables;
 import com.google.common.base.Ticker;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.common.actor.MeteringBehavior;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.raft.spi.AveragingProgressTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @NonNullByDefault
 public final class JournalWriteTask implements Runnable {
+    /**
+     * Group commit settings. Journal appends are made durable in groups: all appends drained from the queue in one go
+     * are flushed together. With a non-zero {@code maxLingerMicros} the writer additionally waits up to that long for
+     * more appends to arrive before flushing the group. A group is flushed early once it reaches {@code maxBytes}.
+     * Callbacks of all actions in a group are completed together once the group has been flushed.
+     *
+     * @param maxLingerMicros maximum time to wait for more appends before flushing, in microseconds, {@code 0} to flush
+     *                        as soon as the queue is drained
+     * @param maxBytes maximum number of bytes in a group, {@code 0} for no limit
+     */
+    public record GroupCommit(long maxLingerMicros, long maxBytes) {
+        /**
+         * Default settings: flush as soon as the queue is drained, with no limit on size.
+         */
+        public static final GroupCommit DEFAULT = new GroupCommit(0, 0);
+
+        public GroupCommit {
+            checkArgument(maxLingerMicros >= 0, "Invalid maxLingerMicros %s", maxLingerMicros);
+            checkArgument(maxBytes >= 0, "Invalid maxBytes %s", maxBytes);
+        }
+    }
+
     /**
      * A queue entry. e.g. an action the task needs to take.
      */
@@ -86,10 +119,24 @@ public final class JournalWriteTask implements Runnable {
         }
     }
 
-    private record ClosedTask(long enqueuedTicks, long execNanos) {
+    private record ClosedTask(long enqueuedTicks, long transmitTicks, long execNanos) {
         // Nothing else
     }
 
+    /**
+     * A pending completion of an action.
+     *
+     * @param action the action
+     * @param completion the completion to run
+     * @param needsFlush {@code true} if the completion reports success of an action which needs to be flushed
+     */
+    private record Completion(JournalAction<?> action, Runnable completion, boolean needsFlush) {
+        Completion {
+            requireNonNull(action);
+            requireNonNull(completion);
+        }
+    }
+
     /**
      * Terminate the task.
      *
@@ -101,6 +148,24 @@ public final class JournalWriteTask implements Runnable {
         }
     }
 
+    /**
+     * A function applied to an {@link EntryJournal.JournalEntry} by {@link #readEntry(long, EntryFunction)}.
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface EntryFunction<T> {
+        /**
+         * Apply this function to an entry. The entry is valid only for the duration of this method and must not be
+         * retained.
+         *
+         * @param entry the entry
+         * @return the result
+         * @throws IOException if an I/O error occurs
+         */
+        T apply(EntryJournal.JournalEntry entry) throws IOException;
+    }
+
     private static final class UncheckNoopCallback extends RaftCallback<Void> {
         static final UncheckNoopCallback INSTANCE = new UncheckNoopCallback();
 
@@ -129,6 +194,7 @@ public final class JournalWriteTask implements Runnable {
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(JournalWriteTask.class);
+    private static final long FULL_QUEUE_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
 
     private final AtomicReference<@Nullable CancellationException> aborted = new AtomicReference<>();
     private final RaftStorageCompleter completer;
@@ -137,50 +203,90 @@ public final class JournalWriteTask implements Runnable {
     // Journal and its locking
     private final ReentrantLock journalLock = new ReentrantLock();
     private final EntryJournalV1 journal;
-
-    // Incoming queue and its locking/accounding
-    private final ReentrantLock queueLock = new ReentrantLock();
-    private final Condition notEmpty = queueLock.newCondition();
-    private final ArrayDeque<Action> queue = new ArrayDeque<>();
+    // Reader used by readEntry(), guarded by journalLock. It is dropped whenever the writer trims the journal.
+    private EntryJournal.@Nullable Reader cachedReader;
+    // Set once the journal is about to be closed, written with journalLock held
+    private volatile boolean readsDisabled;
+
+    // Incoming queue: a bounded lock-free ring with any number of producers and the writer thread as its sole consumer.
+    // The writer thread publishes itself in parkedWriter before parking when the ring is empty, producers unpark it
+    // after each offer.
+    private final ManyToOneConcurrentArrayQueue<Action> queue;
+    private volatile @Nullable Thread parkedWriter;
+    // Termination request which could not be placed into the ring because it was full. Termination must never wait for
+    // the writer to make room.
+    private final AtomicReference<@Nullable CancellationException> terminateRequest = new AtomicReference<>();
+    // Set once the writer has exited, at which point the ring has no consumer. Any actions still in the ring are failed
+    // by whoever observes this flag, serialized by exitLock.
+    private volatile boolean writerExited;
+    private final ReentrantLock exitLock = new ReentrantLock();
+
+    // Incoming queue accounting, which is not thread-safe
+    private final ReentrantLock trackerLock = new ReentrantLock();
     private final AveragingProgressTracker tracker;
 
-    // TODO: also maintain the following metrics to provide SegmentedJournalActor parity
-    //    // Tracks the time it took us to write a batch of messages
-    //    private Timer batchWriteTime;
-    //    // Tracks the number of individual messages written
-    //    private Meter messageWriteCount;
-    //    // Tracks the size distribution of messages
-    //    private Histogram messageSize;
-    //    // Tracks the number of messages completed for each flush
-    //    private Histogram flushMessages;
-    //    // Tracks the number of bytes completed for each flush
-    //    private Histogram flushBytes;
-    //    // Tracks the duration of flush operations
-    //    private Timer flushTime;
+    // Group commit state, accessed only from the writer thread
+    private final ArrayList<Completion> groupCompletions = new ArrayList<>();
+    private final ArrayList<ClosedTask> groupClosedTasks = new ArrayList<>();
+    private final long maxLingerNanos;
+    private final long maxGroupBytes;
+    private long groupStarted;
+    private long groupBytes;
+    private int groupMessages;
+
+    // Registry holding the metrics below, which are removed once the task terminates
+    private final MetricRegistry registry;
+    // Tracks the time it took us to write a batch of messages
+    private final Timer batchWriteTime;
+    // Tracks the number of individual messages written
+    private final Meter messageWriteCount;
+    // Tracks the size distribution of messages
+    private final Histogram messageSize;
+    // Tracks the number of messages completed for each flush
+    private final Histogram flushMessages;
+    // Tracks the number of bytes completed for each flush
+    private final Histogram flushBytes;
+    // Tracks the duration of flush operations
+    private final Timer flushTime;
 
     public JournalWriteTask(final RaftStorageCompleter completer, final EntryJournalV1 journal,
             final int queueCapacity) {
-        this(Ticker.systemTicker(), completer, journal, queueCapacity);
+        this(completer, journal, queueCapacity, GroupCommit.DEFAULT);
+    }
+
+    public JournalWriteTask(final RaftStorageCompleter completer, final EntryJournalV1 journal,
+            final int queueCapacity, final GroupCommit groupCommit) {
+        this(Ticker.systemTicker(), completer, journal, queueCapacity, groupCommit,
+            MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry());
     }
 
     @VisibleForTesting
     public JournalWriteTask(final Ticker ticker, final RaftStorageCompleter completer, final EntryJournalV1 journal,
             final int queueCapacity) {
+        this(ticker, completer, journal, queueCapacity, GroupCommit.DEFAULT, new MetricRegistry());
+    }
+
+    @VisibleForTesting
+    JournalWriteTask(final Ticker ticker, final RaftStorageCompleter completer, final EntryJournalV1 journal,
+            final int queueCapacity, final GroupCommit groupCommit, final MetricRegistry registry) {
         this.ticker = requireNonNull(ticker);
         this.completer = requireNonNull(completer);
         this.journal = requireNonNull(journal);
         tracker = new AveragingProgressTracker(queueCapacity);
-
-        // TODO: the equivalent of:
-        //        final var registry = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry();
-        //        final var actorName = self().path().parent().toStringWithoutAddress() + '/' + directory.getFileName();
-        //
-        //        batchWriteTime = registry.timer(MetricRegistry.name(actorName, "batchWriteTime"));
-        //        messageWriteCount = registry.meter(MetricRegistry.name(actorName, "messageWriteCount"));
-        //        messageSize = registry.histogram(MetricRegistry.name(actorName, "messageSize"));
-        //        flushBytes = registry.histogram(MetricRegistry.name(actorName, "flushBytes"));
-        //        flushMessages = registry.histogram(MetricRegistry.name(actorName, "flushMessages"));
-        //        flushTime = registry.timer(MetricRegistry.name(actorName, "flushTime"));
+        // Leave enough headroom in the ring for the tracker's backpressure to take effect before producers have to wait
+        // for the ring to drain
+        queue = new ManyToOneConcurrentArrayQueue<>(queueCapacity * 2);
+        maxLingerNanos = TimeUnit.MICROSECONDS.toNanos(groupCommit.maxLingerMicros());
+        maxGroupBytes = groupCommit.maxBytes() != 0 ? groupCommit.maxBytes() : Long.MAX_VALUE;
+
+        this.registry = requireNonNull(registry);
+        final var prefix = MetricRegistry.name(completer.memberId(), "journal");
+        batchWriteTime = registry.timer(MetricRegistry.name(prefix, "batchWriteTime"));
+        messageWriteCount = registry.meter(MetricRegistry.name(prefix, "messageWriteCount"));
+        messageSize = registry.histogram(MetricRegistry.name(prefix, "messageSize"));
+        flushBytes = registry.histogram(MetricRegistry.name(prefix, "flushBytes"));
+        flushMessages = registry.histogram(MetricRegistry.name(prefix, "flushMessages"));
+        flushTime = registry.timer(MetricRegistry.name(prefix, "flushTime"));
     }
 
     private String memberId() {
@@ -192,6 +298,71 @@ public final class JournalWriteTask implements Runnable {
         return journal;
     }
 
+    /**
+     * Check whether entries can be read from this task. This is not the case once the task has failed or has been
+     * terminated.
+     *
+     * @return {@code true} if entries can be read
+     */
+    public boolean isReadable() {
+        return !readsDisabled && aborted.get() == null;
+    }
+
+    /**
+     * Read the entry at specified {@code journalIndex} and apply a function to it. The read is synchronized with this
+     * task, so that the journal is not trimmed, reset or closed while the entry is being accessed. Consecutive reads
+     * reuse the same {@link EntryJournal.Reader}, so that reading successive entries does not require seeking.
+     *
+     * @param <T> result type
+     * @param journalIndex the {@code journalIndex} to read
+     * @param function the function to apply
+     * @return the function's result
+     * @throws IOException if the entry cannot be read or the function fails
+     */
+    public <T> T readEntry(final long journalIndex, final EntryFunction<T> function) throws IOException {
+        journalLock.lock();
+        try {
+            if (readsDisabled) {
+                throw new IOException("Journal is being closed");
+            }
+
+            var reader = cachedReader;
+            if (reader == null) {
+                cachedReader = reader = journal.openReader();
+            }
+            try {
+                if (reader.nextJournalIndex() != journalIndex) {
+                    reader.resetToRead(journalIndex);
+                }
+                final var entry = reader.nextEntry();
+                if (entry == null) {
+                    throw new IOException("Journal index " + journalIndex + " not found");
+                }
+                return function.apply(entry);
+            } catch (IOException | RuntimeException e) {
+                closeCachedReader();
+                throw e;
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    // Called with journalLock held
+    private void closeCachedReader() {
+        final var reader = cachedReader;
+        if (reader != null) {
+            cachedReader = null;
+            reader.close();
+        }
+    }
+
+    // Called with journalLock held
+    private void disableReads() {
+        readsDisabled = true;
+        closeCachedReader();
+    }
+
     /**
      * Append a log entry to the journal.
      *
@@ -233,11 +404,12 @@ public final class JournalWriteTask implements Runnable {
         final var cause = new CancellationException("Abrupt termination");
         // Interject into processing ...
         abort(cause);
-        // .. take the lock and enqueue ...
+        // .. enqueue ...
         enqueueTermination(cause);
         // .. and ensure noone is accessing the journal before closing it
         journalLock.lock();
         try {
+            disableReads();
             journal.close();
         } finally {
             journalLock.unlock();
@@ -249,34 +421,45 @@ public final class JournalWriteTask implements Runnable {
         return journal;
     }
 
-    // Called with queueLock held
-    private void lockedEnqueue(final Action action) {
-        final var signalNotEmpty = queue.isEmpty();
-        queue.addLast(action);
-        if (signalNotEmpty) {
-            // There is always at most one waiter
-            notEmpty.signal();
+    private void enqueue(final JournalAction<?> action) {
+        while (!queue.offer(action)) {
+            if (writerExited) {
+                // The writer is gone and will never make room: fail the action instead of waiting forever
+                completer.enqueueCompletion(failAction(action, exitCause()));
+                return;
+            }
+            // The ring is full, which means the writer is way behind: make sure it is awake and give it some time to
+            // catch up
+            wakeWriter();
+            LockSupport.parkNanos(FULL_QUEUE_BACKOFF_NANOS);
+        }
+        if (writerExited) {
+            // The writer may have exited before seeing our action: make sure it does not linger in the ring
+            failQueued();
+        } else {
+            wakeWriter();
         }
     }
 
-    private void enqueue(final Action action) {
-        queueLock.lock();
-        try {
-            lockedEnqueue(action);
-        } finally {
-            queueLock.unlock();
+    private void wakeWriter() {
+        // There is always at most one waiter
+        final var writer = parkedWriter;
+        if (writer != null) {
+            LockSupport.unpark(writer);
         }
     }
 
     private void enqueueAndWait(final JournalAction<?> action) throws InterruptedException {
+        // Note: we open the task before the action becomes visible to the writer, so it can never be closed before
+        //       it is opened
         final long delay;
-        queueLock.lock();
+        trackerLock.lock();
         try {
-            lockedEnqueue(action);
             delay = tracker.openTask(action.enqueued());
         } finally {
-            queueLock.unlock();
+            trackerLock.unlock();
         }
+        enqueue(action);
 
         if (delay != 0) {
             // FIXME: add delay capping
@@ -286,7 +469,12 @@ public final class JournalWriteTask implements Runnable {
     }
 
     private void enqueueTermination(final CancellationException cause) {
-        enqueue(new TerminateAction(cause));
+        if (!queue.offer(new TerminateAction(cause))) {
+            // The ring is full: leave the request in its dedicated slot, the writer picks it up once it has drained the
+            // ring
+            terminateRequest.compareAndSet(null, cause);
+        }
+        wakeWriter();
     }
 
     @Override
@@ -296,60 +484,175 @@ public final class JournalWriteTask implements Runnable {
         // Reused between loops
         final var batch = new ArrayDeque<Action>();
 
-        boolean keepRunning;
-        do {
-            // Attempt to drain all elements first
-            final int batchSize = fillBatch(batch);
-            final var sw = Stopwatch.createStarted(ticker);
-            keepRunning = runBatch(batch);
-            LOG.debug("{}: completed {} commands in {}", memberId(), batchSize, sw.stop());
-        } while (keepRunning);
+        try {
+            boolean keepRunning;
+            do {
+                // Attempt to drain all elements first
+                fillBatch(batch);
+                keepRunning = runBatch(batch);
+                if (keepRunning && maxLingerNanos != 0) {
+                    keepRunning = lingerGroup(batch);
+                }
+                flushGroup();
+            } while (keepRunning);
+        } finally {
+            // The journal is closed once we exit, do not allow any further reads
+            journalLock.lock();
+            try {
+                disableReads();
+            } finally {
+                journalLock.unlock();
+            }
+            // Fail anything left in the ring, as well as anything enqueued from now on
+            abort(new CancellationException("Journal writer exited"));
+            writerExited = true;
+            failQueued();
+            removeMetrics();
+        }
 
         LOG.debug("{}: journal writer stopped", memberId());
     }
 
+    /**
+     * Fail all actions remaining in the ring after the writer has exited.
+     */
+    private void failQueued() {
+        exitLock.lock();
+        try {
+            final var cause = exitCause();
+            final var actions = new ArrayList<Action>();
+            // Note: a producer may have claimed a slot without having filled it yet, in which case drainTo() stops short
+            //       and we need to wait for the slot to be filled
+            while (!queue.isEmpty()) {
+                if (queue.drainTo(actions, Integer.MAX_VALUE) == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            final var completions = new ArrayList<Runnable>(actions.size());
+            for (var action : actions) {
+                if (action instanceof JournalAction<?> journalAction) {
+                    completions.add(failAction(journalAction, cause));
+                }
+            }
+            if (!completions.isEmpty()) {
+                LOG.debug("{}: failing {} actions enqueued after writer exit", memberId(), completions.size());
+                completer.enqueueCompletions(completions);
+            }
+        } finally {
+            exitLock.unlock();
+        }
+    }
+
+    private CancellationException exitCause() {
+        return requireNonNull(aborted.get());
+    }
+
+    /**
+     * Remove this task's metrics from the registry. Invoked when the task terminates, or when it is discarded without
+     * ever being run. Only the metrics instances created by this task are removed, so that any task which has since
+     * registered the same names is left untouched.
+     */
+    void removeMetrics() {
+        final var metrics = Set.of(batchWriteTime, messageWriteCount, messageSize, flushBytes, flushMessages,
+            flushTime);
+        registry.removeMatching((name, metric) -> metrics.contains(metric));
+    }
+
+    /**
+     * Wait for more actions to join the current group, until either the group is full or it has lingered for
+     * {@link GroupCommit#maxLingerMicros()}.
+     *
+     * @param batch the batch to use
+     * @return {@code true} if the task should keep running
+     */
+    private boolean lingerGroup(final ArrayDeque<Action> batch) {
+        // Note: runBatch() may flush the group, in which case groupStarted is reset once a subsequent append is seen
+        while (groupMessages != 0 && groupBytes < maxGroupBytes) {
+            final var remaining = groupStarted + maxLingerNanos - ticker.read();
+            if (remaining <= 0 || fillBatch(batch, remaining) == 0) {
+                break;
+            }
+            if (!runBatch(batch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private int fillBatch(final ArrayDeque<Action> batch) {
+        return fillBatch(batch, -1);
+    }
+
+    // timeoutNanos is negative for indefinite wait
+    private int fillBatch(final ArrayDeque<Action> batch, final long timeoutNanos) {
         final var sw = Stopwatch.createStarted(ticker);
 
-        final int batchSize;
-        queueLock.lock();
-        try {
-            batchSize = lockedFillBatch(batch);
-        } catch (InterruptedException e) {
-            // Should never happen, really. If it does, we just pretend we got a terminate command and let it play out.
-            LOG.error("{}: interrupted while waiting to receive commands, terminating", memberId(), e);
-            Thread.currentThread().interrupt();
-            batch.add(new TerminateAction(newCancellationWithCause("Thread interrupted", e)));
-            return 1;
-        } finally {
-            queueLock.unlock();
+        int batchSize = queue.drainTo(batch, Integer.MAX_VALUE);
+        if (batchSize == 0) {
+            try {
+                batchSize = awaitBatch(batch, timeoutNanos);
+            } catch (InterruptedException e) {
+                // Should never happen, really. If it does, we just pretend we got a terminate command and let it play
+                // out.
+                LOG.error("{}: interrupted while waiting to receive commands, terminating", memberId(), e);
+                Thread.currentThread().interrupt();
+                batch.add(new TerminateAction(newCancellationWithCause("Thread interrupted", e)));
+                return 1;
+            }
+        }
+
+        // A termination request which did not fit into the ring comes after everything enqueued before it, drain once
+        // more to pick up anything that arrived after our last drain
+        final var terminate = terminateRequest.getAndSet(null);
+        if (terminate != null) {
+            batchSize += queue.drainTo(batch, Integer.MAX_VALUE);
+            batch.add(new TerminateAction(terminate));
+            batchSize++;
         }
 
         LOG.debug("{}: received {} commands after {}", memberId(), batchSize, sw.stop());
         return batchSize;
     }
 
-    // Called with with queueLock held
-    private int lockedFillBatch(final ArrayDeque<Action> batch) throws InterruptedException {
-        int queueSize = queue.size();
-        if (queueSize == 0) {
+    private int awaitBatch(final ArrayDeque<Action> batch, final long timeoutNanos) throws InterruptedException {
+        if (timeoutNanos < 0) {
             LOG.debug("{}: waiting to receive commands", memberId());
-            do {
-                notEmpty.await();
-            } while ((queueSize = queue.size()) == 0);
+        } else {
+            LOG.trace("{}: waiting up to {}ns to receive commands", memberId(), timeoutNanos);
         }
 
-        batch.addAll(queue);
-        queue.clear();
-        return queueSize;
+        final var deadline = System.nanoTime() + timeoutNanos;
+        // Publish ourselves before re-checking the queue, so that a concurrent offer() either sees us or we see its
+        // item
+        parkedWriter = Thread.currentThread();
+        try {
+            int batchSize;
+            while ((batchSize = queue.drainTo(batch, Integer.MAX_VALUE)) == 0 && terminateRequest.get() == null) {
+                if (timeoutNanos < 0) {
+                    LockSupport.park(this);
+                } else {
+                    final var remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return batchSize;
+        } finally {
+            parkedWriter = null;
+        }
     }
 
     @VisibleForTesting
     @SuppressWarnings("checkstyle:illegalCatch")
     boolean runBatch(final Queue<Action> actions) {
+        final var batchSize = actions.size();
         final var transmitTicks = ticker.read();
-        final var closedTasks = new ArrayList<ClosedTask>(actions.size());
-        final var completions = new ArrayList<Runnable>();
         boolean keepRunning = true;
 
         // FIXME: not quite, as we want to perform intra-batch things:
@@ -357,7 +660,6 @@ public final class JournalWriteTask implements Runnable {
         //        - a JournalApplyTo bump is implied with JournalDiscardHead, so there we can get a free update
         //        - JournalAppendEntries should be cancelled with subsequent JournalDiscardTail
         //        - a TerminateAction should cancel all remaining entries
-        // FIXME: separately, the batch should have a mass 'flush()' operation
 
         journalLock.lock();
         try {
@@ -368,37 +670,53 @@ public final class JournalWriteTask implements Runnable {
                         // propagate cancellation if set
                         final var cancellation = aborted.get();
                         if (cancellation != null) {
-                            completions.add(failAction(action, cancellation));
-                            closedTasks.add(new ClosedTask(action.enqueued(), 0));
+                            groupCompletions.add(new Completion(action, failAction(action, cancellation), false));
+                            groupClosedTasks.add(new ClosedTask(action.enqueued(), transmitTicks, 0));
                             continue;
                         }
 
                         final var execStarted = ticker.read();
-                        Runnable completion;
+                        Completion completion;
                         try {
                             completion = switch (action) {
                                 case JournalAppendEntry appendEntry -> {
-                                    yield completeAction(appendEntry, journal.appendEntry(appendEntry.entry));
+                                    final var size = journal.writeEntry(appendEntry.entry);
+                                    if (groupMessages++ == 0) {
+                                        groupStarted = execStarted;
+                                    }
+                                    groupBytes += size;
+                                    messageWriteCount.mark();
+                                    messageSize.update(size);
+                                    yield new Completion(appendEntry, completeAction(appendEntry, size), true);
                                 }
                                 case JournalDiscardHead discardHead -> {
+                                    // Segments may be deleted, the reader needs to be reopened
+                                    closeCachedReader();
                                     journal.discardHead(discardHead.firstRetainedIndex);
-                                    yield completeAction(discardHead);
+                                    yield new Completion(discardHead, completeAction(discardHead), false);
                                 }
                                 case JournalDiscardTail discardTail -> {
+                                    // Segments may be deleted, the reader needs to be reopened
+                                    closeCachedReader();
                                     journal.discardTail(discardTail.firstRemovedIndex);
-                                    yield completeAction(discardTail);
+                                    yield new Completion(discardTail, completeAction(discardTail), false);
                                 }
                                 case JournalSetApplyTo setApplyTo -> {
                                     journal.setApplyTo(setApplyTo.journalIndex);
-                                    yield completeAction(setApplyTo);
+                                    yield new Completion(setApplyTo, completeAction(setApplyTo), false);
                                 }
                             };
                         } catch (IOException | RuntimeException e) {
-                            completion = abortAndFailAction(action, e);
+                            completion = new Completion(action, abortAndFailAction(action, e), false);
                         }
-                        completions.add(completion);
+                        groupCompletions.add(completion);
+                        groupClosedTasks.add(new ClosedTask(action.enqueued(), transmitTicks,
+                            ticker.read() - execStarted));
 
-                        closedTasks.add(new ClosedTask(action.enqueued(), ticker.read() - execStarted));
+                        if (groupBytes >= maxGroupBytes) {
+                            // The group is full: flush it now
+                            lockedFlushGroup();
+                        }
                     }
                     case TerminateAction(var cause) -> {
                         abort(cause);
@@ -410,21 +728,75 @@ public final class JournalWriteTask implements Runnable {
             journalLock.unlock();
         }
 
+        final var elapsed = ticker.read() - transmitTicks;
+        batchWriteTime.update(elapsed, TimeUnit.NANOSECONDS);
+        LOG.debug("{}: completed {} commands in {}", memberId(), batchSize, Duration.ofNanos(elapsed));
+        return keepRunning;
+    }
+
+    /**
+     * Flush current group and complete its actions.
+     */
+    private void flushGroup() {
+        journalLock.lock();
+        try {
+            lockedFlushGroup();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    // Called with journalLock held
+    @SuppressWarnings("checkstyle:illegalCatch")
+    private void lockedFlushGroup() {
+        if (groupCompletions.isEmpty()) {
+            return;
+        }
+
+        final List<Runnable> completions;
+        if (groupMessages != 0) {
+            final var flushStarted = ticker.read();
+            Exception failure;
+            try {
+                journal.flush();
+                failure = null;
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("{}: failed to flush journal", memberId(), e);
+                abort(newCancellationWithCause("Journal flush failed", e));
+                failure = e;
+            }
+            flushTime.update(ticker.read() - flushStarted, TimeUnit.NANOSECONDS);
+            flushBytes.update(groupBytes);
+            flushMessages.update(groupMessages);
+            LOG.debug("{}: flushed {} entries totalling {} bytes", memberId(), groupMessages, groupBytes);
+
+            completions = new ArrayList<>(groupCompletions.size());
+            for (var completion : groupCompletions) {
+                completions.add(failure != null && completion.needsFlush()
+                    ? failAction(completion.action(), failure) : completion.completion());
+            }
+        } else {
+            completions = groupCompletions.stream().map(Completion::completion).toList();
+        }
+
         // Update tasks statistics: note we do a bulk update under lock
         final var finished = ticker.read();
-        queueLock.lock();
+        trackerLock.lock();
         try {
-            for (var closed : closedTasks) {
-                tracker.closeTask(finished, closed.enqueuedTicks, transmitTicks, closed.execNanos);
+            for (var closed : groupClosedTasks) {
+                tracker.closeTask(finished, closed.enqueuedTicks, closed.transmitTicks, closed.execNanos);
             }
         } finally {
-            queueLock.unlock();
+            trackerLock.unlock();
         }
 
+        groupCompletions.clear();
+        groupClosedTasks.clear();
+        groupBytes = 0;
+        groupMessages = 0;
+
         // Enqueue completions
         completer.enqueueCompletions(completions);
-
-        return keepRunning;
     }
 
     private void abort(final CancellationException cause) {
@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.raft.spi;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.raft.api.EntryMeta;
 
 /**
@@ -23,4 +24,14 @@ public interface LogEntry extends EntryMeta {
      * @return this entry's {@link StateMachineCommand}
      */
     StateMachineCommand command();
+
+    /**
+     * Returns this entry's {@link #command()} in its serialized form, if it is readily available. Default
+     * implementation returns {@code null}.
+     *
+     * @return the {@link SerializedCommand}, or {@code null}
+     */
+    default @Nullable SerializedCommand serializedCommand() {
+        return null;
+    }
 }
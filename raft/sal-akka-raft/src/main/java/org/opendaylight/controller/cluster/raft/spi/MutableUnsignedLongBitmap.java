@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.spi;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Mutable;
+
+/**
+ * A mutable equivalent of {@link UnsignedLongBitmap}, i.e. a {@code Map<UnsignedLong, Boolean>} specialized to store
+ * primitive keys and values. It is implemented as an open-addressing hash table with linear probing, so that each
+ * mapping costs a {@code long} and a {@code byte}, rather than an entry object and two boxed values.
+ *
+ * <p>Storage is allocated on first insertion and released when the last mapping is removed, so that empty instances
+ * are cheap.
+ */
+public final class MutableUnsignedLongBitmap implements Mutable {
+    // Slot states
+    private static final byte FREE = 0;
+    private static final byte VALUE_FALSE = 1;
+    private static final byte VALUE_TRUE = 2;
+
+    private static final long[] EMPTY_KEYS = new long[0];
+    private static final byte[] EMPTY_STATES = new byte[0];
+    @VisibleForTesting
+    static final int MIN_CAPACITY = 4;
+
+    private long[] keys = EMPTY_KEYS;
+    private byte[] states = EMPTY_STATES;
+    private int size;
+
+    private MutableUnsignedLongBitmap() {
+        // Hidden on purpose
+    }
+
+    public static @NonNull MutableUnsignedLongBitmap of() {
+        return new MutableUnsignedLongBitmap();
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @VisibleForTesting
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Check whether this bitmap contains a mapping for a key.
+     *
+     * @param keyBits key, interpreted as unsigned
+     * @return {@code true} if this bitmap contains the key
+     */
+    public boolean containsKey(final long keyBits) {
+        return indexOf(keyBits) >= 0;
+    }
+
+    /**
+     * Return the value mapped to a key.
+     *
+     * @param keyBits key, interpreted as unsigned
+     * @return mapped value, or {@code null} if there is no mapping
+     */
+    public @Nullable Boolean get(final long keyBits) {
+        final int index = indexOf(keyBits);
+        return index < 0 ? null : states[index] == VALUE_TRUE;
+    }
+
+    /**
+     * Map a key to a value, replacing any previous mapping.
+     *
+     * @param keyBits key, interpreted as unsigned
+     * @param value value
+     */
+    public void put(final long keyBits, final boolean value) {
+        if (keys.length == 0) {
+            allocate(MIN_CAPACITY);
+        }
+
+        final byte state = value ? VALUE_TRUE : VALUE_FALSE;
+        final int mask = keys.length - 1;
+        int index = slotOf(keyBits, mask);
+        while (states[index] != FREE) {
+            if (keys[index] == keyBits) {
+                states[index] = state;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = keyBits;
+        states[index] = state;
+        // Keep load factor at or below 3/4
+        if (++size > keys.length - (keys.length >>> 2)) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Remove the mapping for a key.
+     *
+     * @param keyBits key, interpreted as unsigned
+     * @return {@code true} if a mapping was removed
+     */
+    public boolean remove(final long keyBits) {
+        int index = indexOf(keyBits);
+        if (index < 0) {
+            return false;
+        }
+        if (--size == 0) {
+            keys = EMPTY_KEYS;
+            states = EMPTY_STATES;
+            return true;
+        }
+
+        // Backward-shift deletion: move any subsequent entries in the probe sequence into the freed slot, so we do not
+        // need tombstones
+        final int mask = keys.length - 1;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (states[next] == FREE) {
+                break;
+            }
+            final int slot = slotOf(keys[next], mask);
+            // Move the entry if its home slot is not within (index, next], taking wrap-around into account
+            if (index <= next ? (index >= slot || slot > next) : (index >= slot && slot > next)) {
+                keys[index] = keys[next];
+                states[index] = states[next];
+                index = next;
+            }
+        }
+        states[index] = FREE;
+        return true;
+    }
+
+    /**
+     * Returns a mutable copy of this bitmap.
+     *
+     * @return a mutable copy of this bitmap
+     */
+    public @NonNull MutableUnsignedLongBitmap mutableCopy() {
+        final var ret = new MutableUnsignedLongBitmap();
+        if (size != 0) {
+            ret.keys = keys.clone();
+            ret.states = states.clone();
+            ret.size = size;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns an immutable copy of this bitmap.
+     *
+     * @return an immutable copy of this bitmap
+     */
+    public @NonNull UnsignedLongBitmap immutableCopy() {
+        return switch (size) {
+            case 0 -> UnsignedLongBitmap.of();
+            case 1 -> {
+                final int index = firstUsed(0);
+                yield UnsignedLongBitmap.of(keys[index], states[index] == VALUE_TRUE);
+            }
+            default -> {
+                // Sort by unsigned key, which is the same as signed order with the sign bit flipped
+                final var sorted = new long[size];
+                int idx = 0;
+                for (int i = firstUsed(0); i >= 0; i = firstUsed(i + 1)) {
+                    sorted[idx++] = keys[i] ^ Long.MIN_VALUE;
+                }
+                Arrays.sort(sorted);
+
+                final var values = new boolean[size];
+                for (int i = 0; i < size; ++i) {
+                    final long key = sorted[i] ^ Long.MIN_VALUE;
+                    sorted[i] = key;
+                    values[i] = states[indexOf(key)] == VALUE_TRUE;
+                }
+                yield new UnsignedLongBitmap.Regular(sorted, values);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return immutableCopy().toString();
+    }
+
+    private int indexOf(final long keyBits) {
+        if (size == 0) {
+            return -1;
+        }
+
+        final int mask = keys.length - 1;
+        int index = slotOf(keyBits, mask);
+        while (states[index] != FREE) {
+            if (keys[index] == keyBits) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int firstUsed(final int from) {
+        for (int i = from; i < states.length; ++i) {
+            if (states[i] != FREE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        states = new byte[capacity];
+    }
+
+    private void rehash(final int capacity) {
+        final var oldKeys = keys;
+        final var oldStates = states;
+        allocate(capacity);
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            final byte state = oldStates[i];
+            if (state != FREE) {
+                int index = slotOf(oldKeys[i], mask);
+                while (states[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                states[index] = state;
+            }
+        }
+    }
+
+    private static int slotOf(final long keyBits, final int mask) {
+        // Fibonacci hashing spreads sequential identifiers across the table
+        return (int) (keyBits * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+}
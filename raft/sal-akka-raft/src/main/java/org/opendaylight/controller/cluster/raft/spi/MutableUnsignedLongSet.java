@@ -7,24 +7,38 @@
  */
 package org.opendaylight.controller.cluster.raft.spi;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Range;
 import com.google.common.primitives.UnsignedLong;
 import java.util.NavigableSet;
-import java.util.TreeSet;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Mutable;
 
 /**
  * A mutable {@link UnsignedLongSet}.
  */
 public final class MutableUnsignedLongSet extends UnsignedLongSet implements Mutable {
-    MutableUnsignedLongSet(final TreeSet<EntryImpl> ranges) {
-        super(ranges);
+    private static final long[] EMPTY_BITS = new long[0];
+    // Two ranges
+    private static final int MIN_BITS = 4;
+
+    private long @NonNull [] bits;
+    private int rangeSize;
+
+    // Cached result of ranges(), invalidated by any modification
+    private @Nullable ImmutableSortedSet<EntryImpl> ranges;
+
+    MutableUnsignedLongSet(final long[] bits, final int rangeSize) {
+        this.bits = requireNonNull(bits);
+        this.rangeSize = rangeSize;
     }
 
     public static @NonNull MutableUnsignedLongSet of() {
-        return new MutableUnsignedLongSet(new TreeSet<>());
+        return new MutableUnsignedLongSet(EMPTY_BITS, 0);
     }
 
     public static @NonNull MutableUnsignedLongSet of(final long... ulongs) {
@@ -36,162 +50,100 @@ public final class MutableUnsignedLongSet extends UnsignedLongSet implements Mut
     }
 
     @Override
-    public ImmutableUnsignedLongSet immutableCopy() {
-        return ImmutableUnsignedLongSet.copyOf(this);
+    long[] bits() {
+        return bits;
     }
 
-    public void add(final long longBits) {
-        addOne(trustedRanges(), new Entry1(longBits));
+    @Override
+    public int rangeSize() {
+        return rangeSize;
     }
 
-    public void addAll(final UnsignedLongSet other) {
-        final var ranges = trustedRanges();
-        for (var range : other.trustedRanges()) {
-            if (range.lowerBits() == range.upperBits()) {
-                addOne(ranges, range);
-            } else {
-                addRange(ranges, range);
-            }
-        }
+    @Override
+    public ImmutableUnsignedLongSet immutableCopy() {
+        return ImmutableUnsignedLongSet.copyOf(this);
     }
 
-    private static void addOne(final NavigableSet<EntryImpl> ranges, final EntryImpl range) {
-        final long longBits = range.lowerBits();
-
-        // We need Iterator.remove() to perform efficient merge below
-        final var headIt = ranges.headSet(range, true).descendingIterator();
-        if (headIt.hasNext()) {
-            final var head = headIt.next();
-            if (Long.compareUnsigned(head.upperBits(), longBits) >= 0) {
-                // Already contained, this is a no-op
-                return;
-            }
-
-            // Merge into head entry if possible
-            if (head.upperBits() + 1 == longBits) {
-                // We will be replacing head
-                headIt.remove();
-
-                // Potentially merge head entry and tail entry
-                final var tailIt = ranges.tailSet(range, false).iterator();
-                if (tailIt.hasNext()) {
-                    final var tail = tailIt.next();
-                    if (tail.lowerBits() - 1 == longBits) {
-                        // Update tail.lowerBits to include contents of head
-                        tailIt.remove();
-                        ranges.add(tail.withLowerBits(head.lowerBits()));
-                        return;
-                    }
-                }
-
-                // Update head.upperBits
-                ranges.add(head.withUpperBits(longBits));
-                return;
-            }
-        }
-
-        final var tailIt = ranges.tailSet(range, false).iterator();
-        if (tailIt.hasNext()) {
-            final var tail = tailIt.next();
-            // Merge into tail entry if possible
-            if (tail.lowerBits() - 1 == longBits) {
-                // Update tail.lowerBits
-                tailIt.remove();
-                ranges.add(tail.withLowerBits(longBits));
-                return;
-            }
+    @Override
+    public NavigableSet<? extends Entry> ranges() {
+        var local = ranges;
+        if (local == null) {
+            ranges = local = buildRanges();
         }
+        return local;
+    }
 
-        // No luck, store a new entry
-        ranges.add(range);
+    public void add(final long longBits) {
+        addRange(longBits, longBits);
     }
 
-    private static void addRange(final NavigableSet<EntryImpl> ranges, final EntryImpl range) {
-        // If the start of the range is already covered by an existing range, we can expand that
-        final var headIt = ranges.headSet(range, true).descendingIterator();
-        final boolean hasFloor = headIt.hasNext();
-        if (hasFloor) {
-            final var floor = headIt.next();
-            if (Long.compareUnsigned(floor.upperBits(), range.upperBits()) < 0
-                && Long.compareUnsigned(floor.upperBits() + 1, range.lowerBits()) >= 0) {
-                headIt.remove();
-                ranges.add(expandFloor(ranges, floor, range.upperBits()));
-                return;
-            }
+    public void addAll(final UnsignedLongSet other) {
+        for (int i = 0, size = other.rangeSize(); i < size; ++i) {
+            addRange(other.lowerBitsAt(i), other.upperBitsAt(i));
         }
+    }
 
-        // If the end of the range is already covered by an existing range, we can expand that
-        final var tailIt = ranges.headSet(new Entry1(range.upperBits()), true).descendingIterator();
-        if (tailIt.hasNext()) {
-            final var upper = tailIt.next();
-            tailIt.remove();
-
-            // Quick check: if we did not find a lower range at all, we might be expanding the entire span, in which
-            // case upper needs to become the first entry
-            if (!hasFloor) {
-                ranges.headSet(upper, false).clear();
-            }
+    /**
+     * Add all values in range {@code [lowerBits..upperBits]}.
+     *
+     * @param lowerBits lower bound, interpreted as unsigned
+     * @param upperBits upper bound, interpreted as unsigned
+     */
+    void addRange(final long lowerBits, final long upperBits) {
+        ranges = null;
+
+        // The first range overlapping or adjacent to the new range. Note upper + 1 cannot overflow if upper < lower.
+        int first = floorIndex(lowerBits);
+        if (first < 0 || (Long.compareUnsigned(upperBitsAt(first), lowerBits) < 0
+                && upperBitsAt(first) + 1 != lowerBits)) {
+            first++;
+        }
 
-            ranges.add(expandCeiling(ranges, upper, range.lowerBits(), range.upperBits()));
+        // The last range overlapping or adjacent to the new range
+        final int last = upperBits == -1 ? rangeSize - 1 : floorIndex(upperBits + 1);
+        if (last < first) {
+            // No luck, insert a new range
+            insertRange(first, lowerBits, upperBits);
             return;
         }
 
-        // No luck, insert
-        ranges.add(range);
+        // Expand the first range to cover all of them, and remove the others
+        final long lower = lowerBitsAt(first);
+        final long upper = upperBitsAt(last);
+        bits[2 * first] = Long.compareUnsigned(lower, lowerBits) < 0 ? lower : lowerBits;
+        bits[2 * first + 1] = Long.compareUnsigned(upper, upperBits) > 0 ? upper : upperBits;
+        removeRanges(first + 1, last - first);
     }
 
-    private static @NonNull EntryN expandFloor(final NavigableSet<EntryImpl> ranges, final EntryImpl floor,
-            final long upperBits) {
-        // Acquire any ranges after floor and clean them up
-        final var tailIt = ranges.tailSet(floor, false).iterator();
-        final long nextLower = upperBits + 1;
-        while (tailIt.hasNext()) {
-            final var tail = tailIt.next();
-            if (Long.compareUnsigned(tail.lowerBits(), nextLower) > 0) {
-                // There is gap, nothing more to cleanup
-                break;
-            }
-
-            // We can merge this entry into floor...
-            tailIt.remove();
-
-            if (Long.compareUnsigned(tail.upperBits(), nextLower) >= 0) {
-                // ... but we need to expand floor accordingly and after that we are done
-                return floor.withUpperBits(tail.upperBits());
-            }
+    private void insertRange(final int index, final long lowerBits, final long upperBits) {
+        final int length = 2 * rangeSize;
+        if (length == bits.length) {
+            final var newBits = new long[Math.max(MIN_BITS, length + ((length >>> 1) & ~1))];
+            System.arraycopy(bits, 0, newBits, 0, 2 * index);
+            System.arraycopy(bits, 2 * index, newBits, 2 * index + 2, length - 2 * index);
+            bits = newBits;
+        } else {
+            System.arraycopy(bits, 2 * index, bits, 2 * index + 2, length - 2 * index);
         }
-
-        // Expand floor to include this range and we are done
-        return floor.withUpperBits(upperBits);
+        bits[2 * index] = lowerBits;
+        bits[2 * index + 1] = upperBits;
+        rangeSize++;
     }
 
-    private static @NonNull EntryN expandCeiling(final NavigableSet<EntryImpl> ranges, final EntryImpl ceiling,
-            final long lowerBits, final long upperBits) {
-        if (Long.compareUnsigned(ceiling.upperBits(), upperBits) >= 0) {
-            // Upper end is already covered
-            return ceiling.withLowerBits(lowerBits);
+    private void removeRanges(final int index, final int count) {
+        if (count != 0) {
+            final int end = 2 * (index + count);
+            System.arraycopy(bits, end, bits, 2 * index, 2 * rangeSize - end);
+            rangeSize -= count;
         }
-
-        // We are expanding the entry's upper boundary, we need to check if we need to coalesce following entries
-        long newUpper = upperBits;
-        final var tailIt = ranges.tailSet(ceiling, false).iterator();
-        if (tailIt.hasNext()) {
-            final var tail = tailIt.next();
-            if (Long.compareUnsigned(tail.lowerBits(), newUpper + 1) <= 0) {
-                tailIt.remove();
-                newUpper = tail.upperBits();
-            }
-        }
-
-        return new EntryN(lowerBits, newUpper);
     }
 
     // Provides compatibility with RangeSet<UnsignedLong> using [lower, upper + 1)
     public ImmutableRangeSet<UnsignedLong> toRangeSet() {
         final var builder = ImmutableRangeSet.<UnsignedLong>builder();
-        for (var entry : trustedRanges()) {
+        for (int i = 0; i < rangeSize; ++i) {
             builder.add(Range.closedOpen(
-                UnsignedLong.fromLongBits(entry.lowerBits()), UnsignedLong.fromLongBits(entry.upperBits() + 1)));
+                UnsignedLong.fromLongBits(lowerBitsAt(i)), UnsignedLong.fromLongBits(upperBitsAt(i) + 1)));
         }
         return builder.build();
     }
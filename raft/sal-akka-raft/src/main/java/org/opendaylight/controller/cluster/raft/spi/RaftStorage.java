@@ -17,6 +17,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HexFormat;
 import java.util.List;
@@ -212,6 +213,32 @@ public abstract sealed class RaftStorage implements EntryStore, SnapshotStore
         return first;
     }
 
+    @Override
+    public final List<SnapshotFile> lastSnapshotChain() throws IOException {
+        final var files = listFiles();
+        if (files.isEmpty()) {
+            LOG.debug("{}: no eligible files found", memberId());
+            return List.of();
+        }
+
+        // Walk from the latest file towards older files, picking up the chain of delta bases
+        final var chain = new ArrayList<SnapshotFile>();
+        var expected = files.getLast().timestamp();
+        for (var it = files.listIterator(files.size()); expected != null && it.hasPrevious(); ) {
+            final var file = it.previous();
+            if (expected.equals(file.timestamp())) {
+                chain.add(file);
+                expected = file.deltaBase();
+            }
+        }
+        if (expected != null) {
+            throw new IOException("Snapshot " + chain.getLast() + " refers to missing base snapshot " + expected);
+        }
+
+        LOG.debug("{}: picked {} as the latest snapshot chain", memberId(), chain);
+        return chain.reversed();
+    }
+
     @Override
     @NonNullByDefault
     public final void streamToInstall(final EntryInfo lastIncluded, final ToStorage<?> snapshot,
@@ -240,6 +267,16 @@ public abstract sealed class RaftStorage implements EntryStore, SnapshotStore
     @Override
     public void saveSnapshot(final RaftSnapshot raftSnapshot, final EntryInfo lastIncluded,
             final @Nullable ToStorage<?> snapshot, final Instant timestamp) throws IOException {
+        final var deltaBase = snapshot != null ? snapshot.deltaBase() : null;
+        if (deltaBase != null) {
+            // A delta snapshot is meaningful only on top of the latest snapshot, which has to be what it is based on
+            final var last = lastSnapshot();
+            if (last == null || !deltaBase.equals(last.timestamp())) {
+                throw new IOException("Delta snapshot based on " + deltaBase + " does not match latest snapshot "
+                    + last);
+            }
+        }
+
         saveSnapshot(memberId(), directory, SnapshotFileFormat.latest(), compression, raftSnapshot, lastIncluded,
             snapshot, timestamp);
         retainSnapshots(timestamp);
@@ -282,10 +319,18 @@ public abstract sealed class RaftStorage implements EntryStore, SnapshotStore
             return;
         }
 
-        for (var file : files) {
-            if (firstRetained.compareTo(file.timestamp()) <= 0) {
+        // Retain everything starting with firstRetained and any snapshots it is transitively based on
+        var expected = firstRetained;
+        for (var file : files.reversed()) {
+            final var timestamp = file.timestamp();
+            if (timestamp.equals(expected)) {
                 LOG.debug("{}: retaining snapshot {}", memberId(), file);
-                break;
+                expected = file.deltaBase();
+                continue;
+            }
+            if (firstRetained.compareTo(timestamp) < 0) {
+                LOG.debug("{}: retaining snapshot {}", memberId(), file);
+                continue;
             }
 
             try {
@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.raft.spi;
 
 import com.google.common.annotations.Beta;
+import java.time.Duration;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
@@ -21,5 +22,15 @@ public interface RecoveryObserver {
 
     void onCommandRecovered(StateMachineCommand command);
 
+    /**
+     * Invoked once all entries present in the journal have been replayed. The default implementation does nothing.
+     *
+     * @param entryCount number of entries read from the journal
+     * @param elapsed time it took to read, decode and apply the entries
+     */
+    default void onJournalReplayed(final long entryCount, final Duration elapsed) {
+        // No-op
+    }
+
     void onRecoveryCompleted();
 }
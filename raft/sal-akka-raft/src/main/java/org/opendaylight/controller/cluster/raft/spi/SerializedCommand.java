@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.raft.spi.CompressionType;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
+import org.opendaylight.yangtools.concepts.Immutable;
+
+/**
+ * A {@link StateMachineCommand} in its serialized form, i.e. Java serialization of its
+ * {@link StateMachineCommand#toSerialForm()}, encoded with a {@link CompressionType}. This is the same form in which
+ * {@link EntryJournal} stores commands, hence it can be shipped to peers and stored by them without being decoded and
+ * re-encoded.
+ */
+@NonNullByDefault
+public final class SerializedCommand implements Immutable {
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_LZ4  = 1;
+
+    private final CompressionType compression;
+    private final byte[] bytes;
+
+    private SerializedCommand(final CompressionType compression, final byte[] bytes) {
+        this.compression = requireNonNull(compression);
+        this.bytes = requireNonNull(bytes);
+    }
+
+    /**
+     * Create a new {@link SerializedCommand} wrapping specified bytes. The bytes are not copied and must not be
+     * modified afterwards.
+     *
+     * @param compression the {@link CompressionType} of the bytes
+     * @param bytes the serialized bytes
+     * @return a {@link SerializedCommand}
+     */
+    public static SerializedCommand of(final CompressionType compression, final byte[] bytes) {
+        return new SerializedCommand(compression, bytes);
+    }
+
+    /**
+     * Serialize a {@link StateMachineCommand} without compression.
+     *
+     * @param command the command to serialize
+     * @return a {@link SerializedCommand}
+     * @throws IOException if an I/O error occurs
+     */
+    public static SerializedCommand of(final StateMachineCommand command) throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(command.toSerialForm());
+        }
+        return new SerializedCommand(CompressionType.NONE, bos.toByteArray());
+    }
+
+    /**
+     * Read a {@link SerializedCommand} written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in the {@link DataInput}
+     * @return a {@link SerializedCommand}
+     * @throws IOException if an I/O error occurs
+     */
+    public static SerializedCommand readFrom(final DataInput in) throws IOException {
+        final var compBits = in.readByte();
+        final var compression = switch (compBits) {
+            case COMPRESSION_NONE -> CompressionType.NONE;
+            case COMPRESSION_LZ4 -> CompressionType.LZ4;
+            default -> throw new IOException("Unrecognized compression " + compBits);
+        };
+        final var size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid size " + size);
+        }
+        final var bytes = new byte[size];
+        in.readFully(bytes);
+        return new SerializedCommand(compression, bytes);
+    }
+
+    /**
+     * Write this command as a length-prefixed byte slice.
+     *
+     * @param out the {@link DataOutput}
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(final DataOutput out) throws IOException {
+        out.writeByte(switch (compression) {
+            case NONE -> COMPRESSION_NONE;
+            case LZ4 -> COMPRESSION_LZ4;
+        });
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Write the serialized bytes, as they would be written by an {@link EntryJournal}.
+     *
+     * @param out the {@link OutputStream}
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeBytes(final OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    /**
+     * {@return the {@link CompressionType} of the serialized bytes}
+     */
+    public CompressionType compression() {
+        return compression;
+    }
+
+    /**
+     * {@return the number of serialized bytes}
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * Decode the {@link StateMachineCommand}.
+     *
+     * @param objectStreams the {@link RestrictedObjectStreams} context
+     * @return the {@link StateMachineCommand}
+     * @throws IOException if an I/O error occurs or the corresponding class cannot be resolved
+     */
+    public StateMachineCommand toCommand(final RestrictedObjectStreams objectStreams) throws IOException {
+        try (var ois = objectStreams.newObjectInputStream(
+                compression.decodeInput(new ByteArrayInputStream(bytes)))) {
+            return requireNonNull((StateMachineCommand) ois.readObject());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Cannot resolve command class", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("compression", compression).add("size", bytes.length).toString();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.VerifyException;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.concepts.WritableObjects;
+
+/**
+ * A {@link LogEntry} carrying its command as a {@link SerializedCommand}. The {@link #command()} itself may not be
+ * available, for example when the entry has been received from a peer, in which case it needs to be {@link #decode(
+ * RestrictedObjectStreams) decoded} before use.
+ */
+@NonNullByDefault
+public final class SerializedLogEntry implements Immutable, LogEntry {
+    private final long index;
+    private final long term;
+    private final SerializedCommand serializedCommand;
+    private final @Nullable StateMachineCommand command;
+
+    private SerializedLogEntry(final long index, final long term, final SerializedCommand serializedCommand,
+            final @Nullable StateMachineCommand command) {
+        this.index = index;
+        this.term = term;
+        this.serializedCommand = requireNonNull(serializedCommand);
+        this.command = command;
+    }
+
+    /**
+     * Create a new {@link SerializedLogEntry} for an entry whose command is known.
+     *
+     * @param entry the {@link LogEntry}
+     * @param serializedCommand the serialized form of {@code entry.command()}
+     * @return a {@link SerializedLogEntry}
+     */
+    public static SerializedLogEntry of(final LogEntry entry, final SerializedCommand serializedCommand) {
+        return new SerializedLogEntry(entry.index(), entry.term(), serializedCommand, entry.command());
+    }
+
+    /**
+     * Read a {@link SerializedLogEntry} written by {@link #writeTo(LogEntry, ObjectOutput)}. The returned entry needs
+     * to be {@link #decode(RestrictedObjectStreams) decoded} before its command can be accessed.
+     *
+     * @param in the {@link ObjectInput}
+     * @return a {@link SerializedLogEntry}
+     * @throws IOException if an I/O error occurs
+     */
+    public static SerializedLogEntry readFrom(final ObjectInput in) throws IOException {
+        final var hdr = WritableObjects.readLongHeader(in);
+        return new SerializedLogEntry(WritableObjects.readFirstLong(in, hdr), WritableObjects.readSecondLong(in, hdr),
+            SerializedCommand.readFrom(in), null);
+    }
+
+    /**
+     * Write a {@link LogEntry} so that it can be read by {@link #readFrom(ObjectInput)}. If the entry does not
+     * provide a {@link LogEntry#serializedCommand()}, its command is serialized.
+     *
+     * @param entry the {@link LogEntry}
+     * @param out the {@link ObjectOutput}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeTo(final LogEntry entry, final ObjectOutput out) throws IOException {
+        WritableObjects.writeLongs(out, entry.index(), entry.term());
+        final var serialized = entry.serializedCommand();
+        (serialized != null ? serialized : SerializedCommand.of(entry.command())).writeTo(out);
+    }
+
+    @Override
+    public long index() {
+        return index;
+    }
+
+    @Override
+    public long term() {
+        return term;
+    }
+
+    @Override
+    public StateMachineCommand command() {
+        final var local = command;
+        if (local == null) {
+            throw new VerifyException("Entry " + index + " has not been decoded");
+        }
+        return local;
+    }
+
+    @Override
+    public SerializedCommand serializedCommand() {
+        return serializedCommand;
+    }
+
+    /**
+     * {@return {@code true} if the {@link #command()} is available}
+     */
+    public boolean isDecoded() {
+        return command != null;
+    }
+
+    /**
+     * Return an equivalent entry with {@link #command()} available.
+     *
+     * @param objectStreams the {@link RestrictedObjectStreams} context
+     * @return a decoded {@link SerializedLogEntry}
+     * @throws IOException if an I/O error occurs or the corresponding class cannot be resolved
+     */
+    public SerializedLogEntry decode(final RestrictedObjectStreams objectStreams) throws IOException {
+        return command != null ? this
+            : new SerializedLogEntry(index, term, serializedCommand, serializedCommand.toCommand(objectStreams));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("index", index)
+            .add("term", term)
+            .add("command", command)
+            .add("serialized", serializedCommand)
+            .toString();
+    }
+}
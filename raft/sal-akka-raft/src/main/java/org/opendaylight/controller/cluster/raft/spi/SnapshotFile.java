@@ -33,6 +33,14 @@ public interface SnapshotFile extends InstallableSnapshot {
      */
     Path path();
 
+    /**
+     * Returns the timestamp of the snapshot this file is based on, if this file contains a delta snapshot. The state of
+     * a delta snapshot is meaningful only when applied on top of the state of its base snapshot.
+     *
+     * @return the timestamp of the base snapshot, or {@code null} if this file contains a full snapshot
+     */
+    @Nullable Instant deltaBase();
+
     /**
      * Returns the {@link RaftSnapshot} stored in this file.
      *
@@ -87,7 +87,9 @@ final class SnapshotFileV1 implements SnapshotFile {
     //      6   u8      StateSnapshot format:
     //                  - 0x00 = plain
     //                  - 0x80 = LZ4
-    //      7   u8      reserved=0x00
+    //      7   u8      Snapshot.State kind:
+    //                  - 0x00 = full snapshot
+    //                  - 0x01 = delta snapshot, to be applied on top of the snapshot identified by base timestamp
     //      8   s64     last index
     //     16   s64     last term
     //     24   s64     Snapshot.State offset (SSO), <56 is invalid
@@ -95,10 +97,13 @@ final class SnapshotFileV1 implements SnapshotFile {
     //     40   s64     java.time.Instant.seconds
     //     48   s32     java.time.Instant.nanos
     //     52   u32     CRC32C of bytes [4..51]
-    //     56   <var>   ClusterConfig
+    //     56   s64     base java.time.Instant.seconds, present only in delta snapshots
+    //     64   s32     base java.time.Instant.nanos, present only in delta snapshots
+    // 56 or 68 <var>   ClusterConfig
     //  <var>   <var>   List<ReplicatedLogEntry>
     //  <SSO>   <var>   Snapshot.State, zero-sized if not present
     private static final int HEADER_SIZE       = 56;
+    private static final int DELTA_BASE_SIZE   = 12;
     private static final int MAGIC_BITS        = 0xE34C80B7;
     private static final byte COMPRESS_MASK    = (byte) 0xC0;
     // 0x30 reserved
@@ -111,21 +116,25 @@ final class SnapshotFileV1 implements SnapshotFile {
     // 0x01 reserved for serdes method
     // 0x02 reserved for serdes method
     // 0x03 reserved for serdes method
+    private static final byte KIND_FULL        = (byte) 0x00;
+    private static final byte KIND_DELTA       = (byte) 0x01;
 
     private final Path path;
     private final EntryInfo lastIncluded;
     private final Instant timestamp;
+    private final @Nullable Instant deltaBase;
     private final CompressionType entryCompress;
     private final CompressionType stateCompress;
     private final FileStreamSource serverStream;
     private final FileStreamSource stateStream;
 
     SnapshotFileV1(final Path path, final EntryInfo lastIncluded, final Instant timestamp,
-            final CompressionType entryCompress, final CompressionType stateCompress,
+            final @Nullable Instant deltaBase, final CompressionType entryCompress, final CompressionType stateCompress,
             final long sso, final long limit) {
         this.path = requireNonNull(path);
         this.lastIncluded = requireNonNull(lastIncluded);
         this.timestamp = requireNonNull(timestamp);
+        this.deltaBase = deltaBase;
         this.entryCompress = requireNonNull(entryCompress);
         this.stateCompress = requireNonNull(stateCompress);
         serverStream = new FileStreamSource(path, 0, sso);
@@ -138,6 +147,7 @@ final class SnapshotFileV1 implements SnapshotFile {
             final @Nullable ToStorage<?> state) throws IOException {
         final var entryFormat = computeFormat(entryCompress, "entry");
         final var stateFormat = computeFormat(stateCompress, "state");
+        final var deltaBase = state != null ? state.deltaBase() : null;
 
         // Sanity check on unapplied entries
         if (!unappliedEntries.isEmpty()) {
@@ -168,6 +178,12 @@ final class SnapshotFileV1 implements SnapshotFile {
             final long sso;
             final long limit;
             try (var dos = new DataOutputStream(new UncloseableBufferedOutputStream(Channels.newOutputStream(fc)))) {
+                // Emit delta base if applicable
+                if (deltaBase != null) {
+                    dos.writeLong(deltaBase.getEpochSecond());
+                    dos.writeInt(deltaBase.getNano());
+                }
+
                 // Emit server configuration if present
                 if (votingConfig != null) {
                     final var si = votingConfig.serverInfo();
@@ -218,7 +234,7 @@ final class SnapshotFileV1 implements SnapshotFile {
                 .put((byte) 0x00)
                 .put(entryFormat)
                 .put(stateFormat)
-                .put((byte) 0x00)
+                .put(deltaBase != null ? KIND_DELTA : KIND_FULL)
                 .putLong(lastIncluded.index())
                 .putLong(lastIncluded.term())
                 .putLong(sso)
@@ -257,14 +273,16 @@ final class SnapshotFileV1 implements SnapshotFile {
             // Read the header
             final var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
             fc.read(header, 0);
-            return open(file, header.flip(), fc.size());
+            return open(file, header.flip(), fc);
         } catch (BufferUnderflowException e) {
             throw new IOException("Internal problem opening file", e);
         }
     }
 
-    private static SnapshotFileV1 open(final Path file, final ByteBuffer header, final long fileSize)
+    private static SnapshotFileV1 open(final Path file, final ByteBuffer header, final FileChannel fc)
             throws IOException {
+        final var fileSize = fc.size();
+
         // Check magic
         final var magic = header.getInt();
         if (magic != MAGIC_BITS) {
@@ -289,10 +307,12 @@ final class SnapshotFileV1 implements SnapshotFile {
         selectSerdes(stateFormat, "state");
 
         // +7
-        final var reserved = header.get();
-        if (reserved != 0x00) {
-            LOG.warn("Ignoring reserved byte {}", HF.toHexDigits(reserved));
-        }
+        final var kind = header.get();
+        final boolean delta = switch (kind) {
+            case KIND_FULL -> false;
+            case KIND_DELTA -> true;
+            default -> throw new IOException("Unknown snapshot kind " + HF.toHexDigits(kind));
+        };
 
         // +8
         // TODO: does 'index == -1' imply 'term == -1'?
@@ -333,8 +353,26 @@ final class SnapshotFileV1 implements SnapshotFile {
                 "Checksum mismatch: computed " + HF.toHexDigits(computed) + " recoded " + HF.toHexDigits(checksum));
         }
 
-        return new SnapshotFileV1(file, lastApplied, Instant.ofEpochSecond(tsSeconds, tsNanos), entryCompress,
-            stateCompress, sso, limit);
+        final Instant deltaBase;
+        if (delta) {
+            if (sso < HEADER_SIZE + DELTA_BASE_SIZE) {
+                throw new IOException("Invalid delta snapshot user state offset " + sso);
+            }
+            final var buf = ByteBuffer.allocate(DELTA_BASE_SIZE);
+            fc.read(buf, HEADER_SIZE);
+            buf.flip();
+            final var baseSeconds = buf.getLong();
+            final var baseNanos = buf.getInt();
+            if (baseNanos < 0 || baseNanos > 999_999_999) {
+                throw new IOException("Invalid delta base timestamp nanoseconds " + baseNanos);
+            }
+            deltaBase = Instant.ofEpochSecond(baseSeconds, baseNanos);
+        } else {
+            deltaBase = null;
+        }
+
+        return new SnapshotFileV1(file, lastApplied, Instant.ofEpochSecond(tsSeconds, tsNanos), deltaBase,
+            entryCompress, stateCompress, sso, limit);
     }
 
     private static CompressionType selectCompression(final byte format, final String which) throws IOException {
@@ -366,10 +404,15 @@ final class SnapshotFileV1 implements SnapshotFile {
         return timestamp;
     }
 
+    @Override
+    public @Nullable Instant deltaBase() {
+        return deltaBase;
+    }
+
     @Override
     public RaftSnapshot readRaftSnapshot(final RestrictedObjectStreams objectStreams) throws IOException {
         try (var dis = serverStream.openDataInput()) {
-            dis.skipNBytes(HEADER_SIZE);
+            dis.skipNBytes(deltaBase != null ? HEADER_SIZE + DELTA_BASE_SIZE : HEADER_SIZE);
 
             // Note: we do not compress VotingConfig on purpose, so as to ease debugging in case of any issues
             final VotingConfig votingConfig;
@@ -432,6 +475,7 @@ final class SnapshotFileV1 implements SnapshotFile {
         return MoreObjects.toStringHelper(this)
             .add("lastIncluded", lastIncluded)
             .add("timestamp", timestamp)
+            .add("deltaBase", deltaBase)
             .add("file", path)
             .add("size", stateStream.limit())
             .add("entryCompress", entryCompress)
@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.raft.spi;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.spi.StateSnapshot.ToStorage;
@@ -28,6 +29,16 @@ public interface SnapshotStore {
      */
     @Nullable SnapshotFile lastSnapshot() throws IOException;
 
+    /**
+     * Returns the snapshots needed to reconstruct the state of the {@link #lastSnapshot()}, in the order in which they
+     * need to be applied. The first snapshot is always a full snapshot, any subsequent snapshots are delta snapshots,
+     * each based on its predecessor.
+     *
+     * @return the snapshot chain ending with the last available snapshot, empty if there is no snapshot
+     * @throws IOException if an I/O error occurs or the chain is incomplete
+     */
+    List<SnapshotFile> lastSnapshotChain() throws IOException;
+
     /**
      * Serialize a {@link ToStorage} snapshot and make the result available as an {@link InstallableSnapshot} to the
      * specified callback.
@@ -39,7 +50,7 @@ public interface SnapshotStore {
     void streamToInstall(EntryInfo lastIncluded, ToStorage<?> snapshot, RaftCallback<InstallableSnapshot> callback);
 
     /**
-     * Saves a snapshot asynchronously and delete any previous snapshots.
+     * Saves a snapshot asynchronously and delete any previous snapshots it does not depend on.
      *
      * @param raftSnapshot the {@link RaftSnapshot}, receiving the snapshot timestamp
      * @param lastIncluded last included index/term
@@ -50,8 +61,8 @@ public interface SnapshotStore {
         RaftCallback<Instant> callback);
 
     /**
-     * Saves a snapshot synchronously and delete any previous snapshots. This method should only be called during
-     * recovery.
+     * Saves a snapshot synchronously and delete any previous snapshots it does not depend on. This method should only
+     * be called during recovery.
      *
      * @param raftSnapshot the {@link RaftSnapshot}
      * @param lastIncluded last included index/term
@@ -14,6 +14,7 @@ import com.google.common.base.MoreObjects;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Instant;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
@@ -90,21 +91,24 @@ public interface StateSnapshot extends Immutable {
     }
 
     /**
-     * A {@link StateSnapshot} on its way to storage.
+     * A {@link StateSnapshot} on its way to storage. It is either a full snapshot or, if {@link #deltaBase()} is
+     * present, a delta snapshot which needs to be applied on top of the snapshot identified by {@link #deltaBase()}.
      *
      * @param <T> the type of {@link StateSnapshot}
      */
     final class ToStorage<T extends StateSnapshot> {
         private final Writer<T> writer;
         private final T snapshot;
+        private final @Nullable Instant deltaBase;
 
-        private ToStorage(final Writer<T> writer, final T snapshot) {
+        private ToStorage(final Writer<T> writer, final T snapshot, final @Nullable Instant deltaBase) {
             this.writer = requireNonNull(writer);
             this.snapshot = requireNonNull(snapshot);
+            this.deltaBase = deltaBase;
         }
 
         public static <T extends StateSnapshot> ToStorage<T> of(final Writer<T> writer, final T snapshot) {
-            return new ToStorage<>(writer, snapshot);
+            return new ToStorage<>(writer, snapshot, null);
         }
 
         public static <T extends StateSnapshot> @Nullable ToStorage<T> ofNullable(final Writer<T> writer,
@@ -112,6 +116,28 @@ public interface StateSnapshot extends Immutable {
             return snapshot == null ? null : of(writer, snapshot);
         }
 
+        /**
+         * Create a {@link ToStorage} for a delta snapshot.
+         *
+         * @param <T> the type of {@link StateSnapshot}
+         * @param writer the {@link Writer}
+         * @param snapshot the delta snapshot
+         * @param deltaBase the timestamp of the snapshot {@code snapshot} is based on
+         * @return a {@link ToStorage}
+         */
+        public static <T extends StateSnapshot> ToStorage<T> ofDelta(final Writer<T> writer, final T snapshot,
+                final Instant deltaBase) {
+            return new ToStorage<>(writer, snapshot, requireNonNull(deltaBase));
+        }
+
+        /**
+         * {@return the timestamp of the snapshot this delta snapshot is based on, or {@code null} if this is a full
+         * snapshot}
+         */
+        public @Nullable Instant deltaBase() {
+            return deltaBase;
+        }
+
         public void writeTo(final OutputStream out) throws IOException {
             writer.writeSnapshot(snapshot, out);
         }
@@ -123,7 +149,10 @@ public interface StateSnapshot extends Immutable {
 
         @Override
         public String toString() {
-            return MoreObjects.toStringHelper(this).add("snapshot", snapshot).toString();
+            return MoreObjects.toStringHelper(this).omitNullValues()
+                .add("snapshot", snapshot)
+                .add("deltaBase", deltaBase)
+                .toString();
         }
     }
 }
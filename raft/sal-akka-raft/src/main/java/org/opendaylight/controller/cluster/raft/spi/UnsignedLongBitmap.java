@@ -18,7 +18,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNull;
@@ -80,9 +79,9 @@ public abstract sealed class UnsignedLongBitmap implements Immutable {
         }
 
         @Override
-        void putEntries(final HashMap<UnsignedLong, Boolean> ret) {
+        void putEntries(final MutableUnsignedLongBitmap ret) {
             for (int i = 0; i < keys.length; ++i) {
-                ret.put(UnsignedLong.fromLongBits(keys[i]), values[i]);
+                ret.put(keys[i], values[i]);
             }
         }
 
@@ -128,8 +127,8 @@ public abstract sealed class UnsignedLongBitmap implements Immutable {
         }
 
         @Override
-        void putEntries(final HashMap<UnsignedLong, Boolean> ret) {
-            ret.put(UnsignedLong.fromLongBits(key), value);
+        void putEntries(final MutableUnsignedLongBitmap ret) {
+            ret.put(key, value);
         }
 
         @Override
@@ -186,13 +185,8 @@ public abstract sealed class UnsignedLongBitmap implements Immutable {
 
     public abstract int size();
 
-    public final @NonNull HashMap<UnsignedLong, Boolean> mutableCopy() {
-        final int size = size();
-        if (size == 0) {
-            return new HashMap<>();
-        }
-
-        final var ret = HashMap.<UnsignedLong, Boolean>newHashMap(size);
+    public final @NonNull MutableUnsignedLongBitmap mutableCopy() {
+        final var ret = MutableUnsignedLongBitmap.of();
         putEntries(ret);
         return ret;
     }
@@ -248,7 +242,7 @@ public abstract sealed class UnsignedLongBitmap implements Immutable {
 
     abstract StringBuilder appendEntries(StringBuilder sb);
 
-    abstract void putEntries(HashMap<UnsignedLong, Boolean> ret);
+    abstract void putEntries(MutableUnsignedLongBitmap ret);
 
     /**
      * {@inheritDoc}
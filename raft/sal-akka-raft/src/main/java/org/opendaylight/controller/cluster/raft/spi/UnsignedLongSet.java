@@ -7,12 +7,10 @@
  */
 package org.opendaylight.controller.cluster.raft.spi;
 
-import static java.util.Objects.requireNonNull;
-
 import com.google.common.base.MoreObjects;
-import java.util.Collections;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Arrays;
 import java.util.NavigableSet;
-import java.util.TreeSet;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
@@ -22,7 +20,8 @@ import org.opendaylight.yangtools.concepts.Immutable;
  * objects, similar to what a {@code RangeSet<UnsignedLong>} would do.
  *
  * <p>Unlike a {@code RangeSet}, though, this class takes advantage of knowing that an unsigned long is a discrete unit
- * and can be stored in a simple {@code long}.
+ * and can be stored in a simple {@code long}. Ranges are stored in a primitive array, so each of them costs two longs,
+ * rather than an entry object and a tree node.
  */
 @NonNullByDefault
 public abstract sealed class UnsignedLongSet permits ImmutableUnsignedLongSet, MutableUnsignedLongSet {
@@ -47,19 +46,10 @@ public abstract sealed class UnsignedLongSet permits ImmutableUnsignedLongSet, M
         @Override
         @SuppressWarnings("checkstyle:parameterName")
         default int compareTo(final EntryImpl o) {
-            // Tailored to our algorithm: this is all we need to do to attain correct NavigableMap organization.
-            // The rest of the magic is what we do with the TreeMap, i.e. how we merge entries when expanding.
+            // Entries never overlap, hence this is all we need to do to attain correct NavigableSet organization.
             return Long.compareUnsigned(lowerBits(), o.lowerBits());
         }
 
-        default EntryN withLowerBits(final long newLowerBits) {
-            return new EntryN(newLowerBits, upperBits());
-        }
-
-        default EntryN withUpperBits(final long newUpperBits) {
-            return new EntryN(lowerBits(), newUpperBits);
-        }
-
         default int hashCodeImpl() {
             return Long.hashCode(lowerBits()) * 31 + Long.hashCode(upperBits());
         }
@@ -124,16 +114,17 @@ public abstract sealed class UnsignedLongSet permits ImmutableUnsignedLongSet, M
         }
     }
 
-    // The idea is rather simple, we track a NavigableSet of range entries, ordered by their lower bound. This means
-    // that for a contains() operation we just need the first headSet() entry. For insert operations we just update
-    // either the lower bound or the upper bound of an existing entry. When we do, we also look at prev/next entry and
-    // if they are contiguous with the updated entry, we adjust the entry once more and remove the prev/next entry.
-    private final NavigableSet<EntryImpl> ranges;
-
-    UnsignedLongSet(final NavigableSet<EntryImpl> ranges) {
-        this.ranges = requireNonNull(ranges);
+    // We track a sorted array of non-overlapping, non-adjacent ranges, each occupying two consecutive elements: the
+    // lower bound at an even index, the upper bound right after it. This means that for a contains() operation we
+    // just need to binary search for the floor entry. Insert operations usually touch the last range, as identifiers
+    // tend to be allocated in increasing order, which makes them amortized constant time. Subclasses own the array and
+    // expose it through bits(), only the first 2 * rangeSize() elements of which are valid.
+    UnsignedLongSet() {
+        // Hidden on purpose
     }
 
+    abstract long[] bits();
+
     /**
      * Check whether this set contains a value.
      *
@@ -141,10 +132,8 @@ public abstract sealed class UnsignedLongSet permits ImmutableUnsignedLongSet, M
      * @return {@code true} if this set contains the value
      */
     public final boolean contains(final long longBits) {
-        final var head = ranges.floor(new Entry1(longBits));
-        return head != null
-            && Long.compareUnsigned(head.lowerBits(), longBits) <= 0
-            && Long.compareUnsigned(head.upperBits(), longBits) >= 0;
+        final int floor = floorIndex(longBits);
+        return floor >= 0 && Long.compareUnsigned(upperBitsAt(floor), longBits) >= 0;
     }
 
     /**
@@ -153,12 +142,10 @@ public abstract sealed class UnsignedLongSet permits ImmutableUnsignedLongSet, M
      * @return {@code true} does not contain anything
      */
     public final boolean isEmpty() {
-        return ranges.isEmpty();
+        return rangeSize() == 0;
     }
 
-    public final int rangeSize() {
-        return ranges.size();
-    }
+    public abstract int rangeSize();
 
     /**
      * Returns an immutable copy of this set.
@@ -173,40 +160,105 @@ public abstract sealed class UnsignedLongSet permits ImmutableUnsignedLongSet, M
      * @return an mutable copy of this set
      */
     public final MutableUnsignedLongSet mutableCopy() {
-        return new MutableUnsignedLongSet(new TreeSet<>(ranges));
+        final int rangeSize = rangeSize();
+        return new MutableUnsignedLongSet(Arrays.copyOf(bits(), 2 * rangeSize), rangeSize);
     }
 
-    public final NavigableSet<? extends Entry> ranges() {
-        return Collections.unmodifiableNavigableSet(ranges);
+    /**
+     * Returns the ranges in this set, in ascending order.
+     *
+     * @return the ranges in this set
+     */
+    public abstract NavigableSet<? extends Entry> ranges();
+
+    final ImmutableSortedSet<EntryImpl> buildRanges() {
+        final var builder = ImmutableSortedSet.<EntryImpl>naturalOrder();
+        for (int i = 0, size = rangeSize(); i < size; ++i) {
+            builder.add(entryAt(i));
+        }
+        return builder.build();
+    }
+
+    final long lowerBitsAt(final int index) {
+        return bits()[2 * index];
     }
 
-    final NavigableSet<EntryImpl> trustedRanges() {
-        return ranges;
+    final long upperBitsAt(final int index) {
+        return bits()[2 * index + 1];
+    }
+
+    /**
+     * Return the index of the last range whose lower bound is not greater than specified value.
+     *
+     * @param longBits long value, interpreted as unsigned
+     * @return range index, or {@code -1} if there is no such range
+     */
+    final int floorIndex(final long longBits) {
+        // Fast path for the last range, which is where increasing values end up
+        final var bits = bits();
+        final int last = rangeSize() - 1;
+        if (last < 0 || Long.compareUnsigned(bits[2 * last], longBits) <= 0) {
+            return last;
+        }
+
+        int low = 0;
+        int high = last - 1;
+        while (low <= high) {
+            final int mid = low + high >>> 1;
+            if (Long.compareUnsigned(bits[2 * mid], longBits) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private EntryImpl entryAt(final int index) {
+        final long lower = lowerBitsAt(index);
+        final long upper = upperBitsAt(index);
+        return lower == upper ? new Entry1(lower) : new EntryN(lower, upper);
     }
 
     @Override
     public final int hashCode() {
-        return ranges.hashCode();
+        // Same as Set<Entry>.hashCode()
+        int ret = 0;
+        for (int i = 0, size = rangeSize(); i < size; ++i) {
+            ret += Long.hashCode(lowerBitsAt(i)) * 31 + Long.hashCode(upperBitsAt(i));
+        }
+        return ret;
     }
 
     @Override
     public final boolean equals(final @Nullable Object obj) {
-        return obj == this || obj instanceof UnsignedLongSet other && ranges.equals(other.ranges);
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof UnsignedLongSet other)) {
+            return false;
+        }
+        final int rangeSize = rangeSize();
+        if (rangeSize != other.rangeSize()) {
+            return false;
+        }
+        final int length = 2 * rangeSize;
+        return Arrays.equals(bits(), 0, length, other.bits(), 0, length);
     }
 
     @Override
     public final String toString() {
         final var helper = MoreObjects.toStringHelper(this);
+        final int rangeSize = rangeSize();
 
-        final int size = ranges.size();
-        switch (size) {
+        switch (rangeSize) {
             case 0 -> {
                 // no 'span' attribute
             }
-            case 1 -> helper.add("span", ranges.first());
-            default -> helper.add("span", new EntryN(ranges.first().lowerBits(), ranges.last().upperBits()));
+            case 1 -> helper.add("span", entryAt(0));
+            default -> helper.add("span", new EntryN(lowerBitsAt(0), upperBitsAt(rangeSize - 1)));
         }
 
-        return helper.add("size", size).toString();
+        return helper.add("size", rangeSize).toString();
     }
 }
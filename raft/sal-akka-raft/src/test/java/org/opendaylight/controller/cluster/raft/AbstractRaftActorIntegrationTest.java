@@ -17,7 +17,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -115,6 +118,9 @@ abstract class AbstractRaftActorIntegrationTest extends AbstractActorTest {
 
     static class TestRaftActor extends MockRaftActor {
         private final ConcurrentHashMap<Class<?>, Predicate<?>> dropMessages = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Class<?>, Duration> delayMessages = new ConcurrentHashMap<>();
+        // Messages which have been delayed once and are to be processed when they come back
+        private final Set<Object> delayedMessages = Collections.newSetFromMap(new IdentityHashMap<>());
         private final ActorRef collectorActor;
 
         TestRaftActor(final Path stateDir, final Builder builder) {
@@ -134,6 +140,16 @@ abstract class AbstractRaftActorIntegrationTest extends AbstractActorTest {
             dropMessages.remove(msgClass);
         }
 
+        /**
+         * Delay processing of messages of specified class, simulating network latency.
+         *
+         * @param msgClass message class
+         * @param delay the delay
+         */
+        void startDelayMessages(final Class<?> msgClass, final Duration delay) {
+            delayMessages.put(msgClass, delay);
+        }
+
         void setMockTotalMemory(final long mockTotalMemory) {
             getRaftActorContext().setTotalMemoryRetriever(mockTotalMemory > 0 ? () -> mockTotalMemory : null);
         }
@@ -152,6 +168,14 @@ abstract class AbstractRaftActorIntegrationTest extends AbstractActorTest {
                 case TestPersist testPersist ->
                     submitCommand(testPersist.getIdentifier(), testPersist.getPayload(), false);
                 default -> {
+                    final var delay = delayMessages.get(message.getClass());
+                    if (delay != null && !delayedMessages.remove(message)) {
+                        delayedMessages.add(message);
+                        getContext().system().scheduler().scheduleOnce(delay, self(), message,
+                            getContext().dispatcher(), getSender());
+                        return;
+                    }
+
                     try {
                         @SuppressWarnings({ "rawtypes", "unchecked" })
                         final Predicate<Object> drop = (Predicate) dropMessages.get(message.getClass());
@@ -138,4 +138,56 @@ class FollowerLogInformationTest {
         assertFalse(followerLogInformation.decrNextIndex(1));
         assertEquals(-1, followerLogInformation.getNextIndex());
     }
+
+    @Test
+    void testPipeline() {
+        final var configParams = new DefaultConfigParamsImpl();
+        configParams.setHeartBeatInterval(Duration.ofSeconds(30));
+        configParams.setAppendEntriesPipelineWindow(3);
+        context.setConfigParams(configParams);
+        context.getReplicatedLog().setCommitIndex(10);
+        final var followerLogInformation = new FollowerLogInformation(
+            new PeerInfo("follower1", null, VotingState.VOTING), 9, context);
+
+        // Nothing in flight: regular replication applies
+        assertFalse(followerLogInformation.isPipelineActive());
+        assertFalse(followerLogInformation.okToPipeline());
+        assertEquals(10, followerLogInformation.getPipelineNextIndex());
+
+        followerLogInformation.pipelineSent(14);
+        assertTrue(followerLogInformation.isPipelineActive());
+        assertTrue(followerLogInformation.okToPipeline());
+        assertEquals(15, followerLogInformation.getPipelineNextIndex());
+
+        followerLogInformation.pipelineSent(19);
+        followerLogInformation.pipelineSent(24);
+        assertEquals(3, followerLogInformation.inFlightBatchCount());
+        assertFalse(followerLogInformation.okToPipeline());
+        assertEquals(25, followerLogInformation.getPipelineNextIndex());
+
+        // A reply to the first batch opens up the window
+        followerLogInformation.setNextIndex(15);
+        followerLogInformation.pipelineAcknowledged(14);
+        assertEquals(2, followerLogInformation.inFlightBatchCount());
+        assertTrue(followerLogInformation.okToPipeline());
+        assertEquals(25, followerLogInformation.getPipelineNextIndex());
+
+        // Going back discards everything in flight
+        assertTrue(followerLogInformation.decrNextIndex(-1));
+        assertEquals(0, followerLogInformation.inFlightBatchCount());
+        assertFalse(followerLogInformation.isPipelineActive());
+        assertEquals(14, followerLogInformation.getPipelineNextIndex());
+    }
+
+    @Test
+    void testPipelineDisabled() {
+        context.getReplicatedLog().setCommitIndex(10);
+        final var followerLogInformation = new FollowerLogInformation(
+            new PeerInfo("follower1", null, VotingState.VOTING), 9, context);
+
+        followerLogInformation.pipelineSent(14);
+        assertEquals(0, followerLogInformation.inFlightBatchCount());
+        assertFalse(followerLogInformation.isPipelineActive());
+        assertEquals(10, followerLogInformation.getPipelineNextIndex());
+    }
 }
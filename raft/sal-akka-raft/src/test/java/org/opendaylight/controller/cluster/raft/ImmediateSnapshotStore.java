@@ -10,6 +10,7 @@ package org.opendaylight.controller.cluster.raft;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.spi.RaftCallback;
@@ -38,6 +39,11 @@ interface ImmediateSnapshotStore extends SnapshotStore {
         return null;
     }
 
+    @Override
+    default List<SnapshotFile> lastSnapshotChain() throws IOException {
+        return List.of();
+    }
+
     @Override
     default void saveSnapshot(final RaftSnapshot raftSnapshot, final EntryInfo lastIncluded,
             final @Nullable ToStorage<?> snapshot, final RaftCallback<Instant> callback) {
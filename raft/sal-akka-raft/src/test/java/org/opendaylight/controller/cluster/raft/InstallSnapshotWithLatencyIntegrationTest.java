@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opendaylight.controller.cluster.raft.RaftActorTestKit.awaitSnapshot;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.controller.cluster.raft.base.messages.ApplyState;
+import org.opendaylight.controller.cluster.raft.messages.InstallSnapshot;
+import org.opendaylight.controller.cluster.raft.messages.InstallSnapshotReply;
+import org.opendaylight.controller.cluster.raft.spi.PropertiesTermInfoStore;
+import org.opendaylight.raft.api.TermInfo;
+
+/**
+ * Installs a snapshot on a lagging follower when there is latency between the leader and the follower, verifying the
+ * number of chunks the leader sends ahead of receiving any acknowledgement. Stop-and-wait chunk transfer is compared
+ * with a window of chunks in flight. Installation times are logged, but not asserted, as they depend on the load of
+ * the machine running the test.
+ */
+class InstallSnapshotWithLatencyIntegrationTest extends AbstractRaftActorIntegrationTest {
+    // Simulated round-trip time between the leader and follower 2
+    private static final Duration ROUND_TRIP_TIME = Duration.ofMillis(20);
+    private static final int PAYLOAD_COUNT = 32;
+    private static final int PAYLOAD_SIZE = 1800;
+
+    InstallSnapshotWithLatencyIntegrationTest() {
+        maximumMessageSliceSize = 2048;
+    }
+
+    @Test
+    void testStopAndWaitInstallSnapshotWithLatency() throws Exception {
+        installSnapshot(1);
+    }
+
+    @Test
+    void testWindowedInstallSnapshotWithLatency() throws Exception {
+        installSnapshot(8);
+    }
+
+    private void installSnapshot(final int snapshotChunkWindow) throws Exception {
+        testLog.info("installSnapshot starting with window {}", snapshotChunkWindow);
+
+        leaderId = factory.generateActorId("leader");
+        follower1Id = factory.generateActorId("follower");
+        follower2Id = factory.generateActorId("follower");
+
+        new PropertiesTermInfoStore(leaderId, stateDir().resolve(leaderId))
+            .storeAndSetTerm(new TermInfo(initialTerm, leaderId));
+
+        final var followerConfigParams = newFollowerConfigParams();
+        followerConfigParams.setSnapshotChunkWindow(snapshotChunkWindow);
+
+        follower1Actor = newTestRaftActor(follower1Id, Map.of(leaderId, testActorPath(leaderId),
+            follower2Id, testActorPath(follower2Id)), followerConfigParams);
+        follower2Actor = newTestRaftActor(follower2Id, Map.of(leaderId, testActorPath(leaderId),
+            follower1Id, testActorPath(follower1Id)), followerConfigParams);
+
+        leaderConfigParams = newLeaderConfigParams();
+        leaderConfigParams.setSnapshotChunkWindow(snapshotChunkWindow);
+        leaderActor = newTestRaftActor(leaderId, Map.of(follower1Id, follower1Actor.path().toString(),
+            follower2Id, follower2Actor.path().toString()), leaderConfigParams);
+
+        waitUntilLeader(leaderActor);
+        leaderCollectorActor = leaderActor.underlyingActor().collectorActor();
+        currentTerm = leaderActor.underlyingActor().getRaftActorContext().currentTerm();
+
+        // Take follower 2 down and wait until the leader considers it inactive
+        follower2Actor.stop();
+        Uninterruptibles.sleepUninterruptibly(leaderConfigParams.getElectionTimeOutInterval().toMillis() + 5,
+            TimeUnit.MILLISECONDS);
+
+        // Build up some state, causing the leader to snapshot and trim its log
+        final var filler = "x".repeat(PAYLOAD_SIZE);
+        for (int i = 0; i < PAYLOAD_COUNT; i++) {
+            sendPayloadData(leaderActor, i + filler);
+        }
+        MessageCollectorActor.expectMatching(leaderCollectorActor, ApplyState.class, PAYLOAD_COUNT);
+        awaitSnapshot(leaderActor);
+
+        // Now restart follower 2, which has to be caught up with an InstallSnapshot. Hold back all acknowledgements, so
+        // that the leader sends exactly as many chunks as its window allows.
+        final var leader = leaderActor.underlyingActor();
+        leader.startDropMessages(InstallSnapshotReply.class);
+        final var sw = Stopwatch.createStarted();
+        follower2Actor = newTestRaftActor(follower2Id, Map.of(leaderId, testActorPath(leaderId),
+            follower1Id, testActorPath(follower1Id)), followerConfigParams);
+        final var follower2Collector = follower2Actor.underlyingActor().collectorActor();
+        final var firstChunks = MessageCollectorActor.expectMatching(follower2Collector, InstallSnapshot.class,
+            snapshotChunkWindow);
+        final var totalChunks = firstChunks.getFirst().getTotalChunks();
+        assertTrue(totalChunks > snapshotChunkWindow, "Snapshot has only " + totalChunks + " chunks");
+
+        // The leader has observed one acknowledgement for each chunk the follower received, but has not acted on them.
+        // It must not have sent anything beyond its window. Note a slow machine can only make this check pass
+        // spuriously, never fail it.
+        MessageCollectorActor.expectMatching(leader.collectorActor(), InstallSnapshotReply.class,
+            snapshotChunkWindow);
+        Uninterruptibles.sleepUninterruptibly(ROUND_TRIP_TIME.multipliedBy(5));
+        final var outstanding = MessageCollectorActor.getAllMatching(follower2Collector, InstallSnapshot.class);
+        assertEquals(snapshotChunkWindow, outstanding.size(), () -> "Unexpected chunks " + outstanding);
+        for (int i = 0; i < snapshotChunkWindow; i++) {
+            assertEquals(i + 1, outstanding.get(i).getChunkIndex());
+        }
+
+        // Release acknowledgements, subject to latency. The leader resends unacknowledged chunks once they time out.
+        leader.stopDropMessages(InstallSnapshotReply.class);
+        leader.startDelayMessages(InstallSnapshotReply.class, ROUND_TRIP_TIME);
+        awaitSnapshot(follower2Actor);
+        testLog.info("installSnapshot: window {} installed {} chunks in {}", snapshotChunkWindow, totalChunks,
+            sw.stop());
+
+        final var leaderState = leaderActor.underlyingActor().getState();
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertEquals(leaderState, follower2Actor.underlyingActor().getState()));
+
+        leaderActor.stop();
+        follower1Actor.stop();
+        follower2Actor.stop();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournal;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournalV1;
+import org.opendaylight.raft.spi.CompressionType;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
+
+@ExtendWith(MockitoExtension.class)
+class JournalEntryDecoderTest {
+    private static final int ENTRY_COUNT = 500;
+    private static final RestrictedObjectStreams OBJECT_STREAMS =
+        RestrictedObjectStreams.ofClassLoaders(JournalEntryDecoderTest.class);
+
+    @TempDir
+    private Path stateDir;
+    @Mock
+    private RaftActorRecoveryCohort recoveryCohort;
+
+    private EntryJournal journal;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        journal = new EntryJournalV1("test", stateDir, CompressionType.LZ4, true);
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            journal.appendEntry(new DefaultLogEntry(i, 1, new MockCommand("entry-" + i)));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        journal.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 4 })
+    void entriesAreDecodedInOrder(final int threads) throws Exception {
+        final var executor = threads == 0 ? null : Executors.newFixedThreadPool(threads);
+        try (var reader = journal.openReader()) {
+            final var firstIndex = reader.nextJournalIndex();
+            try (var decoder = new JournalEntryDecoder("test", recoveryCohort, OBJECT_STREAMS, reader, firstIndex,
+                    reader.nextEntry(), firstIndex + ENTRY_COUNT / 2 - 1, executor)) {
+                for (int i = 0; i < ENTRY_COUNT; ++i) {
+                    final var decoded = assertDecoded(decoder.next());
+                    assertEquals(firstIndex + i, decoded.journalIndex());
+                    assertEquals(new DefaultLogEntry(i, 1, new MockCommand("entry-" + i)),
+                        DefaultLogEntry.of(decoded.logEntry()));
+                    assertEquals(firstIndex + i + 1, decoder.nextJournalIndex());
+                }
+                assertNull(decoder.next());
+                assertEquals(ENTRY_COUNT, decoder.entryCount());
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+
+        if (threads > 0) {
+            // Only entries up to the apply index are prepared
+            verify(recoveryCohort).prepareRecoveredCommand(new MockCommand("entry-0"));
+            verify(recoveryCohort).prepareRecoveredCommand(new MockCommand("entry-" + (ENTRY_COUNT / 2 - 1)));
+            verify(recoveryCohort, never()).prepareRecoveredCommand(new MockCommand("entry-" + ENTRY_COUNT / 2));
+        } else {
+            verify(recoveryCohort, never()).prepareRecoveredCommand(any());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, JournalEntryDecoder.DEFAULT_READ_AHEAD_BYTES })
+    void readAheadIsBoundedInBytes(final long readAheadBytes) throws Exception {
+        final var submitted = new AtomicInteger();
+        final Executor executor = task -> {
+            submitted.incrementAndGet();
+            task.run();
+        };
+
+        try (var reader = journal.openReader()) {
+            final var firstIndex = reader.nextJournalIndex();
+            try (var decoder = new JournalEntryDecoder("test", recoveryCohort, OBJECT_STREAMS, reader, firstIndex,
+                    reader.nextEntry(), firstIndex, executor, readAheadBytes)) {
+                assertDecoded(decoder.next());
+                // A single byte admits just the requested entry, the default admits all of these small entries
+                assertEquals(readAheadBytes == 1 ? 1 : ENTRY_COUNT, submitted.get());
+
+                for (int i = 1; i < ENTRY_COUNT; ++i) {
+                    assertDecoded(decoder.next());
+                }
+                assertNull(decoder.next());
+                assertEquals(ENTRY_COUNT, submitted.get());
+            }
+        }
+    }
+
+    private static JournalEntryDecoder.DecodedEntry assertDecoded(final JournalEntryDecoder.DecodedEntry decoded) {
+        assertNotNull(decoded);
+        return decoded;
+    }
+}
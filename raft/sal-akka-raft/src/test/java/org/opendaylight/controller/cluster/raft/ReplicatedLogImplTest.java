@@ -8,30 +8,54 @@
 package org.opendaylight.controller.cluster.raft;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.controller.cluster.common.actor.MeteringBehavior;
 import org.opendaylight.controller.cluster.raft.behaviors.RaftActorBehavior;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntries;
 import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
+import org.opendaylight.controller.cluster.raft.spi.EntryJournalV1;
 import org.opendaylight.controller.cluster.raft.spi.EntryStore;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
 import org.opendaylight.controller.cluster.raft.spi.RaftCallback;
+import org.opendaylight.controller.cluster.raft.spi.RaftStorageCompleter;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+import org.opendaylight.raft.spi.CompressionType;
 
 /**
  * Unit tests for ReplicatedLogImpl.
@@ -187,6 +211,190 @@ class ReplicatedLogImplTest {
         verify(persistence, never()).entryStore();
     }
 
+    @Test
+    void testEvictPayloads() throws Exception {
+        mockEntryStore();
+
+        try (var journal = new EntryJournalV1("test", stateDir.resolve("journal"), CompressionType.NONE, false)) {
+            final var writer = newWriter(journal);
+            final var log = new ReplicatedLogImpl(context, () -> writer);
+            for (int i = 0; i < 5; i++) {
+                final var entry = new DefaultLogEntry(i, 1, new MockCommand(Integer.toString(i), 100));
+                journal.appendEntry(entry);
+                log.appendSubmitted(entry.index(), entry.term(), entry.command().toSerialForm(), callback);
+            }
+
+            // Complete persistence of first three entries only
+            verify(entryStore, times(5)).startPersistEntry(any(), procedureCaptor.capture());
+            final var callbacks = procedureCaptor.getAllValues();
+            for (int i = 0; i < 3; i++) {
+                callbacks.get(i).invoke(null, 100L);
+            }
+            log.setCommitIndex(4);
+            log.setLastApplied(4);
+
+            final var dataSize = log.dataSize();
+            assertEquals(dataSize, log.onHeapDataSize());
+
+            // Entry 3 is still being persisted, hence eviction stops there
+            log.evictPayloads(4, 0);
+            assertEquals(dataSize, log.dataSize());
+            assertEquals(dataSize - 300, log.onHeapDataSize());
+            assertTrue(isEvicted(log, 2));
+            assertFalse(isEvicted(log, 3));
+
+            // Evicted commands are loaded back from the journal
+            final var entry1 = log.lookup(1);
+            assertEquals(new MockCommand("1", 100), entry1.command());
+            final var entries = log.getFrom(0);
+            assertEquals(5, entries.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(new MockCommand(Integer.toString(i), 100), entries.get(i).command());
+            }
+
+            // Metadata is available without loading
+            assertEquals(1, log.lookupMeta(2).term());
+
+            // Once persisted, the budget is honored
+            callbacks.get(3).invoke(null, 100L);
+            callbacks.get(4).invoke(null, 100L);
+            log.evictPayloads(4, dataSize - 400);
+            assertEquals(dataSize - 400, log.onHeapDataSize());
+            assertTrue(isEvicted(log, 3));
+            assertFalse(isEvicted(log, 4));
+
+            // Removing evicted entries adjusts accounting
+            log.trimToReceive(2);
+            assertEquals(log.dataSize() - 200, log.onHeapDataSize());
+        }
+    }
+
+    @Test
+    void testLoadEvictedFromClosedWriter() throws Exception {
+        mockEntryStore();
+
+        final var journalDir = stateDir.resolve("journal");
+        final var current = new AtomicReference<JournalWriteTask>();
+        final var log = new ReplicatedLogImpl(context, current::get);
+        try (var journal = new EntryJournalV1("test", journalDir, CompressionType.NONE, false)) {
+            final var writer = newWriter(journal);
+            current.set(writer);
+            for (int i = 0; i < 3; i++) {
+                final var entry = new DefaultLogEntry(i, 1, new MockCommand(Integer.toString(i), 100));
+                journal.appendEntry(entry);
+                log.appendSubmitted(entry.index(), entry.term(), entry.command().toSerialForm(), callback);
+            }
+            verify(entryStore, times(3)).startPersistEntry(any(), procedureCaptor.capture());
+            for (var persisted : procedureCaptor.getAllValues()) {
+                persisted.invoke(null, 100L);
+            }
+            log.setCommitIndex(2);
+            log.setLastApplied(2);
+
+            log.evictPayloads(1, 0);
+            assertTrue(isEvicted(log, 0));
+            assertTrue(isEvicted(log, 1));
+            assertFalse(isEvicted(log, 2));
+
+            // The writer goes away, entries cannot be evicted anymore and evicted ones cannot be loaded
+            writer.cancelAndTerminate();
+            log.evictPayloads(2, 0);
+            assertFalse(isEvicted(log, 2));
+            assertThrows(UncheckedIOException.class, () -> log.lookup(0));
+        }
+
+        // A new writer over the same journal takes over
+        try (var journal = new EntryJournalV1("test", journalDir, CompressionType.NONE, false)) {
+            current.set(newWriter(journal));
+            assertEquals(new MockCommand("0", 100), log.lookup(0).command());
+            assertEquals(new MockCommand("1", 100), log.lookup(1).command());
+        }
+    }
+
+    @Test
+    @Timeout(value = 10)
+    void testSendDoesNotWaitForJournal() throws Exception {
+        mockEntryStore();
+
+        try (var journal = new EntryJournalV1("test", stateDir.resolve("journal"), CompressionType.NONE, false)) {
+            final var writer = newWriter(journal);
+            final var log = new ReplicatedLogImpl(context, () -> writer);
+            for (int i = 0; i < 2; i++) {
+                final var entry = new DefaultLogEntry(i, 1, new MockCommand(Integer.toString(i), 100));
+                journal.appendEntry(entry);
+                log.appendSubmitted(entry.index(), entry.term(), entry.command().toSerialForm(), callback);
+            }
+            verify(entryStore, times(2)).startPersistEntry(any(), procedureCaptor.capture());
+            procedureCaptor.getAllValues().getFirst().invoke(null, 100L);
+
+            // Hold the journal lock, just as a flush in progress would
+            final var locked = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var holder = Thread.ofVirtual().start(() -> {
+                try {
+                    writer.readEntry(1, entry -> {
+                        locked.countDown();
+                        Uninterruptibles.awaitUninterruptibly(release);
+                        return null;
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            locked.await();
+
+            try {
+                // Both persisted and pending entries carry the form they were serialized in when they were appended
+                final var entries = log.getFrom(0);
+                assertEquals(2, entries.size());
+                for (int i = 0; i < 2; i++) {
+                    final var serialized = entries.get(i).serializedCommand();
+                    assertNotNull(serialized);
+                    assertEquals(new MockCommand(Integer.toString(i), 100),
+                        serialized.toCommand(context.objectStreams()));
+                }
+
+                // Sending them does not touch the journal
+                final var bytes = SerializationUtils.serialize(new AppendEntries(1, "leader", -1, -1, entries, 1, -1,
+                    (short) 0, RaftVersions.TITANIUM_VERSION, null));
+                final var cloned = assertInstanceOf(AppendEntries.class, SerializationUtils.deserialize(bytes));
+                assertEquals(2, cloned.getEntries().size());
+                assertTrue(holder.isAlive());
+            } finally {
+                release.countDown();
+                holder.join();
+            }
+        }
+    }
+
+    @Test
+    void testCloseRemovesGauge() {
+        final var registry = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry();
+        final var name = "test.log.onHeapBytes";
+
+        final var first = new ReplicatedLogImpl(context);
+        final var firstGauge = registry.getGauges().get(name);
+        assertNotNull(firstGauge);
+
+        // A restarted actor replaces the gauge, closing the old log leaves it alone
+        final var second = new ReplicatedLogImpl(context);
+        final var secondGauge = registry.getGauges().get(name);
+        assertNotSame(firstGauge, secondGauge);
+        first.close();
+        assertSame(secondGauge, registry.getGauges().get(name));
+
+        second.close();
+        assertNull(registry.getGauges().get(name));
+    }
+
+    private static JournalWriteTask newWriter(final EntryJournalV1 journal) {
+        return new JournalWriteTask(Ticker.systemTicker(), new RaftStorageCompleter("test", Runnable::run), journal, 32);
+    }
+
+    private static boolean isEvicted(final ReplicatedLogImpl log, final long index) {
+        return ((JournaledLogEntry) log.lookupMeta(index)).isEvicted();
+    }
+
     private void mockEntryStore() {
         doReturn(entryStore).when(persistence).entryStore();
     }
@@ -9,11 +9,14 @@ package org.opendaylight.controller.cluster.raft;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -102,7 +105,9 @@ class SnapshotManagerTest extends AbstractActorTest {
         doReturn(70).when(mockConfigParams).getSnapshotDataThresholdPercentage();
         doReturn(mockReplicatedLog).when(mockRaftActorContext).getReplicatedLog();
         doReturn("123").when(mockRaftActorContext).getId();
-        doCallRealMethod().when(mockReplicatedLog).lookupMeta(anyLong());
+        doAnswer(invocation -> mockReplicatedLog.lookup(invocation.getArgument(0)))
+            .when(mockReplicatedLog).lookupMeta(anyLong());
+        doCallRealMethod().when(mockReplicatedLog).onHeapDataSize();
         doReturn(mockEntryStore).when(mockRaftActorContext).entryStore();
         doReturn(mockSnapshotStore).when(mockRaftActorContext).snapshotStore();
         doReturn(mockRaftActorBehavior).when(mockRaftActorContext).getCurrentBehavior();
@@ -405,6 +410,39 @@ class SnapshotManagerTest extends AbstractActorTest {
         MessageCollectorActor.expectFirstMatching(actorRef, SnapshotComplete.class);
     }
 
+    @Test
+    void testCaptureDelta() throws Exception {
+        doReturn(1).when(mockConfigParams).getMaxDeltaSnapshots();
+        final var full = ByteState.of(new byte[] { 1 });
+        final var delta = ByteState.of(new byte[] { 2 });
+        doReturn(full).when(mockCohort).takeSnapshot();
+        doReturn(delta).when(mockCohort).takeDeltaSnapshot();
+
+        // First snapshot is always full
+        snapshotManager.capture(EntryInfo.of(9, 6), -1);
+        verify(mockCohort, never()).takeDeltaSnapshot();
+        verify(mockCohort).resetDeltaBase();
+        final var first = Instant.ofEpochMilli(1234);
+        snapshotManager.commit(first);
+
+        // Second snapshot is a delta based on the first one
+        snapshotManager.capture(EntryInfo.of(19, 6), -1);
+        verify(mockCohort).takeDeltaSnapshot();
+        verify(mockSnapshotStore, times(2)).saveSnapshot(any(), any(), snapshotCaptor.capture(),
+            any(RaftCallback.class));
+        assertNull(snapshotCaptor.getAllValues().get(0).deltaBase());
+        final var second = snapshotCaptor.getAllValues().get(1);
+        assertSame(delta, second.snapshot());
+        assertEquals(first, second.deltaBase());
+        snapshotManager.commit(Instant.ofEpochMilli(2345));
+
+        // Limit of consecutive deltas has been reached, hence the third snapshot is full again
+        snapshotManager.capture(EntryInfo.of(29, 6), -1);
+        verify(mockCohort).takeDeltaSnapshot();
+        verify(mockCohort, times(2)).takeSnapshot();
+        verify(mockCohort, times(2)).resetDeltaBase();
+    }
+
     @Test
     void testCommitBeforePersist() throws Exception {
         doReturn(ByteState.empty()).when(mockCohort).takeSnapshot();
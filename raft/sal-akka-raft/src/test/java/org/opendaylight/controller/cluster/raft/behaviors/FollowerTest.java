@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.dispatch.Dispatchers;
 import org.apache.pekko.protobufv3.internal.ByteString;
@@ -68,6 +69,7 @@ import org.opendaylight.controller.cluster.raft.persisted.VotingConfig;
 import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
 import org.opendaylight.controller.cluster.raft.spi.PropertiesTermInfoStore;
+import org.opendaylight.controller.cluster.raft.spi.SerializedLogEntry;
 import org.opendaylight.raft.api.EntryInfo;
 import org.opendaylight.raft.api.TermInfo;
 import org.opendaylight.raft.spi.WellKnownRaftPolicy;
@@ -589,6 +591,36 @@ class FollowerTest extends AbstractRaftActorBehaviorTest<Follower> {
         expectAndVerifyAppendEntriesReply(1, true, "follower", 1, 4);
     }
 
+    @Test
+    void testHandleAppendEntriesWithSerializedEntries() {
+        logStart("testHandleAppendEntriesWithSerializedEntries");
+
+        MockRaftActorContext context = createActorContext();
+        context.setTermInfo(new TermInfo(1, "test"));
+
+        MockRaftActorContext.SimpleReplicatedLog log = new MockRaftActorContext.SimpleReplicatedLog();
+        log.append(newLogEntry(1, 0, "zero"));
+        context.resetReplicatedLog(log);
+
+        // Round-trip through serialization, so that entries arrive with undecoded commands
+        final var entries = List.of(newLogEntry(1, 1, "one"), newLogEntry(1, 2, "two"));
+        final var appendEntries = SerializationUtils.clone(new AppendEntries(1, "leader-1", 0, 1, entries, 2, -1,
+            (short) 10, RaftVersions.TITANIUM_VERSION, null));
+        for (var entry : appendEntries.getEntries()) {
+            assertFalse(assertInstanceOf(SerializedLogEntry.class, entry).isDecoded());
+        }
+
+        follower = createBehavior(context);
+
+        assertSame(follower, follower.handleMessage(leaderActor, appendEntries));
+
+        assertEquals(2, log.lastIndex());
+        assertLogEntry(entries.get(0), log.lookup(1));
+        assertLogEntry(entries.get(1), log.lookup(2));
+
+        expectAndVerifyAppendEntriesReply(1, true, "follower", 1, 2);
+    }
+
     /**
      * This test verifies that when a new AppendEntries message is received with
      * new entries and the logs of the sender and receiver are out-of-sync that
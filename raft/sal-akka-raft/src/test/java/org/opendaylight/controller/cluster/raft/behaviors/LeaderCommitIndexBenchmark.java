@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.behaviors;
+
+import com.typesafe.config.ConfigFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.opendaylight.controller.cluster.raft.DefaultConfigParamsImpl;
+import org.opendaylight.controller.cluster.raft.DoNothingActor;
+import org.opendaylight.controller.cluster.raft.MockCommand;
+import org.opendaylight.controller.cluster.raft.MockRaftActorContext;
+import org.opendaylight.controller.cluster.raft.MockRaftActorContext.SimpleReplicatedLog;
+import org.opendaylight.controller.cluster.raft.ReplicatedLog;
+import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of advancing the leader's commit index after a follower acknowledges a batch of entries. Compares
+ * {@link AbstractLeader#findNewCommitIndex(ReplicatedLog)} with the previous per-index scan over all followers. A bare
+ * majority of followers has acknowledged the entire batch, the rest have not acknowledged anything. Run via
+ * {@link #main(String[])} or through JMH's usual means.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LeaderCommitIndexBenchmark {
+    @Param({ "5", "7" })
+    public int voters;
+
+    @Param({ "10000" })
+    public int batchSize;
+
+    private Path stateDir;
+    private ActorSystem system;
+    private MockRaftActorContext context;
+    private ReplicatedLog replLog;
+    private Leader leader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        stateDir = Files.createTempDirectory("leader-commit-index");
+        // A local system suffices, as nothing is sent to the followers
+        system = ActorSystem.create("benchmark", ConfigFactory.parseMap(Map.of(
+            "pekko.actor.provider", "local",
+            "pekko.loglevel", "WARNING"))
+            .withFallback(ConfigFactory.load()));
+        final var actor = system.actorOf(Props.create(DoNothingActor.class));
+
+        final var configParams = new DefaultConfigParamsImpl();
+        configParams.setHeartBeatInterval(Duration.ofHours(1));
+        configParams.setElectionTimeoutFactor(100000);
+        context = new MockRaftActorContext("leader", stateDir, system, actor);
+        context.setConfigParams(configParams);
+
+        final var peers = new HashMap<String, String>();
+        for (int i = 1; i < voters; i++) {
+            peers.put("follower-" + i, actor.path().toString());
+        }
+        context.setPeerAddresses(peers);
+
+        final var log = new SimpleReplicatedLog();
+        final var term = context.currentTerm();
+        for (int i = 0; i <= batchSize; i++) {
+            log.append(new DefaultLogEntry(i, term, new MockCommand(Integer.toString(i))));
+        }
+        log.setCommitIndex(0);
+        log.setLastApplied(0);
+        context.resetReplicatedLog(log);
+        replLog = context.getReplicatedLog();
+
+        leader = new Leader(context);
+        // Make sure we have a bare majority: we count ourselves
+        int acked = AbstractLeader.getMajorityVoteCount(voters - 1) - 1;
+        for (var followerId : leader.getFollowerIds()) {
+            leader.getFollower(followerId).setMatchIndex(acked-- > 0 ? batchSize : 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        leader.close();
+        TestKit.shutdownActorSystem(system);
+        FileUtils.deleteDirectory(stateDir.toFile());
+    }
+
+    @Benchmark
+    public long quorumMatchIndex() {
+        return leader.findNewCommitIndex(replLog);
+    }
+
+    @Benchmark
+    public long perIndexScan() {
+        // The algorithm previously used by AbstractLeader.possiblyUpdateCommitIndex()
+        final var minReplicationCount = AbstractLeader.getMajorityVoteCount(voters - 1);
+        long commitIndex = replLog.getCommitIndex();
+        for (long index = commitIndex + 1; ; index++) {
+            final var storedMeta = replLog.lookupStoredMeta(index);
+            if (storedMeta == null || !storedMeta.durable()) {
+                break;
+            }
+
+            int replicatedCount = 1;
+            for (var followerId : leader.getFollowerIds()) {
+                final var logInfo = leader.getFollower(followerId);
+                final var peerInfo = context.getPeerInfo(logInfo.getId());
+                if (logInfo.getMatchIndex() >= index && peerInfo != null && peerInfo.isVoting()) {
+                    replicatedCount++;
+                }
+            }
+            if (replicatedCount < minReplicationCount) {
+                break;
+            }
+            if (storedMeta.meta().term() == context.currentTerm()) {
+                commitIndex = index;
+            }
+        }
+        return commitIndex;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LeaderCommitIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -8,6 +8,9 @@
 package org.opendaylight.controller.cluster.raft.behaviors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -38,19 +41,65 @@ class LeaderInstallSnapshotStateTest {
                     offset = SIZE;
                 }
                 chunkIndex ++;
-                final byte[] chunk = fts.getNextChunk();
-                assertEquals(expectedChunkSize, chunk.length);
-                assertEquals(chunkIndex, fts.getChunkIndex());
-                fts.markSendStatus(true);
-                if (!fts.isLastChunk(chunkIndex)) {
-                    fts.incrementChunkIndex();
-                }
+                final var chunk = fts.getNextChunk();
+                assertEquals(expectedChunkSize, chunk.data().length);
+                assertEquals(chunkIndex, chunk.index());
+                assertEquals(fts.isLastChunk(chunkIndex), fts.markChunkAcked(chunkIndex));
             }
 
             assertEquals(chunkIndex, fts.getTotalChunks());
         }
     }
 
+    @Test
+    void testChunkWindow() throws IOException {
+        try (var fts = new LeaderInstallSnapshotState(10, 3, "test")) {
+            fts.setSnapshotBytes(new MockByteSource(55));
+            assertEquals(6, fts.getTotalChunks());
+
+            // Three chunks may be in flight
+            final var chunk1 = fts.getNextChunk();
+            assertEquals(1, chunk1.index());
+            assertEquals(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE, chunk1.lastChunkHashCode());
+            final var chunk2 = fts.getNextChunk();
+            assertEquals(Arrays.hashCode(chunk1.data()), chunk2.lastChunkHashCode());
+            assertEquals(3, fts.getNextChunk().index());
+            assertFalse(fts.canSendNextChunk());
+            assertEquals(3, fts.getChunksInFlight());
+
+            // An acknowledgement of a later chunk does not move the window
+            assertFalse(fts.markChunkAcked(2));
+            assertEquals(2, fts.getChunksInFlight());
+            assertFalse(fts.canSendNextChunk());
+
+            // A failed chunk is sent again
+            fts.markChunkFailed(1);
+            assertTrue(fts.canSendNextChunk());
+            assertSame(chunk1, fts.getNextChunk());
+            assertFalse(fts.canSendNextChunk());
+
+            // Acknowledging the first chunk moves the window past chunk 2
+            assertFalse(fts.markChunkAcked(1));
+            assertEquals(4, fts.getNextChunk().index());
+            assertEquals(5, fts.getNextChunk().index());
+            assertFalse(fts.canSendNextChunk());
+
+            // Only unacknowledged chunks are resent on timeout
+            assertFalse(fts.markChunkAcked(4));
+            assertEquals(2, fts.markUnackedChunksFailed());
+            assertEquals(3, fts.getNextChunk().index());
+            assertEquals(5, fts.getNextChunk().index());
+            assertFalse(fts.canSendNextChunk());
+
+            assertFalse(fts.markChunkAcked(3));
+            final var chunk6 = fts.getNextChunk();
+            assertEquals(6, chunk6.index());
+            assertEquals(5, chunk6.data().length);
+            assertFalse(fts.markChunkAcked(6));
+            assertTrue(fts.markChunkAcked(5));
+        }
+    }
+
     private static final class MockByteSource implements SizedStreamSource {
         private final long size;
 
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.controller.cluster.raft.behaviors;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -72,6 +73,7 @@ import org.opendaylight.controller.cluster.raft.messages.RequestVoteReply;
 import org.opendaylight.controller.cluster.raft.persisted.ByteState;
 import org.opendaylight.controller.cluster.raft.persisted.ByteStateSnapshotCohort;
 import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
+import org.opendaylight.controller.cluster.raft.spi.LogEntry;
 import org.opendaylight.raft.api.TermInfo;
 import org.opendaylight.raft.spi.ByteArray;
 import org.opendaylight.raft.spi.InstallableSnapshot;
@@ -399,6 +401,68 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
         assertEquals("The number of request entries collected", 7, allMessages.size());
     }
 
+    @Test
+    void testPipelinedReplicateWithNegativeReplyFallsBack() {
+        logStart("testPipelinedReplicateWithNegativeReplyFallsBack");
+
+        final var actorContext = createActorContextWithFollower();
+        final var configParams = new DefaultConfigParamsImpl();
+        configParams.setHeartBeatInterval(Duration.ofSeconds(5));
+        configParams.setAppendEntriesPipelineWindow(3);
+        actorContext.setConfigParams(configParams);
+
+        long term = 1;
+        actorContext.setTermInfo(new TermInfo(term, ""));
+
+        leader = new Leader(actorContext);
+        actorContext.setCurrentBehavior(leader);
+
+        // Leader will send an immediate heartbeat - ignore it.
+        MessageCollectorActor.expectFirstMatching(followerActor, AppendEntries.class);
+
+        // The follower would normally reply - simulate that explicitly here.
+        long lastIndex = actorContext.getReplicatedLog().lastIndex();
+        leader.handleMessage(followerActor, new AppendEntriesReply(
+                FOLLOWER_ID, term, true, lastIndex, term, (short)0));
+        followerActor.underlyingActor().clear();
+
+        // Three batches go out without waiting for replies, the rest has to wait for the window to open up
+        for (int i = 1; i <= 5; i++) {
+            sendReplicate(actorContext, lastIndex + i);
+        }
+        var allMessages = MessageCollectorActor.getAllMatching(followerActor, AppendEntries.class);
+        assertEquals(3, allMessages.size());
+        for (int i = 0; i < 3; i++) {
+            final var appendEntries = allMessages.get(i);
+            assertEquals(lastIndex + i, appendEntries.getPrevLogIndex());
+            assertEquals(1, appendEntries.getEntries().size());
+            assertEquals(lastIndex + i + 1, appendEntries.getEntries().getFirst().index());
+        }
+        final var followerInfo = leader.getFollower(FOLLOWER_ID);
+        assertEquals(3, followerInfo.inFlightBatchCount());
+        followerActor.underlyingActor().clear();
+
+        // Acknowledging the first batch sends the remaining entries after the batches still in flight
+        leader.handleMessage(followerActor, new AppendEntriesReply(
+                FOLLOWER_ID, term, true, lastIndex + 1, term, (short)0));
+        var appendEntries = MessageCollectorActor.expectFirstMatching(followerActor, AppendEntries.class);
+        assertEquals(lastIndex + 3, appendEntries.getPrevLogIndex());
+        assertEquals(lastIndex + 1, appendEntries.getLeaderCommit());
+        assertEquals(List.of(lastIndex + 4, lastIndex + 5),
+            appendEntries.getEntries().stream().map(LogEntry::index).toList());
+        assertEquals(3, followerInfo.inFlightBatchCount());
+        followerActor.underlyingActor().clear();
+
+        // A negative reply discards the pipeline and we resend everything from the follower's nextIndex
+        leader.handleMessage(followerActor, new AppendEntriesReply(
+                FOLLOWER_ID, term, false, lastIndex + 1, term, (short)0));
+        appendEntries = MessageCollectorActor.expectFirstMatching(followerActor, AppendEntries.class);
+        assertEquals(lastIndex + 1, appendEntries.getPrevLogIndex());
+        assertEquals(List.of(lastIndex + 2, lastIndex + 3, lastIndex + 4, lastIndex + 5),
+            appendEntries.getEntries().stream().map(LogEntry::index).toList());
+        assertEquals(1, followerInfo.inFlightBatchCount());
+    }
+
     private static void assertCommitEntry(final long lastIndex, final List<AppendEntries> allMessages,
             final int messageNr) {
         final AppendEntries commitReq = allMessages.get(2 * messageNr + 1);
@@ -614,8 +678,7 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
         leader.getFollower(FOLLOWER_ID).setLeaderInstallSnapshotState(fts);
 
         //send first chunk and no InstallSnapshotReply received yet
-        fts.getNextChunk();
-        fts.incrementChunkIndex();
+        final var chunk = fts.getNextChunk();
 
         Uninterruptibles.sleepUninterruptibly(actorContext.getConfigParams().getHeartBeatInterval());
 
@@ -626,7 +689,7 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
         assertTrue("AppendEntries should be sent with empty entries", ae.getEntries().isEmpty());
 
         //InstallSnapshotReply received
-        fts.markSendStatus(true);
+        fts.markChunkAcked(chunk.index());
 
         leader.handleMessage(leaderActor, SendHeartBeat.INSTANCE);
 
@@ -947,16 +1010,17 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
                 actorContext.getConfigParams().getMaximumMessageSliceSize(), leader.logName);
         fts.setSnapshotBytes(ByteArray.wrap(bs.toByteArray()));
         leader.getFollower(FOLLOWER_ID).setLeaderInstallSnapshotState(fts);
-        while (!fts.isLastChunk(fts.getChunkIndex())) {
-            fts.getNextChunk();
-            fts.incrementChunkIndex();
+        int lastChunkIndex = 0;
+        while (fts.canSendNextChunk()) {
+            lastChunkIndex = fts.getNextChunk().index();
         }
+        assertTrue(fts.isLastChunk(lastChunkIndex));
 
         //clears leaders log
         log.clear();
 
         assertSame(leader, leader.handleMessage(followerActor,
-                new InstallSnapshotReply(currentTerm, FOLLOWER_ID, fts.getChunkIndex(), true)));
+                new InstallSnapshotReply(currentTerm, FOLLOWER_ID, lastChunkIndex, true)));
 
         assertEquals(1, leader.followerLogSize());
         FollowerLogInformation fli = leader.getFollower(FOLLOWER_ID);
@@ -1041,6 +1105,78 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
         assertNull(installSnapshot);
     }
 
+    @Test
+    void testSendSnapshotChunksWithWindow() {
+        logStart("testSendSnapshotChunksWithWindow");
+
+        MockRaftActorContext actorContext = createActorContextWithFollower();
+
+        final int commitIndex = 3;
+        final int snapshotIndex = 2;
+        final int snapshotTerm = 1;
+        final int currentTerm = 2;
+
+        DefaultConfigParamsImpl configParams = new DefaultConfigParamsImpl() {
+            @Override
+            public int getMaximumMessageSliceSize() {
+                return 50;
+            }
+        };
+        configParams.setHeartBeatInterval(Duration.ofSeconds(9));
+        configParams.setIsolatedLeaderCheckInterval(Duration.ofSeconds(10));
+        configParams.setSnapshotChunkWindow(2);
+
+        actorContext.setConfigParams(configParams);
+        final var log = actorContext.getReplicatedLog();
+        log.setCommitIndex(commitIndex);
+
+        leader = new Leader(actorContext);
+        actorContext.setCurrentBehavior(leader);
+
+        leader.getFollower(FOLLOWER_ID).setMatchIndex(-1);
+        leader.getFollower(FOLLOWER_ID).setNextIndex(0);
+
+        log.setSnapshotIndex(snapshotIndex);
+        log.setSnapshotTerm(snapshotTerm);
+        actorContext.setTermInfo(new TermInfo(currentTerm, leaderActor.path().toString()));
+
+        Map<String, String> leadersSnapshot = new HashMap<>();
+        leadersSnapshot.put("1", "A");
+        leadersSnapshot.put("2", "B");
+        leadersSnapshot.put("3", "C");
+        leader.sendInstallSnapshot(newInstall(commitIndex, snapshotTerm, toByteString(leadersSnapshot)));
+
+        // Two chunks are sent without waiting for a reply
+        var installSnapshots = MessageCollectorActor.expectMatching(followerActor, InstallSnapshot.class, 2);
+        assertEquals(1, installSnapshots.get(0).getChunkIndex());
+        assertEquals(2, installSnapshots.get(1).getChunkIndex());
+        assertEquals(3, installSnapshots.get(1).getTotalChunks());
+        final var firstChunk = installSnapshots.get(0);
+
+        // Acknowledging the second chunk does not move the window, as the first chunk is still outstanding
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 2, true));
+        assertNull(MessageCollectorActor.getFirstMatching(followerActor, InstallSnapshot.class));
+
+        // A failed first chunk is resent as is
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 1, false));
+        var installSnapshot = MessageCollectorActor.expectFirstMatching(followerActor, InstallSnapshot.class);
+        assertEquals(1, installSnapshot.getChunkIndex());
+        assertArrayEquals(firstChunk.getData(), installSnapshot.getData());
+        assertEquals(firstChunk.getLastChunkHashCode(), installSnapshot.getLastChunkHashCode());
+
+        // Acknowledging the first chunk moves the window past both chunks
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 1, true));
+        installSnapshot = MessageCollectorActor.expectFirstMatching(followerActor, InstallSnapshot.class);
+        assertEquals(3, installSnapshot.getChunkIndex());
+
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 3, true));
+        final var fli = leader.getFollower(FOLLOWER_ID);
+        assertNull(fli.getInstallSnapshotState());
+        assertEquals(commitIndex, fli.getMatchIndex());
+    }
+
     @Test
     void testHandleInstallSnapshotReplyWithInvalidChunkIndex() {
         logStart("testHandleInstallSnapshotReplyWithInvalidChunkIndex");
@@ -1190,14 +1326,11 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
                 length = barray.length;
             }
 
-            byte[] chunk = fts.getNextChunk();
-            assertEquals("bytestring size not matching for chunk:" + chunkIndex, length - i, chunk.length);
-            assertEquals("chunkindex not matching", chunkIndex, fts.getChunkIndex());
+            final var chunk = fts.getNextChunk();
+            assertEquals("bytestring size not matching for chunk:" + chunkIndex, length - i, chunk.data().length);
+            assertEquals("chunkindex not matching", chunkIndex, chunk.index());
 
-            fts.markSendStatus(true);
-            if (!fts.isLastChunk(chunkIndex)) {
-                fts.incrementChunkIndex();
-            }
+            assertEquals(fts.isLastChunk(chunkIndex), fts.markChunkAcked(chunkIndex));
         }
 
         assertEquals("totalChunks not matching", chunkIndex, fts.getTotalChunks());
@@ -1840,6 +1973,41 @@ class LeaderTest extends AbstractLeaderTest<Leader> {
         assertInstanceOf(Leader.class, leader.handleMessage(leaderActor, Leader.ISOLATED_LEADER_CHECK));
     }
 
+    @Test
+    void testFindNewCommitIndexUsesVotingQuorum() {
+        logStart("testFindNewCommitIndexUsesVotingQuorum");
+
+        final var leaderActorContext = createActorContext();
+        final var followerPath = followerActor.path().toString();
+        leaderActorContext.setPeerAddresses(Map.of("follower-1", followerPath, "follower-2", followerPath,
+            "follower-3", followerPath, "follower-4", followerPath));
+        leaderActorContext.getPeerInfo("follower-4").setVotingState(VotingState.NON_VOTING);
+        leaderActorContext.setTermInfo(new TermInfo(2, ""));
+
+        // Entries 0-5 are from the previous term, 6-10 from the current term
+        final var log = new Builder().createEntries(0, 6, 1).createEntries(6, 11, 2).build();
+        log.setCommitIndex(0);
+        log.setLastApplied(0);
+        leaderActorContext.resetReplicatedLog(log);
+
+        leader = new Leader(leaderActorContext);
+        final var replLog = leaderActorContext.getReplicatedLog();
+
+        // Three voting followers, hence we need two of them. follower-4 does not count.
+        leader.getFollower("follower-1").setMatchIndex(10);
+        leader.getFollower("follower-2").setMatchIndex(7);
+        leader.getFollower("follower-3").setMatchIndex(3);
+        leader.getFollower("follower-4").setMatchIndex(10);
+        assertEquals(7, leader.findNewCommitIndex(replLog));
+
+        // Majority has only entries from the previous term, which cannot be committed by counting replicas
+        leader.getFollower("follower-2").setMatchIndex(5);
+        assertEquals(0, leader.findNewCommitIndex(replLog));
+
+        leader.getFollower("follower-3").setMatchIndex(10);
+        assertEquals(10, leader.findNewCommitIndex(replLog));
+    }
+
     private RaftActorBehavior setupIsolatedLeaderCheckTestWithTwoFollowers(final RaftPolicy raftPolicy) {
         ActorRef followerActor1 = getSystem().actorOf(MessageCollectorActor.props(), "follower-1");
         ActorRef followerActor2 = getSystem().actorOf(MessageCollectorActor.props(), "follower-2");
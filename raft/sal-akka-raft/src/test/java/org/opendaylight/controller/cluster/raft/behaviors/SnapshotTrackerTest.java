@@ -8,7 +8,9 @@
 package org.opendaylight.controller.cluster.raft.behaviors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -94,6 +96,45 @@ class SnapshotTrackerTest {
         }
     }
 
+    @Test
+    void testOutOfSequenceChunkBuffered() throws Exception {
+        try (var tracker = new SnapshotTracker("test", 3, "leader", fbos, CompressionType.NONE, 2)) {
+            assertFalse(tracker.addChunk(3, chunk3, OptionalInt.of(Arrays.hashCode(chunk2))));
+            assertFalse(tracker.addChunk(2, chunk2, OptionalInt.of(Arrays.hashCode(chunk1))));
+            assertTrue(tracker.addChunk(1, chunk1,
+                OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE)));
+
+            final var snapshotBytes = tracker.toStreamSource();
+            assertEquals(data, SerializationUtils.deserialize(snapshotBytes.openStream().readAllBytes()));
+        }
+    }
+
+    @Test
+    void testOutOfSequenceChunkBeyondBuffer() throws Exception {
+        try (var tracker = new SnapshotTracker("test", 3, "leader", fbos, CompressionType.NONE, 1)) {
+            assertThrows(InvalidChunkException.class, () -> tracker.addChunk(3, chunk3, OptionalInt.empty()));
+        }
+    }
+
+    @Test
+    void testResentChunk() throws Exception {
+        try (var tracker = new SnapshotTracker("test", 3, "leader", fbos, CompressionType.NONE, 2)) {
+            assertFalse(tracker.addChunk(1, chunk1,
+                OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE)));
+            assertFalse(tracker.addChunk(3, chunk3, OptionalInt.of(Arrays.hashCode(chunk2))));
+            // Both an already-written and an already-buffered chunk are ignored
+            assertFalse(tracker.addChunk(1, chunk1,
+                OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE)));
+            assertFalse(tracker.addChunk(3, chunk3, OptionalInt.of(Arrays.hashCode(chunk2))));
+            // ... unless the data does not match
+            assertThrows(InvalidChunkException.class, () -> tracker.addChunk(1, chunk2, OptionalInt.empty()));
+            assertTrue(tracker.addChunk(2, chunk2, OptionalInt.of(Arrays.hashCode(chunk1))));
+
+            final var snapshotBytes = tracker.toStreamSource();
+            assertEquals(data, SerializationUtils.deserialize(snapshotBytes.openStream().readAllBytes()));
+        }
+    }
+
     @Test
     void testInvalidLastChunkHashCode() throws Exception {
         try (var tracker = new SnapshotTracker("test", 2, "leader", fbos, CompressionType.NONE)) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.messages;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.raft.MockCommand;
+import org.opendaylight.controller.cluster.raft.RaftVersions;
+import org.opendaylight.controller.cluster.raft.spi.DefaultLogEntry;
+import org.opendaylight.controller.cluster.raft.spi.LogEntry;
+import org.opendaylight.controller.cluster.raft.spi.SerializedCommand;
+import org.opendaylight.controller.cluster.raft.spi.SerializedLogEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the leader CPU cost of serializing {@link AppendEntries} carrying 1MiB worth of commands, i.e. the reported
+ * time is per replicated MiB. Compares Java serialization of commands, as done for {@link RaftVersions#ARGON_VERSION}
+ * followers, with shipping commands in the form they were serialized in when they were appended to the log, as done
+ * for {@link RaftVersions#TITANIUM_VERSION} followers. Run via {@link #main(String[])} or through JMH's usual means.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AppendEntriesSerializationBenchmark {
+    private static final int MIB = 1024 * 1024;
+
+    @Param({ "256", "4096", "65536" })
+    public int payloadSize;
+
+    private final ByteArrayOutputStream bos = new ByteArrayOutputStream(2 * MIB);
+    private final List<LogEntry> entries = new ArrayList<>();
+    private final List<LogEntry> serializedEntries = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final var random = ThreadLocalRandom.current();
+        final var chars = new char[payloadSize];
+        for (int i = 0, count = MIB / payloadSize; i < count; i++) {
+            for (int j = 0; j < payloadSize; j++) {
+                chars[j] = (char) random.nextInt('a', 'z' + 1);
+            }
+            final var entry = new DefaultLogEntry(i + 1, 1, new MockCommand(new String(chars)));
+            entries.add(entry);
+            // Mirrors ReplicatedLogImpl.appendSubmitted()
+            serializedEntries.add(SerializedLogEntry.of(entry, SerializedCommand.of(entry.command())));
+        }
+    }
+
+    @Benchmark
+    public int javaSerialization() throws IOException {
+        return serialize(entries, RaftVersions.ARGON_VERSION);
+    }
+
+    @Benchmark
+    public int serializedCommands() throws IOException {
+        return serialize(serializedEntries, RaftVersions.TITANIUM_VERSION);
+    }
+
+    private int serialize(final List<LogEntry> toSend, final short recipientRaftVersion) throws IOException {
+        bos.reset();
+        try (var oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(new AppendEntries(1, "leader", 0, 1, toSend, 0, -1, (short) 0, recipientRaftVersion,
+                null));
+        }
+        return bos.size();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AppendEntriesSerializationBenchmark.class.getSimpleName()).build())
+            .run();
+    }
+}
@@ -8,16 +8,24 @@
 package org.opendaylight.controller.cluster.raft.messages;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.lang3.SerializationUtils;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.controller.cluster.raft.MockCommand;
 import org.opendaylight.controller.cluster.raft.RaftVersions;
 import org.opendaylight.controller.cluster.raft.persisted.SimpleReplicatedLogEntry;
 import org.opendaylight.controller.cluster.raft.spi.LogEntry;
+import org.opendaylight.controller.cluster.raft.spi.SerializedCommand;
+import org.opendaylight.controller.cluster.raft.spi.SerializedLogEntry;
+import org.opendaylight.raft.spi.RestrictedObjectStreams;
 
 /**
  * Unit tests for AppendEntries.
@@ -25,6 +33,9 @@ import org.opendaylight.controller.cluster.raft.spi.LogEntry;
  * @author Thomas Pantelis
  */
 class AppendEntriesTest {
+    private static final @NonNull RestrictedObjectStreams OBJECT_STREAMS =
+        RestrictedObjectStreams.ofClassLoaders(AppendEntriesTest.class);
+
     @Test
     void testSerialization() {
         var entry1 = new SimpleReplicatedLogEntry(1, 2, new MockCommand("payload1"));
@@ -36,7 +47,7 @@ class AppendEntriesTest {
         // Without leader address
 
         var expected = new AppendEntries(5L, "node1", 7L, 8L, List.of(entry1, entry2), 10L, -1, payloadVersion,
-            RaftVersions.CURRENT_VERSION, null);
+            RaftVersions.ARGON_VERSION, null);
 
         var bytes = SerializationUtils.serialize(expected);
         assertEquals(264, bytes.length);
@@ -47,7 +58,7 @@ class AppendEntriesTest {
         // With leader address
 
         expected = new AppendEntries(5L, "node1", 7L, 8L, List.of(entry1, entry2), 10L, -1, payloadVersion,
-            RaftVersions.CURRENT_VERSION, "leader address");
+            RaftVersions.ARGON_VERSION, "leader address");
 
         bytes = SerializationUtils.serialize(expected);
         assertEquals(280, bytes.length);
@@ -56,6 +67,40 @@ class AppendEntriesTest {
         assertAppendEntries(expected, cloned, RaftVersions.CURRENT_VERSION);
     }
 
+    @Test
+    void testSerializedCommandSerialization() throws IOException {
+        final var entry1 = new SimpleReplicatedLogEntry(1, 2, new MockCommand("payload1"));
+        final var command2 = new MockCommand("payload2");
+        final var serialized2 = SerializedCommand.of(command2);
+        final var entry2 = SerializedLogEntry.of(new SimpleReplicatedLogEntry(3, 4, command2), serialized2);
+
+        final var expected = new AppendEntries(5L, "node1", 7L, 8L, List.of(entry1, entry2), 10L, -1, (short) 5,
+            RaftVersions.TITANIUM_VERSION, "leader address");
+
+        final var bytes = SerializationUtils.serialize(expected);
+        final var cloned = assertInstanceOf(AppendEntries.class, SerializationUtils.deserialize(bytes));
+        assertEquals(2, cloned.getEntries().size());
+
+        // Entries arrive undecoded, carrying the serialized form of their command
+        final var decoded = new ArrayList<LogEntry>();
+        for (var entry : cloned.getEntries()) {
+            final var serialized = assertInstanceOf(SerializedLogEntry.class, entry);
+            assertFalse(serialized.isDecoded());
+            decoded.add(serialized.decode(OBJECT_STREAMS));
+        }
+        assertEquals(serialized2.size(), decoded.get(1).serializedCommand().size());
+
+        assertAppendEntries(expected,
+            new AppendEntries(cloned.getTerm(), cloned.getLeaderId(), cloned.getPrevLogIndex(),
+                cloned.getPrevLogTerm(), decoded, cloned.getLeaderCommit(), cloned.getReplicatedToAllIndex(),
+                cloned.getPayloadVersion(), RaftVersions.CURRENT_VERSION, cloned.leaderAddress()),
+            RaftVersions.TITANIUM_VERSION);
+
+        // Decoding is idempotent
+        final var decoded1 = assertInstanceOf(SerializedLogEntry.class, decoded.get(0));
+        assertSame(decoded1, decoded1.decode(OBJECT_STREAMS));
+    }
+
     private static void assertAppendEntries(final AppendEntries expected, final AppendEntries actual,
             final short recipientRaftVersion) {
         assertEquals(expected.getLeaderId(), actual.getLeaderId());
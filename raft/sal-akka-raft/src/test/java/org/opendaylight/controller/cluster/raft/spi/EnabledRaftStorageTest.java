@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.cluster.raft.persisted.ByteState;
+import org.opendaylight.controller.cluster.raft.persisted.ServerInfo;
+import org.opendaylight.controller.cluster.raft.persisted.VotingConfig;
+import org.opendaylight.controller.cluster.raft.spi.StateSnapshot.ToStorage;
+import org.opendaylight.raft.api.EntryInfo;
+import org.opendaylight.raft.spi.CompressionType;
+import org.opendaylight.raft.spi.FileBackedOutputStream.Configuration;
+
+class EnabledRaftStorageTest {
+    private static final RaftSnapshot RAFT_SNAPSHOT = new RaftSnapshot(new VotingConfig(new ServerInfo("foo", true)));
+    private static final Instant FIRST = Instant.ofEpochSecond(1);
+    private static final Instant SECOND = Instant.ofEpochSecond(2);
+    private static final Instant THIRD = Instant.ofEpochSecond(3);
+    private static final Instant FOURTH = Instant.ofEpochSecond(4);
+
+    @TempDir
+    private Path directory;
+
+    private EnabledRaftStorage storage;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        final var completer = new RaftStorageCompleter("test", Runnable::run);
+        storage = new EnabledRaftStorage(completer, directory, CompressionType.NONE, new Configuration(0, directory),
+            false);
+        storage.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        storage.stop();
+    }
+
+    @Test
+    void deltaSnapshotChain() throws Exception {
+        saveFull(1, FIRST);
+        saveDelta(2, FIRST, SECOND);
+        saveDelta(3, SECOND, THIRD);
+
+        // The whole chain is retained and reported in application order
+        assertEquals(List.of(FIRST, SECOND, THIRD), chainTimestamps());
+
+        final var chain = storage.lastSnapshotChain();
+        assertEquals(ByteState.of(new byte[] { 1 }), chain.getFirst().readSnapshot(ByteState.SUPPORT.reader()));
+        assertEquals(ByteState.of(new byte[] { 3 }), chain.getLast().readSnapshot(ByteState.SUPPORT.reader()));
+
+        // A full snapshot makes the previous chain obsolete
+        saveFull(4, FOURTH);
+        assertEquals(List.of(FOURTH), chainTimestamps());
+
+        final var last = storage.lastSnapshot();
+        assertNotNull(last);
+        assertEquals(FOURTH, last.timestamp());
+    }
+
+    @Test
+    void deltaSnapshotMismatchedBase() throws Exception {
+        saveFull(1, FIRST);
+        saveDelta(2, FIRST, SECOND);
+
+        // A delta has to be based on the latest snapshot
+        final var ex = assertThrows(IOException.class, () -> saveDelta(3, FIRST, THIRD));
+        assertEquals("Delta snapshot based on " + FIRST + " does not match latest snapshot " + storage.lastSnapshot(),
+            ex.getMessage());
+        assertEquals(List.of(FIRST, SECOND), chainTimestamps());
+    }
+
+    private void saveFull(final int index, final Instant timestamp) throws IOException {
+        storage.saveSnapshot(RAFT_SNAPSHOT, EntryInfo.of(index, 1),
+            ToStorage.of(ByteState.SUPPORT.writer(), ByteState.of(new byte[] { (byte) index })), timestamp);
+    }
+
+    private void saveDelta(final int index, final Instant base, final Instant timestamp) throws IOException {
+        storage.saveSnapshot(RAFT_SNAPSHOT, EntryInfo.of(index, 1),
+            ToStorage.ofDelta(ByteState.SUPPORT.writer(), ByteState.of(new byte[] { (byte) index }), base), timestamp);
+    }
+
+    private List<Instant> chainTimestamps() throws IOException {
+        return storage.lastSnapshotChain().stream().map(SnapshotFile::timestamp).toList();
+    }
+}
@@ -12,6 +12,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import org.eclipse.jdt.annotation.NonNull;
@@ -109,4 +111,29 @@ class EntryJournalTest {
             assertNull(reader.nextEntry());
         }
     }
+
+    @Test
+    void serializedCommandEntry() throws Exception {
+        // An LZ4-compressed command is stored verbatim into an uncompressed journal
+        final var command = new MockCommand("CAFEBABE".repeat(1024));
+        final var bos = new ByteArrayOutputStream();
+        try (var oos = new ObjectOutputStream(CompressionType.LZ4.encodeOutput(bos))) {
+            oos.writeObject(command.toSerialForm());
+        }
+        final var serialized = SerializedCommand.of(CompressionType.LZ4, bos.toByteArray());
+        final var entry = SerializedLogEntry.of(new DefaultLogEntry(5, 3, command), serialized);
+        journal.appendEntry(entry);
+
+        try (var reader = journal.openReader()) {
+            final var je = reader.nextEntry();
+            assertNotNull(je);
+            assertEquals(CompressionType.LZ4, je.compression());
+            assertEquals(new DefaultLogEntry(5, 3, command), je.toLogEntry(OBJECT_STREAMS));
+
+            final var stored = je.toSerializedCommand();
+            assertEquals(CompressionType.LZ4, stored.compression());
+            assertEquals(serialized.size(), stored.size());
+            assertEquals(command, stored.toCommand(OBJECT_STREAMS));
+        }
+    }
 }
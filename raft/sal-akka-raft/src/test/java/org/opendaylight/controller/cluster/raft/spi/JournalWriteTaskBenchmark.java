@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.spi;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.io.FileUtils;
+import org.opendaylight.controller.cluster.raft.MockCommand;
+import org.opendaylight.raft.spi.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link JournalWriteTask} latency from {@link JournalWriteTask#appendEntry(LogEntry, RaftCallback)} to the
+ * callback being invoked, with 1, 4 and 16 concurrent producers. Completions are run directly on the writer thread, so
+ * that the measurement does not include any actor scheduling. Run via {@link #main(String[])} or through JMH's usual
+ * means.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JournalWriteTaskBenchmark {
+    private static final class FutureCallback extends RaftCallback<Long> {
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        @Override
+        public void invoke(final Exception failure, final Long success) {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(success);
+            }
+        }
+
+        @Override
+        protected ToStringHelper addToStringAttributes(final ToStringHelper helper) {
+            return helper.add("future", future);
+        }
+    }
+
+    private static final MockCommand COMMAND = new MockCommand("benchmark", 64);
+
+    private final AtomicLong nextIndex = new AtomicLong();
+
+    private Path directory;
+    private EntryJournalV1 journal;
+    private JournalWriteTask task;
+    private Thread writer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal-write-task");
+        journal = new EntryJournalV1("benchmark", directory, CompressionType.NONE, false);
+        task = new JournalWriteTask(new RaftStorageCompleter("benchmark", Runnable::run), journal, 2048);
+        writer = Thread.ofPlatform().name("benchmark-journal-writer").start(task);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        task.processAndTerminate();
+        writer.join();
+        journal.close();
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long oneProducer() throws Exception {
+        return appendEntry();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long fourProducers() throws Exception {
+        return appendEntry();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long sixteenProducers() throws Exception {
+        return appendEntry();
+    }
+
+    private long appendEntry() throws Exception {
+        final var callback = new FutureCallback();
+        task.appendEntry(new DefaultLogEntry(nextIndex.incrementAndGet(), 1, COMMAND), callback);
+        return callback.future.get();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JournalWriteTaskBenchmark.class.getSimpleName()).build()).run();
+    }
+}
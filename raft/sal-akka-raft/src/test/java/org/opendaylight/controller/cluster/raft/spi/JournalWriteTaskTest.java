@@ -10,13 +10,23 @@ package org.opendaylight.controller.cluster.raft.spi;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Ticker;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +38,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendaylight.controller.cluster.raft.MockCommand;
+import org.opendaylight.controller.cluster.raft.spi.JournalWriteTask.GroupCommit;
 import org.opendaylight.raft.spi.CompressionType;
 
 @ExtendWith(MockitoExtension.class)
@@ -100,6 +111,167 @@ class JournalWriteTaskTest {
         assertFalse(thread.isAlive());
     }
 
+    @Test
+    @Timeout(value = 5)
+    void terminationDoesNotWaitForFullQueue() throws Exception {
+        // Capacity of 1 results in a ring of 2 slots. Advance the ticker by a second on each read, so the tracker does
+        // not apply backpressure.
+        task = new JournalWriteTask(new Ticker() {
+            private long ticks;
+
+            @Override
+            public long read() {
+                return ticks += 1_000_000_000L;
+            }
+        }, new RaftStorageCompleter("test", actorMessages::add), journal, 1);
+        task.appendEntry(new DefaultLogEntry(1, 1, new MockCommand("first")), longCallback);
+        task.appendEntry(new DefaultLogEntry(2, 1, new MockCommand("second")), longCallback);
+
+        // The ring is full, yet this returns immediately and the entries are still processed
+        task.processAndTerminate();
+        task.run();
+        assertEquals(1, runActor());
+        verify(longCallback, times(2)).invoke(isNull(), any());
+
+        // The writer has exited, this entry is failed immediately
+        task.appendEntry(new DefaultLogEntry(3, 1, new MockCommand("third")), longCallback);
+        assertEquals(1, runActor());
+        verify(longCallback).invoke(exCaptor.capture(), isNull());
+        final var ex = assertInstanceOf(CancellationException.class, exCaptor.getValue());
+        assertEquals("Graceful termination", ex.getMessage());
+    }
+
+    @Test
+    @Timeout(value = 1)
+    void enqueueAfterWriterExitFailsFast() throws Exception {
+        final var thread = Thread.ofVirtual().start(task);
+        task.processAndTerminate();
+        thread.join();
+
+        for (int i = 1; i <= 3; i++) {
+            task.appendEntry(new DefaultLogEntry(i, 1, new MockCommand("entry" + i)), longCallback);
+        }
+        // Completions are coalesced into a single actor message
+        assertEquals(1, runActor());
+        verify(longCallback, times(3)).invoke(any(CancellationException.class), isNull());
+    }
+
+    @Test
+    @Timeout(value = 60)
+    void readsAreSynchronizedWithTrimming() throws Exception {
+        final int rounds = 50;
+        final int entries = 200;
+        final var data = "x".repeat(1024);
+
+        try (var mapped = new EntryJournalV1("mapped", directory.resolve("mapped"), CompressionType.NONE, true)) {
+            final var writer = new JournalWriteTask(new RaftStorageCompleter("mapped", Runnable::run), mapped, 32);
+            final var writerThread = Thread.ofVirtual().start(writer);
+
+            // Read random entries until told to stop. Entries are written so their index matches their journalIndex,
+            // and their bytes are copied out of the journal. An entry may be missing, but it must never be corrupted.
+            final var stop = new AtomicBoolean();
+            final var failure = new AtomicReference<Throwable>();
+            final var reads = new AtomicLong();
+            final var readerThread = Thread.ofPlatform().start(() -> {
+                final var random = ThreadLocalRandom.current();
+                while (!stop.get()) {
+                    final var journalIndex = random.nextLong(1, rounds * entries);
+                    try {
+                        final var index = writer.readEntry(journalIndex, entry -> {
+                            entry.toSerializedCommand();
+                            return entry.index();
+                        });
+                        assertEquals(journalIndex, index);
+                        reads.incrementAndGet();
+                    } catch (IOException e) {
+                        // Expected: not present
+                    } catch (Throwable e) {
+                        failure.set(e);
+                        return;
+                    }
+                }
+            });
+
+            long nextIndex = 1;
+            for (int round = 1; round <= rounds && failure.get() == null; round++) {
+                for (int i = 0; i < entries; i++, nextIndex++) {
+                    writer.appendEntry(new DefaultLogEntry(nextIndex, round, new MockCommand(data)), longCallback);
+                }
+                nextIndex -= entries / 4;
+                writer.syncDiscardTail(nextIndex);
+                writer.discardHead(nextIndex - entries / 2);
+            }
+
+            writer.processAndTerminate();
+            writerThread.join();
+            stop.set(true);
+            readerThread.join();
+
+            final var cause = failure.get();
+            if (cause != null) {
+                throw new AssertionError("Concurrent read failed", cause);
+            }
+            assertNotEquals(0, reads.get());
+        }
+    }
+
+    @Test
+    void appendsAreFlushedAsGroup() throws Exception {
+        final var registry = new MetricRegistry();
+        task = newTask(GroupCommit.DEFAULT, registry);
+        final var messageWriteCount = registry.meter("test.journal.messageWriteCount");
+        final var flushMessages = registry.histogram("test.journal.flushMessages");
+        final var flushTime = registry.timer("test.journal.flushTime");
+        for (int i = 1; i <= 3; i++) {
+            task.appendEntry(new DefaultLogEntry(i, 1, new MockCommand("entry" + i)), longCallback);
+        }
+        task.processAndTerminate();
+        task.run();
+
+        assertEquals(1, runActor());
+        verify(longCallback, times(3)).invoke(isNull(), any());
+        assertEquals(3, messageWriteCount.getCount());
+        assertEquals(1, flushMessages.getCount());
+        assertEquals(3, flushMessages.getSnapshot().getMax());
+        assertEquals(1, flushTime.getCount());
+    }
+
+    @Test
+    void fullGroupIsFlushedEarly() throws Exception {
+        final var registry = new MetricRegistry();
+        task = newTask(new GroupCommit(0, 1), registry);
+        final var flushMessages = registry.histogram("test.journal.flushMessages");
+        for (int i = 1; i <= 3; i++) {
+            task.appendEntry(new DefaultLogEntry(i, 1, new MockCommand("entry" + i)), longCallback);
+        }
+        task.processAndTerminate();
+        task.run();
+
+        assertEquals(1, runActor());
+        verify(longCallback, times(3)).invoke(isNull(), any());
+        assertEquals(3, flushMessages.getCount());
+        assertEquals(1, flushMessages.getSnapshot().getMax());
+    }
+
+    @Test
+    void metricsAreRemovedOnTermination() {
+        final var registry = new MetricRegistry();
+        // A metric not owned by the task
+        final var other = registry.counter("other");
+        task = newTask(GroupCommit.DEFAULT, registry);
+        assertEquals(7, registry.getMetrics().size());
+
+        task.processAndTerminate();
+        task.run();
+
+        assertEquals(Map.of("other", other), registry.getMetrics());
+    }
+
+    private JournalWriteTask newTask(final GroupCommit groupCommit, final MetricRegistry registry) {
+        return new JournalWriteTask(Ticker.systemTicker(), new RaftStorageCompleter("test", actorMessages::add),
+            journal, 32, groupCommit, registry);
+    }
+
     private int runActor() {
         final var ret = actorMessages.size();
         actorMessages.forEach(Runnable::run);
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.primitives.UnsignedLong;
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MutableUnsignedLongBitmapTest {
+    @Test
+    void testOperations() {
+        final var bitmap = MutableUnsignedLongBitmap.of();
+        assertTrue(bitmap.isEmpty());
+        assertNull(bitmap.get(0));
+        assertFalse(bitmap.remove(0));
+        assertEquals("{}", bitmap.toString());
+
+        bitmap.put(0, false);
+        bitmap.put(-1, true);
+        assertEquals(2, bitmap.size());
+        assertEquals(Boolean.FALSE, bitmap.get(0));
+        assertEquals(Boolean.TRUE, bitmap.get(-1));
+        assertTrue(bitmap.containsKey(-1));
+        assertFalse(bitmap.containsKey(1));
+        assertEquals("{0=false, 18446744073709551615=true}", bitmap.toString());
+
+        bitmap.put(0, true);
+        assertEquals(2, bitmap.size());
+        assertEquals(Boolean.TRUE, bitmap.get(0));
+
+        final var copy = bitmap.mutableCopy();
+        assertTrue(bitmap.remove(0));
+        assertFalse(bitmap.remove(0));
+        assertEquals(2, copy.size());
+        assertEquals(Boolean.TRUE, copy.get(0));
+        assertEquals(1, bitmap.size());
+        assertNull(bitmap.get(0));
+        assertEquals(Boolean.TRUE, bitmap.get(-1));
+    }
+
+    @Test
+    void testImmutableCopy() {
+        final var bitmap = MutableUnsignedLongBitmap.of();
+        assertSame(UnsignedLongBitmap.of(), bitmap.immutableCopy());
+
+        bitmap.put(5, true);
+        assertEquals(UnsignedLongBitmap.of(5, true), bitmap.immutableCopy());
+
+        final var expected = new HashMap<UnsignedLong, Boolean>();
+        for (long i = 10; i >= -10; --i) {
+            bitmap.put(i, i % 3 == 0);
+            expected.put(UnsignedLong.fromLongBits(i), i % 3 == 0);
+        }
+        final var copy = bitmap.immutableCopy();
+        assertEquals(UnsignedLongBitmap.copyOf(expected), copy);
+        assertEquals(copy, copy.mutableCopy().immutableCopy());
+    }
+
+    @Test
+    void testRandomOperations() {
+        // Small key space forces collisions and removals in the middle of probe sequences
+        final var random = new Random(42);
+        final var bitmap = MutableUnsignedLongBitmap.of();
+        final var expected = new HashMap<Long, Boolean>();
+        for (int i = 0; i < 100_000; ++i) {
+            final long key = random.nextInt(256);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, bitmap.remove(key));
+            } else {
+                final boolean value = random.nextBoolean();
+                expected.put(key, value);
+                bitmap.put(key, value);
+            }
+            assertEquals(expected.size(), bitmap.size());
+        }
+
+        for (long key = 0; key < 256; ++key) {
+            assertEquals(expected.get(key), bitmap.get(key));
+        }
+    }
+
+    @Test
+    void testFootprint() {
+        final var bitmap = MutableUnsignedLongBitmap.of();
+        assertEquals(0, bitmap.capacity());
+
+        // A HashMap<UnsignedLong, Boolean> would need a 24-byte UnsignedLong, a 32-byte Node and 4 bytes of table per
+        // mapping, i.e. at least 60 bytes. We need 9 bytes per slot, at most 24 bytes per mapping at 3/8 load.
+        final int count = 10_000;
+        for (int i = 0; i < count; ++i) {
+            bitmap.put(i, true);
+        }
+        assertEquals(16_384, bitmap.capacity());
+        assertTrue(bitmap.capacity() * (Long.BYTES + Byte.BYTES) <= count * 24L);
+
+        // Storage is released once the last mapping is removed
+        for (int i = 0; i < count; ++i) {
+            assertTrue(bitmap.remove(i));
+        }
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.capacity());
+    }
+}
@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.raft.spi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -23,6 +24,7 @@ import java.util.HexFormat;
 import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -108,12 +110,32 @@ class SnapshotFileFormatTest {
         final var open = fileFormat.open(file);
         assertEquals(EntryInfo.of(-1, -1), open.lastIncluded());
         assertEquals(TIMESTAMP, open.timestamp());
+        assertNull(open.deltaBase());
 
         assertEquals(new RaftSnapshot(SERVER_CONFIG, ENTRIES), open.readRaftSnapshot(OBJECT_STREAMS));
 
         assertEquals(STATE, open.readSnapshot(ByteState.SUPPORT.reader()));
     }
 
+    @Test
+    void createAndOpenDelta() throws Exception {
+        final var base = Instant.ofEpochSecond(1743608000, 123456789);
+        final var file = tempDir.resolve("delta.v1");
+        SnapshotFileFormat.SNAPSHOT_V1.createNew(file, TIMESTAMP, EntryInfo.of(-1, -1), SERVER_CONFIG,
+            CompressionType.NONE, ENTRIES, CompressionType.LZ4, ToStorage.ofDelta(ByteState.SUPPORT.writer(), STATE,
+                base)).close();
+
+        // Kind byte, followed by the base timestamp right after the header
+        final var bytes = Files.readAllBytes(file);
+        assertEquals(1, bytes[7]);
+
+        final var open = SnapshotFileFormat.SNAPSHOT_V1.open(file);
+        assertEquals(TIMESTAMP, open.timestamp());
+        assertEquals(base, open.deltaBase());
+        assertEquals(new RaftSnapshot(SERVER_CONFIG, ENTRIES), open.readRaftSnapshot(OBJECT_STREAMS));
+        assertEquals(STATE, open.readSnapshot(ByteState.SUPPORT.reader()));
+    }
+
     private static List<Arguments> createAndOpen() {
         return List.of(
             // Note: vs. 1191, clear win: no Serializable overhead
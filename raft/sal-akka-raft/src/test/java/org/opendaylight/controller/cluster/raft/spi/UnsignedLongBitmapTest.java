@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -36,7 +37,10 @@ class UnsignedLongBitmapTest {
         assertTrue(empty.isEmpty());
         assertEquals(empty, empty);
         assertSame(empty, UnsignedLongBitmap.copyOf(Map.of()));
-        assertEquals(Map.of(), empty.mutableCopy());
+        final var emptyCopy = empty.mutableCopy();
+        assertEquals(0, emptyCopy.size());
+        assertNull(emptyCopy.get(0));
+        assertEquals(empty, emptyCopy.immutableCopy());
         assertEquals("{}", empty.toString());
         assertEquals(0, empty.hashCode());
 
@@ -57,7 +61,11 @@ class UnsignedLongBitmapTest {
         assertEquals(one, one);
         assertEquals(one, UnsignedLongBitmap.of(0, false));
         assertEquals(one, UnsignedLongBitmap.copyOf(Map.of(UnsignedLong.ZERO, false)));
-        assertEquals(Map.of(UnsignedLong.ZERO, false), one.mutableCopy());
+        final var oneCopy = one.mutableCopy();
+        assertEquals(1, oneCopy.size());
+        assertEquals(Boolean.FALSE, oneCopy.get(0));
+        assertNull(oneCopy.get(1));
+        assertEquals(one, oneCopy.immutableCopy());
         assertEquals("{0=false}", one.toString());
         assertEquals(1237, one.hashCode());
 
@@ -80,7 +88,12 @@ class UnsignedLongBitmapTest {
         assertEquals(2, one.size());
         assertEquals(one, one);
         assertEquals(one, UnsignedLongBitmap.copyOf(Map.of(UnsignedLong.ONE, true, UnsignedLong.ZERO, false)));
-        assertEquals(Map.of(UnsignedLong.ZERO, false, UnsignedLong.ONE, true), one.mutableCopy());
+        final var oneCopy = one.mutableCopy();
+        assertEquals(2, oneCopy.size());
+        assertEquals(Boolean.FALSE, oneCopy.get(0));
+        assertEquals(Boolean.TRUE, oneCopy.get(1));
+        assertNull(oneCopy.get(2));
+        assertEquals(one, oneCopy.immutableCopy());
 
         assertNotEquals(one,
             UnsignedLongBitmap.copyOf(Map.of(UnsignedLong.ZERO, false, UnsignedLong.valueOf(2), true)));
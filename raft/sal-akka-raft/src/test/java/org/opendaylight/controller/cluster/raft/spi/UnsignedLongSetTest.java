@@ -188,6 +188,49 @@ class UnsignedLongSetTest {
         assertRanges("[[0..10], [13..14]]", set);
     }
 
+    @Test
+    void testFootprint() {
+        // Sequential identifiers collapse into a single range, which fits into the initial storage
+        final var set = MutableUnsignedLongSet.of();
+        for (long i = 0; i < 100_000; ++i) {
+            set.add(i);
+        }
+        assertEquals(1, set.rangeSize());
+        assertEquals(4, set.bits().length);
+
+        // Every other identifier: storage is two longs per range and grows by 1.5x
+        final var sparse = MutableUnsignedLongSet.of();
+        for (long i = 0; i < 100_000; i += 2) {
+            sparse.add(i);
+        }
+        assertEquals(50_000, sparse.rangeSize());
+        assertTrue(sparse.bits().length <= 3 * sparse.rangeSize());
+
+        // Immutable copies are trimmed
+        assertEquals(2 * sparse.rangeSize(), sparse.immutableCopy().bits().length);
+
+        // Filling the holes merges everything back into a single range
+        for (long i = 1; i < 100_000; i += 2) {
+            sparse.add(i);
+        }
+        assertRanges("[[0..99999]]", sparse);
+    }
+
+    @Test
+    void testRangesCached() {
+        final var set = MutableUnsignedLongSet.of(1, 2, 5);
+        final var ranges = set.ranges();
+        assertSame(ranges, set.ranges());
+
+        // Any modification invalidates the cached view
+        set.add(3);
+        assertNotSame(ranges, set.ranges());
+        assertRanges("[[1..3], [5..5]]", set);
+
+        final var immutable = set.immutableCopy();
+        assertSame(immutable.ranges(), immutable.ranges());
+    }
+
     private static MutableUnsignedLongSet sparseSet() {
         final var ret = MutableUnsignedLongSet.of(1, 2, 5, 6, 9, 10, 13, 14);
         assertRanges("[[1..2], [5..6], [9..10], [13..14]]", ret);